@@ -1,27 +1,84 @@
 package com.company.holiday.holiday_service.api.application;
 
 import com.company.holiday.holiday_service.api.application.dto.CountryUpsertCommand;
+import com.company.holiday.holiday_service.api.application.dto.CountryUpsertResult;
 import com.company.holiday.holiday_service.api.application.mapper.HolidayDomainMapper;
+import com.company.holiday.holiday_service.api.domain.Country;
+import com.company.holiday.holiday_service.api.infra.CountryJdbcWriter;
 import com.company.holiday.holiday_service.api.infra.CountryRepository;
+import com.company.holiday.holiday_service.global.config.CountrySyncProperties;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+// 국가 반영, 기존 국가를 한 번에 읽어 비교하고 추가 / 변경분만 JDBC 배치로 반영한다.
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CountrySyncService {
 
     private final CountryRepository countryRepository;
+    private final CountryJdbcWriter countryJdbcWriter;
     private final HolidayDomainMapper domainMapper;
+    private final CountrySyncProperties countrySyncProperties;
 
+    // 빈 목록은 Nager 이상 응답일 가능성이 커, 모든 국가가 사라진 것으로 보지 않고 아무것도 하지 않는다.
     @Transactional
-    public void upsertCountries(List<CountryUpsertCommand> commands) {
+    public CountryUpsertResult upsertCountries(List<CountryUpsertCommand> commands) {
+        if (commands.isEmpty()) {
+            return CountryUpsertResult.EMPTY;
+        }
+
+        Map<String, Country> existing = countryRepository.findAllForSync().stream()
+                .collect(Collectors.toMap(Country::getCode, Function.identity()));
+
+        List<Country> inserts = new ArrayList<>();
+        List<Country> updates = new ArrayList<>();
+        Set<String> listedCodes = new HashSet<>();
         for (CountryUpsertCommand command : commands) {
-            countryRepository.findByCode(command.code())
-                    .orElseGet(() -> countryRepository.save(domainMapper.toCountry(command)));
+            if (!listedCodes.add(command.code())) {
+                continue;
+            }
+            Country country = existing.get(command.code());
+            if (country == null) {
+                inserts.add(domainMapper.toCountry(command));
+            } else if (country.syncWith(command.name())) {
+                updates.add(country);
+            }
+        }
+
+        int flaggedMissing = 0;
+        if (countrySyncProperties.flagMissing()) {
+            for (Country country : existing.values()) {
+                if (country.isAvailable() && !listedCodes.contains(country.getCode())) {
+                    country.markUnavailable();
+                    updates.add(country);
+                    flaggedMissing++;
+                }
+            }
+        }
+
+        countryJdbcWriter.insertAll(inserts);
+        countryJdbcWriter.updateAll(updates);
+
+        CountryUpsertResult result = new CountryUpsertResult(inserts.size(), updates.size() - flaggedMissing, flaggedMissing);
+        if (flaggedMissing > 0) {
+            log.warn("[CountrySync] 가용 국가 목록에서 사라진 국가 표시 - {}", updates.stream()
+                    .filter(country -> !country.isAvailable())
+                    .map(Country::getCode)
+                    .toList());
         }
+        log.info("[CountrySync] 국가 반영 완료 - {}", result);
+        return result;
     }
 
 }
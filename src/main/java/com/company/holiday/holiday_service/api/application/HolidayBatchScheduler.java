@@ -1,19 +1,35 @@
 package com.company.holiday.holiday_service.api.application;
 
+import com.company.holiday.holiday_service.global.config.HolidaySyncRefreshProperties;
+import com.company.holiday.holiday_service.global.error.exception.ConflictException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
-// TODO : 다중 서버 환경에서 ShedLock, 외부 스케쥴러 도입 고려
+@Slf4j
 @Component
 @RequiredArgsConstructor
 public class HolidayBatchScheduler {
 
-    private final HolidayCommandService holidayCommandService;
+    private final HolidaySyncJobRunner holidaySyncJobRunner;
+    private final HolidaySyncRefreshProperties refreshProperties;
 
+    // 수동 동기화와 같은 실행기를 거치므로, 이미 실행 중인 작업이 있으면 이번 배치는 건너뛴다.
+    // 여러 노드가 같은 시각에 실행해도 클러스터 잠금을 얻은 한 노드만 동기화한다.
+    // 순환 갱신이 켜져 있으면 같은 범위를 순환 갱신이 계속 갱신하므로 연 1회 배치는 건너뛴다.
     @Scheduled(cron = "0 0 1 2 1 *", zone = "Asia/Seoul")
     public void syncPreviousAndCurrentYear() {
-        holidayCommandService.syncCountriesAndHolidaysForBatch();
+        if (refreshProperties.enabled()) {
+            log.info("[HolidaySync-Batch] 순환 갱신 사용 중 - 연 1회 배치 건너뜀");
+            return;
+        }
+        try {
+            HolidaySyncJob job = holidaySyncJobRunner.submit(HolidaySyncJob.Type.BATCH);
+            log.info("[HolidaySync-Batch] 동기화 작업 등록 - jobId={}", job.getId());
+        } catch (ConflictException e) {
+            log.warn("[HolidaySync-Batch] 실행 중인 동기화 작업이 있어 건너뜀 - {}", e.getMessage());
+        }
     }
 
 }
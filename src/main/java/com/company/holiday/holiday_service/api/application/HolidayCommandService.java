@@ -1,15 +1,33 @@
 package com.company.holiday.holiday_service.api.application;
 
 import com.company.holiday.holiday_service.api.application.dto.CountryUpsertCommand;
+import com.company.holiday.holiday_service.api.application.dto.CountryUpsertResult;
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncBatch;
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncFailure;
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncPipelineResult;
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncRunContext;
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncSummary;
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncUnit;
 import com.company.holiday.holiday_service.api.application.dto.HolidayUpsertCommand;
+import com.company.holiday.holiday_service.api.application.dto.HolidayUpsertResult;
 import com.company.holiday.holiday_service.api.application.mapper.HolidayCommandMapper;
 import com.company.holiday.holiday_service.api.domain.Holiday;
+import com.company.holiday.holiday_service.api.domain.HolidaySyncRun;
+import com.company.holiday.holiday_service.api.domain.HolidaySyncState;
 import com.company.holiday.holiday_service.api.infra.CountryRepository;
 import com.company.holiday.holiday_service.api.presentation.dto.response.HolidayDeleteResponse;
 import com.company.holiday.holiday_service.api.presentation.dto.response.HolidayRefreshResponse;
 import com.company.holiday.holiday_service.api.presentation.dto.response.HolidaySyncResponse;
 import com.company.holiday.holiday_service.clients.nager.NagerClient;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerCacheValidators;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerConditionalResult;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerPublicHolidayResponse;
+import com.company.holiday.holiday_service.global.config.HolidaySyncProperties;
+import com.company.holiday.holiday_service.global.config.HolidaySyncShardingProperties;
+import com.company.holiday.holiday_service.global.config.HolidaySyncStagingProperties;
 import com.company.holiday.holiday_service.global.error.ErrorCode;
+import com.company.holiday.holiday_service.global.error.exception.BusinessException;
+import com.company.holiday.holiday_service.global.error.exception.CircuitOpenException;
 import com.company.holiday.holiday_service.global.error.exception.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -20,6 +38,12 @@ import java.util.ArrayList;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
 
 import static com.company.holiday.holiday_service.api.domain.HolidayYearRangeCalculator.*;
 
@@ -35,33 +59,104 @@ public class HolidayCommandService {
 
     private final CountrySyncService countrySyncService;
     private final HolidaySyncService holidaySyncService;
+    private final HolidaySyncCheckpointService checkpointService;
+    private final HolidaySyncPipeline holidaySyncPipeline;
+    private final HolidaySyncGroupWriter groupWriter;
+    private final HolidayUnitLockManager unitLockManager;
+    private final HolidaySyncPartitionService partitionService;
+    private final HolidayStagingService stagingService;
+
+    private final HolidaySyncProperties syncProperties;
+    private final HolidaySyncShardingProperties shardingProperties;
+    private final HolidaySyncStagingProperties stagingProperties;
+
+    // 한 노드는 한 번에 하나의 파티션만 처리한다. ( 동기화를 시작한 노드의 작업 스레드 / 파티션 워커 )
+    private final ReentrantLock partitionLock = new ReentrantLock();
 
     // 수동 적재 ( 5년 )
     public HolidaySyncResponse syncCountriesAndHolidays() {
-        return syncCountriesAndHolidaysInRange(lastFiveYears());
+        return syncCountriesAndHolidays(HolidaySyncProgress.NONE);
+    }
+
+    public HolidaySyncResponse syncCountriesAndHolidays(HolidaySyncProgress progress) {
+        return syncCountriesAndHolidaysInRange(lastFiveYears(), progress);
     }
 
     // 배치용 적재 ( 2년 )
-    public void syncCountriesAndHolidaysForBatch() {
-        HolidaySyncResponse response = syncCountriesAndHolidaysInRange(lastTwoYears());
-        log.info("[HolidaySync-Batch] 완료 - countriesCount={}, holidaysCount={}", response.countriesCount(), response.holidaysCount());
+    public HolidaySyncResponse syncCountriesAndHolidaysForBatch(HolidaySyncProgress progress) {
+        HolidaySyncResponse response = syncCountriesAndHolidaysInRange(lastTwoYears(), progress);
+        log.info("[HolidaySync-Batch] 완료 - countriesCount={}, holidaysCount={}, skippedCount={}",
+                response.countriesCount(), response.holidaysCount(), response.skippedCount());
+        return response;
+    }
+
+    // 순환 갱신 - 가용 국가 목록만 다시 받아, 추가·이름 변경·( flag-missing 이면 ) 제외된 국가를 반영한다.
+    public List<String> syncCountries() {
+        List<CountryUpsertCommand> countryCommands = fetchCountries();
+        CountryUpsertResult result = countrySyncService.upsertCountries(countryCommands);
+        log.info("[HolidaySync-Refresh] 국가 목록 확인 완료 - countriesCount={}, {}", countryCommands.size(), result);
+        return countryCommands.stream()
+                .map(CountryUpsertCommand::code)
+                .sorted()
+                .toList();
+    }
+
+    // 순환 갱신 - 고른 국가·연도만 조건부 요청으로 받아 바뀐 단위를 반영한다.
+    // 실행·체크포인트 없이 단위마다 바로 반영하고, 실패한 단위는 다음에 돌아올 때 다시 시도한다.
+    public HolidaySyncSummary refreshUnits(List<HolidaySyncUnit> units, Map<HolidaySyncUnit, HolidaySyncState> states) {
+        HolidaySyncSummary total = HolidaySyncSummary.EMPTY;
+        for (HolidaySyncUnit unit : units) {
+            HolidaySyncBatch batch = fetchBatchIsolated(unit, states.get(unit));
+            total = total.plus(commitBatch(batch, states.get(unit), null, HolidaySyncProgress.NONE));
+        }
+        return total;
     }
 
-    private HolidaySyncResponse syncCountriesAndHolidaysInRange(YearRange range) {
+    private HolidaySyncResponse syncCountriesAndHolidaysInRange(YearRange range, HolidaySyncProgress progress) {
         // 1) 나라 목록 Fetch & Upsert
         List<CountryUpsertCommand> countryCommands = fetchCountries();
         countrySyncService.upsertCountries(countryCommands);
         log.info("[HolidaySync] 국가 동기화 완료 - countriesCount={}", countryCommands.size());
 
-        // 2) 연도 범위를 날짜로 변환
-        LocalDate startDate = LocalDate.of(range.fromYear(), 1, 1);
-        LocalDate endDate = LocalDate.of(range.toYear(),   12, 31);
+        // 2) 나라 x 연도 단위로 분할, 중단된 실행을 이어받았다면 이미 반영한 단위는 제외
+        HolidaySyncRunContext run = checkpointService.startOrResume(range);
+        List<HolidaySyncUnit> units = toUnits(countryCommands, range).stream()
+                .filter(unit -> !run.isCommitted(unit))
+                .toList();
+        progress.onPlanned(units);
+        if (run.resumed()) {
+            log.info("[HolidaySync] 중단된 동기화 이어받음 - runId={}, 남은 단위={}", run.runId(), units.size());
+        }
+
+        // 3) 각 단위별로 공휴일 조건부 Fetch & Upsert, 단위마다 체크포인트 기록
+        //    단위 하나가 실패해도 나머지 단위는 계속 진행하고, 실패한 단위는 결과에 모아 돌려준다.
+        //    샤딩 모드면 남은 국가를 파티션으로 나눠 여러 노드가 나눠 처리하고, 모든 파티션이 끝나면 결과를 합산한다.
+        //    스테이징 모드면 단위를 스테이징에 모았다가, 끝난 뒤 검증해 한 트랜잭션으로 공개한다.
+        HolidaySyncSummary summary;
+        try {
+            summary = shardingProperties.enabled()
+                    ? syncHolidaysSharded(units, range, run.runId(), progress)
+                    : syncHolidays(units, findSyncStates(range), run.runId(), progress);
+            if (stagingProperties.enabled()) {
+                summary = publishStaged(run.runId(), summary);
+            }
+        } catch (RuntimeException e) {
+            finishRun(run.runId(), HolidaySyncRun.Status.INTERRUPTED, e);
+            throw e;
+        }
 
-        // 3) 각 나라별로 공휴일 Fetch & Upsert
-        int totalSyncedHolidays = syncHolidays(countryCommands, startDate, endDate);
+        // 실패한 단위가 있으면 중단으로 기록해, 다음 동기화가 실패한 단위만 이어서 처리하도록 한다.
+        if (summary.hasFailures()) {
+            checkpointService.finish(run.runId(), HolidaySyncRun.Status.INTERRUPTED);
+            log.warn("[HolidaySync] 일부 단위 동기화 실패 - runId={}, 실패 단위={}, {}", run.runId(), summary.failedUnits(), summary.failures());
+        } else {
+            checkpointService.finish(run.runId(), HolidaySyncRun.Status.COMPLETED);
+        }
 
-        log.info("[HolidaySync] 전체 동기화 완료 - 국가 수={}, 공휴일 수={}", countryCommands.size(), totalSyncedHolidays);
-        return new HolidaySyncResponse(countryCommands.size(), totalSyncedHolidays);
+        log.info("[HolidaySync] 전체 동기화 완료 - 국가 수={}, 공휴일 수={}, 반영 단위={}, 생략 단위={}, 실패 단위={}, {}",
+                countryCommands.size(), summary.changes().syncedCount(), summary.syncedUnits(), summary.skippedUnits(),
+                summary.failedUnits(), summary.changes());
+        return HolidaySyncResponse.of(countryCommands.size(), summary);
     }
 
     private List<CountryUpsertCommand> fetchCountries() {
@@ -70,49 +165,338 @@ public class HolidayCommandService {
                 .toList();
     }
 
-    private int syncHolidays(List<CountryUpsertCommand> countryCommands, LocalDate startDate, LocalDate endDate) {
+    private List<HolidaySyncUnit> toUnits(List<CountryUpsertCommand> countryCommands, YearRange range) {
+        return toUnitsOf(countryCommands.stream().map(CountryUpsertCommand::code).toList(), range);
+    }
 
-        int total = 0;
+    private List<HolidaySyncUnit> toUnitsOf(List<String> countryCodes, YearRange range) {
+        List<HolidaySyncUnit> units = new ArrayList<>();
+        for (String countryCode : countryCodes) {
+            for (int year = range.fromYear(); year <= range.toYear(); year++) {
+                units.add(new HolidaySyncUnit(countryCode, year));
+            }
+        }
+        return units;
+    }
 
-        for (CountryUpsertCommand countryCommand : countryCommands) {
+    // 직전 동기화 상태 ( 캐시 검증자, 내용 지문 )
+    private Map<HolidaySyncUnit, HolidaySyncState> findSyncStates(YearRange range) {
+        return holidaySyncService.findSyncStates(range.fromYear(), range.toYear());
+    }
 
-            String countryCode = countryCommand.code();
-            log.info("[HolidaySync] {} 국가 {}~{}년 공휴일 동기화 시작", countryCode, startDate.getYear(), endDate.getYear());
+    // 적재분을 공개하고, 공개 시 실제 반영된 건수로 결과를 바꾼다. ( 실패한 단위가 있어도 적재된 단위는 공개 )
+    // 검증에 실패하면 적재분과 체크포인트를 지워, 이어받는 실행이 처음부터 다시 적재하도록 한다.
+    private HolidaySyncSummary publishStaged(Long runId, HolidaySyncSummary summary) {
+        HolidayUpsertResult published;
+        try {
+            published = unitLockManager.withLocks(stagingService.findStagedUnits(runId), () -> stagingService.publish(runId));
+        } catch (BusinessException e) {
+            if (e.getErrorCode() == ErrorCode.SYNC_VALIDATION_FAILED) {
+                stagingService.discard(runId);
+                checkpointService.clearCommitted(runId);
+            }
+            throw e;
+        }
+        return new HolidaySyncSummary(published, summary.syncedUnits(), summary.skippedUnits(), summary.failures());
+    }
+
+    // 중단 기록이 실패하더라도 원래 예외를 가리지 않는다.
+    private void finishRun(Long runId, HolidaySyncRun.Status status, RuntimeException cause) {
+        try {
+            checkpointService.finish(runId, status);
+        } catch (RuntimeException e) {
+            cause.addSuppressed(e);
+        }
+    }
 
-            List<HolidayUpsertCommand> commands = fetchHolidaysForYears(countryCode, startDate.getYear(), endDate.getYear());
-            int synced = holidaySyncService.upsertHolidaysInRange(countryCode, startDate, endDate, deduplicateByDateAndLocalName(commands));
-            total += synced;
+    private HolidaySyncSummary syncHolidays(List<HolidaySyncUnit> units, Map<HolidaySyncUnit, HolidaySyncState> states,
+                                            Long runId, HolidaySyncProgress progress) {
 
-            log.info("[HolidaySync] {} 국가 공휴일 동기화 완료 - 저장된 공휴일 개수={}", countryCode, synced);
+        if (syncProperties.concurrent()) {
+            return syncHolidaysConcurrently(units, states, runId, progress);
+        }
+
+        HolidaySyncSummary total = HolidaySyncSummary.EMPTY;
+
+        for (HolidaySyncUnit unit : units) {
+            throwIfCancelled(progress);
+            HolidaySyncBatch batch = fetchBatchIsolated(unit, states.get(unit));
+            total = total.plus(commitBatch(batch, states.get(unit), runId, progress));
         }
 
         return total;
     }
 
-    private List<HolidayUpsertCommand> fetchHolidaysForYears(String countryCode, int fromYear, int toYear) {
-        List<HolidayUpsertCommand> result = new ArrayList<>();
-        for (int year = fromYear; year <= toYear; year++) {
-            result.addAll(fetchHolidays(countryCode, year));
+    // 남은 국가를 파티션으로 등록하고, 이 노드도 파티션을 처리하면서 모든 파티션이 끝날 때까지 기다린다.
+    // 다른 노드는 HolidaySyncPartitionWorker 로 파티션을 가져가고, 죽은 노드의 파티션은 임대가 끊긴 뒤 이어받는다.
+    // 진행 상황( progress )에는 이 노드가 처리한 단위만 반영된다.
+    private HolidaySyncSummary syncHolidaysSharded(List<HolidaySyncUnit> units, YearRange range, Long runId, HolidaySyncProgress progress) {
+        List<String> countryCodes = units.stream()
+                .map(HolidaySyncUnit::countryCode)
+                .distinct()
+                .toList();
+        partitionService.plan(runId, range, countryCodes);
+
+        while (true) {
+            partitionLock.lock();
+            try {
+                syncClaimablePartitions(runId, progress);
+            } finally {
+                partitionLock.unlock();
+            }
+
+            Optional<HolidaySyncSummary> combined = partitionService.findCombinedSummary(runId);
+            if (combined.isPresent()) {
+                return combined.get();
+            }
+
+            throwIfCancelled(progress);
+            try {
+                Thread.sleep(shardingProperties.pollInterval());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new CancellationException("공휴일 동기화가 중단되었습니다.");
+            }
         }
-        return result;
     }
 
-    private List<HolidayUpsertCommand> fetchHolidays(String countryCode, int year) {
-        return nagerClient.getPublicHolidays(year, countryCode).stream()
-                .map(mapper::toCommand)
-                .toList();
+    // 다른 노드가 등록한 파티션 중 처리할 수 있는 것을 모두 처리한다. ( HolidaySyncPartitionWorker 가 주기적으로 호출 )
+    // 이 노드가 이미 파티션을 처리 중이면 바로 돌아온다.
+    public int syncClaimablePartitions(HolidaySyncProgress progress) {
+        if (!partitionLock.tryLock()) {
+            return 0;
+        }
+        try {
+            return syncClaimablePartitions(null, progress);
+        } finally {
+            partitionLock.unlock();
+        }
+    }
+
+    private int syncClaimablePartitions(Long runId, HolidaySyncProgress progress) {
+        int processed = 0;
+        while (!progress.isCancelRequested()) {
+            Optional<HolidaySyncPartitionClaim> claim = partitionService.claimNext(runId);
+            if (claim.isEmpty()) {
+                break;
+            }
+            syncPartition(claim.get(), progress);
+            processed++;
+        }
+        return processed;
+    }
+
+    // 파티션의 국가·연도 중 아직 반영되지 않은 단위를 동기화하고 결과를 기록한다.
+    // 임대를 잃으면 남은 단위는 이어받은 노드에 맡기고 멈춘다. 그 밖의 중단은 파티션을 반납해 다른 노드가 바로 가져가게 한다.
+    private void syncPartition(HolidaySyncPartitionClaim claim, HolidaySyncProgress progress) {
+        HolidaySyncProgress partitionProgress = new HolidaySyncProgress() {
+            @Override
+            public void onUnitCompleted(HolidaySyncUnit unit, HolidaySyncSummary summary) {
+                progress.onUnitCompleted(unit, summary);
+            }
+
+            @Override
+            public boolean isCancelRequested() {
+                return claim.isLost() || progress.isCancelRequested();
+            }
+        };
+
+        HolidaySyncSummary summary;
+        try {
+            Set<HolidaySyncUnit> committed = checkpointService.findCommittedUnits(claim.runId());
+            List<HolidaySyncUnit> units = toUnitsOf(claim.countryCodes(), claim.range()).stream()
+                    .filter(unit -> !committed.contains(unit))
+                    .toList();
+            summary = syncHolidays(units, findSyncStates(claim.range()), claim.runId(), partitionProgress);
+        } catch (CancellationException e) {
+            partitionService.release(claim);
+            if (claim.isLost()) {
+                return;
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            partitionService.release(claim);
+            throw e;
+        }
+        partitionService.complete(claim, summary);
+    }
+
+    // fetch(Nager 호출 + 매핑 + 중복 제거) 와 write(DB 반영)를 파이프라인으로 겹쳐 수행한다.
+    // DB 반영은 국가·연도마다 별도 트랜잭션으로 유지한다.
+    private HolidaySyncSummary syncHolidaysConcurrently(List<HolidaySyncUnit> units, Map<HolidaySyncUnit, HolidaySyncState> states,
+                                                        Long runId, HolidaySyncProgress progress) {
+        HolidaySyncPipelineResult result = holidaySyncPipeline.runGrouped(
+                units,
+                unit -> {
+                    throwIfCancelled(progress);
+                    return fetchBatchIsolated(unit, states.get(unit));
+                },
+                group -> commitGroup(group, states, runId, progress)
+        );
+        return result.summary();
+    }
+
+    // 작은 단위 여러 개를 한 트랜잭션으로 반영해, 커밋 횟수가 국가 수가 아니라 데이터 양에 비례하도록 한다.
+    // 반영과 체크포인트가 함께 커밋되고, 진행 상황은 커밋 후에 알린다.
+    // 묶음 중 한 단위라도 실패하면 묶음 전체가 되돌려지므로, 단위마다 따로 다시 반영해 실패한 단위만 실패로 남긴다.
+    private HolidaySyncSummary commitGroup(List<HolidaySyncBatch> group, Map<HolidaySyncUnit, HolidaySyncState> states,
+                                           Long runId, HolidaySyncProgress progress) {
+        if (group.size() == 1) {
+            HolidaySyncBatch batch = group.getFirst();
+            return commitBatch(batch, states.get(batch.unit()), runId, progress);
+        }
+
+        List<HolidaySyncSummary> written;
+        try {
+            List<HolidaySyncUnit> units = group.stream().map(HolidaySyncBatch::unit).toList();
+            written = unitLockManager.withLocks(units, () ->
+                    groupWriter.writeAll(group, batch -> writeAndMark(batch, states.get(batch.unit()), runId))
+            );
+        } catch (RuntimeException e) {
+            log.warn("[HolidaySync] 묶음 반영 실패 - 단위마다 다시 반영, 단위 수={}, reason={}", group.size(), e.getMessage());
+            HolidaySyncSummary total = HolidaySyncSummary.EMPTY;
+            for (HolidaySyncBatch batch : group) {
+                total = total.plus(commitBatch(batch, states.get(batch.unit()), runId, progress));
+            }
+            return total;
+        }
+
+        HolidaySyncSummary total = HolidaySyncSummary.EMPTY;
+        for (int i = 0; i < group.size(); i++) {
+            progress.onUnitCompleted(group.get(i).unit(), written.get(i));
+            total = total.plus(written.get(i));
+        }
+        return total;
+    }
+
+    // 단위 반영 후 체크포인트를 남기고 진행 상황을 알린다. ( 순환 갱신은 runId 가 null 이라 남기지 않음 )
+    // 실패한 단위는 체크포인트를 남기지 않아, 이어받은 동기화에서 다시 처리된다.
+    private HolidaySyncSummary commitBatch(HolidaySyncBatch batch, HolidaySyncState previous, Long runId, HolidaySyncProgress progress) {
+        HolidaySyncUnit unit = batch.unit();
+        HolidaySyncSummary synced;
+        try {
+            synced = unitLockManager.withLock(unit, () -> writeAndMark(batch, previous, runId));
+        } catch (CancellationException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            log.warn("[HolidaySync] {} 국가 {}년 공휴일 반영 실패 - 다음 단위로 계속 진행, reason={}", unit.countryCode(), unit.year(), e.getMessage(), e);
+            synced = HolidaySyncSummary.failed(HolidaySyncFailure.of(unit, describe(e)));
+        }
+        progress.onUnitCompleted(unit, synced);
+        return synced;
+    }
+
+    // fetch 에 실패한 단위는 반영하지 않는다.
+    private HolidaySyncSummary writeAndMark(HolidaySyncBatch batch, HolidaySyncState previous, Long runId) {
+        if (batch.isFailed()) {
+            return HolidaySyncSummary.failed(HolidaySyncFailure.of(batch.unit(), batch.failure()));
+        }
+        HolidaySyncSummary synced = writeBatch(batch, previous, runId);
+        if (runId != null) {
+            checkpointService.markCommitted(runId, batch.unit());
+        }
+        return synced;
+    }
+
+    // fetch 실패(재시도 소진 포함)를 해당 단위의 실패로 가두어, 다른 단위의 동기화를 막지 않는다.
+    private HolidaySyncBatch fetchBatchIsolated(HolidaySyncUnit unit, HolidaySyncState previous) {
+        try {
+            return fetchBatch(unit, previous);
+        } catch (CancellationException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            log.warn("[HolidaySync] {} 국가 {}년 공휴일 조회 실패 - 다음 단위로 계속 진행, reason={}", unit.countryCode(), unit.year(), e.getMessage());
+            return HolidaySyncBatch.failed(unit, describe(e));
+        }
+    }
+
+    private String describe(RuntimeException e) {
+        return e.getMessage() == null ? e.getClass().getSimpleName() : e.getMessage();
+    }
+
+    // 취소 요청이 있으면 다음 단위를 시작하지 않고 중단한다. ( 이미 반영된 단위는 유지 )
+    private void throwIfCancelled(HolidaySyncProgress progress) {
+        if (progress.isCancelRequested()) {
+            throw new CancellationException("공휴일 동기화가 취소되었습니다.");
+        }
+    }
+
+    // previous 가 null 이면 처음 동기화하는 단위이므로 조건부 요청을 보내지 않는다.
+    private HolidaySyncBatch fetchBatch(HolidaySyncUnit unit, HolidaySyncState previous) {
+        NagerCacheValidators validators = previous == null
+                ? NagerCacheValidators.none()
+                : new NagerCacheValidators(previous.getEtag(), previous.getLastModified());
+
+        // 응답 본문은 공휴일 하나씩 읽히는 대로 커맨드로 변환·중복 제거된다. ( 응답 배열, 중간 리스트를 만들지 않음 )
+        NagerConditionalResult<List<HolidayUpsertCommand>> fetched = nagerClient.collectPublicHolidaysIfModified(
+                unit.year(), unit.countryCode(), validators, toDeduplicatedCommands()
+        );
+        if (fetched.notModified()) {
+            return HolidaySyncBatch.notModified(unit);
+        }
+
+        // 내용 지문은 fetch 단계에서 계산해 write 단계의 부담을 줄인다.
+        List<HolidayUpsertCommand> commands = fetched.body();
+        return HolidaySyncBatch.modified(
+                unit,
+                commands,
+                HolidayFingerprintCalculator.fingerprint(commands),
+                fetched.validators().etag(),
+                fetched.validators().lastModified()
+        );
+    }
+
+    private HolidaySyncSummary writeBatch(HolidaySyncBatch batch, HolidaySyncState previous, Long runId) {
+        HolidaySyncUnit unit = batch.unit();
+        if (batch.notModified()) {
+            log.info("[HolidaySync] {} 국가 {}년 공휴일 변경 없음(304) - 반영 생략", unit.countryCode(), unit.year());
+            return HolidaySyncSummary.skipped();
+        }
+
+        // 검증자를 주지 않는 응답이어도, 내용 지문이 직전 반영분과 같으면 upsert 를 생략한다.
+        if (previous != null && previous.hasFingerprint(batch.fingerprint())) {
+            if (!previous.hasValidators(batch.etag(), batch.lastModified())) {
+                holidaySyncService.recordSyncState(batch);
+            }
+            log.info("[HolidaySync] {} 국가 {}년 공휴일 내용 동일(fingerprint) - 반영 생략", unit.countryCode(), unit.year());
+            return HolidaySyncSummary.skipped();
+        }
+
+        // 반영 건수는 공개할 때 정해진다. 실행 없이 반영하는 순환 갱신( runId 가 null )은 스테이징을 거치지 않는다.
+        if (runId != null && stagingProperties.enabled()) {
+            stagingService.stage(runId, batch);
+            log.info("[HolidaySync] {} 국가 {}년 공휴일 스테이징 적재 - 공휴일 개수={}", unit.countryCode(), unit.year(), batch.commands().size());
+            return HolidaySyncSummary.synced(HolidayUpsertResult.EMPTY);
+        }
+
+        HolidayUpsertResult synced = holidaySyncService.upsertHolidays(batch);
+        log.info("[HolidaySync] {} 국가 {}년 공휴일 동기화 완료 - 저장된 공휴일 개수={}, {}", unit.countryCode(), unit.year(), synced.syncedCount(), synced);
+        return HolidaySyncSummary.synced(synced);
+    }
+
+    private Collector<NagerPublicHolidayResponse, ?, List<HolidayUpsertCommand>> toDeduplicatedCommands() {
+        return Collectors.mapping(mapper::toCommand, deduplicatingByDateAndLocalName());
     }
 
     // Nager 에서 중복되는 응답을 제거
     List<HolidayUpsertCommand> deduplicateByDateAndLocalName(List<HolidayUpsertCommand> commands) {
-        record HolidayKey(LocalDate date, String localName) {}
+        return commands.stream().collect(deduplicatingByDateAndLocalName());
+    }
 
-        Map<HolidayKey, HolidayUpsertCommand> map = new LinkedHashMap<>();
-        for (HolidayUpsertCommand c : commands) {
-            HolidayKey key = new HolidayKey(c.date(), c.localName());
-            map.putIfAbsent(key, c);
-        }
-        return new ArrayList<>(map.values());
+    // (date, localName) 이 같은 커맨드는 처음 것만 남긴다. 순서는 응답 순서를 유지
+    private static Collector<HolidayUpsertCommand, ?, List<HolidayUpsertCommand>> deduplicatingByDateAndLocalName() {
+        return Collector.of(
+                LinkedHashMap<HolidayKey, HolidayUpsertCommand>::new,
+                (map, c) -> map.putIfAbsent(new HolidayKey(c.date(), c.localName()), c),
+                (left, right) -> {
+                    right.forEach(left::putIfAbsent);
+                    return left;
+                },
+                map -> new ArrayList<>(map.values())
+        );
+    }
+
+    private record HolidayKey(LocalDate date, String localName) {
     }
 
     // 특정 나라, 년도의 공휴일 재동기화
@@ -120,20 +504,30 @@ public class HolidayCommandService {
         verifyCountryIsExist(countryCode);
         Holiday.verifyYearInRecentFiveYears(year);
 
-        List<HolidayUpsertCommand> commands = fetchHolidays(countryCode, year);
-
-        LocalDate start = LocalDate.of(year, 1, 1);
-        LocalDate end = LocalDate.of(year, 12, 31);
-        int reSynced = holidaySyncService.upsertHolidaysInRange(countryCode, start, end, deduplicateByDateAndLocalName(commands));
+        // 재동기화는 명시적인 요청이므로 조건부 요청 없이 항상 전체를 받아온다.
+        HolidaySyncUnit unit = new HolidaySyncUnit(countryCode, year);
+        HolidaySyncBatch batch;
+        try {
+            batch = fetchBatch(unit, null);
+        } catch (CircuitOpenException e) {
+            // Nager 장애 중에는 읽기 제한 시간까지 기다리지 않고, 기존 데이터를 유지한 채 바로 응답한다.
+            log.warn("[HolidaySync] {} 국가 {}년 공휴일 재동기화 생략 - Nager 회로 열림, 기존 데이터 유지", countryCode, year);
+            return HolidayRefreshResponse.keptExistingData();
+        }
+        HolidayUpsertResult reSynced = unitLockManager.withLock(unit, () -> holidaySyncService.upsertHolidays(batch));
 
-        log.info("[HolidaySync] {} 국가 {}년 공휴일 재동기화 완료 - 저장된 공휴일 개수={}", countryCode, year, reSynced);
-        return new HolidayRefreshResponse(reSynced);
+        log.info("[HolidaySync] {} 국가 {}년 공휴일 재동기화 완료 - 저장된 공휴일 개수={}, {}", countryCode, year, reSynced.syncedCount(), reSynced);
+        return HolidayRefreshResponse.from(reSynced);
     }
 
     // 특정 나라, 년도의 공휴일 삭제
     public HolidayDeleteResponse deleteHolidays(int year, String countryCode) {
         Holiday.verifyYearInRecentFiveYears(year);
-        return new HolidayDeleteResponse(holidaySyncService.deleteOneYearHolidays(countryCode, year));
+        int deleted = unitLockManager.withLock(
+                new HolidaySyncUnit(countryCode, year),
+                () -> holidaySyncService.deleteOneYearHolidays(countryCode, year)
+        );
+        return new HolidayDeleteResponse(deleted);
     }
 
     private void verifyCountryIsExist(String countryCode) {
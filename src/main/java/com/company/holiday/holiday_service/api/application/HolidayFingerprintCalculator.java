@@ -0,0 +1,56 @@
+package com.company.holiday.holiday_service.api.application;
+
+import com.company.holiday.holiday_service.api.application.dto.HolidayUpsertCommand;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Comparator;
+import java.util.HexFormat;
+import java.util.List;
+
+// 국가·연도 공휴일 목록의 내용 지문(SHA-256)
+// - Nager 응답 순서에 영향을 받지 않도록 (date, localName, name) 순으로 정렬한 뒤 계산한다.
+// - types / counties 는 DB 에 저장되는 순서 그대로 반영한다.
+public final class HolidayFingerprintCalculator {
+
+    private static final char FIELD_SEPARATOR = '\u001F';
+    private static final char RECORD_SEPARATOR = '\u001E';
+
+    private static final Comparator<HolidayUpsertCommand> ORDER = Comparator
+            .comparing(HolidayUpsertCommand::date)
+            .thenComparing(HolidayUpsertCommand::localName, Comparator.nullsFirst(Comparator.naturalOrder()))
+            .thenComparing(HolidayUpsertCommand::name, Comparator.nullsFirst(Comparator.naturalOrder()));
+
+    private HolidayFingerprintCalculator() {}
+
+    public static String fingerprint(List<HolidayUpsertCommand> commands) {
+        StringBuilder normalized = new StringBuilder();
+        commands.stream()
+                .sorted(ORDER)
+                .forEach(command -> appendCommand(normalized, command));
+
+        return HexFormat.of().formatHex(sha256().digest(normalized.toString().getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static void appendCommand(StringBuilder sb, HolidayUpsertCommand c) {
+        sb.append(c.countryCode()).append(FIELD_SEPARATOR)
+                .append(c.date()).append(FIELD_SEPARATOR)
+                .append(c.localName()).append(FIELD_SEPARATOR)
+                .append(c.name()).append(FIELD_SEPARATOR)
+                .append(c.global()).append(FIELD_SEPARATOR)
+                .append(c.fixed()).append(FIELD_SEPARATOR)
+                .append(c.launchYear()).append(FIELD_SEPARATOR)
+                .append(c.types()).append(FIELD_SEPARATOR)
+                .append(c.counties()).append(RECORD_SEPARATOR);
+    }
+
+    private static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+}
@@ -0,0 +1,78 @@
+package com.company.holiday.holiday_service.api.application;
+
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncUnit;
+import com.company.holiday.holiday_service.api.domain.HolidayYearRangeCalculator.YearRange;
+import com.company.holiday.holiday_service.global.config.HolidaySyncRefreshProperties;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.zip.CRC32;
+
+// 순환 갱신 일정
+// - 국가·연도마다 주기 안의 고정된 시각( 국가 코드·연도의 해시 )을 정해, 그 시각이 지나갈 때 갱신한다.
+//   단위마다 시각이 고르게 흩어지므로 주기 전체에 걸쳐 Nager 호출과 DB 쓰기가 일정하게 나뉜다.
+// - 최근 연도는 period, 지난 연도는 settledPeriod 마다 한 번씩 돌아온다.
+// - 일정은 DB 에 저장하지 않고 계산만 하므로, 노드가 바뀌어도 같은 단위는 같은 시각에 돌아온다.
+public class HolidayRefreshSchedule {
+
+    private final HolidaySyncRefreshProperties refreshProperties;
+
+    public HolidayRefreshSchedule(HolidaySyncRefreshProperties refreshProperties) {
+        this.refreshProperties = refreshProperties;
+    }
+
+    // (from, to] 사이에 갱신 시각이 돌아오는 단위, 국가 코드 · 연도 순
+    public List<HolidaySyncUnit> dueUnits(List<String> countryCodes, YearRange range, Instant from, Instant to) {
+        List<HolidaySyncUnit> due = new ArrayList<>();
+        for (String countryCode : countryCodes) {
+            for (int year = range.fromYear(); year <= range.toYear(); year++) {
+                HolidaySyncUnit unit = new HolidaySyncUnit(countryCode, year);
+                if (isDue(unit, periodOf(unit, range), from, to)) {
+                    due.add(unit);
+                }
+            }
+        }
+        return due;
+    }
+
+    // 한 번도 동기화하지 않은 단위( 새로 추가된 국가 등 ), 국가마다 최근 연도부터
+    public List<HolidaySyncUnit> newUnits(List<String> countryCodes, YearRange range, Set<HolidaySyncUnit> synced) {
+        List<HolidaySyncUnit> units = new ArrayList<>();
+        for (String countryCode : countryCodes) {
+            for (int year = range.toYear(); year >= range.fromYear(); year--) {
+                HolidaySyncUnit unit = new HolidaySyncUnit(countryCode, year);
+                if (!synced.contains(unit)) {
+                    units.add(unit);
+                }
+            }
+        }
+        return units;
+    }
+
+    Duration periodOf(HolidaySyncUnit unit, YearRange range) {
+        boolean hot = unit.year() > range.toYear() - refreshProperties.hotYears();
+        return hot ? refreshProperties.period() : refreshProperties.settledPeriod();
+    }
+
+    // from 다음에 처음 돌아오는 갱신 시각( offset + k * period )이 to 이전이면 대상
+    static boolean isDue(HolidaySyncUnit unit, Duration period, Instant from, Instant to) {
+        long periodMillis = period.toMillis();
+        long windowMillis = to.toEpochMilli() - from.toEpochMilli();
+        if (windowMillis >= periodMillis) {
+            return true;
+        }
+        long sinceLast = Math.floorMod(from.toEpochMilli() - offsetMillis(unit, periodMillis), periodMillis);
+        return periodMillis - sinceLast <= windowMillis;
+    }
+
+    private static long offsetMillis(HolidaySyncUnit unit, long periodMillis) {
+        CRC32 crc = new CRC32();
+        crc.update((unit.countryCode() + "-" + unit.year()).getBytes(StandardCharsets.UTF_8));
+        return Math.floorMod(crc.getValue(), periodMillis);
+    }
+
+}
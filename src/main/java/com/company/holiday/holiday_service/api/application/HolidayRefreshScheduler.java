@@ -0,0 +1,169 @@
+package com.company.holiday.holiday_service.api.application;
+
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncSummary;
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncUnit;
+import com.company.holiday.holiday_service.api.domain.HolidaySyncState;
+import com.company.holiday.holiday_service.api.domain.HolidayYearRangeCalculator.YearRange;
+import com.company.holiday.holiday_service.global.config.HolidaySyncJobProperties;
+import com.company.holiday.holiday_service.global.config.HolidaySyncRefreshProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.time.Instant;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static com.company.holiday.holiday_service.api.domain.HolidayYearRangeCalculator.lastFiveYears;
+
+// 순환 갱신 스케줄러
+// - tickInterval 마다 지난 확인 이후 갱신 시각이 돌아온 국가·연도만 조건부 요청으로 다시 동기화한다. ( HolidayRefreshSchedule )
+// - countryCheckInterval 마다 가용 국가 목록을 다시 받아, 새로 추가된 국가의 단위는 주기를 기다리지 않고 먼저 처리한다.
+//   갱신 대상 국가는 마지막으로 받은 목록을 그대로 쓰므로, 목록에서 빠진 국가는 flag-missing 설정과 상관없이 갱신하지 않는다.
+// - 여러 노드로 띄워도 순환 갱신 잠금을 쥔 한 노드만 갱신한다. 잠금은 놓지 않고 계속 연장하며, 노드가 죽으면 다른 노드가 이어받는다.
+// 스케줄러의 상태는 모두 갱신 스레드 하나에서만 다룬다.
+@Slf4j
+@Component
+public class HolidayRefreshScheduler {
+
+    static final String LOCK_NAME = "holiday-refresh";
+
+    private final HolidayCommandService holidayCommandService;
+    private final HolidaySyncService holidaySyncService;
+    private final HolidaySyncClusterLock clusterLock;
+    private final HolidaySyncRefreshProperties refreshProperties;
+    private final HolidaySyncJobProperties jobProperties;
+    private final HolidayRefreshSchedule schedule;
+    private final ScheduledExecutorService ticker;
+
+    private volatile HolidaySyncLease lease;
+    private Instant lastTickAt;
+    private Instant lastCountryCheckAt;
+
+    // 마지막으로 받은 Nager 가용 국가 목록
+    private List<String> countryCodes = List.of();
+
+    // 한 번도 동기화하지 않아 먼저 처리할 단위
+    private final Deque<HolidaySyncUnit> pendingNewUnits = new ArrayDeque<>();
+
+    public HolidayRefreshScheduler(HolidayCommandService holidayCommandService, HolidaySyncService holidaySyncService,
+                                   HolidaySyncClusterLock clusterLock, HolidaySyncRefreshProperties refreshProperties,
+                                   HolidaySyncJobProperties jobProperties) {
+        this.holidayCommandService = holidayCommandService;
+        this.holidaySyncService = holidaySyncService;
+        this.clusterLock = clusterLock;
+        this.refreshProperties = refreshProperties;
+        this.jobProperties = jobProperties;
+        this.schedule = new HolidayRefreshSchedule(refreshProperties);
+        this.ticker = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("holiday-sync-refresh").daemon().factory()
+        );
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!refreshProperties.enabled()) {
+            return;
+        }
+        long interval = refreshProperties.tickInterval().toMillis();
+        ticker.scheduleWithFixedDelay(this::tick, interval, interval, TimeUnit.MILLISECONDS);
+        log.info("[HolidaySync-Refresh] 순환 갱신 시작 - period={}, settledPeriod={}, tickInterval={}",
+                refreshProperties.period(), refreshProperties.settledPeriod(), refreshProperties.tickInterval());
+    }
+
+    void tick() {
+        try {
+            if (!holdsLease()) {
+                return;
+            }
+
+            // 담당을 막 이어받았으면 직전 한 주기만 본다. 담당이 비어 있던 동안 건너뛴 단위는 다음 주기에 돌아온다.
+            Instant now = Instant.now();
+            Instant from = lastTickAt == null ? now.minus(refreshProperties.tickInterval()) : lastTickAt;
+            lastTickAt = now;
+
+            YearRange range = lastFiveYears();
+            if (lastCountryCheckAt == null || !now.isBefore(lastCountryCheckAt.plus(refreshProperties.countryCheckInterval()))) {
+                lastCountryCheckAt = now;
+                checkCountries(range);
+            }
+            refresh(range, from, now);
+        } catch (RuntimeException e) {
+            // 실패한 단위는 다음 주기에 다시 돌아온다.
+            log.warn("[HolidaySync-Refresh] 순환 갱신 실패 - reason={}", e.getMessage(), e);
+        }
+    }
+
+    private boolean holdsLease() {
+        if (lease != null) {
+            return true;
+        }
+        Optional<HolidaySyncLease> acquired = clusterLock.tryAcquire(LOCK_NAME, () -> lease = null);
+        if (acquired.isEmpty()) {
+            return false;
+        }
+        lease = acquired.get();
+        lastTickAt = null;
+        lastCountryCheckAt = null;
+        log.info("[HolidaySync-Refresh] 순환 갱신 담당 - nodeId={}", clusterLock.getNodeId());
+        return true;
+    }
+
+    // 국가 목록을 반영하고, 아직 동기화하지 않은 단위를 다시 모은다.
+    private void checkCountries(YearRange range) {
+        countryCodes = holidayCommandService.syncCountries();
+
+        Set<HolidaySyncUnit> synced = holidaySyncService.findSyncStates(range.fromYear(), range.toYear()).keySet();
+        pendingNewUnits.clear();
+        pendingNewUnits.addAll(schedule.newUnits(countryCodes, range, synced));
+        if (!pendingNewUnits.isEmpty()) {
+            log.info("[HolidaySync-Refresh] 동기화하지 않은 단위 발견 - 단위 수={}", pendingNewUnits.size());
+        }
+    }
+
+    private void refresh(YearRange range, Instant from, Instant to) {
+        Set<HolidaySyncUnit> units = new LinkedHashSet<>(schedule.dueUnits(countryCodes, range, from, to));
+        for (int i = 0; i < refreshProperties.maxNewUnitsPerTick() && !pendingNewUnits.isEmpty(); i++) {
+            units.add(pendingNewUnits.poll());
+        }
+        if (units.isEmpty()) {
+            return;
+        }
+
+        Map<HolidaySyncUnit, HolidaySyncState> states = holidaySyncService.findSyncStates(range.fromYear(), range.toYear());
+        HolidaySyncSummary summary = holidayCommandService.refreshUnits(new ArrayList<>(units), states);
+        log.info("[HolidaySync-Refresh] 갱신 완료 - 대상 단위={}, 반영 단위={}, 생략 단위={}, 실패 단위={}, {}",
+                units.size(), summary.syncedUnits(), summary.skippedUnits(), summary.failedUnits(), summary.changes());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        ticker.shutdown();
+        try {
+            if (!ticker.awaitTermination(jobProperties.shutdownTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("[HolidaySync-Refresh] 순환 갱신 종료 대기 시간 초과");
+                ticker.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            ticker.shutdownNow();
+        }
+
+        HolidaySyncLease held = lease;
+        if (held != null) {
+            held.release();
+        }
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.company.holiday.holiday_service.api.application;
+
+import com.company.holiday.holiday_service.api.application.dto.HolidaySnapshotResult;
+import com.company.holiday.holiday_service.api.infra.HolidaySnapshotJdbcRepository;
+import com.company.holiday.holiday_service.global.config.HolidaySnapshotProperties;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+// 시작 시 DB 가 비어 있으면 스냅샷으로 채워, Nager 전체 동기화 없이 바로 조회할 수 있게 한다.
+// 스냅샷이 없거나 불러오지 못해도 기동은 계속하고, 이후 동기화로 채운다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HolidaySnapshotBootstrap {
+
+    private final HolidaySnapshotService snapshotService;
+    private final HolidaySnapshotJdbcRepository snapshotRepository;
+    private final HolidaySnapshotProperties snapshotProperties;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void importOnStartup() {
+        if (!snapshotProperties.importOnStartup()) {
+            return;
+        }
+        Path path = Path.of(snapshotProperties.path());
+        if (!Files.isRegularFile(path)) {
+            log.info("[HolidaySnapshot] 스냅샷 파일이 없어 불러오기를 건너뜀 - path={}", path.toAbsolutePath());
+            return;
+        }
+        if (snapshotRepository.hasAnyCountry()) {
+            log.info("[HolidaySnapshot] 이미 데이터가 있어 불러오기를 건너뜀");
+            return;
+        }
+
+        try {
+            HolidaySnapshotResult result = snapshotService.importSnapshot(path);
+            log.info("[HolidaySnapshot] 시작 시 스냅샷 적재 - countries={}, holidays={}",
+                    result.countriesCount(), result.holidaysCount());
+        } catch (RuntimeException e) {
+            // 손상된 행, DB 제약 위반 등 어떤 이유로 실패해도 기동을 막지 않는다. ( 적재분은 트랜잭션과 함께 되돌려짐 )
+            log.error("[HolidaySnapshot] 시작 시 스냅샷 적재 실패 - {}", e.getMessage(), e);
+        }
+    }
+
+}
@@ -0,0 +1,347 @@
+package com.company.holiday.holiday_service.api.application;
+
+import com.company.holiday.holiday_service.api.application.dto.HolidaySnapshotResult;
+import com.company.holiday.holiday_service.api.infra.HolidaySnapshotJdbcRepository;
+import com.company.holiday.holiday_service.api.infra.HolidaySnapshotJdbcRepository.CountryRow;
+import com.company.holiday.holiday_service.api.infra.HolidaySnapshotJdbcRepository.HolidayRow;
+import com.company.holiday.holiday_service.global.config.HolidaySnapshotProperties;
+import com.company.holiday.holiday_service.global.config.HolidaySyncProperties;
+import com.company.holiday.holiday_service.global.error.ErrorCode;
+import com.company.holiday.holiday_service.global.error.exception.BusinessException;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+// 국가·공휴일 전체를 gzip 압축 JSON 스냅샷으로 내보내고, 빈 DB 에 한 번에 불러온다.
+// 형식 : {"format":"holiday-snapshot","version":2,"createdAt":"...","countries":[[code,name,available],...],"holidays":[[...],...]}
+// version 1 스냅샷은 국가 행에 available 이 없으며, 불러올 때 모두 가용 국가로 본다.
+// 행은 필드명 없이 배열로 기록하고, 읽고 쓸 때 모두 스트리밍으로 처리해 전체를 메모리에 올리지 않는다.
+@Slf4j
+@Service
+public class HolidaySnapshotService {
+
+    static final String FORMAT = "holiday-snapshot";
+    static final int VERSION = 2;
+    private static final int VERSION_WITHOUT_AVAILABLE = 1;
+
+    private static final int IO_BUFFER_SIZE = 64 * 1024;
+
+    private final HolidaySnapshotJdbcRepository snapshotRepository;
+    private final HolidaySnapshotProperties snapshotProperties;
+    private final HolidaySyncProperties syncProperties;
+    private final JsonFactory jsonFactory;
+
+    public HolidaySnapshotService(
+            HolidaySnapshotJdbcRepository snapshotRepository,
+            HolidaySnapshotProperties snapshotProperties,
+            HolidaySyncProperties syncProperties,
+            ObjectMapper objectMapper
+    ) {
+        this.snapshotRepository = snapshotRepository;
+        this.snapshotProperties = snapshotProperties;
+        this.syncProperties = syncProperties;
+        this.jsonFactory = objectMapper.getFactory();
+    }
+
+    @Transactional(readOnly = true)
+    public HolidaySnapshotResult export() {
+        return export(Path.of(snapshotProperties.path()));
+    }
+
+    // 같은 디렉터리의 임시 파일에 모두 쓴 뒤 교체하므로, 쓰는 도중 실패해도 기존 스냅샷은 그대로 남는다.
+    @Transactional(readOnly = true)
+    public HolidaySnapshotResult export(Path path) {
+        LocalDateTime createdAt = LocalDateTime.now();
+        Path target = path.toAbsolutePath();
+        Path temp = null;
+        try {
+            Files.createDirectories(target.getParent());
+            temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+
+            int[] counts;
+            try (OutputStream out = new GZIPOutputStream(new BufferedOutputStream(Files.newOutputStream(temp), IO_BUFFER_SIZE), IO_BUFFER_SIZE);
+                 JsonGenerator generator = jsonFactory.createGenerator(out)) {
+                counts = writeSnapshot(generator, createdAt);
+            }
+
+            moveReplacing(temp, target);
+            long sizeBytes = Files.size(target);
+            log.info("[HolidaySnapshot] 내보내기 완료 - path={}, countries={}, holidays={}, bytes={}",
+                    target, counts[0], counts[1], sizeBytes);
+            return new HolidaySnapshotResult(target.toString(), counts[0], counts[1], sizeBytes, createdAt);
+        } catch (IOException | UncheckedIOException e) {
+            deleteQuietly(temp);
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "스냅샷 내보내기에 실패했습니다. path=" + target, e);
+        }
+    }
+
+    @Transactional
+    public HolidaySnapshotResult importSnapshot() {
+        return importSnapshot(Path.of(snapshotProperties.path()));
+    }
+
+    // 엔티티·Auditing 을 거치지 않고 JDBC 배치로 바로 넣는다. 이미 국가가 있는 DB 에는 불러오지 않는다.
+    @Transactional
+    public HolidaySnapshotResult importSnapshot(Path path) {
+        Path source = path.toAbsolutePath();
+        if (snapshotRepository.hasAnyCountry()) {
+            throw new BusinessException(ErrorCode.INVALID_REQUEST, "비어 있는 DB 에만 스냅샷을 불러올 수 있습니다.");
+        }
+
+        try (InputStream in = new GZIPInputStream(new BufferedInputStream(Files.newInputStream(source), IO_BUFFER_SIZE), IO_BUFFER_SIZE);
+             JsonParser parser = jsonFactory.createParser(in)) {
+            SnapshotReader reader = new SnapshotReader(parser);
+            reader.read();
+            log.info("[HolidaySnapshot] 불러오기 완료 - path={}, countries={}, holidays={}, createdAt={}",
+                    source, reader.countriesCount, reader.holidaysCount, reader.createdAt);
+            return new HolidaySnapshotResult(source.toString(), reader.countriesCount, reader.holidaysCount,
+                    Files.size(source), reader.createdAt);
+        } catch (IOException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "스냅샷 불러오기에 실패했습니다. path=" + source, e);
+        }
+    }
+
+    private int[] writeSnapshot(JsonGenerator generator, LocalDateTime createdAt) throws IOException {
+        int[] counts = new int[2];
+
+        generator.writeStartObject();
+        generator.writeStringField("format", FORMAT);
+        generator.writeNumberField("version", VERSION);
+        generator.writeStringField("createdAt", createdAt.toString());
+
+        generator.writeArrayFieldStart("countries");
+        snapshotRepository.forEachCountry(country -> {
+            writeRow(generator, g -> {
+                g.writeString(country.code());
+                g.writeString(country.name());
+                g.writeBoolean(country.available());
+            });
+            counts[0]++;
+        });
+        generator.writeEndArray();
+
+        generator.writeArrayFieldStart("holidays");
+        snapshotRepository.forEachHoliday(holiday -> {
+            writeRow(generator, g -> {
+                g.writeString(holiday.countryCode());
+                g.writeString(holiday.date().toString());
+                g.writeString(holiday.localName());
+                g.writeString(holiday.name());
+                g.writeBoolean(holiday.global());
+                g.writeBoolean(holiday.fixed());
+                if (holiday.launchYear() == null) {
+                    g.writeNull();
+                } else {
+                    g.writeNumber(holiday.launchYear());
+                }
+                g.writeString(holiday.typesRaw());
+                g.writeString(holiday.countiesRaw());
+            });
+            counts[1]++;
+        });
+        generator.writeEndArray();
+
+        generator.writeEndObject();
+        return counts;
+    }
+
+    private void writeRow(JsonGenerator generator, RowWriter writer) {
+        try {
+            generator.writeStartArray();
+            writer.write(generator);
+            generator.writeEndArray();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private void moveReplacing(Path source, Path target) throws IOException {
+        try {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(source, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+
+    private void deleteQuietly(Path path) {
+        if (path == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(path);
+        } catch (IOException e) {
+            log.warn("[HolidaySnapshot] 임시 파일 삭제 실패 - path={}", path, e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface RowWriter {
+        void write(JsonGenerator generator) throws IOException;
+    }
+
+    // 헤더를 먼저 확인하고, 국가는 모아서 한 번에, 공휴일은 jdbc-batch-size 만큼 모일 때마다 넣는다.
+    private class SnapshotReader {
+
+        private final JsonParser parser;
+        private final List<HolidayRow> chunk = new ArrayList<>();
+
+        private Map<String, Long> countryIds;
+        private int version;
+        private LocalDateTime createdAt;
+        private int countriesCount;
+        private int holidaysCount;
+
+        private SnapshotReader(JsonParser parser) {
+            this.parser = parser;
+        }
+
+        private void read() throws IOException {
+            expect(parser.nextToken(), JsonToken.START_OBJECT);
+            String format = null;
+            Integer version = null;
+
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.currentName();
+                parser.nextToken();
+                switch (field) {
+                    case "format" -> format = parser.getText();
+                    case "version" -> version = parser.getIntValue();
+                    case "createdAt" -> createdAt = parse(parser.getText(), LocalDateTime::parse);
+                    case "countries" -> {
+                        checkHeader(format, version);
+                        readCountries();
+                    }
+                    case "holidays" -> {
+                        checkHeader(format, version);
+                        if (countryIds == null) {
+                            throw invalid("countries 보다 holidays 가 먼저 나왔습니다.");
+                        }
+                        readHolidays();
+                    }
+                    default -> parser.skipChildren();
+                }
+            }
+        }
+
+        private void checkHeader(String format, Integer version) {
+            if (!FORMAT.equals(format)) {
+                throw invalid("지원하지 않는 스냅샷 형식입니다. format=" + format);
+            }
+            if (version == null || (version != VERSION && version != VERSION_WITHOUT_AVAILABLE)) {
+                throw invalid("지원하지 않는 스냅샷 버전입니다. version=" + version);
+            }
+            this.version = version;
+        }
+
+        private void readCountries() throws IOException {
+            expect(parser.currentToken(), JsonToken.START_ARRAY);
+            List<CountryRow> countries = new ArrayList<>();
+            while (parser.nextToken() == JsonToken.START_ARRAY) {
+                String code = nextText();
+                String name = nextText();
+                boolean available = version == VERSION_WITHOUT_AVAILABLE || nextBoolean();
+                countries.add(new CountryRow(code, name, available));
+                expect(parser.nextToken(), JsonToken.END_ARRAY);
+            }
+            countriesCount = snapshotRepository.insertCountries(countries);
+            countryIds = snapshotRepository.findCountryIdsByCode();
+        }
+
+        private void readHolidays() throws IOException {
+            expect(parser.currentToken(), JsonToken.START_ARRAY);
+            while (parser.nextToken() == JsonToken.START_ARRAY) {
+                HolidayRow row = new HolidayRow(
+                        nextText(),
+                        parse(nextText(), LocalDate::parse),
+                        nextText(),
+                        nextText(),
+                        nextBoolean(),
+                        nextBoolean(),
+                        nextInteger(),
+                        nextText(),
+                        nextText()
+                );
+                expect(parser.nextToken(), JsonToken.END_ARRAY);
+                if (!countryIds.containsKey(row.countryCode())) {
+                    throw invalid("스냅샷에 없는 국가의 공휴일입니다. countryCode=" + row.countryCode());
+                }
+                chunk.add(row);
+                if (chunk.size() >= syncProperties.jdbcBatchSize()) {
+                    flush();
+                }
+            }
+            flush();
+        }
+
+        private void flush() {
+            if (chunk.isEmpty()) {
+                return;
+            }
+            holidaysCount += snapshotRepository.insertHolidays(chunk, countryIds);
+            chunk.clear();
+        }
+
+        private String nextText() throws IOException {
+            JsonToken token = parser.nextToken();
+            return token == JsonToken.VALUE_NULL ? null : parser.getText();
+        }
+
+        private boolean nextBoolean() throws IOException {
+            parser.nextToken();
+            return parser.getBooleanValue();
+        }
+
+        private Integer nextInteger() throws IOException {
+            JsonToken token = parser.nextToken();
+            return token == JsonToken.VALUE_NULL ? null : parser.getIntValue();
+        }
+
+        // 손상된 날짜 값은 다른 구조 오류와 같이 스냅샷 오류로 알린다.
+        private <T> T parse(String text, Function<String, T> parser) {
+            if (text == null) {
+                throw invalid("스냅샷에 비어 있는 날짜 값이 있습니다.");
+            }
+            try {
+                return parser.apply(text);
+            } catch (DateTimeParseException e) {
+                throw invalid("스냅샷의 날짜 값이 올바르지 않습니다. value=" + text);
+            }
+        }
+
+        private void expect(JsonToken actual, JsonToken expected) {
+            if (actual != expected) {
+                throw invalid("스냅샷 구조가 올바르지 않습니다. expected=" + expected + ", actual=" + actual);
+            }
+        }
+
+        private BusinessException invalid(String message) {
+            return new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, message);
+        }
+    }
+
+}
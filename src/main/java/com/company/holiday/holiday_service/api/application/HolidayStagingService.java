@@ -0,0 +1,143 @@
+package com.company.holiday.holiday_service.api.application;
+
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncBatch;
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncUnit;
+import com.company.holiday.holiday_service.api.application.dto.HolidayUpsertCommand;
+import com.company.holiday.holiday_service.api.application.dto.HolidayUpsertResult;
+import com.company.holiday.holiday_service.api.infra.HolidayStagingJdbcRepository;
+import com.company.holiday.holiday_service.api.infra.HolidayStagingJdbcRepository.StagedHoliday;
+import com.company.holiday.holiday_service.api.infra.HolidayStagingJdbcRepository.StagedUnit;
+import com.company.holiday.holiday_service.global.config.HolidaySyncStagingProperties;
+import com.company.holiday.holiday_service.global.error.ErrorCode;
+import com.company.holiday.holiday_service.global.error.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+// 스테이징 동기화
+// - 동기화 중에는 국가·연도 단위를 스테이징 테이블에만 적재하고, 공개된 공휴일과 동기화 상태는 건드리지 않는다.
+// - 실행이 끝나면 적재분을 검증한 뒤, 한 트랜잭션에서 공개된 공휴일에 반영한다.
+//   읽는 쪽은 커밋 전까지 이전 데이터를 그대로 읽고( MVCC, 잠금 대기 없음 ), 커밋 시점에 새 데이터를 한 번에 본다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HolidayStagingService {
+
+    private final HolidayStagingJdbcRepository stagingRepository;
+    private final HolidaySyncService holidaySyncService;
+    private final HolidaySyncStagingProperties stagingProperties;
+
+    @Transactional
+    public void stage(Long runId, HolidaySyncBatch batch) {
+        HolidaySyncUnit unit = batch.unit();
+        List<StagedHoliday> holidays = batch.commands().stream()
+                .map(this::toStagedHoliday)
+                .toList();
+        stagingRepository.replaceUnit(
+                runId,
+                new StagedUnit(unit.countryCode(), unit.year(), batch.etag(), batch.lastModified(), batch.fingerprint(), holidays.size()),
+                holidays
+        );
+    }
+
+    // 반영은 HolidaySyncService 의 단위 반영을 그대로 써서, 쓰기 방식( CHANGESET / REPLACE )과 공휴일 id 유지 방식이 같다.
+    // 캐시 검증자와 내용 지문도 이때 함께 기록한다.
+    @Transactional
+    public HolidayUpsertResult publish(Long runId) {
+        List<StagedUnit> units = stagingRepository.findUnits(runId);
+        validate(runId, units);
+
+        HolidayUpsertResult total = HolidayUpsertResult.EMPTY;
+        for (StagedUnit staged : units) {
+            HolidaySyncUnit unit = new HolidaySyncUnit(staged.countryCode(), staged.year());
+            List<HolidayUpsertCommand> commands = stagingRepository.findHolidays(runId, staged.countryCode(), staged.year()).stream()
+                    .map(holiday -> toCommand(staged.countryCode(), holiday))
+                    .toList();
+            total = total.plus(holidaySyncService.upsertHolidays(HolidaySyncBatch.modified(
+                    unit, commands, staged.fingerprint(), staged.etag(), staged.lastModified()
+            )));
+        }
+        stagingRepository.deleteRun(runId);
+
+        log.info("[HolidaySync-Staging] 공개 완료 - runId={}, 단위 수={}, {}", runId, units.size(), total);
+        return total;
+    }
+
+    @Transactional(readOnly = true)
+    public List<HolidaySyncUnit> findStagedUnits(Long runId) {
+        return stagingRepository.findUnits(runId).stream()
+                .map(staged -> new HolidaySyncUnit(staged.countryCode(), staged.year()))
+                .toList();
+    }
+
+    @Transactional
+    public void discard(Long runId) {
+        stagingRepository.deleteRun(runId);
+        log.info("[HolidaySync-Staging] 적재분 폐기 - runId={}", runId);
+    }
+
+    // 기존에 공휴일이 있던 국가·연도가 0 건이 되거나, maxShrinkRatio 넘게 줄면 전체를 공개하지 않는다.
+    private void validate(Long runId, List<StagedUnit> units) {
+        List<String> violations = new ArrayList<>();
+        for (StagedUnit staged : units) {
+            HolidaySyncUnit unit = new HolidaySyncUnit(staged.countryCode(), staged.year());
+            int live = stagingRepository.countLiveHolidays(unit.countryCode(), unit.startDate(), unit.endDate());
+            if (live == 0) {
+                continue;
+            }
+            if (staged.holidayCount() == 0 || staged.holidayCount() < live * (1 - stagingProperties.maxShrinkRatio())) {
+                violations.add(unit.countryCode() + "-" + unit.year() + "(" + live + "→" + staged.holidayCount() + ")");
+            }
+        }
+
+        if (!violations.isEmpty()) {
+            log.warn("[HolidaySync-Staging] 검증 실패로 공개하지 않음 - runId={}, 위반 단위={}", runId, violations);
+            throw new BusinessException(
+                    ErrorCode.SYNC_VALIDATION_FAILED,
+                    "공휴일 수가 크게 줄어든 국가·연도가 있어 반영하지 않았습니다. " + violations
+            );
+        }
+    }
+
+    private StagedHoliday toStagedHoliday(HolidayUpsertCommand command) {
+        return new StagedHoliday(
+                command.date(),
+                command.localName(),
+                command.name(),
+                command.global(),
+                command.fixed(),
+                command.launchYear(),
+                join(command.types()),
+                join(command.counties())
+        );
+    }
+
+    private HolidayUpsertCommand toCommand(String countryCode, StagedHoliday holiday) {
+        return new HolidayUpsertCommand(
+                countryCode,
+                holiday.date(),
+                holiday.localName(),
+                holiday.name(),
+                holiday.global(),
+                holiday.fixed(),
+                holiday.launchYear(),
+                split(holiday.typesRaw()),
+                split(holiday.countiesRaw())
+        );
+    }
+
+    // HolidayDomainMapper 와 같은 "Public,Bank" 형식
+    private String join(List<String> values) {
+        return values == null || values.isEmpty() ? null : String.join(",", values);
+    }
+
+    private List<String> split(String raw) {
+        return raw == null ? null : Arrays.asList(raw.split(","));
+    }
+
+}
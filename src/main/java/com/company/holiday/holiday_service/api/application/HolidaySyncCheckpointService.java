@@ -0,0 +1,87 @@
+package com.company.holiday.holiday_service.api.application;
+
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncRunContext;
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncUnit;
+import com.company.holiday.holiday_service.api.domain.HolidaySyncCheckpoint;
+import com.company.holiday.holiday_service.api.domain.HolidaySyncRun;
+import com.company.holiday.holiday_service.api.domain.HolidayYearRangeCalculator.YearRange;
+import com.company.holiday.holiday_service.api.infra.HolidaySyncCheckpointRepository;
+import com.company.holiday.holiday_service.api.infra.HolidaySyncRunRepository;
+import com.company.holiday.holiday_service.global.config.HolidaySyncCheckpointProperties;
+import com.company.holiday.holiday_service.global.error.ErrorCode;
+import com.company.holiday.holiday_service.global.error.exception.EntityNotFoundException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+// 동기화 실행 / 체크포인트 관리
+// - 단위마다 반영할 때는 체크포인트를 국가·연도 반영 트랜잭션이 끝난 직후 별도 트랜잭션으로 기록한다.
+//   그 사이에 프로세스가 죽으면 해당 단위를 한 번 더 반영하게 되지만, 반영은 멱등이라 결과는 같다.
+// - 여러 단위를 묶어 반영할 때( group commit )는 markCommitted 가 묶음 트랜잭션에 참여해, 체크포인트가 데이터와 함께 커밋·롤백된다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HolidaySyncCheckpointService {
+
+    private final HolidaySyncRunRepository runRepository;
+    private final HolidaySyncCheckpointRepository checkpointRepository;
+    private final HolidaySyncCheckpointProperties checkpointProperties;
+
+    // 같은 연도 범위의 미완료 실행이 있으면 이어받고, 없으면 새 실행을 시작한다.
+    @Transactional
+    public HolidaySyncRunContext startOrResume(YearRange range) {
+        LocalDateTime resumableAfter = LocalDateTime.now().minus(checkpointProperties.resumeWindow());
+        Optional<HolidaySyncRun> unfinished = runRepository.findFirstByFromYearAndToYearAndStatusNotAndCreatedAtAfterOrderByIdDesc(
+                range.fromYear(), range.toYear(), HolidaySyncRun.Status.COMPLETED, resumableAfter);
+
+        if (unfinished.isPresent()) {
+            HolidaySyncRun run = unfinished.get();
+            run.resume();
+            Set<HolidaySyncUnit> committed = findCommittedUnits(run.getId());
+            log.info("[HolidaySync-Checkpoint] 이전 실행 이어받음 - runId={}, 반영 완료 단위={}", run.getId(), committed.size());
+            return new HolidaySyncRunContext(run.getId(), true, committed);
+        }
+
+        HolidaySyncRun run = runRepository.save(HolidaySyncRun.start(range.fromYear(), range.toYear()));
+        return new HolidaySyncRunContext(run.getId(), false, Set.of());
+    }
+
+    // 실행에서 반영이 끝난 국가·연도 단위 ( 샤딩 동기화에서는 다른 노드가 반영한 단위도 포함 )
+    @Transactional(readOnly = true)
+    public Set<HolidaySyncUnit> findCommittedUnits(Long runId) {
+        return checkpointRepository.findAllByRunId(runId).stream()
+                .map(checkpoint -> new HolidaySyncUnit(checkpoint.getCountryCode(), checkpoint.getYear()))
+                .collect(Collectors.toUnmodifiableSet());
+    }
+
+    @Transactional
+    public void markCommitted(Long runId, HolidaySyncUnit unit) {
+        if (checkpointRepository.existsByRunIdAndCountryCodeAndYear(runId, unit.countryCode(), unit.year())) {
+            return;
+        }
+        checkpointRepository.save(HolidaySyncCheckpoint.of(runId, unit.countryCode(), unit.year()));
+    }
+
+    // 실행의 체크포인트를 모두 지워, 이어받는 실행이 모든 단위를 다시 동기화하도록 한다. ( 스테이징 검증 실패 시 )
+    @Transactional
+    public void clearCommitted(Long runId) {
+        checkpointRepository.deleteAllByRunId(runId);
+    }
+
+    @Transactional
+    public void finish(Long runId, HolidaySyncRun.Status status) {
+        HolidaySyncRun run = runRepository.findById(runId)
+                .orElseThrow(() -> new EntityNotFoundException(
+                        ErrorCode.ENTITY_NOT_FOUND,
+                        "존재하지 않는 동기화 실행입니다. runId=" + runId
+                ));
+        run.finish(status);
+    }
+
+}
@@ -0,0 +1,167 @@
+package com.company.holiday.holiday_service.api.application;
+
+import com.company.holiday.holiday_service.api.infra.HolidaySyncLockJdbcRepository;
+import com.company.holiday.holiday_service.global.config.HolidaySyncLockProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.net.InetAddress;
+import java.net.UnknownHostException;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Predicate;
+
+// 여러 노드 중 한 노드에서만 동기화가 실행되도록 하는 DB 임대 잠금
+// - 잠금을 얻으면 renewInterval 마다 임대를 연장하고, 실행이 끝나면 해제한다.
+// - 노드가 죽어 연장이 끊기면 leaseDuration 뒤 다른 노드가 가져갈 수 있다.
+// - 연장하지 못해 잠금을 잃으면 onLost 를 호출해 진행 중인 동기화를 멈춘다. ( 반영된 단위는 체크포인트로 이어받음 )
+@Slf4j
+@Component
+public class HolidaySyncClusterLock {
+
+    static final String LOCK_NAME = "holiday-sync";
+
+    private final HolidaySyncLockJdbcRepository lockRepository;
+    private final HolidaySyncLockProperties lockProperties;
+    private final String nodeId;
+    private final ScheduledExecutorService heartbeatExecutor;
+
+    public HolidaySyncClusterLock(HolidaySyncLockJdbcRepository lockRepository, HolidaySyncLockProperties lockProperties) {
+        this.lockRepository = lockRepository;
+        this.lockProperties = lockProperties;
+        this.nodeId = lockProperties.nodeId() == null || lockProperties.nodeId().isBlank()
+                ? defaultNodeId()
+                : lockProperties.nodeId();
+        this.heartbeatExecutor = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("holiday-sync-lease").daemon().factory()
+        );
+    }
+
+    public String getNodeId() {
+        return nodeId;
+    }
+
+    // 다른 노드가 잠금을 쥐고 있으면 empty
+    public Optional<HolidaySyncLease> tryAcquire(Runnable onLost) {
+        return tryAcquire(LOCK_NAME, onLost);
+    }
+
+    // 이름이 다른 잠금끼리는 서로 막지 않는다. ( 순환 갱신 담당 노드 선출 등 )
+    public Optional<HolidaySyncLease> tryAcquire(String lockName, Runnable onLost) {
+        if (!lockProperties.enabled()) {
+            return Optional.of(HolidaySyncLease.unmanaged());
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(lockProperties.leaseDuration());
+        if (!lockRepository.tryAcquire(lockName, nodeId, now, expiresAt)) {
+            log.info("[HolidaySync-Lock] 다른 노드가 잠금을 쥐고 있음 - lockName={}, nodeId={}", lockName, nodeId);
+            return Optional.empty();
+        }
+
+        log.info("[HolidaySync-Lock] 잠금 획득 - lockName={}, nodeId={}, expiresAt={}", lockName, nodeId, expiresAt);
+        return Optional.of(keepAlive(
+                "잠금 " + lockName,
+                expiresAt,
+                next -> lockRepository.renew(lockName, nodeId, next),
+                onLost,
+                () -> {
+                    try {
+                        lockRepository.release(lockName, nodeId);
+                        log.info("[HolidaySync-Lock] 잠금 해제 - lockName={}, nodeId={}", lockName, nodeId);
+                    } catch (DataAccessException e) {
+                        // 해제하지 못해도 임대 기간이 지나면 다른 노드가 가져갈 수 있다.
+                        log.warn("[HolidaySync-Lock] 잠금 해제 실패 - lockName={}, nodeId={}, reason={}", lockName, nodeId, e.getMessage());
+                    }
+                }
+        ));
+    }
+
+    // 이미 얻은 임대를 renewInterval 마다 연장한다. ( 파티션 작업 점유에도 같이 쓴다 )
+    // - renewer 는 새 만료 시각으로 연장하고, 다른 노드가 가져갔으면 false 를 돌려준다.
+    // - 연장하지 못해 임대를 잃으면 연장을 멈추고 onLost 를 호출한다.
+    // - 돌려준 임대를 해제하면 연장을 멈추고 releaser 를 호출한다.
+    public HolidaySyncLease keepAlive(String name, LocalDateTime expiresAt, Predicate<LocalDateTime> renewer,
+                                      Runnable onLost, Runnable releaser) {
+        Heartbeat heartbeat = new Heartbeat(name, expiresAt, renewer, onLost);
+        long interval = lockProperties.renewInterval().toMillis();
+        heartbeat.future = heartbeatExecutor.scheduleAtFixedRate(heartbeat, interval, interval, TimeUnit.MILLISECONDS);
+
+        return new HolidaySyncLease(() -> {
+            heartbeat.future.cancel(false);
+            releaser.run();
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        heartbeatExecutor.shutdownNow();
+    }
+
+    private static String defaultNodeId() {
+        String host;
+        try {
+            host = InetAddress.getLocalHost().getHostName();
+        } catch (UnknownHostException e) {
+            host = "unknown";
+        }
+        return host + "-" + UUID.randomUUID().toString().substring(0, 8);
+    }
+
+    private final class Heartbeat implements Runnable {
+
+        private final String name;
+        private final Predicate<LocalDateTime> renewer;
+        private final Runnable onLost;
+        private volatile LocalDateTime expiresAt;
+        private volatile ScheduledFuture<?> future;
+
+        private Heartbeat(String name, LocalDateTime expiresAt, Predicate<LocalDateTime> renewer, Runnable onLost) {
+            this.name = name;
+            this.expiresAt = expiresAt;
+            this.renewer = renewer;
+            this.onLost = onLost;
+        }
+
+        // 예외가 scheduleAtFixedRate 밖으로 나가면 이후 연장이 조용히 멈추므로, 모든 예외를 여기서 처리한다.
+        @Override
+        public void run() {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime next = now.plus(lockProperties.leaseDuration());
+            boolean renewed;
+            try {
+                renewed = renewer.test(next);
+            } catch (RuntimeException e) {
+                // 일시적인 DB 오류 등은 임대가 남아 있는 동안 다음 주기에 다시 시도한다.
+                log.warn("[HolidaySync-Lock] 임대 연장 실패 - {}, nodeId={}, reason={}", name, nodeId, e.getMessage(), e);
+                if (!now.isBefore(expiresAt)) {
+                    lost("임대 만료");
+                }
+                return;
+            }
+            if (renewed) {
+                expiresAt = next;
+                return;
+            }
+            lost("다른 노드가 가져감");
+        }
+
+        private void lost(String reason) {
+            log.warn("[HolidaySync-Lock] 임대를 잃어 진행 중인 작업을 중단 - {}, nodeId={}, reason={}", name, nodeId, reason);
+            future.cancel(false);
+            try {
+                onLost.run();
+            } catch (RuntimeException e) {
+                log.error("[HolidaySync-Lock] 임대 상실 처리 실패 - {}, nodeId={}", name, nodeId, e);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,23 @@
+package com.company.holiday.holiday_service.api.application;
+
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncBatch;
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncSummary;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.function.Function;
+
+// 여러 국가·연도 변경분을 한 트랜잭션으로 반영한다. ( group commit )
+// writer 가 호출하는 @Transactional 메서드는 모두 이 트랜잭션에 참여하므로, 한 단위라도 실패하면 묶음 전체가 되돌려진다.
+@Component
+public class HolidaySyncGroupWriter {
+
+    @Transactional
+    public List<HolidaySyncSummary> writeAll(List<HolidaySyncBatch> group, Function<HolidaySyncBatch, HolidaySyncSummary> writer) {
+        return group.stream()
+                .map(writer)
+                .toList();
+    }
+
+}
@@ -0,0 +1,170 @@
+package com.company.holiday.holiday_service.api.application;
+
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncSummary;
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncUnit;
+import com.company.holiday.holiday_service.api.presentation.dto.response.HolidaySyncResponse;
+import lombok.AccessLevel;
+import lombok.Getter;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 비동기 동기화 작업 하나의 진행 상태 ( 메모리 보관 )
+// - 작업 스레드가 갱신하고, 조회 API 스레드가 읽는다.
+@Getter
+public class HolidaySyncJob implements HolidaySyncProgress {
+
+    public enum Type {
+        // 수동 적재 ( 최근 5년 )
+        MANUAL,
+        // 배치 적재 ( 최근 2년 )
+        BATCH
+    }
+
+    public enum Status {
+        PENDING, RUNNING, SUCCEEDED, FAILED, CANCELLED;
+
+        public boolean isFinished() {
+            return this == SUCCEEDED || this == FAILED || this == CANCELLED;
+        }
+    }
+
+    private final String id = UUID.randomUUID().toString();
+    private final Type type;
+    private final LocalDateTime requestedAt = LocalDateTime.now();
+
+    private volatile Status status = Status.PENDING;
+    private volatile LocalDateTime startedAt;
+    private volatile LocalDateTime finishedAt;
+    private volatile boolean cancelRequested;
+    private volatile String error;
+    private volatile HolidaySyncResponse result;
+
+    private volatile int totalCountries;
+    private final AtomicInteger completedCountries = new AtomicInteger();
+    private final AtomicInteger completedUnits = new AtomicInteger();
+    private final AtomicReference<HolidaySyncSummary> summary = new AtomicReference<>(HolidaySyncSummary.EMPTY);
+
+    // 국가별로 남은 연도 수, 0 이 되면 해당 국가 완료
+    @Getter(AccessLevel.NONE)
+    private final Map<String, AtomicInteger> remainingUnitsByCountry = new ConcurrentHashMap<>();
+
+    @Getter(AccessLevel.NONE)
+    private final CompletableFuture<HolidaySyncResponse> completion = new CompletableFuture<>();
+
+    public HolidaySyncJob(Type type) {
+        this.type = type;
+    }
+
+    @Override
+    public void onPlanned(List<HolidaySyncUnit> units) {
+        for (HolidaySyncUnit unit : units) {
+            remainingUnitsByCountry.computeIfAbsent(unit.countryCode(), code -> new AtomicInteger()).incrementAndGet();
+        }
+        totalCountries = remainingUnitsByCountry.size();
+    }
+
+    @Override
+    public void onUnitCompleted(HolidaySyncUnit unit, HolidaySyncSummary unitSummary) {
+        summary.accumulateAndGet(unitSummary, HolidaySyncSummary::plus);
+        completedUnits.incrementAndGet();
+
+        AtomicInteger remaining = remainingUnitsByCountry.get(unit.countryCode());
+        if (remaining != null && remaining.decrementAndGet() == 0) {
+            completedCountries.incrementAndGet();
+        }
+    }
+
+    public void requestCancel() {
+        cancelRequested = true;
+    }
+
+    public int getCompletedCountries() {
+        return completedCountries.get();
+    }
+
+    public int getCompletedUnits() {
+        return completedUnits.get();
+    }
+
+    public int getRemainingCountries() {
+        return Math.max(0, totalCountries - completedCountries.get());
+    }
+
+    public HolidaySyncSummary getSummary() {
+        return summary.get();
+    }
+
+    // 시작 전이면 0, 진행 중이면 현재까지 경과 시간
+    public Duration getElapsed() {
+        if (startedAt == null) {
+            return Duration.ZERO;
+        }
+        return Duration.between(startedAt, finishedAt == null ? LocalDateTime.now() : finishedAt);
+    }
+
+    // 작업이 끝날 때까지 기다린 뒤 결과를 리턴, 실패했다면 원래 예외를 그대로 던진다.
+    HolidaySyncResponse await() {
+        try {
+            return completion.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    // 작업이 끝날 때까지 최대 timeout 만큼 기다린다. 끝났으면 true
+    boolean awaitTermination(Duration timeout) throws InterruptedException {
+        try {
+            completion.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (ExecutionException | CancellationException e) {
+            // 실패/취소도 종료로 본다.
+        } catch (TimeoutException e) {
+            return false;
+        }
+        return true;
+    }
+
+    void markRunning() {
+        startedAt = LocalDateTime.now();
+        status = Status.RUNNING;
+    }
+
+    void markSucceeded(HolidaySyncResponse response) {
+        result = response;
+        finish(Status.SUCCEEDED);
+        completion.complete(response);
+    }
+
+    // Error 로 끝난 작업도 실패로 마무리해, 기다리는 호출자가 멈추지 않도록 한다.
+    void markFailed(Throwable cause) {
+        error = cause.getClass().getSimpleName() + ": " + cause.getMessage();
+        finish(Status.FAILED);
+        completion.completeExceptionally(cause);
+    }
+
+    void markCancelled(CancellationException cause) {
+        finish(Status.CANCELLED);
+        completion.completeExceptionally(cause);
+    }
+
+    private void finish(Status finalStatus) {
+        finishedAt = LocalDateTime.now();
+        status = finalStatus;
+    }
+
+}
@@ -0,0 +1,201 @@
+package com.company.holiday.holiday_service.api.application;
+
+import com.company.holiday.holiday_service.api.presentation.dto.response.HolidaySyncResponse;
+import com.company.holiday.holiday_service.global.config.HolidaySyncJobProperties;
+import com.company.holiday.holiday_service.global.error.ErrorCode;
+import com.company.holiday.holiday_service.global.error.exception.ConflictException;
+import com.company.holiday.holiday_service.global.error.exception.EntityNotFoundException;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicReference;
+
+// 공휴일 동기화 작업 실행기
+// - 수동 API / 배치 스케줄러 모두 이 실행기를 거치며, 노드당 한 번에 하나의 동기화만 실행한다.
+// - 여러 노드로 띄운 경우 클러스터 잠금( HolidaySyncClusterLock )으로 클러스터 전체에서도 하나만 실행한다.
+// - 작업은 전용 executor 에서 실행되고, 진행 상황은 작업 id 로 조회/취소한다.
+@Slf4j
+@Component
+public class HolidaySyncJobRunner {
+
+    private final HolidayCommandService holidayCommandService;
+    private final ExecutorService jobExecutor;
+    private final HolidaySyncJobProperties jobProperties;
+    private final HolidaySyncClusterLock clusterLock;
+
+    private final AtomicReference<HolidaySyncJob> activeJob = new AtomicReference<>();
+
+    // 최근 작업 이력 ( 요청 순 ), 접근은 모두 synchronized 로 보호한다.
+    private final Map<String, HolidaySyncJob> jobs = new LinkedHashMap<>();
+
+    public HolidaySyncJobRunner(
+            HolidayCommandService holidayCommandService,
+            @Qualifier("holidaySyncJobExecutor") ExecutorService jobExecutor,
+            HolidaySyncJobProperties jobProperties,
+            HolidaySyncClusterLock clusterLock
+    ) {
+        this.holidayCommandService = holidayCommandService;
+        this.jobExecutor = jobExecutor;
+        this.jobProperties = jobProperties;
+        this.clusterLock = clusterLock;
+    }
+
+    // 작업을 등록하고 바로 리턴한다. 이 노드나 다른 노드에서 이미 실행 중인 작업이 있으면 ConflictException
+    // 실행 중 클러스터 잠금을 잃으면 작업에 취소를 요청한다. ( 다른 노드가 이어받아 실행 )
+    public HolidaySyncJob submit(HolidaySyncJob.Type type) {
+        HolidaySyncJob job = new HolidaySyncJob(type);
+        HolidaySyncJob running = activeJob.compareAndExchange(null, job);
+        if (running != null) {
+            throw new ConflictException(
+                    ErrorCode.SYNC_JOB_ALREADY_RUNNING,
+                    "이미 실행 중인 동기화 작업이 있습니다. jobId=" + running.getId()
+            );
+        }
+
+        HolidaySyncLease lease;
+        try {
+            lease = clusterLock.tryAcquire(job::requestCancel).orElse(null);
+        } catch (RuntimeException e) {
+            activeJob.compareAndSet(job, null);
+            throw e;
+        }
+        if (lease == null) {
+            activeJob.compareAndSet(job, null);
+            throw new ConflictException(
+                    ErrorCode.SYNC_JOB_ALREADY_RUNNING,
+                    "다른 노드에서 실행 중인 동기화 작업이 있습니다."
+            );
+        }
+
+        remember(job);
+        try {
+            jobExecutor.execute(() -> run(job, lease));
+        } catch (RejectedExecutionException e) {
+            release(job, lease);
+            job.markFailed(e);
+            throw e;
+        }
+
+        log.info("[HolidaySync-Job] 등록 - jobId={}, type={}", job.getId(), type);
+        return job;
+    }
+
+    // 작업을 등록하고 끝날 때까지 요청 스레드에서 기다린다.
+    public HolidaySyncResponse submitAndWait(HolidaySyncJob.Type type) {
+        return submit(type).await();
+    }
+
+    public HolidaySyncJob find(String jobId) {
+        synchronized (jobs) {
+            return Optional.ofNullable(jobs.get(jobId))
+                    .orElseThrow(() -> new EntityNotFoundException(
+                            ErrorCode.ENTITY_NOT_FOUND,
+                            "존재하지 않는 동기화 작업입니다. jobId=" + jobId
+                    ));
+        }
+    }
+
+    public List<HolidaySyncJob> findAll() {
+        synchronized (jobs) {
+            return new ArrayList<>(jobs.values());
+        }
+    }
+
+    // 취소는 협조적으로 동작한다. 진행 중인 국가·연도 단위는 마저 끝내고, 다음 단위부터 중단한다.
+    public HolidaySyncJob cancel(String jobId) {
+        HolidaySyncJob job = find(jobId);
+        if (!job.getStatus().isFinished()) {
+            job.requestCancel();
+            log.info("[HolidaySync-Job] 취소 요청 - jobId={}", jobId);
+        }
+        return job;
+    }
+
+    // 애플리케이션 종료 시 진행 중인 작업에 취소를 요청하고, 진행 중인 국가·연도 단위가 반영되어
+    // 체크포인트가 남을 때까지 기다린다. 남은 단위는 다음 실행이 이어받는다.
+    @PreDestroy
+    public void shutdown() {
+        HolidaySyncJob job = activeJob.get();
+        if (job == null) {
+            return;
+        }
+
+        job.requestCancel();
+        log.info("[HolidaySync-Job] 종료 중 - 진행 중인 작업 마무리 대기, jobId={}", job.getId());
+        try {
+            if (!job.awaitTermination(jobProperties.shutdownTimeout())) {
+                log.warn("[HolidaySync-Job] 종료 대기 시간 초과 - jobId={}", job.getId());
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void run(HolidaySyncJob job, HolidaySyncLease lease) {
+        job.markRunning();
+        log.info("[HolidaySync-Job] 시작 - jobId={}, type={}", job.getId(), job.getType());
+
+        HolidaySyncResponse response = null;
+        Throwable failure = null;
+        try {
+            response = execute(job);
+        } catch (Throwable e) {
+            // Error 도 잡아 작업을 끝내야, 결과를 기다리는 요청 스레드와 진행 상황 조회가 멈추지 않는다.
+            failure = e;
+        } finally {
+            release(job, lease);
+        }
+
+        if (failure == null) {
+            job.markSucceeded(response);
+            log.info("[HolidaySync-Job] 완료 - jobId={}, elapsed={}ms", job.getId(), job.getElapsed().toMillis());
+        } else if (failure instanceof CancellationException e) {
+            job.markCancelled(e);
+            log.info("[HolidaySync-Job] 취소됨 - jobId={}, completedCountries={}", job.getId(), job.getCompletedCountries());
+        } else {
+            job.markFailed(failure);
+            log.error("[HolidaySync-Job] 실패 - jobId={}", job.getId(), failure);
+            if (failure instanceof Error error) {
+                throw error;
+            }
+        }
+    }
+
+    private HolidaySyncResponse execute(HolidaySyncJob job) {
+        return switch (job.getType()) {
+            case MANUAL -> holidayCommandService.syncCountriesAndHolidays(job);
+            case BATCH -> holidayCommandService.syncCountriesAndHolidaysForBatch(job);
+        };
+    }
+
+    // 작업 완료를 알리기 전에 먼저 해제해, 완료를 기다리던 호출자가 바로 다음 작업을 등록할 수 있게 한다.
+    private void release(HolidaySyncJob job, HolidaySyncLease lease) {
+        lease.release();
+        activeJob.compareAndSet(job, null);
+    }
+
+    private void remember(HolidaySyncJob job) {
+        synchronized (jobs) {
+            jobs.put(job.getId(), job);
+
+            Iterator<HolidaySyncJob> oldest = jobs.values().iterator();
+            while (jobs.size() > jobProperties.historySize() && oldest.hasNext()) {
+                if (oldest.next().getStatus().isFinished()) {
+                    oldest.remove();
+                }
+            }
+        }
+    }
+
+}
@@ -0,0 +1,26 @@
+package com.company.holiday.holiday_service.api.application;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 동기화 실행 동안 쥐고 있는 클러스터 잠금, release 는 여러 번 불러도 한 번만 해제한다.
+public class HolidaySyncLease {
+
+    private final Runnable releaser;
+    private final AtomicBoolean released = new AtomicBoolean();
+
+    HolidaySyncLease(Runnable releaser) {
+        this.releaser = releaser;
+    }
+
+    // 클러스터 잠금을 쓰지 않을 때의 임대
+    public static HolidaySyncLease unmanaged() {
+        return new HolidaySyncLease(() -> { });
+    }
+
+    public void release() {
+        if (released.compareAndSet(false, true)) {
+            releaser.run();
+        }
+    }
+
+}
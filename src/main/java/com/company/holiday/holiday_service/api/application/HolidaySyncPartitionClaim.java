@@ -0,0 +1,24 @@
+package com.company.holiday.holiday_service.api.application;
+
+import com.company.holiday.holiday_service.api.domain.HolidayYearRangeCalculator.YearRange;
+
+import java.util.List;
+import java.util.function.BooleanSupplier;
+
+// 이 노드가 점유한 파티션, 처리하는 동안 lease 로 임대를 연장한다.
+// 임대를 잃으면( 다른 노드가 이어받음 ) isLost 가 true 가 되고, 처리를 멈춰야 한다.
+public record HolidaySyncPartitionClaim(
+        Long partitionId,
+        Long runId,
+        int partitionNo,
+        YearRange range,
+        List<String> countryCodes,
+        HolidaySyncLease lease,
+        BooleanSupplier lostSignal
+) {
+
+    public boolean isLost() {
+        return lostSignal.getAsBoolean();
+    }
+
+}
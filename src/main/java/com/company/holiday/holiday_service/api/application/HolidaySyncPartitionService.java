@@ -0,0 +1,179 @@
+package com.company.holiday.holiday_service.api.application;
+
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncFailure;
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncSummary;
+import com.company.holiday.holiday_service.api.application.dto.HolidayUpsertResult;
+import com.company.holiday.holiday_service.api.domain.HolidaySyncPartition;
+import com.company.holiday.holiday_service.api.domain.HolidayYearRangeCalculator.YearRange;
+import com.company.holiday.holiday_service.api.infra.HolidaySyncPartitionJdbcRepository;
+import com.company.holiday.holiday_service.api.infra.HolidaySyncPartitionJdbcRepository.PartitionResult;
+import com.company.holiday.holiday_service.api.infra.HolidaySyncPartitionRepository;
+import com.company.holiday.holiday_service.global.config.HolidaySyncLockProperties;
+import com.company.holiday.holiday_service.global.config.HolidaySyncShardingProperties;
+import com.company.holiday.holiday_service.global.error.ErrorCode;
+import com.company.holiday.holiday_service.global.error.exception.BusinessException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+// 샤딩 동기화 파티션 관리
+// - 동기화를 시작한 노드가 남은 국가를 파티션으로 나눠 등록하고, 모든 노드가 파티션을 하나씩 점유해 처리한다.
+// - 점유한 파티션은 임대를 연장하며 처리하고, 노드가 죽어 임대가 끊기면 다른 노드가 가져간다.
+// - 파티션 결과는 DB 에 남기고, 등록한 노드가 모든 파티션이 끝나면 합산한다.
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class HolidaySyncPartitionService {
+
+    private static final TypeReference<List<HolidaySyncFailure>> FAILURES_TYPE = new TypeReference<>() {};
+
+    private final HolidaySyncPartitionRepository partitionRepository;
+    private final HolidaySyncPartitionJdbcRepository partitionJdbcRepository;
+    private final HolidaySyncClusterLock clusterLock;
+    private final HolidaySyncLockProperties lockProperties;
+    private final HolidaySyncShardingProperties shardingProperties;
+    private final ObjectMapper objectMapper;
+
+    // 같은 실행의 이전 파티션을 지우고, 국가를 파티션 수만큼 번갈아 나눠 등록한다.
+    // 이전 파티션을 처리 중이던 노드는 임대 연장에 실패해 멈추고, 반영된 단위는 체크포인트로 건너뛴다.
+    @Transactional
+    public int plan(Long runId, YearRange range, List<String> countryCodes) {
+        partitionRepository.deleteAllByRunId(runId);
+
+        int count = Math.min(shardingProperties.partitions(), countryCodes.size());
+        List<List<String>> groups = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            groups.add(new ArrayList<>());
+        }
+        for (int i = 0; i < countryCodes.size(); i++) {
+            groups.get(i % count).add(countryCodes.get(i));
+        }
+
+        List<HolidaySyncPartition> partitions = new ArrayList<>();
+        for (int no = 0; no < count; no++) {
+            partitions.add(HolidaySyncPartition.of(runId, no, range.fromYear(), range.toYear(), groups.get(no)));
+        }
+        partitionRepository.saveAll(partitions);
+
+        log.info("[HolidaySync-Shard] 파티션 등록 - runId={}, 파티션 수={}, 국가 수={}", runId, count, countryCodes.size());
+        return count;
+    }
+
+    // runId 가 null 이면 진행 중인 모든 실행에서 처리할 파티션을 찾는다.
+    public Optional<HolidaySyncPartitionClaim> claimNext(Long runId) {
+        String nodeId = clusterLock.getNodeId();
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime expiresAt = now.plus(lockProperties.leaseDuration());
+
+        return partitionJdbcRepository.claimNext(runId, nodeId, now, expiresAt)
+                .flatMap(partitionRepository::findById)
+                .map(partition -> {
+                    Long partitionId = partition.getId();
+                    AtomicBoolean lost = new AtomicBoolean();
+                    HolidaySyncLease lease = clusterLock.keepAlive(
+                            "파티션 " + partitionId,
+                            expiresAt,
+                            next -> partitionJdbcRepository.renew(partitionId, nodeId, next),
+                            () -> lost.set(true),
+                            () -> { }
+                    );
+                    log.info("[HolidaySync-Shard] 파티션 점유 - runId={}, partitionNo={}, 국가 수={}, nodeId={}",
+                            partition.getRunId(), partition.getPartitionNo(), partition.getCountryCodeList().size(), nodeId);
+                    return new HolidaySyncPartitionClaim(
+                            partitionId,
+                            partition.getRunId(),
+                            partition.getPartitionNo(),
+                            new YearRange(partition.getFromYear(), partition.getToYear()),
+                            partition.getCountryCodeList(),
+                            lease,
+                            lost::get
+                    );
+                });
+    }
+
+    public void complete(HolidaySyncPartitionClaim claim, HolidaySyncSummary summary) {
+        claim.lease().release();
+        HolidayUpsertResult changes = summary.changes();
+        PartitionResult result = new PartitionResult(
+                summary.syncedUnits(), summary.skippedUnits(),
+                changes.inserted(), changes.updated(), changes.deleted(), changes.unchanged(),
+                writeFailures(summary.failures())
+        );
+
+        if (partitionJdbcRepository.complete(claim.partitionId(), clusterLock.getNodeId(), result, LocalDateTime.now())) {
+            log.info("[HolidaySync-Shard] 파티션 완료 - runId={}, partitionNo={}, 반영 단위={}, 생략 단위={}, 실패 단위={}",
+                    claim.runId(), claim.partitionNo(), summary.syncedUnits(), summary.skippedUnits(), summary.failedUnits());
+        } else {
+            // 그 사이 임대가 끊겨 다른 노드가 이어받았다. 결과는 이어받은 노드가 기록한다.
+            log.warn("[HolidaySync-Shard] 파티션 완료 기록 실패 - 다른 노드가 이어받음, runId={}, partitionNo={}",
+                    claim.runId(), claim.partitionNo());
+        }
+    }
+
+    // 끝내지 못한 파티션을 다른 노드가 바로 가져갈 수 있도록 되돌린다.
+    public void release(HolidaySyncPartitionClaim claim) {
+        claim.lease().release();
+        try {
+            partitionJdbcRepository.release(claim.partitionId(), clusterLock.getNodeId());
+            log.info("[HolidaySync-Shard] 파티션 반납 - runId={}, partitionNo={}", claim.runId(), claim.partitionNo());
+        } catch (DataAccessException e) {
+            // 반납하지 못해도 임대 기간이 지나면 다른 노드가 가져갈 수 있다.
+            log.warn("[HolidaySync-Shard] 파티션 반납 실패 - runId={}, partitionNo={}, reason={}",
+                    claim.runId(), claim.partitionNo(), e.getMessage());
+        }
+    }
+
+    // 모든 파티션이 끝났으면 결과 합계, 아직 끝나지 않은 파티션이 있으면 empty
+    public Optional<HolidaySyncSummary> findCombinedSummary(Long runId) {
+        List<HolidaySyncPartition> partitions = partitionRepository.findAllByRunIdOrderByPartitionNo(runId);
+        if (!partitions.stream().allMatch(HolidaySyncPartition::isCompleted)) {
+            return Optional.empty();
+        }
+        return Optional.of(partitions.stream()
+                .map(this::toSummary)
+                .reduce(HolidaySyncSummary.EMPTY, HolidaySyncSummary::plus));
+    }
+
+    private HolidaySyncSummary toSummary(HolidaySyncPartition partition) {
+        return new HolidaySyncSummary(
+                new HolidayUpsertResult(partition.getInserted(), partition.getUpdated(), partition.getDeleted(), partition.getUnchanged()),
+                partition.getSyncedUnits(),
+                partition.getSkippedUnits(),
+                readFailures(partition.getFailures())
+        );
+    }
+
+    private String writeFailures(List<HolidaySyncFailure> failures) {
+        if (failures.isEmpty()) {
+            return null;
+        }
+        try {
+            return objectMapper.writeValueAsString(failures);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "파티션 실패 목록 기록에 실패했습니다.", e);
+        }
+    }
+
+    private List<HolidaySyncFailure> readFailures(String failures) {
+        if (failures == null || failures.isBlank()) {
+            return List.of();
+        }
+        try {
+            return objectMapper.readValue(failures, FAILURES_TYPE);
+        } catch (JsonProcessingException e) {
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "파티션 실패 목록을 읽지 못했습니다.", e);
+        }
+    }
+
+}
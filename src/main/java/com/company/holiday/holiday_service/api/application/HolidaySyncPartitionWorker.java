@@ -0,0 +1,85 @@
+package com.company.holiday.holiday_service.api.application;
+
+import com.company.holiday.holiday_service.global.config.HolidaySyncJobProperties;
+import com.company.holiday.holiday_service.global.config.HolidaySyncShardingProperties;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+// 샤딩 동기화 파티션 워커
+// - 모든 노드에서 pollInterval 마다 다른 노드가 등록한 파티션을 찾아 처리한다.
+// - 종료 시 진행 중인 단위는 마저 반영하고, 끝내지 못한 파티션은 반납해 다른 노드가 이어받게 한다.
+@Slf4j
+@Component
+public class HolidaySyncPartitionWorker {
+
+    private final HolidayCommandService holidayCommandService;
+    private final HolidaySyncShardingProperties shardingProperties;
+    private final HolidaySyncJobProperties jobProperties;
+    private final ScheduledExecutorService poller;
+
+    private volatile boolean stopping;
+
+    private final HolidaySyncProgress progress = new HolidaySyncProgress() {
+        @Override
+        public boolean isCancelRequested() {
+            return stopping;
+        }
+    };
+
+    public HolidaySyncPartitionWorker(HolidayCommandService holidayCommandService, HolidaySyncShardingProperties shardingProperties,
+                                      HolidaySyncJobProperties jobProperties) {
+        this.holidayCommandService = holidayCommandService;
+        this.shardingProperties = shardingProperties;
+        this.jobProperties = jobProperties;
+        this.poller = Executors.newSingleThreadScheduledExecutor(
+                Thread.ofPlatform().name("holiday-sync-partition-worker").daemon().factory()
+        );
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        if (!shardingProperties.enabled()) {
+            return;
+        }
+        long interval = shardingProperties.pollInterval().toMillis();
+        poller.scheduleWithFixedDelay(this::poll, interval, interval, TimeUnit.MILLISECONDS);
+        log.info("[HolidaySync-Shard] 파티션 워커 시작 - pollInterval={}", shardingProperties.pollInterval());
+    }
+
+    void poll() {
+        try {
+            int processed = holidayCommandService.syncClaimablePartitions(progress);
+            if (processed > 0) {
+                log.info("[HolidaySync-Shard] 파티션 처리 완료 - 처리한 파티션 수={}", processed);
+            }
+        } catch (RuntimeException e) {
+            // 다음 주기에 다시 찾는다. 끝내지 못한 파티션은 이미 반납되었다.
+            if (!stopping) {
+                log.warn("[HolidaySync-Shard] 파티션 처리 실패 - reason={}", e.getMessage(), e);
+            }
+        }
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        stopping = true;
+        poller.shutdown();
+        try {
+            if (!poller.awaitTermination(jobProperties.shutdownTimeout().toMillis(), TimeUnit.MILLISECONDS)) {
+                log.warn("[HolidaySync-Shard] 파티션 워커 종료 대기 시간 초과");
+                poller.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            poller.shutdownNow();
+        }
+    }
+
+}
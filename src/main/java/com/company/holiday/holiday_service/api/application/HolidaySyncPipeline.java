@@ -0,0 +1,269 @@
+package com.company.holiday.holiday_service.api.application;
+
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncBatch;
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncPipelineResult;
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncStageStats;
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncSummary;
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncUnit;
+import com.company.holiday.holiday_service.global.config.HolidaySyncGroupCommitProperties;
+import com.company.holiday.holiday_service.global.config.HolidaySyncProperties;
+import com.company.holiday.holiday_service.global.error.ErrorCode;
+import com.company.holiday.holiday_service.global.error.exception.BusinessException;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+// 국가·연도 단위로 fetch(Nager 호출 + 매핑 + 중복 제거) → 제한된 큐 → write(DB 반영) 단계로 나눈 동기화 파이프라인
+// - fetch 워커 수 = maxConcurrency (동시에 진행 중인 Nager 호출 수 상한)
+// - 큐가 가득 차면 fetch 워커가 대기하므로, 역압은 queueCapacity 로 조절된다.
+// - write 워커는 writerThreads 개로 제한하며, 배치마다 별도 트랜잭션으로 반영된다.
+// - runGrouped 는 작은 배치를 group-commit.max-rows / max-delay 안에서 묶어 한 번에 writer 에 넘긴다. 큰 배치는 혼자 넘긴다.
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class HolidaySyncPipeline {
+
+    private static final long POLL_INTERVAL_MILLIS = 100;
+
+    private final HolidaySyncProperties syncProperties;
+    private final HolidaySyncGroupCommitProperties groupCommitProperties;
+
+    public HolidaySyncPipelineResult run(
+            List<HolidaySyncUnit> units,
+            Function<HolidaySyncUnit, HolidaySyncBatch> fetcher,
+            Function<HolidaySyncBatch, HolidaySyncSummary> writer
+    ) {
+        return run(units, fetcher, group -> writer.apply(group.getFirst()), false);
+    }
+
+    public HolidaySyncPipelineResult runGrouped(
+            List<HolidaySyncUnit> units,
+            Function<HolidaySyncUnit, HolidaySyncBatch> fetcher,
+            Function<List<HolidaySyncBatch>, HolidaySyncSummary> groupWriter
+    ) {
+        return run(units, fetcher, groupWriter, groupCommitProperties.enabled());
+    }
+
+    private HolidaySyncPipelineResult run(
+            List<HolidaySyncUnit> units,
+            Function<HolidaySyncUnit, HolidaySyncBatch> fetcher,
+            Function<List<HolidaySyncBatch>, HolidaySyncSummary> groupWriter,
+            boolean grouping
+    ) {
+        int fetchWorkers = Math.max(1, Math.min(syncProperties.maxConcurrency(), units.size()));
+        int writeWorkers = syncProperties.writerThreads();
+
+        Queue<HolidaySyncUnit> pending = new ConcurrentLinkedQueue<>(units);
+        BlockingQueue<HolidaySyncBatch> handOff = new ArrayBlockingQueue<>(syncProperties.queueCapacity());
+        AtomicBoolean fetchDone = new AtomicBoolean(false);
+        AtomicReference<HolidaySyncSummary> written = new AtomicReference<>(HolidaySyncSummary.EMPTY);
+        AtomicReference<RuntimeException> failure = new AtomicReference<>();
+
+        StageMeter fetchStage = new StageMeter("fetch", fetchWorkers);
+        StageMeter writeStage = new StageMeter("write", writeWorkers);
+        long startedAt = System.nanoTime();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            List<Future<?>> fetchTasks = submit(executor, fetchWorkers, failure, () -> {
+                HolidaySyncUnit unit;
+                while ((unit = pending.poll()) != null) {
+                    long started = System.nanoTime();
+                    HolidaySyncBatch batch = fetcher.apply(unit);
+                    fetchStage.recordBusy(1, batch.commands().size(), System.nanoTime() - started);
+
+                    long waitStarted = System.nanoTime();
+                    handOff.put(batch);
+                    fetchStage.recordBlocked(System.nanoTime() - waitStarted);
+                }
+            });
+
+            List<Future<?>> writeTasks = submit(executor, writeWorkers, failure, () -> {
+                // 묶음에 넣지 못해 다음 묶음의 첫 배치가 될 배치
+                HolidaySyncBatch carried = null;
+                while (true) {
+                    HolidaySyncBatch batch = carried;
+                    carried = null;
+                    if (batch == null) {
+                        long waitStarted = System.nanoTime();
+                        batch = handOff.poll(POLL_INTERVAL_MILLIS, TimeUnit.MILLISECONDS);
+                        writeStage.recordBlocked(System.nanoTime() - waitStarted);
+                    }
+
+                    if (batch == null) {
+                        if (fetchDone.get() && handOff.isEmpty()) {
+                            return;
+                        }
+                        continue;
+                    }
+
+                    List<HolidaySyncBatch> group = new ArrayList<>();
+                    group.add(batch);
+                    if (grouping) {
+                        long waitStarted = System.nanoTime();
+                        carried = fillGroup(group, handOff);
+                        writeStage.recordBlocked(System.nanoTime() - waitStarted);
+                    }
+
+                    long started = System.nanoTime();
+                    HolidaySyncSummary upserted = groupWriter.apply(group);
+                    writeStage.recordBusy(group.size(), upserted.changes().syncedCount(), System.nanoTime() - started);
+                    written.accumulateAndGet(upserted, HolidaySyncSummary::plus);
+                }
+            });
+
+            awaitAll(fetchTasks);
+            fetchDone.set(true);
+            awaitAll(writeTasks);
+        }
+
+        if (failure.get() != null) {
+            throw failure.get();
+        }
+
+        long wallNanos = System.nanoTime() - startedAt;
+        HolidaySyncPipelineResult result = new HolidaySyncPipelineResult(
+                written.get(),
+                fetchStage.toStats(wallNanos),
+                writeStage.toStats(wallNanos)
+        );
+        logStats(result.fetch());
+        logStats(result.write());
+        return result;
+    }
+
+    // 첫 배치를 꺼낸 뒤 maxDelay 동안 더 꺼내, 공휴일 수 합이 maxRows 를 넘지 않을 때까지 묶는다.
+    // 넣으면 maxRows 를 넘는 배치는 돌려주어 다음 묶음의 첫 배치로 쓴다. ( 큰 배치는 혼자 반영 )
+    // 공휴일이 없는 배치( 304 등 )도 1 건으로 세어, 묶음이 끝없이 커지지 않게 한다.
+    private HolidaySyncBatch fillGroup(List<HolidaySyncBatch> group, BlockingQueue<HolidaySyncBatch> handOff) throws InterruptedException {
+        int rows = rowsOf(group.getFirst());
+        long deadline = System.nanoTime() + groupCommitProperties.maxDelay().toNanos();
+        while (rows < groupCommitProperties.maxRows()) {
+            long remaining = deadline - System.nanoTime();
+            HolidaySyncBatch next = remaining > 0 ? handOff.poll(remaining, TimeUnit.NANOSECONDS) : handOff.poll();
+            if (next == null) {
+                return null;
+            }
+            if (rows + rowsOf(next) > groupCommitProperties.maxRows()) {
+                return next;
+            }
+            group.add(next);
+            rows += rowsOf(next);
+        }
+        return null;
+    }
+
+    private static int rowsOf(HolidaySyncBatch batch) {
+        return Math.max(1, batch.commands().size());
+    }
+
+    // 워커 하나라도 실패하면 첫 예외만 기록하고 나머지 워커를 인터럽트해 큐 대기에서 빠져나오게 한다.
+    private List<Future<?>> submit(ExecutorService executor, int workers,
+                                   AtomicReference<RuntimeException> failure, StageWorker worker) {
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < workers; i++) {
+            try {
+                futures.add(executor.submit(() -> {
+                    try {
+                        worker.run();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        failure.compareAndSet(null, new BusinessException(
+                                ErrorCode.INTERNAL_SERVER_ERROR, "공휴일 동기화 파이프라인이 중단되었습니다.", e));
+                    } catch (CancellationException e) {
+                        // 취소는 새 단위만 막고, 이미 fetch 한 배치는 writer 가 마저 반영하도록 인터럽트하지 않는다.
+                        failure.compareAndSet(null, e);
+                    } catch (RuntimeException e) {
+                        failure.compareAndSet(null, e);
+                        executor.shutdownNow();
+                    }
+                }));
+            } catch (RejectedExecutionException e) {
+                // 이미 다른 워커의 실패로 종료된 상태
+                break;
+            }
+        }
+        return futures;
+    }
+
+    private void awaitAll(List<Future<?>> futures) {
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "공휴일 동기화 파이프라인이 중단되었습니다.", e);
+            } catch (ExecutionException e) {
+                throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "공휴일 동기화 파이프라인 에러 발생", e.getCause());
+            }
+        }
+    }
+
+    private void logStats(HolidaySyncStageStats stats) {
+        log.info("[HolidaySync-Pipeline] stage={}, workers={}, batches={}, rows={}, batches/s={}, rows/s={}, busyMs={}, blockedMs={}, wallMs={}",
+                stats.stage(), stats.workers(), stats.batches(), stats.rows(),
+                String.format("%.1f", stats.batchesPerSecond()), String.format("%.1f", stats.rowsPerSecond()),
+                stats.busy().toMillis(), stats.blocked().toMillis(), stats.wall().toMillis());
+    }
+
+    @FunctionalInterface
+    private interface StageWorker {
+        void run() throws InterruptedException;
+    }
+
+    private static final class StageMeter {
+
+        private final String stage;
+        private final int workers;
+        private final LongAdder batches = new LongAdder();
+        private final LongAdder rows = new LongAdder();
+        private final LongAdder busyNanos = new LongAdder();
+        private final LongAdder blockedNanos = new LongAdder();
+
+        private StageMeter(String stage, int workers) {
+            this.stage = stage;
+            this.workers = workers;
+        }
+
+        private void recordBusy(int batchCount, int rowCount, long nanos) {
+            batches.add(batchCount);
+            rows.add(rowCount);
+            busyNanos.add(nanos);
+        }
+
+        private void recordBlocked(long nanos) {
+            blockedNanos.add(nanos);
+        }
+
+        private HolidaySyncStageStats toStats(long wallNanos) {
+            return new HolidaySyncStageStats(
+                    stage,
+                    workers,
+                    batches.sum(),
+                    rows.sum(),
+                    Duration.ofNanos(busyNanos.sum()),
+                    Duration.ofNanos(blockedNanos.sum()),
+                    Duration.ofNanos(wallNanos)
+            );
+        }
+    }
+
+}
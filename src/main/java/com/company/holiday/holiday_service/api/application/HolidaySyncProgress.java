@@ -0,0 +1,24 @@
+package com.company.holiday.holiday_service.api.application;
+
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncSummary;
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncUnit;
+
+import java.util.List;
+
+// 동기화 진행 상황 수신 + 취소 요청 확인
+// - 파이프라인 모드에서는 여러 스레드에서 동시에 호출되므로 구현체는 스레드 안전해야 한다.
+public interface HolidaySyncProgress {
+
+    HolidaySyncProgress NONE = new HolidaySyncProgress() {};
+
+    // 동기화할 국가·연도 단위 목록이 확정되었을 때
+    default void onPlanned(List<HolidaySyncUnit> units) {}
+
+    // 국가·연도 단위 하나의 반영(또는 생략)이 끝났을 때
+    default void onUnitCompleted(HolidaySyncUnit unit, HolidaySyncSummary summary) {}
+
+    default boolean isCancelRequested() {
+        return false;
+    }
+
+}
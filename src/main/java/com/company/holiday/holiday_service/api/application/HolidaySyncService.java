@@ -1,10 +1,19 @@
 package com.company.holiday.holiday_service.api.application;
 
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncBatch;
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncUnit;
 import com.company.holiday.holiday_service.api.application.dto.HolidayUpsertCommand;
+import com.company.holiday.holiday_service.api.application.dto.HolidayUpsertResult;
 import com.company.holiday.holiday_service.api.application.mapper.HolidayDomainMapper;
 import com.company.holiday.holiday_service.api.domain.Country;
+import com.company.holiday.holiday_service.api.domain.Holiday;
+import com.company.holiday.holiday_service.api.domain.HolidaySyncState;
 import com.company.holiday.holiday_service.api.infra.CountryRepository;
+import com.company.holiday.holiday_service.api.infra.HolidayJdbcWriter;
 import com.company.holiday.holiday_service.api.infra.HolidayRepository;
+import com.company.holiday.holiday_service.api.infra.HolidaySyncStateRepository;
+import com.company.holiday.holiday_service.global.config.HolidaySyncProperties;
+import com.company.holiday.holiday_service.global.config.HolidaySyncProperties.WriteStrategy;
 import com.company.holiday.holiday_service.global.error.ErrorCode;
 import com.company.holiday.holiday_service.global.error.exception.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
@@ -12,7 +21,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
@@ -20,14 +34,48 @@ public class HolidaySyncService {
 
     private final CountryRepository countryRepository;
     private final HolidayRepository holidayRepository;
+    private final HolidaySyncStateRepository holidaySyncStateRepository;
+    private final HolidayJdbcWriter holidayJdbcWriter;
     private final HolidayDomainMapper mapper;
 
-    // TODO : Delete&Insert vs Update&Insert 트레이드오프 비교 및 개선
+    private final HolidaySyncProperties syncProperties;
+
+    // 국가·연도 단위 반영, 같은 트랜잭션에서 다음 동기화용 검증자와 내용 지문도 함께 저장한다.
+    @Transactional
+    public HolidayUpsertResult upsertHolidays(HolidaySyncBatch batch) {
+        HolidaySyncUnit unit = batch.unit();
+        HolidayUpsertResult result = upsertHolidaysInRange(unit.countryCode(), unit.startDate(), unit.endDate(), batch.commands());
+        recordSyncState(batch);
+        return result;
+    }
+
+    // 공휴일은 그대로 두고 동기화 상태만 갱신한다. ( 내용은 같지만 캐시 검증자가 바뀐 경우 )
     @Transactional
-    public int upsertHolidaysInRange(String countryCode, LocalDate start, LocalDate end, List<HolidayUpsertCommand> commands) {
+    public void recordSyncState(HolidaySyncBatch batch) {
+        HolidaySyncUnit unit = batch.unit();
+        Country country = findCountry(unit.countryCode());
+        HolidaySyncState state = holidaySyncStateRepository.findByCountryAndYear(country, unit.year())
+                .orElseGet(() -> HolidaySyncState.of(country, unit.year()));
+        state.updateSyncResult(batch.etag(), batch.lastModified(), batch.fingerprint());
+        holidaySyncStateRepository.save(state);
+    }
+
+    @Transactional(readOnly = true)
+    public Map<HolidaySyncUnit, HolidaySyncState> findSyncStates(int fromYear, int toYear) {
+        return holidaySyncStateRepository.findAllWithCountryByYearBetween(fromYear, toYear).stream()
+                .collect(Collectors.toMap(
+                        state -> new HolidaySyncUnit(state.getCountry().getCode(), state.getYear()),
+                        Function.identity()
+                ));
+    }
+
+    @Transactional
+    public HolidayUpsertResult upsertHolidaysInRange(String countryCode, LocalDate start, LocalDate end, List<HolidayUpsertCommand> commands) {
         Country country = findCountry(countryCode);
-        deleteHolidaysInRange(country, start, end);
-        return holidayRepository.saveAll(mapper.toHolidays(commands, country)).size();
+        if (syncProperties.writeStrategy() == WriteStrategy.REPLACE) {
+            return replaceHolidaysInRange(country, start, end, commands);
+        }
+        return applyChangeset(country, start, end, commands);
     }
 
     private Country findCountry(String countryCode) {
@@ -38,6 +86,49 @@ public class HolidaySyncService {
                 ));
     }
 
+    // 기간 전체 delete 후 insert
+    private HolidayUpsertResult replaceHolidaysInRange(Country country, LocalDate start, LocalDate end, List<HolidayUpsertCommand> commands) {
+        int deleted = deleteHolidaysInRange(country, start, end);
+        int inserted = holidayJdbcWriter.insertAll(mapper.toHolidays(commands, country));
+        return new HolidayUpsertResult(inserted, 0, deleted, 0);
+    }
+
+    // 자연키(country, date, localName) 기준 변경분만 반영한다.
+    // 신규는 insert, 내용이 바뀐 건 update, 사라진 건 delete, 동일한 건 그대로 둔다.
+    // 기존 행은 읽기 전용으로 로딩하고, 반영은 모두 JDBC 배치로 수행한다.
+    private HolidayUpsertResult applyChangeset(Country country, LocalDate start, LocalDate end, List<HolidayUpsertCommand> commands) {
+        Map<HolidayKey, Holiday> existing = new HashMap<>();
+        for (Holiday holiday : holidayRepository.findAllByCountryAndDateBetween(country, start, end)) {
+            existing.put(HolidayKey.of(holiday), holiday);
+        }
+
+        List<Holiday> toInsert = new ArrayList<>();
+        List<Holiday> toUpdate = new ArrayList<>();
+        int unchanged = 0;
+
+        for (HolidayUpsertCommand command : commands) {
+            Holiday candidate = mapper.toHoliday(command, country);
+            Holiday current = existing.remove(HolidayKey.of(candidate));
+
+            if (current == null) {
+                toInsert.add(candidate);
+            } else if (current.hasSameContentAs(candidate)) {
+                unchanged++;
+            } else {
+                current.updateContent(candidate);
+                toUpdate.add(current);
+            }
+        }
+
+        // 사라진 공휴일을 먼저 지워, 이후 insert 와 유니크 제약이 겹치지 않도록 한다.
+        List<Holiday> vanished = new ArrayList<>(existing.values());
+        int deleted = holidayJdbcWriter.deleteAll(vanished);
+        int inserted = holidayJdbcWriter.insertAll(toInsert);
+        int updated = holidayJdbcWriter.updateAll(toUpdate);
+
+        return new HolidayUpsertResult(inserted, updated, deleted, unchanged);
+    }
+
     private int deleteHolidaysInRange(Country country, LocalDate start, LocalDate end) {
         return holidayRepository.deleteInRange(country, start, end);
     }
@@ -47,7 +138,16 @@ public class HolidaySyncService {
         Country country = findCountry(countryCode);
         LocalDate start = LocalDate.of(year, 1, 1);
         LocalDate end   = LocalDate.of(year, 12, 31);
+        // 검증자·내용 지문이 남아 있으면 다음 동기화에서 반영을 건너뛰게 되므로 상태도 함께 지운다.
+        holidaySyncStateRepository.deleteByCountryAndYear(country, year);
         return deleteHolidaysInRange(country, start, end);
     }
 
+    private record HolidayKey(LocalDate date, String localName) {
+
+        private static HolidayKey of(Holiday holiday) {
+            return new HolidayKey(holiday.getDate(), holiday.getLocalName());
+        }
+    }
+
 }
@@ -0,0 +1,252 @@
+package com.company.holiday.holiday_service.api.application;
+
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncUnit;
+import com.company.holiday.holiday_service.api.infra.HolidaySyncLockJdbcRepository;
+import com.company.holiday.holiday_service.global.config.HolidaySyncLockProperties;
+import com.company.holiday.holiday_service.global.config.HolidayUnitLockProperties;
+import com.company.holiday.holiday_service.global.error.ErrorCode;
+import com.company.holiday.holiday_service.global.error.exception.BusinessException;
+import com.company.holiday.holiday_service.global.error.exception.ConflictException;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.FunctionTimer;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+// 국가·연도 단위 쓰기 잠금
+// - 같은 국가·연도를 쓰는 작업( 동기화·순환 갱신·재동기화·삭제·스테이징 공개 )은 한 번에 하나씩 실행하고, 다른 국가·연도는 동시에 진행한다.
+// - 국가·연도를 해시로 stripes 개의 잠금 중 하나에 대응시켜, 단위 수와 상관없이 잠금 수를 고정한다. ( 같은 잠금에 걸린 다른 단위끼리는 기다릴 수 있음 )
+// - distributed 면 holiday_sync_lock 에 국가·연도별 임대 잠금을 함께 잡아, 여러 노드 사이에서도 막는다.
+//   작업이 임대 기간보다 길어질 수 있으므로 쥐고 있는 동안 연장하고, 그래도 잃었으면 작업이 끝난 뒤 실패로 알린다.
+//   한 작업이 잡은 임대는 하나로 묶어 한 번의 update 로 함께 연장하고 함께 놓는다. ( 스테이징 공개처럼 수백 단위를 잡아도 연장 작업은 하나 )
+// - 잠금은 트랜잭션 밖에서 잡고 커밋이 끝난 뒤 놓아야, 다음 작업이 커밋된 데이터를 읽는다.
+// - 여러 단위를 함께 잡을 때는 항상 같은 순서로 잡아, 서로 기다리며 멈추지 않도록 한다.
+// /actuator/metrics 로 잠금 대기 시간( holiday.sync.unit-lock.wait, outcome=acquired|failed ), 대기 중인 작업 수, 대기 시간 초과 수를 노출한다.
+@Slf4j
+@Component
+public class HolidayUnitLockManager implements MeterBinder {
+
+    private static final String LOCK_NAME_PREFIX = "holiday-unit:";
+
+    private final HolidayUnitLockProperties unitLockProperties;
+    private final HolidaySyncLockProperties lockProperties;
+    private final HolidaySyncLockJdbcRepository lockRepository;
+    private final HolidaySyncClusterLock clusterLock;
+    private final String nodeId;
+    private final ReentrantLock[] stripes;
+
+    private final LongAdder acquisitions = new LongAdder();
+    private final LongAdder waitNanos = new LongAdder();
+    private final LongAdder failedWaits = new LongAdder();
+    private final LongAdder failedWaitNanos = new LongAdder();
+    private final LongAdder timeouts = new LongAdder();
+    private final AtomicInteger waiting = new AtomicInteger();
+
+    public HolidayUnitLockManager(HolidayUnitLockProperties unitLockProperties, HolidaySyncLockProperties lockProperties,
+                                  HolidaySyncLockJdbcRepository lockRepository, HolidaySyncClusterLock clusterLock) {
+        this.unitLockProperties = unitLockProperties;
+        this.lockProperties = lockProperties;
+        this.lockRepository = lockRepository;
+        this.clusterLock = clusterLock;
+        this.nodeId = clusterLock.getNodeId();
+        this.stripes = new ReentrantLock[unitLockProperties.stripes()];
+        for (int i = 0; i < stripes.length; i++) {
+            stripes[i] = new ReentrantLock();
+        }
+    }
+
+    public <T> T withLock(HolidaySyncUnit unit, Supplier<T> action) {
+        return withLocks(List.of(unit), action);
+    }
+
+    // timeout 안에 모든 잠금을 잡지 못하면 잡았던 잠금을 놓고 ConflictException( H-008 )
+    public <T> T withLocks(Collection<HolidaySyncUnit> units, Supplier<T> action) {
+        List<ReentrantLock> locals = units.stream()
+                .mapToInt(this::stripeOf)
+                .distinct()
+                .sorted()
+                .mapToObj(i -> stripes[i])
+                .toList();
+        List<String> names = unitLockProperties.distributed()
+                ? units.stream().map(this::lockNameOf).distinct().sorted().toList()
+                : List.of();
+
+        List<ReentrantLock> heldLocals = new ArrayList<>();
+        List<HolidaySyncLease> heldLeases = new ArrayList<>();
+        AtomicBoolean lost = new AtomicBoolean();
+        try {
+            acquire(units, locals, names, heldLocals, heldLeases, lost);
+            T result = action.get();
+            if (lost.get()) {
+                // 작업 중 다른 노드가 같은 국가·연도를 가져갔을 수 있으므로 성공으로 알리지 않는다.
+                throw new ConflictException(ErrorCode.UNIT_LOCK_TIMEOUT, "반영 중 국가·연도 임대 잠금을 잃었습니다. units=" + units);
+            }
+            return result;
+        } finally {
+            release(heldLocals, heldLeases);
+        }
+    }
+
+    private void acquire(Collection<HolidaySyncUnit> units, List<ReentrantLock> locals, List<String> names,
+                         List<ReentrantLock> heldLocals, List<HolidaySyncLease> heldLeases, AtomicBoolean lost) {
+        long started = System.nanoTime();
+        long deadline = started + unitLockProperties.timeout().toNanos();
+        boolean acquired = false;
+        waiting.incrementAndGet();
+        try {
+            for (ReentrantLock lock : locals) {
+                if (!lock.tryLock(deadline - System.nanoTime(), TimeUnit.NANOSECONDS)) {
+                    throw timeout(units);
+                }
+                heldLocals.add(lock);
+            }
+            List<String> heldNames = new CopyOnWriteArrayList<>();
+            for (String name : names) {
+                LocalDateTime expiresAt = acquireDistributed(name, deadline, units);
+                heldNames.add(name);
+                if (heldLeases.isEmpty()) {
+                    // 처음 잡은 임대가 만료되기 전에 연장이 시작되도록, 나머지를 잡는 동안에도 잡은 만큼 연장한다.
+                    heldLeases.add(keepAlive(names, heldNames, expiresAt, lost));
+                }
+            }
+            acquired = true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "국가·연도 잠금 대기가 중단되었습니다.", e);
+        } finally {
+            waiting.decrementAndGet();
+            // 잡은 대기와 잡지 못한 대기( 시간 초과, 인터럽트 )는 따로 집계해, 평균 대기 시간이 섞이지 않도록 한다.
+            long waited = System.nanoTime() - started;
+            if (acquired) {
+                acquisitions.increment();
+                waitNanos.add(waited);
+            } else {
+                failedWaits.increment();
+                failedWaitNanos.add(waited);
+            }
+        }
+    }
+
+    // 다른 노드가 쥐고 있으면 retryInterval 마다 다시 시도하고, 잡으면 임대 만료 시각을 돌려준다.
+    private LocalDateTime acquireDistributed(String name, long deadline, Collection<HolidaySyncUnit> units) throws InterruptedException {
+        while (true) {
+            LocalDateTime now = LocalDateTime.now();
+            LocalDateTime expiresAt = now.plus(lockProperties.leaseDuration());
+            if (lockRepository.tryAcquire(name, nodeId, now, expiresAt)) {
+                return expiresAt;
+            }
+            long remaining = deadline - System.nanoTime();
+            if (remaining <= 0) {
+                throw timeout(units);
+            }
+            TimeUnit.NANOSECONDS.sleep(Math.min(remaining, unitLockProperties.retryInterval().toNanos()));
+        }
+    }
+
+    // 잡은 임대는 놓을 때까지 renewInterval 마다 한꺼번에 연장하고, 하나라도 연장하지 못해 잃으면 lost 로 표시한다.
+    private HolidaySyncLease keepAlive(List<String> names, List<String> heldNames, LocalDateTime expiresAt, AtomicBoolean lost) {
+        String description = names.size() == 1 ? names.getFirst() : names.getFirst() + " 외 " + (names.size() - 1) + "개";
+        return clusterLock.keepAlive(
+                "국가·연도 잠금 " + description,
+                expiresAt,
+                next -> lockRepository.renewAll(List.copyOf(heldNames), nodeId, next),
+                () -> lost.set(true),
+                () -> releaseDistributed(List.copyOf(heldNames))
+        );
+    }
+
+    private void release(List<ReentrantLock> heldLocals, List<HolidaySyncLease> heldLeases) {
+        for (HolidaySyncLease lease : heldLeases.reversed()) {
+            lease.release();
+        }
+        for (ReentrantLock lock : heldLocals.reversed()) {
+            lock.unlock();
+        }
+    }
+
+    private void releaseDistributed(List<String> names) {
+        try {
+            lockRepository.releaseAll(names, nodeId);
+        } catch (DataAccessException e) {
+            // 놓지 못해도 임대 기간이 지나면 다른 노드가 가져갈 수 있다.
+            log.warn("[HolidaySync-UnitLock] 잠금 해제 실패 - lockNames={}, reason={}", names, e.getMessage());
+        }
+    }
+
+    private ConflictException timeout(Collection<HolidaySyncUnit> units) {
+        timeouts.increment();
+        log.warn("[HolidaySync-UnitLock] 잠금 대기 시간 초과 - timeout={}, units={}", unitLockProperties.timeout(), units);
+        return new ConflictException(
+                ErrorCode.UNIT_LOCK_TIMEOUT,
+                "같은 국가·연도에 진행 중인 반영이 있습니다. units=" + units
+        );
+    }
+
+    private int stripeOf(HolidaySyncUnit unit) {
+        return Math.floorMod(unit.hashCode(), stripes.length);
+    }
+
+    private String lockNameOf(HolidaySyncUnit unit) {
+        return LOCK_NAME_PREFIX + unit.countryCode() + ":" + unit.year();
+    }
+
+    @Override
+    public void bindTo(MeterRegistry registry) {
+        FunctionTimer.builder("holiday.sync.unit-lock.wait", this,
+                        HolidayUnitLockManager::getAcquisitions, HolidayUnitLockManager::getWaitNanos, TimeUnit.NANOSECONDS)
+                .tag("outcome", "acquired")
+                .description("국가·연도 쓰기 잠금 대기 시간")
+                .register(registry);
+        FunctionTimer.builder("holiday.sync.unit-lock.wait", this,
+                        HolidayUnitLockManager::getFailedWaits, HolidayUnitLockManager::getFailedWaitNanos, TimeUnit.NANOSECONDS)
+                .tag("outcome", "failed")
+                .description("국가·연도 쓰기 잠금 대기 시간")
+                .register(registry);
+        Gauge.builder("holiday.sync.unit-lock.waiting", this, HolidayUnitLockManager::getWaiting)
+                .description("국가·연도 쓰기 잠금을 기다리는 작업 수")
+                .register(registry);
+        FunctionCounter.builder("holiday.sync.unit-lock.timeouts", this, HolidayUnitLockManager::getTimeouts)
+                .description("국가·연도 쓰기 잠금 대기 시간 초과 수")
+                .register(registry);
+    }
+
+    public long getAcquisitions() {
+        return acquisitions.sum();
+    }
+
+    public double getWaitNanos() {
+        return waitNanos.sum();
+    }
+
+    public long getFailedWaits() {
+        return failedWaits.sum();
+    }
+
+    public double getFailedWaitNanos() {
+        return failedWaitNanos.sum();
+    }
+
+    public long getTimeouts() {
+        return timeouts.sum();
+    }
+
+    public int getWaiting() {
+        return waiting.get();
+    }
+
+}
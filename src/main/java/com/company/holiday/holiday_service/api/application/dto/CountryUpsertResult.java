@@ -0,0 +1,11 @@
+package com.company.holiday.holiday_service.api.application.dto;
+
+// 국가 반영 결과
+// - inserted : 새로 추가된 국가
+// - updated : 이름이 바뀌었거나 가용 국가 목록에 다시 나타난 국가
+// - flaggedMissing : 가용 국가 목록에서 사라져 표시한 국가
+public record CountryUpsertResult(int inserted, int updated, int flaggedMissing) {
+
+    public static final CountryUpsertResult EMPTY = new CountryUpsertResult(0, 0, 0);
+
+}
@@ -0,0 +1,12 @@
+package com.company.holiday.holiday_service.api.application.dto;
+
+import java.time.LocalDateTime;
+
+public record HolidaySnapshotResult(
+        String path,
+        int countriesCount,
+        int holidaysCount,
+        long sizeBytes,
+        LocalDateTime createdAt
+) {
+}
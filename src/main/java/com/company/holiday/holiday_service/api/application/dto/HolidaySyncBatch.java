@@ -0,0 +1,37 @@
+package com.company.holiday.holiday_service.api.application.dto;
+
+import java.util.List;
+
+// 동기화 fetch → write 단계 사이에서 전달되는 국가·연도 단위 묶음 ( 중복 제거 완료 )
+// - notModified : Nager 가 304 를 응답해 반영할 필요가 없는 경우
+// - fingerprint : commands 의 내용 지문, 직전 반영분과 같으면 반영을 생략한다
+// - etag, lastModified : 다음 조건부 요청에 사용할 캐시 검증자
+// - failure : fetch 가 재시도 후에도 실패한 경우의 사유, 이 단위는 반영하지 않는다
+public record HolidaySyncBatch(
+        HolidaySyncUnit unit,
+        boolean notModified,
+        List<HolidayUpsertCommand> commands,
+        String fingerprint,
+        String etag,
+        String lastModified,
+        String failure
+) {
+
+    public static HolidaySyncBatch notModified(HolidaySyncUnit unit) {
+        return new HolidaySyncBatch(unit, true, List.of(), null, null, null, null);
+    }
+
+    public static HolidaySyncBatch modified(HolidaySyncUnit unit, List<HolidayUpsertCommand> commands, String fingerprint,
+                                            String etag, String lastModified) {
+        return new HolidaySyncBatch(unit, false, commands, fingerprint, etag, lastModified, null);
+    }
+
+    public static HolidaySyncBatch failed(HolidaySyncUnit unit, String failure) {
+        return new HolidaySyncBatch(unit, false, List.of(), null, null, null, failure);
+    }
+
+    public boolean isFailed() {
+        return failure != null;
+    }
+
+}
@@ -0,0 +1,10 @@
+package com.company.holiday.holiday_service.api.application.dto;
+
+// 재시도 후에도 실패해 반영하지 못한 국가·연도 단위, 다음 동기화에서 이어서 처리된다.
+public record HolidaySyncFailure(String countryCode, int year, String reason) {
+
+    public static HolidaySyncFailure of(HolidaySyncUnit unit, String reason) {
+        return new HolidaySyncFailure(unit.countryCode(), unit.year(), reason);
+    }
+
+}
@@ -0,0 +1,8 @@
+package com.company.holiday.holiday_service.api.application.dto;
+
+public record HolidaySyncPipelineResult(
+        HolidaySyncSummary summary,
+        HolidaySyncStageStats fetch,
+        HolidaySyncStageStats write
+) {
+}
@@ -0,0 +1,12 @@
+package com.company.holiday.holiday_service.api.application.dto;
+
+import java.util.Set;
+
+// 동기화 실행 식별자와, 이어받은 경우 이미 반영이 끝난 국가·연도 단위
+public record HolidaySyncRunContext(Long runId, boolean resumed, Set<HolidaySyncUnit> committedUnits) {
+
+    public boolean isCommitted(HolidaySyncUnit unit) {
+        return committedUnits.contains(unit);
+    }
+
+}
@@ -0,0 +1,31 @@
+package com.company.holiday.holiday_service.api.application.dto;
+
+import java.time.Duration;
+
+// 파이프라인 단계별 처리량
+// - busy : 실제 작업(Nager 호출, DB 반영)에 쓴 시간의 합
+// - blocked : 큐 대기 시간의 합. fetch 의 blocked 가 크면 DB 가, write 의 blocked 가 크면 Nager 가 병목이다.
+public record HolidaySyncStageStats(
+        String stage,
+        int workers,
+        long batches,
+        long rows,
+        Duration busy,
+        Duration blocked,
+        Duration wall
+) {
+
+    public double batchesPerSecond() {
+        return perSecond(batches);
+    }
+
+    public double rowsPerSecond() {
+        return perSecond(rows);
+    }
+
+    private double perSecond(long count) {
+        long millis = wall.toMillis();
+        return millis == 0 ? count : count * 1000.0 / millis;
+    }
+
+}
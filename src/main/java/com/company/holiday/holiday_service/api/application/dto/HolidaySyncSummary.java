@@ -0,0 +1,44 @@
+package com.company.holiday.holiday_service.api.application.dto;
+
+import java.util.List;
+import java.util.stream.Stream;
+
+// 동기화 결과 합계
+// - changes : 반영된 공휴일 행 단위 결과
+// - syncedUnits : DB 에 반영한 국가·연도 수
+// - skippedUnits : 변경이 없어 반영을 생략한 국가·연도 수
+// - failures : 실패해 반영하지 못한 국가·연도 목록
+public record HolidaySyncSummary(HolidayUpsertResult changes, int syncedUnits, int skippedUnits, List<HolidaySyncFailure> failures) {
+
+    public static final HolidaySyncSummary EMPTY = new HolidaySyncSummary(HolidayUpsertResult.EMPTY, 0, 0, List.of());
+
+    public static HolidaySyncSummary synced(HolidayUpsertResult changes) {
+        return new HolidaySyncSummary(changes, 1, 0, List.of());
+    }
+
+    public static HolidaySyncSummary skipped() {
+        return new HolidaySyncSummary(HolidayUpsertResult.EMPTY, 0, 1, List.of());
+    }
+
+    public static HolidaySyncSummary failed(HolidaySyncFailure failure) {
+        return new HolidaySyncSummary(HolidayUpsertResult.EMPTY, 0, 0, List.of(failure));
+    }
+
+    public int failedUnits() {
+        return failures.size();
+    }
+
+    public boolean hasFailures() {
+        return !failures.isEmpty();
+    }
+
+    public HolidaySyncSummary plus(HolidaySyncSummary other) {
+        return new HolidaySyncSummary(
+                changes.plus(other.changes),
+                syncedUnits + other.syncedUnits,
+                skippedUnits + other.skippedUnits,
+                other.failures.isEmpty() ? failures : Stream.concat(failures.stream(), other.failures.stream()).toList()
+        );
+    }
+
+}
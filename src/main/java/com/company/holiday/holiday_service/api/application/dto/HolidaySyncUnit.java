@@ -0,0 +1,16 @@
+package com.company.holiday.holiday_service.api.application.dto;
+
+import java.time.LocalDate;
+
+// 동기화 작업 단위 ( 국가 · 연도 )
+public record HolidaySyncUnit(String countryCode, int year) {
+
+    public LocalDate startDate() {
+        return LocalDate.of(year, 1, 1);
+    }
+
+    public LocalDate endDate() {
+        return LocalDate.of(year, 12, 31);
+    }
+
+}
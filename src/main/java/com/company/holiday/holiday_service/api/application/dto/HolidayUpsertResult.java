@@ -0,0 +1,26 @@
+package com.company.holiday.holiday_service.api.application.dto;
+
+// 공휴일 반영 결과
+// - inserted : 새로 추가된 공휴일
+// - updated : 자연키(country, date, localName)는 같고 내용이 바뀐 공휴일
+// - deleted : 범위 안에 있었지만 새 데이터에서 사라진 공휴일
+// - unchanged : 내용이 같아 건드리지 않은 공휴일
+public record HolidayUpsertResult(int inserted, int updated, int deleted, int unchanged) {
+
+    public static final HolidayUpsertResult EMPTY = new HolidayUpsertResult(0, 0, 0, 0);
+
+    // 반영 후 범위 안에 남아 있는 공휴일 수
+    public int syncedCount() {
+        return inserted + updated + unchanged;
+    }
+
+    public HolidayUpsertResult plus(HolidayUpsertResult other) {
+        return new HolidayUpsertResult(
+                inserted + other.inserted,
+                updated + other.updated,
+                deleted + other.deleted,
+                unchanged + other.unchanged
+        );
+    }
+
+}
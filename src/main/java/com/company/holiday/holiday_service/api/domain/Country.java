@@ -6,6 +6,7 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.ColumnDefault;
 import org.springframework.data.annotation.CreatedDate;
 import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
@@ -34,6 +35,11 @@ public class Country {
     @Column(name = "name", length = 100, nullable = false)
     private String name;
 
+    // Nager 가용 국가 목록에서 사라진 국가는 false ( holiday.sync.country.flag-missing )
+    @ColumnDefault("true")
+    @Column(name = "available", nullable = false)
+    private boolean available = true;
+
     @CreatedDate
     @Column(name = "created_at", nullable = false, updatable = false)
     private LocalDateTime createdAt;
@@ -54,4 +60,16 @@ public class Country {
                 .name(name)
                 .build();
     }
+
+    // 이름이 바뀌었거나 가용 국가 목록에 다시 나타나면 true, 반영은 CountryJdbcWriter 가 한다.
+    public boolean syncWith(String name) {
+        boolean changed = !this.name.equals(name) || !available;
+        this.name = name;
+        this.available = true;
+        return changed;
+    }
+
+    public void markUnavailable() {
+        this.available = false;
+    }
 }
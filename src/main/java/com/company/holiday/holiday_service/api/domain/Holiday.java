@@ -15,6 +15,7 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
 import java.util.List;
+import java.util.Objects;
 
 import static com.company.holiday.holiday_service.api.domain.HolidayYearRangeCalculator.*;
 
@@ -116,6 +117,25 @@ public class Holiday {
                 .build();
     }
 
+    // 자연키(country, date, localName)를 제외한 내용 비교
+    public boolean hasSameContentAs(Holiday other) {
+        return global == other.global
+                && fixed == other.fixed
+                && Objects.equals(name, other.name)
+                && Objects.equals(launchYear, other.launchYear)
+                && Objects.equals(typesRaw, other.typesRaw)
+                && Objects.equals(countiesRaw, other.countiesRaw);
+    }
+
+    public void updateContent(Holiday source) {
+        this.name = source.name;
+        this.global = source.global;
+        this.fixed = source.fixed;
+        this.launchYear = source.launchYear;
+        this.typesRaw = source.typesRaw;
+        this.countiesRaw = source.countiesRaw;
+    }
+
     public List<HolidayType> getTypes() {
         if (typesRaw == null || typesRaw.isEmpty()) {
             return List.of();
@@ -0,0 +1,63 @@
+package com.company.holiday.holiday_service.api.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 스테이징 동기화에서 공개를 기다리는 공휴일, 컬럼은 holiday 와 같고 국가는 코드로 보관한다.
+// 적재·공개는 HolidayStagingJdbcRepository 에서 JDBC 로 다룬다.
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+        name = "holiday_staging",
+        indexes = {
+                @Index(
+                        name = "idx_holiday_staging_run_unit",
+                        columnList = "run_id, country_code, sync_year"
+                )
+        }
+)
+public class HolidayStaging {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Column(name = "country_code", length = 10, nullable = false)
+    private String countryCode;
+
+    @Column(name = "sync_year", nullable = false)
+    private int year;
+
+    @Column(name = "date", nullable = false)
+    private LocalDate date;
+
+    @Column(name = "local_name", length = 200, nullable = false)
+    private String localName;
+
+    @Column(name = "name", length = 200, nullable = false)
+    private String name;
+
+    @Column(name = "is_global", nullable = false)
+    private boolean global;
+
+    @Column(name = "is_fixed", nullable = false)
+    private boolean fixed;
+
+    @Column(name = "launch_year")
+    private Integer launchYear;
+
+    @Column(name = "types_raw", length = 200)
+    private String typesRaw;
+
+    @Column(name = "counties_raw", length = 200)
+    private String countiesRaw;
+
+}
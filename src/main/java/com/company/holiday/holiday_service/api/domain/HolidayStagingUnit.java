@@ -0,0 +1,55 @@
+package com.company.holiday.holiday_service.api.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 스테이징 동기화에서 공개를 기다리는 국가·연도 단위
+// - 공개할 때 함께 기록할 캐시 검증자와 내용 지문을 보관한다. ( 공개 전에는 holiday_sync_state 를 건드리지 않음 )
+// - 적재·공개는 HolidayStagingJdbcRepository 에서 JDBC 로 다룬다.
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+        name = "holiday_staging_unit",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uk_holiday_staging_unit_run_unit",
+                        columnNames = {"run_id", "country_code", "sync_year"}
+                )
+        }
+)
+public class HolidayStagingUnit {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Column(name = "country_code", length = 10, nullable = false)
+    private String countryCode;
+
+    @Column(name = "sync_year", nullable = false)
+    private int year;
+
+    @Column(name = "etag", length = 200)
+    private String etag;
+
+    @Column(name = "last_modified", length = 100)
+    private String lastModified;
+
+    @Column(name = "content_fingerprint", length = 64)
+    private String fingerprint;
+
+    @Column(name = "holiday_count", nullable = false)
+    private int holidayCount;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+}
@@ -0,0 +1,61 @@
+package com.company.holiday.holiday_service.api.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+// 동기화 실행 중 반영이 끝난 국가·연도 단위
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+        name = "holiday_sync_checkpoint",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uk_holiday_sync_checkpoint_run_unit",
+                        columnNames = {"run_id", "country_code", "sync_year"}
+                )
+        }
+)
+@EntityListeners(AuditingEntityListener.class)
+public class HolidaySyncCheckpoint {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Column(name = "country_code", length = 10, nullable = false)
+    private String countryCode;
+
+    @Column(name = "sync_year", nullable = false)
+    private int year;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Builder(access = AccessLevel.PRIVATE)
+    private HolidaySyncCheckpoint(Long runId, String countryCode, int year) {
+        this.runId = runId;
+        this.countryCode = countryCode;
+        this.year = year;
+    }
+
+    public static HolidaySyncCheckpoint of(Long runId, String countryCode, int year) {
+        return HolidaySyncCheckpoint.builder()
+                .runId(runId)
+                .countryCode(countryCode)
+                .year(year)
+                .build();
+    }
+
+}
@@ -0,0 +1,34 @@
+package com.company.holiday.holiday_service.api.domain;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+// 노드 간 동기화 상호 배제용 임대 잠금
+// 획득·연장·해제는 조건부 update 한 번으로 끝나야 하므로 HolidaySyncLockJdbcRepository 에서 JDBC 로 다룬다.
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "holiday_sync_lock")
+public class HolidaySyncLock {
+
+    @Id
+    @Column(name = "lock_name", length = 50)
+    private String name;
+
+    @Column(name = "owner_id", length = 100, nullable = false)
+    private String ownerId;
+
+    @Column(name = "acquired_at", nullable = false)
+    private LocalDateTime acquiredAt;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+}
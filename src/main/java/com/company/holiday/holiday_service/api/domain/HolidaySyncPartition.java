@@ -0,0 +1,131 @@
+package com.company.holiday.holiday_service.api.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+
+// 샤딩 동기화에서 한 노드가 맡아 처리하는 국가 묶음
+// - 노드는 임대(lease)를 걸고 파티션을 점유하며, 임대가 끊긴 파티션은 다른 노드가 이어받는다.
+// - 점유·연장·완료는 조건부 update 로 처리한다. ( HolidaySyncPartitionJdbcRepository )
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+        name = "holiday_sync_partition",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uk_holiday_sync_partition_run_no",
+                        columnNames = {"run_id", "partition_no"}
+                )
+        }
+)
+@EntityListeners(AuditingEntityListener.class)
+public class HolidaySyncPartition {
+
+    public enum Status {
+        // 아직 아무 노드도 점유하지 않음
+        PENDING,
+        // 한 노드가 점유해 처리 중, 임대가 만료되면 다른 노드가 가져갈 수 있다
+        CLAIMED,
+        // 처리 완료, 결과 합계가 기록됨
+        COMPLETED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "run_id", nullable = false)
+    private Long runId;
+
+    @Column(name = "partition_no", nullable = false)
+    private int partitionNo;
+
+    @Column(name = "from_year", nullable = false)
+    private int fromYear;
+
+    @Column(name = "to_year", nullable = false)
+    private int toYear;
+
+    // 쉼표로 구분한 국가 코드
+    @Column(name = "country_codes", length = 2000, nullable = false)
+    private String countryCodes;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private Status status;
+
+    @Column(name = "owner_id", length = 100)
+    private String ownerId;
+
+    @Column(name = "lease_expires_at")
+    private LocalDateTime leaseExpiresAt;
+
+    @Column(name = "synced_units", nullable = false)
+    private int syncedUnits;
+
+    @Column(name = "skipped_units", nullable = false)
+    private int skippedUnits;
+
+    @Column(name = "inserted_count", nullable = false)
+    private int inserted;
+
+    @Column(name = "updated_count", nullable = false)
+    private int updated;
+
+    @Column(name = "deleted_count", nullable = false)
+    private int deleted;
+
+    @Column(name = "unchanged_count", nullable = false)
+    private int unchanged;
+
+    // 실패한 국가·연도 목록 ( JSON )
+    @Lob
+    @Column(name = "failures")
+    private String failures;
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @Builder(access = AccessLevel.PRIVATE)
+    private HolidaySyncPartition(Long runId, int partitionNo, int fromYear, int toYear, String countryCodes, Status status) {
+        this.runId = runId;
+        this.partitionNo = partitionNo;
+        this.fromYear = fromYear;
+        this.toYear = toYear;
+        this.countryCodes = countryCodes;
+        this.status = status;
+    }
+
+    public static HolidaySyncPartition of(Long runId, int partitionNo, int fromYear, int toYear, List<String> countryCodes) {
+        return HolidaySyncPartition.builder()
+                .runId(runId)
+                .partitionNo(partitionNo)
+                .fromYear(fromYear)
+                .toYear(toYear)
+                .countryCodes(String.join(",", countryCodes))
+                .status(Status.PENDING)
+                .build();
+    }
+
+    public List<String> getCountryCodeList() {
+        return Arrays.asList(countryCodes.split(","));
+    }
+
+    public boolean isCompleted() {
+        return status == Status.COMPLETED;
+    }
+
+}
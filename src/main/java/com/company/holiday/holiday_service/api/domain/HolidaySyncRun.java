@@ -0,0 +1,82 @@
+package com.company.holiday.holiday_service.api.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+
+// 전체 동기화 실행 한 번 ( 연도 범위 단위 )
+// - 완료되지 않은 실행은 같은 연도 범위의 다음 실행이 이어받는다. ( 체크포인트 참고 )
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name = "holiday_sync_run")
+@EntityListeners(AuditingEntityListener.class)
+public class HolidaySyncRun {
+
+    public enum Status {
+        // 실행 중이거나, 프로세스가 죽어 끝나지 못한 상태
+        RUNNING,
+        // 모든 국가·연도 반영 완료
+        COMPLETED,
+        // 실패 / 취소 / 종료로 중단, 다음 실행이 이어받는다
+        INTERRUPTED
+    }
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "from_year", nullable = false)
+    private int fromYear;
+
+    @Column(name = "to_year", nullable = false)
+    private int toYear;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "status", length = 20, nullable = false)
+    private Status status;
+
+    @Column(name = "finished_at")
+    private LocalDateTime finishedAt;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Builder(access = AccessLevel.PRIVATE)
+    private HolidaySyncRun(int fromYear, int toYear, Status status) {
+        this.fromYear = fromYear;
+        this.toYear = toYear;
+        this.status = status;
+    }
+
+    public static HolidaySyncRun start(int fromYear, int toYear) {
+        return HolidaySyncRun.builder()
+                .fromYear(fromYear)
+                .toYear(toYear)
+                .status(Status.RUNNING)
+                .build();
+    }
+
+    public void resume() {
+        this.status = Status.RUNNING;
+        this.finishedAt = null;
+    }
+
+    public void finish(Status status) {
+        this.status = status;
+        this.finishedAt = LocalDateTime.now();
+    }
+
+}
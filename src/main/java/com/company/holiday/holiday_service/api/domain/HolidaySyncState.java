@@ -0,0 +1,88 @@
+package com.company.holiday.holiday_service.api.domain;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
+import org.springframework.data.jpa.domain.support.AuditingEntityListener;
+
+import java.time.LocalDateTime;
+import java.util.Objects;
+
+// 국가·연도별 마지막 동기화 상태
+// - Nager 응답의 캐시 검증자(ETag / Last-Modified)를 보관해 다음 동기화 때 조건부 요청에 사용한다.
+// - 마지막으로 반영한 공휴일 목록의 내용 지문을 보관해, 내용이 같으면 DB 반영을 생략한다.
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(
+        name = "holiday_sync_state",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "uk_holiday_sync_state_country_year",
+                        columnNames = {"country_id", "sync_year"}
+                )
+        }
+)
+@EntityListeners(AuditingEntityListener.class)
+public class HolidaySyncState {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY, optional = false)
+    @JoinColumn(name = "country_id", nullable = false)
+    private Country country;
+
+    @Column(name = "sync_year", nullable = false)
+    private int year;
+
+    @Column(name = "etag", length = 200)
+    private String etag;
+
+    @Column(name = "last_modified", length = 100)
+    private String lastModified;
+
+    @Column(name = "content_fingerprint", length = 64)
+    private String fingerprint;
+
+    @CreatedDate
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @LastModifiedDate
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+
+    @Builder(access = AccessLevel.PRIVATE)
+    private HolidaySyncState(Country country, int year) {
+        this.country = country;
+        this.year = year;
+    }
+
+    public static HolidaySyncState of(Country country, int year) {
+        return HolidaySyncState.builder()
+                .country(country)
+                .year(year)
+                .build();
+    }
+
+    public void updateSyncResult(String etag, String lastModified, String fingerprint) {
+        this.etag = etag;
+        this.lastModified = lastModified;
+        this.fingerprint = fingerprint;
+    }
+
+    public boolean hasFingerprint(String fingerprint) {
+        return this.fingerprint != null && this.fingerprint.equals(fingerprint);
+    }
+
+    public boolean hasValidators(String etag, String lastModified) {
+        return Objects.equals(this.etag, etag) && Objects.equals(this.lastModified, lastModified);
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.company.holiday.holiday_service.api.infra;
+
+import com.company.holiday.holiday_service.api.domain.Country;
+import com.company.holiday.holiday_service.global.config.HolidaySyncProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 국가 동기화 결과를 JDBC 배치로 반영한다. ( Country 도 IDENTITY 키라 Hibernate insert 배치가 꺼짐 )
+// - 호출하는 쪽 트랜잭션에 참여한다.
+// - JDBC 로 쓰므로 Auditing 이 동작하지 않아 created_at / updated_at 을 직접 채운다.
+@Repository
+@RequiredArgsConstructor
+public class CountryJdbcWriter {
+
+    private static final String INSERT_SQL = """
+            insert into country (code, name, available, created_at, updated_at)
+            values (?, ?, ?, ?, ?)
+            """;
+
+    private static final String UPDATE_SQL = """
+            update country
+               set name = ?, available = ?, updated_at = ?
+             where id = ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final HolidaySyncProperties syncProperties;
+
+    public int insertAll(List<Country> countries) {
+        if (countries.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] counts = jdbcTemplate.batchUpdate(INSERT_SQL, countries, syncProperties.jdbcBatchSize(), (ps, country) -> {
+            ps.setString(1, country.getCode());
+            ps.setString(2, country.getName());
+            ps.setBoolean(3, country.isAvailable());
+            ps.setTimestamp(4, now);
+            ps.setTimestamp(5, now);
+        });
+        return JdbcBatchCounts.sum(counts);
+    }
+
+    // id 기준으로 이름과 가용 여부를 갱신한다.
+    public int updateAll(List<Country> countries) {
+        if (countries.isEmpty()) {
+            return 0;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[][] counts = jdbcTemplate.batchUpdate(UPDATE_SQL, countries, syncProperties.jdbcBatchSize(), (ps, country) -> {
+            ps.setString(1, country.getName());
+            ps.setBoolean(2, country.isAvailable());
+            ps.setTimestamp(3, now);
+            ps.setLong(4, country.getId());
+        });
+        return JdbcBatchCounts.sum(counts);
+    }
+
+}
@@ -1,7 +1,11 @@
 package com.company.holiday.holiday_service.api.infra;
 
 import com.company.holiday.holiday_service.api.domain.Country;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 import java.util.List;
 import java.util.Optional;
@@ -14,4 +18,9 @@ public interface CountryRepository extends JpaRepository<Country, Long> {
 
     List<Country> findAllByOrderByCodeAsc();
 
+    // 국가 동기화 비교용 조회, 반영은 JDBC 로 하므로 읽기 전용으로 로딩한다.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    @Query("select c from Country c")
+    List<Country> findAllForSync();
+
 }
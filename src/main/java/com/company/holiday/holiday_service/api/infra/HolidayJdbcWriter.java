@@ -0,0 +1,94 @@
+package com.company.holiday.holiday_service.api.infra;
+
+import com.company.holiday.holiday_service.api.domain.Holiday;
+import com.company.holiday.holiday_service.global.config.HolidaySyncProperties;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ParameterizedPreparedStatementSetter;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// Holiday 는 IDENTITY 키라 Hibernate insert 배치가 꺼지므로, 대량 반영은 JDBC 배치로 직접 수행한다.
+// - 호출하는 쪽 트랜잭션에 참여한다.
+// - 청크마다 영속성 컨텍스트를 flush/clear 해 JPA 변경과 순서를 맞추고 메모리를 일정하게 유지한다.
+// - JDBC 로 쓰므로 Auditing 이 동작하지 않아 created_at / updated_at 을 직접 채운다.
+@Repository
+@RequiredArgsConstructor
+public class HolidayJdbcWriter {
+
+    private static final String INSERT_SQL = """
+            insert into holiday (country_id, date, local_name, name, is_global, is_fixed,
+                                 launch_year, types_raw, counties_raw, created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String UPDATE_SQL = """
+            update holiday
+               set name = ?, is_global = ?, is_fixed = ?, launch_year = ?,
+                   types_raw = ?, counties_raw = ?, updated_at = ?
+             where id = ?
+            """;
+
+    private static final String DELETE_SQL = "delete from holiday where id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final HolidaySyncProperties syncProperties;
+
+    public int insertAll(List<Holiday> holidays) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return writeInChunks(holidays, INSERT_SQL, (ps, holiday) -> {
+            ps.setLong(1, holiday.getCountry().getId());
+            ps.setObject(2, holiday.getDate());
+            ps.setString(3, holiday.getLocalName());
+            ps.setString(4, holiday.getName());
+            ps.setBoolean(5, holiday.isGlobal());
+            ps.setBoolean(6, holiday.isFixed());
+            ps.setObject(7, holiday.getLaunchYear(), Types.INTEGER);
+            ps.setString(8, holiday.getTypesRaw());
+            ps.setString(9, holiday.getCountiesRaw());
+            ps.setTimestamp(10, now);
+            ps.setTimestamp(11, now);
+        });
+    }
+
+    // id 기준으로 자연키 외 내용만 갱신한다.
+    public int updateAll(List<Holiday> holidays) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        return writeInChunks(holidays, UPDATE_SQL, (ps, holiday) -> {
+            ps.setString(1, holiday.getName());
+            ps.setBoolean(2, holiday.isGlobal());
+            ps.setBoolean(3, holiday.isFixed());
+            ps.setObject(4, holiday.getLaunchYear(), Types.INTEGER);
+            ps.setString(5, holiday.getTypesRaw());
+            ps.setString(6, holiday.getCountiesRaw());
+            ps.setTimestamp(7, now);
+            ps.setLong(8, holiday.getId());
+        });
+    }
+
+    public int deleteAll(List<Holiday> holidays) {
+        return writeInChunks(holidays, DELETE_SQL, (ps, holiday) -> ps.setLong(1, holiday.getId()));
+    }
+
+    private int writeInChunks(List<Holiday> holidays, String sql, ParameterizedPreparedStatementSetter<Holiday> setter) {
+        int batchSize = syncProperties.jdbcBatchSize();
+        int written = 0;
+
+        for (int from = 0; from < holidays.size(); from += batchSize) {
+            List<Holiday> chunk = holidays.subList(from, Math.min(from + batchSize, holidays.size()));
+
+            entityManager.flush();
+            entityManager.clear();
+
+            written += JdbcBatchCounts.sum(jdbcTemplate.batchUpdate(sql, chunk, chunk.size(), setter));
+        }
+        return written;
+    }
+
+}
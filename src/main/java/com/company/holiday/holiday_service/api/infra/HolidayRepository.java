@@ -2,14 +2,18 @@ package com.company.holiday.holiday_service.api.infra;
 
 import com.company.holiday.holiday_service.api.domain.Country;
 import com.company.holiday.holiday_service.api.domain.Holiday;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.util.List;
 
 public interface HolidayRepository extends JpaRepository<Holiday, Long> {
 
@@ -23,6 +27,10 @@ public interface HolidayRepository extends JpaRepository<Holiday, Long> {
                       @Param("start") LocalDate start,
                       @Param("end") LocalDate end);
 
+    // 변경분 비교용 조회, 읽기 전용으로 로딩해 dirty checking 대상에서 제외한다.
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"))
+    List<Holiday> findAllByCountryAndDateBetween(Country country, LocalDate start, LocalDate end);
+
     Page<Holiday> findByCountry_CodeAndDateBetween(String s, LocalDate start, LocalDate end, Pageable pageable);
 
     Page<Holiday> findByCountry_CodeAndDateBetweenAndTypesRawContaining(
@@ -0,0 +1,126 @@
+package com.company.holiday.holiday_service.api.infra;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+// 스냅샷 내보내기/불러오기 전용 JDBC 접근
+// 엔티티를 만들지 않고 행 단위로 읽고 쓰며, 불러올 때는 Auditing 대신 created_at / updated_at 을 직접 채운다.
+@Repository
+@RequiredArgsConstructor
+public class HolidaySnapshotJdbcRepository {
+
+    private static final String SELECT_COUNTRIES_SQL = "select code, name, available from country order by code";
+
+    private static final String SELECT_HOLIDAYS_SQL = """
+            select c.code, h.date, h.local_name, h.name, h.is_global, h.is_fixed, h.launch_year, h.types_raw, h.counties_raw
+              from holiday h
+              join country c on c.id = h.country_id
+             order by c.code, h.date, h.local_name
+            """;
+
+    private static final String INSERT_COUNTRY_SQL = """
+            insert into country (code, name, available, created_at, updated_at)
+            values (?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_HOLIDAY_SQL = """
+            insert into holiday (country_id, date, local_name, name, is_global, is_fixed,
+                                 launch_year, types_raw, counties_raw, created_at, updated_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record CountryRow(String code, String name, boolean available) {
+    }
+
+    public record HolidayRow(
+            String countryCode,
+            LocalDate date,
+            String localName,
+            String name,
+            boolean global,
+            boolean fixed,
+            Integer launchYear,
+            String typesRaw,
+            String countiesRaw
+    ) {
+    }
+
+    public boolean hasAnyCountry() {
+        Integer count = jdbcTemplate.queryForObject("select count(*) from country", Integer.class);
+        return count != null && count > 0;
+    }
+
+    public void forEachCountry(Consumer<CountryRow> consumer) {
+        jdbcTemplate.query(SELECT_COUNTRIES_SQL, rs -> {
+            consumer.accept(new CountryRow(rs.getString(1), rs.getString(2), rs.getBoolean(3)));
+        });
+    }
+
+    // 결과를 리스트로 모으지 않고 한 행씩 넘긴다.
+    public void forEachHoliday(Consumer<HolidayRow> consumer) {
+        jdbcTemplate.query(SELECT_HOLIDAYS_SQL, rs -> {
+            consumer.accept(new HolidayRow(
+                    rs.getString(1),
+                    rs.getObject(2, LocalDate.class),
+                    rs.getString(3),
+                    rs.getString(4),
+                    rs.getBoolean(5),
+                    rs.getBoolean(6),
+                    rs.getObject(7, Integer.class),
+                    rs.getString(8),
+                    rs.getString(9)
+            ));
+        });
+    }
+
+    public int insertCountries(List<CountryRow> countries) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_COUNTRY_SQL, countries, countries.size(), (ps, country) -> {
+            ps.setString(1, country.code());
+            ps.setString(2, country.name());
+            ps.setBoolean(3, country.available());
+            ps.setTimestamp(4, now);
+            ps.setTimestamp(5, now);
+        });
+        return countries.size();
+    }
+
+    public Map<String, Long> findCountryIdsByCode() {
+        Map<String, Long> ids = new HashMap<>();
+        jdbcTemplate.query("select id, code from country", rs -> {
+            ids.put(rs.getString(2), rs.getLong(1));
+        });
+        return ids;
+    }
+
+    public int insertHolidays(List<HolidayRow> holidays, Map<String, Long> countryIds) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_HOLIDAY_SQL, holidays, holidays.size(), (ps, holiday) -> {
+            ps.setLong(1, countryIds.get(holiday.countryCode()));
+            ps.setObject(2, holiday.date());
+            ps.setString(3, holiday.localName());
+            ps.setString(4, holiday.name());
+            ps.setBoolean(5, holiday.global());
+            ps.setBoolean(6, holiday.fixed());
+            ps.setObject(7, holiday.launchYear(), Types.INTEGER);
+            ps.setString(8, holiday.typesRaw());
+            ps.setString(9, holiday.countiesRaw());
+            ps.setTimestamp(10, now);
+            ps.setTimestamp(11, now);
+        });
+        return holidays.size();
+    }
+
+}
@@ -0,0 +1,132 @@
+package com.company.holiday.holiday_service.api.infra;
+
+import com.company.holiday.holiday_service.global.config.HolidaySyncProperties;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 스테이징 동기화 전용 JDBC 접근, 실행( run_id ) 단위로 적재하고 공개 후 지운다.
+// 호출하는 쪽 트랜잭션에 참여한다.
+@Repository
+@RequiredArgsConstructor
+public class HolidayStagingJdbcRepository {
+
+    private static final String INSERT_UNIT_SQL = """
+            insert into holiday_staging_unit (run_id, country_code, sync_year, etag, last_modified,
+                                              content_fingerprint, holiday_count, created_at)
+            values (?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String INSERT_HOLIDAY_SQL = """
+            insert into holiday_staging (run_id, country_code, sync_year, date, local_name, name,
+                                         is_global, is_fixed, launch_year, types_raw, counties_raw)
+            values (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)
+            """;
+
+    private static final String SELECT_UNITS_SQL = """
+            select country_code, sync_year, etag, last_modified, content_fingerprint, holiday_count
+              from holiday_staging_unit
+             where run_id = ?
+             order by country_code, sync_year
+            """;
+
+    private static final String SELECT_HOLIDAYS_SQL = """
+            select date, local_name, name, is_global, is_fixed, launch_year, types_raw, counties_raw
+              from holiday_staging
+             where run_id = ? and country_code = ? and sync_year = ?
+             order by date, local_name
+            """;
+
+    private static final String COUNT_LIVE_SQL = """
+            select count(*)
+              from holiday h
+              join country c on c.id = h.country_id
+             where c.code = ? and h.date between ? and ?
+            """;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final HolidaySyncProperties syncProperties;
+
+    public record StagedUnit(String countryCode, int year, String etag, String lastModified, String fingerprint, int holidayCount) {
+    }
+
+    public record StagedHoliday(
+            LocalDate date,
+            String localName,
+            String name,
+            boolean global,
+            boolean fixed,
+            Integer launchYear,
+            String typesRaw,
+            String countiesRaw
+    ) {
+    }
+
+    // 같은 단위를 다시 적재하면( 이어받은 실행, 파티션 이어받기 ) 이전 적재분을 대체한다.
+    public void replaceUnit(Long runId, StagedUnit unit, List<StagedHoliday> holidays) {
+        deleteUnit(runId, unit.countryCode(), unit.year());
+
+        jdbcTemplate.update(INSERT_UNIT_SQL, runId, unit.countryCode(), unit.year(), unit.etag(), unit.lastModified(),
+                unit.fingerprint(), unit.holidayCount(), Timestamp.valueOf(LocalDateTime.now()));
+        jdbcTemplate.batchUpdate(INSERT_HOLIDAY_SQL, holidays, syncProperties.jdbcBatchSize(), (ps, holiday) -> {
+            ps.setLong(1, runId);
+            ps.setString(2, unit.countryCode());
+            ps.setInt(3, unit.year());
+            ps.setObject(4, holiday.date());
+            ps.setString(5, holiday.localName());
+            ps.setString(6, holiday.name());
+            ps.setBoolean(7, holiday.global());
+            ps.setBoolean(8, holiday.fixed());
+            ps.setObject(9, holiday.launchYear(), Types.INTEGER);
+            ps.setString(10, holiday.typesRaw());
+            ps.setString(11, holiday.countiesRaw());
+        });
+    }
+
+    public List<StagedUnit> findUnits(Long runId) {
+        return jdbcTemplate.query(SELECT_UNITS_SQL, (rs, rowNum) -> new StagedUnit(
+                rs.getString(1),
+                rs.getInt(2),
+                rs.getString(3),
+                rs.getString(4),
+                rs.getString(5),
+                rs.getInt(6)
+        ), runId);
+    }
+
+    public List<StagedHoliday> findHolidays(Long runId, String countryCode, int year) {
+        return jdbcTemplate.query(SELECT_HOLIDAYS_SQL, (rs, rowNum) -> new StagedHoliday(
+                rs.getObject(1, LocalDate.class),
+                rs.getString(2),
+                rs.getString(3),
+                rs.getBoolean(4),
+                rs.getBoolean(5),
+                rs.getObject(6, Integer.class),
+                rs.getString(7),
+                rs.getString(8)
+        ), runId, countryCode, year);
+    }
+
+    // 공개 전 검증용, 현재 공개된 국가·기간의 공휴일 수
+    public int countLiveHolidays(String countryCode, LocalDate start, LocalDate end) {
+        Integer count = jdbcTemplate.queryForObject(COUNT_LIVE_SQL, Integer.class, countryCode, start, end);
+        return count == null ? 0 : count;
+    }
+
+    public void deleteRun(Long runId) {
+        jdbcTemplate.update("delete from holiday_staging where run_id = ?", runId);
+        jdbcTemplate.update("delete from holiday_staging_unit where run_id = ?", runId);
+    }
+
+    private void deleteUnit(Long runId, String countryCode, int year) {
+        jdbcTemplate.update("delete from holiday_staging where run_id = ? and country_code = ? and sync_year = ?", runId, countryCode, year);
+        jdbcTemplate.update("delete from holiday_staging_unit where run_id = ? and country_code = ? and sync_year = ?", runId, countryCode, year);
+    }
+
+}
@@ -0,0 +1,24 @@
+package com.company.holiday.holiday_service.api.infra;
+
+import com.company.holiday.holiday_service.api.domain.HolidaySyncCheckpoint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface HolidaySyncCheckpointRepository extends JpaRepository<HolidaySyncCheckpoint, Long> {
+
+    List<HolidaySyncCheckpoint> findAllByRunId(Long runId);
+
+    boolean existsByRunIdAndCountryCodeAndYear(Long runId, String countryCode, int year);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+        delete from HolidaySyncCheckpoint c
+        where c.runId = :runId
+    """)
+    int deleteAllByRunId(@Param("runId") Long runId);
+
+}
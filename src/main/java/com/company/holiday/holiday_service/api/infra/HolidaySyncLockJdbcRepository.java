@@ -0,0 +1,103 @@
+package com.company.holiday.holiday_service.api.infra;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+// 임대 잠금 획득·연장·해제, 각각 조건부 update / insert 한 번으로 원자적으로 처리한다.
+// 만료 판단은 각 노드의 시계를 쓰므로, 노드 간 시계 차이는 임대 기간보다 충분히 작아야 한다.
+@Repository
+@RequiredArgsConstructor
+public class HolidaySyncLockJdbcRepository {
+
+    private static final String TAKE_OVER_SQL = """
+            update holiday_sync_lock
+               set owner_id = ?, acquired_at = ?, expires_at = ?
+             where lock_name = ?
+               and (owner_id = ? or expires_at <= ?)
+            """;
+
+    private static final String INSERT_SQL = """
+            insert into holiday_sync_lock (lock_name, owner_id, acquired_at, expires_at)
+            values (?, ?, ?, ?)
+            """;
+
+    private static final String RENEW_SQL = """
+            update holiday_sync_lock
+               set expires_at = ?
+             where lock_name = ?
+               and owner_id = ?
+            """;
+
+    private static final String RENEW_ALL_SQL = """
+            update holiday_sync_lock
+               set expires_at = ?
+             where lock_name in (%s)
+               and owner_id = ?
+            """;
+
+    private static final String RELEASE_SQL = "delete from holiday_sync_lock where lock_name = ? and owner_id = ?";
+
+    private static final String RELEASE_ALL_SQL = "delete from holiday_sync_lock where lock_name in (%s) and owner_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 잠금이 없거나, 만료되었거나, 이미 내 것이면 가져온다.
+    public boolean tryAcquire(String name, String ownerId, LocalDateTime now, LocalDateTime expiresAt) {
+        Timestamp nowTs = Timestamp.valueOf(now);
+        Timestamp expiresTs = Timestamp.valueOf(expiresAt);
+
+        int updated = jdbcTemplate.update(TAKE_OVER_SQL, ownerId, nowTs, expiresTs, name, ownerId, nowTs);
+        if (updated == 1) {
+            return true;
+        }
+        try {
+            return jdbcTemplate.update(INSERT_SQL, name, ownerId, nowTs, expiresTs) == 1;
+        } catch (DuplicateKeyException e) {
+            // 다른 노드가 먼저 만들었거나, 아직 만료되지 않은 다른 노드의 잠금이 있다.
+            return false;
+        }
+    }
+
+    // 아직 내 잠금이면 만료 시각을 늘린다. 다른 노드가 가져갔으면 false
+    public boolean renew(String name, String ownerId, LocalDateTime expiresAt) {
+        return jdbcTemplate.update(RENEW_SQL, Timestamp.valueOf(expiresAt), name, ownerId) == 1;
+    }
+
+    // 여러 잠금을 한 번에 연장한다. 하나라도 다른 노드가 가져갔으면 false
+    public boolean renewAll(List<String> names, String ownerId, LocalDateTime expiresAt) {
+        if (names.isEmpty()) {
+            return true;
+        }
+        List<Object> args = new ArrayList<>();
+        args.add(Timestamp.valueOf(expiresAt));
+        args.addAll(names);
+        args.add(ownerId);
+        return jdbcTemplate.update(RENEW_ALL_SQL.formatted(placeholders(names.size())), args.toArray()) == names.size();
+    }
+
+    public void release(String name, String ownerId) {
+        jdbcTemplate.update(RELEASE_SQL, name, ownerId);
+    }
+
+    public void releaseAll(List<String> names, String ownerId) {
+        if (names.isEmpty()) {
+            return;
+        }
+        List<Object> args = new ArrayList<>(names);
+        args.add(ownerId);
+        jdbcTemplate.update(RELEASE_ALL_SQL.formatted(placeholders(names.size())), args.toArray());
+    }
+
+    private static String placeholders(int count) {
+        return String.join(", ", Collections.nCopies(count, "?"));
+    }
+
+}
@@ -0,0 +1,113 @@
+package com.company.holiday.holiday_service.api.infra;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+// 파티션 점유·연장·완료·반납, 각각 조건부 update 한 번으로 원자적으로 처리한다.
+// 만료 판단은 HolidaySyncLockJdbcRepository 와 같이 각 노드의 시계를 쓴다.
+@Repository
+@RequiredArgsConstructor
+public class HolidaySyncPartitionJdbcRepository {
+
+    // 진행 중인 실행의 파티션 중, 아무도 점유하지 않았거나 임대가 만료된 것
+    private static final String FIND_CLAIMABLE_SQL = """
+            select p.id
+              from holiday_sync_partition p
+              join holiday_sync_run r on r.id = p.run_id
+             where r.status = 'RUNNING'
+               and (p.status = 'PENDING' or (p.status = 'CLAIMED' and p.lease_expires_at <= ?))
+            """;
+
+    private static final String CLAIM_SQL = """
+            update holiday_sync_partition
+               set status = 'CLAIMED', owner_id = ?, lease_expires_at = ?
+             where id = ?
+               and (status = 'PENDING' or (status = 'CLAIMED' and lease_expires_at <= ?))
+            """;
+
+    private static final String RENEW_SQL = """
+            update holiday_sync_partition
+               set lease_expires_at = ?
+             where id = ?
+               and owner_id = ?
+               and status = 'CLAIMED'
+            """;
+
+    private static final String COMPLETE_SQL = """
+            update holiday_sync_partition
+               set status = 'COMPLETED', lease_expires_at = null, completed_at = ?,
+                   synced_units = ?, skipped_units = ?,
+                   inserted_count = ?, updated_count = ?, deleted_count = ?, unchanged_count = ?,
+                   failures = ?
+             where id = ?
+               and owner_id = ?
+               and status = 'CLAIMED'
+            """;
+
+    private static final String RELEASE_SQL = """
+            update holiday_sync_partition
+               set status = 'PENDING', owner_id = null, lease_expires_at = null
+             where id = ?
+               and owner_id = ?
+               and status = 'CLAIMED'
+            """;
+
+    // 파티션 처리 결과 합계, failures 는 실패한 국가·연도 목록 JSON
+    public record PartitionResult(int syncedUnits, int skippedUnits, int inserted, int updated, int deleted, int unchanged,
+                                  String failures) {
+    }
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // runId 가 null 이면 진행 중인 모든 실행에서 찾는다.
+    // 후보를 하나씩 점유해 보고, 다른 노드가 먼저 가져간 후보는 건너뛴다.
+    public Optional<Long> claimNext(Long runId, String ownerId, LocalDateTime now, LocalDateTime expiresAt) {
+        Timestamp nowTs = Timestamp.valueOf(now);
+        List<Object> args = new ArrayList<>(List.of(nowTs));
+        String sql = FIND_CLAIMABLE_SQL;
+        if (runId != null) {
+            sql += " and p.run_id = ?";
+            args.add(runId);
+        }
+        sql += " order by p.run_id, p.partition_no";
+
+        List<Long> candidates = jdbcTemplate.queryForList(sql, Long.class, args.toArray());
+        Timestamp expiresTs = Timestamp.valueOf(expiresAt);
+        for (Long candidate : candidates) {
+            if (jdbcTemplate.update(CLAIM_SQL, ownerId, expiresTs, candidate, nowTs) == 1) {
+                return Optional.of(candidate);
+            }
+        }
+        return Optional.empty();
+    }
+
+    // 아직 내가 점유 중이면 만료 시각을 늘린다. 다른 노드가 가져갔거나 파티션이 다시 계획되었으면 false
+    public boolean renew(Long partitionId, String ownerId, LocalDateTime expiresAt) {
+        return jdbcTemplate.update(RENEW_SQL, Timestamp.valueOf(expiresAt), partitionId, ownerId) == 1;
+    }
+
+    // 임대가 끊겨 다른 노드가 가져간 뒤라면 false, 결과는 이어받은 노드가 기록한다.
+    public boolean complete(Long partitionId, String ownerId, PartitionResult result, LocalDateTime now) {
+        return jdbcTemplate.update(
+                COMPLETE_SQL,
+                Timestamp.valueOf(now),
+                result.syncedUnits(), result.skippedUnits(),
+                result.inserted(), result.updated(), result.deleted(), result.unchanged(),
+                result.failures(),
+                partitionId, ownerId
+        ) == 1;
+    }
+
+    // 처리하지 못한 파티션을 다른 노드가 바로 가져갈 수 있도록 되돌린다.
+    public void release(Long partitionId, String ownerId) {
+        jdbcTemplate.update(RELEASE_SQL, partitionId, ownerId);
+    }
+
+}
@@ -0,0 +1,22 @@
+package com.company.holiday.holiday_service.api.infra;
+
+import com.company.holiday.holiday_service.api.domain.HolidaySyncPartition;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface HolidaySyncPartitionRepository extends JpaRepository<HolidaySyncPartition, Long> {
+
+    List<HolidaySyncPartition> findAllByRunIdOrderByPartitionNo(Long runId);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+        delete from HolidaySyncPartition p
+        where p.runId = :runId
+    """)
+    int deleteAllByRunId(@Param("runId") Long runId);
+
+}
@@ -0,0 +1,15 @@
+package com.company.holiday.holiday_service.api.infra;
+
+import com.company.holiday.holiday_service.api.domain.HolidaySyncRun;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface HolidaySyncRunRepository extends JpaRepository<HolidaySyncRun, Long> {
+
+    // 같은 연도 범위에서 이어받을 수 있는 가장 최근 미완료 실행
+    Optional<HolidaySyncRun> findFirstByFromYearAndToYearAndStatusNotAndCreatedAtAfterOrderByIdDesc(
+            int fromYear, int toYear, HolidaySyncRun.Status status, LocalDateTime createdAfter);
+
+}
@@ -0,0 +1,34 @@
+package com.company.holiday.holiday_service.api.infra;
+
+import com.company.holiday.holiday_service.api.domain.Country;
+import com.company.holiday.holiday_service.api.domain.HolidaySyncState;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+import java.util.Optional;
+
+public interface HolidaySyncStateRepository extends JpaRepository<HolidaySyncState, Long> {
+
+    Optional<HolidaySyncState> findByCountryAndYear(Country country, int year);
+
+    @Query("""
+        select s from HolidaySyncState s
+        join fetch s.country
+        where s.year between :fromYear and :toYear
+    """)
+    List<HolidaySyncState> findAllWithCountryByYearBetween(@Param("fromYear") int fromYear,
+                                                           @Param("toYear") int toYear);
+
+    @Modifying(clearAutomatically = true, flushAutomatically = true)
+    @Query("""
+        delete from HolidaySyncState s
+        where s.country = :country
+          and s.year = :year
+    """)
+    int deleteByCountryAndYear(@Param("country") Country country,
+                               @Param("year") int year);
+
+}
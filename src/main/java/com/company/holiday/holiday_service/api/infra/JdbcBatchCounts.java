@@ -0,0 +1,27 @@
+package com.company.holiday.holiday_service.api.infra;
+
+import java.sql.Statement;
+
+// JdbcTemplate.batchUpdate 가 돌려준 행 수를 합산한다.
+// - 드라이버가 행 수를 알려주지 않으면( SUCCESS_NO_INFO ) 한 건이 반영된 것으로 센다.
+// - 실패한 문장( EXECUTE_FAILED )은 세지 않는다.
+final class JdbcBatchCounts {
+
+    private JdbcBatchCounts() {
+    }
+
+    static int sum(int[][] counts) {
+        int sum = 0;
+        for (int[] batch : counts) {
+            for (int count : batch) {
+                if (count == Statement.SUCCESS_NO_INFO) {
+                    sum += 1;
+                } else if (count > 0) {
+                    sum += count;
+                }
+            }
+        }
+        return sum;
+    }
+
+}
@@ -2,6 +2,8 @@ package com.company.holiday.holiday_service.api.presentation;
 
 import com.company.holiday.holiday_service.api.application.HolidayCommandService;
 import com.company.holiday.holiday_service.api.application.HolidayQueryService;
+import com.company.holiday.holiday_service.api.application.HolidaySyncJob;
+import com.company.holiday.holiday_service.api.application.HolidaySyncJobRunner;
 import com.company.holiday.holiday_service.api.application.mapper.HolidayQueryMapper;
 import com.company.holiday.holiday_service.api.presentation.dto.request.HolidayDeleteRequest;
 import com.company.holiday.holiday_service.api.presentation.dto.request.HolidayRefreshRequest;
@@ -9,6 +11,7 @@ import com.company.holiday.holiday_service.api.presentation.dto.request.HolidayS
 import com.company.holiday.holiday_service.api.presentation.dto.response.HolidayDeleteResponse;
 import com.company.holiday.holiday_service.api.presentation.dto.response.HolidayRefreshResponse;
 import com.company.holiday.holiday_service.api.presentation.dto.response.HolidaySearchResponse;
+import com.company.holiday.holiday_service.api.presentation.dto.response.HolidaySyncJobResponse;
 import com.company.holiday.holiday_service.api.presentation.dto.response.HolidaySyncResponse;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -20,8 +23,11 @@ import lombok.RequiredArgsConstructor;
 import org.springdoc.core.annotations.ParameterObject;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.http.HttpStatus;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/v1/holidays")
 @RequiredArgsConstructor
@@ -29,6 +35,7 @@ import org.springframework.web.bind.annotation.*;
 public class HolidayApi {
 
     private final HolidayCommandService holidayCommandService;
+    private final HolidaySyncJobRunner holidaySyncJobRunner;
     private final HolidayQueryService holidayQueryService;
     private final HolidayQueryMapper queryMapper;
 
@@ -43,7 +50,51 @@ public class HolidayApi {
             }
     )
     public HolidaySyncResponse sync() {
-        return holidayCommandService.syncCountriesAndHolidays();
+        return holidaySyncJobRunner.submitAndWait(HolidaySyncJob.Type.MANUAL);
+    }
+
+    @PostMapping("/sync/jobs")
+    @ResponseStatus(HttpStatus.ACCEPTED)
+    @Operation(
+            summary = "전체 공휴일 동기화 작업 등록",
+            description = "전체 공휴일 동기화를 별도 작업으로 등록하고 작업 id 를 바로 응답합니다. 진행 상황은 작업 조회 API 로 확인합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "202", description = "작업 등록 성공",
+                            content = @Content(schema = @Schema(implementation = HolidaySyncJobResponse.class))),
+                    @ApiResponse(responseCode = "409", description = "이미 실행 중인 동기화 작업이 있음")
+            }
+    )
+    public HolidaySyncJobResponse submitSyncJob() {
+        return HolidaySyncJobResponse.from(holidaySyncJobRunner.submit(HolidaySyncJob.Type.MANUAL));
+    }
+
+    @GetMapping("/sync/jobs")
+    @Operation(
+            summary = "최근 동기화 작업 목록 조회",
+            description = "메모리에 보관 중인 최근 동기화 작업들의 상태를 요청 순으로 조회합니다."
+    )
+    public List<HolidaySyncJobResponse> searchSyncJobs() {
+        return holidaySyncJobRunner.findAll().stream()
+                .map(HolidaySyncJobResponse::from)
+                .toList();
+    }
+
+    @GetMapping("/sync/jobs/{jobId}")
+    @Operation(
+            summary = "동기화 작업 상태 조회",
+            description = "완료/남은 국가 수, 저장한 공휴일 수, 경과 시간, 에러 정보를 조회합니다."
+    )
+    public HolidaySyncJobResponse searchSyncJob(@PathVariable String jobId) {
+        return HolidaySyncJobResponse.from(holidaySyncJobRunner.find(jobId));
+    }
+
+    @PostMapping("/sync/jobs/{jobId}/cancel")
+    @Operation(
+            summary = "동기화 작업 취소",
+            description = "진행 중인 국가·연도 단위는 마저 반영하고, 이후 단위부터 중단합니다. 이미 끝난 작업은 상태만 응답합니다."
+    )
+    public HolidaySyncJobResponse cancelSyncJob(@PathVariable String jobId) {
+        return HolidaySyncJobResponse.from(holidaySyncJobRunner.cancel(jobId));
     }
 
     @PostMapping("/refresh")
@@ -0,0 +1,27 @@
+package com.company.holiday.holiday_service.api.presentation;
+
+import com.company.holiday.holiday_service.api.application.HolidaySnapshotService;
+import com.company.holiday.holiday_service.api.presentation.dto.response.HolidaySnapshotResponse;
+import io.swagger.v3.oas.annotations.Operation;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequestMapping("/api/v1/snapshots")
+@RequiredArgsConstructor
+public class SnapshotApi {
+
+    private final HolidaySnapshotService holidaySnapshotService;
+
+    @Operation(
+            summary = "데이터 스냅샷 내보내기",
+            description = "국가·공휴일 전체를 gzip 압축 스냅샷 파일( holiday.snapshot.path )로 내보냅니다. 빈 DB 로 시작하면 이 파일을 불러옵니다."
+    )
+    @PostMapping
+    public HolidaySnapshotResponse export() {
+        return HolidaySnapshotResponse.of(holidaySnapshotService.export());
+    }
+
+}
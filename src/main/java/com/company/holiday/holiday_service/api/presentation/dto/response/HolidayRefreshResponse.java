@@ -1,4 +1,30 @@
 package com.company.holiday.holiday_service.api.presentation.dto.response;
 
-public record HolidayRefreshResponse(int holidaysCount) {
+import com.company.holiday.holiday_service.api.application.dto.HolidayUpsertResult;
+
+public record HolidayRefreshResponse(
+        int holidaysCount,
+        int insertedCount,
+        int updatedCount,
+        int deletedCount,
+        int unchangedCount,
+        // Nager 를 사용할 수 없어 기존 데이터를 그대로 둔 경우 true
+        boolean keptExistingData
+) {
+
+    public static HolidayRefreshResponse from(HolidayUpsertResult result) {
+        return new HolidayRefreshResponse(
+                result.syncedCount(),
+                result.inserted(),
+                result.updated(),
+                result.deleted(),
+                result.unchanged(),
+                false
+        );
+    }
+
+    public static HolidayRefreshResponse keptExistingData() {
+        return new HolidayRefreshResponse(0, 0, 0, 0, 0, true);
+    }
+
 }
@@ -0,0 +1,25 @@
+package com.company.holiday.holiday_service.api.presentation.dto.response;
+
+import com.company.holiday.holiday_service.api.application.dto.HolidaySnapshotResult;
+
+import java.time.LocalDateTime;
+
+public record HolidaySnapshotResponse(
+        String path,
+        int countriesCount,
+        int holidaysCount,
+        long sizeBytes,
+        LocalDateTime createdAt
+) {
+
+    public static HolidaySnapshotResponse of(HolidaySnapshotResult result) {
+        return new HolidaySnapshotResponse(
+                result.path(),
+                result.countriesCount(),
+                result.holidaysCount(),
+                result.sizeBytes(),
+                result.createdAt()
+        );
+    }
+
+}
@@ -0,0 +1,51 @@
+package com.company.holiday.holiday_service.api.presentation.dto.response;
+
+import com.company.holiday.holiday_service.api.application.HolidaySyncJob;
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncFailure;
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncSummary;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public record HolidaySyncJobResponse(
+        String jobId,
+        HolidaySyncJob.Type type,
+        HolidaySyncJob.Status status,
+        boolean cancelRequested,
+        LocalDateTime requestedAt,
+        LocalDateTime startedAt,
+        LocalDateTime finishedAt,
+        long elapsedMillis,
+        int totalCountries,
+        int completedCountries,
+        int remainingCountries,
+        int holidaysCount,
+        int skippedCount,
+        int failedCount,
+        List<HolidaySyncFailure> failedUnits,
+        String error
+) {
+
+    public static HolidaySyncJobResponse from(HolidaySyncJob job) {
+        HolidaySyncSummary summary = job.getSummary();
+        return new HolidaySyncJobResponse(
+                job.getId(),
+                job.getType(),
+                job.getStatus(),
+                job.isCancelRequested(),
+                job.getRequestedAt(),
+                job.getStartedAt(),
+                job.getFinishedAt(),
+                job.getElapsed().toMillis(),
+                job.getTotalCountries(),
+                job.getCompletedCountries(),
+                job.getRemainingCountries(),
+                summary.changes().syncedCount(),
+                summary.skippedUnits(),
+                summary.failedUnits(),
+                summary.failures(),
+                job.getError()
+        );
+    }
+
+}
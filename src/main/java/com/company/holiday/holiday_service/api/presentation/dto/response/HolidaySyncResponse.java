@@ -1,4 +1,36 @@
 package com.company.holiday.holiday_service.api.presentation.dto.response;
 
-public record HolidaySyncResponse(int countriesCount, int holidaysCount) {
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncFailure;
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncSummary;
+import com.company.holiday.holiday_service.api.application.dto.HolidayUpsertResult;
+
+import java.util.List;
+
+public record HolidaySyncResponse(
+        int countriesCount,
+        int holidaysCount,
+        int insertedCount,
+        int updatedCount,
+        int deletedCount,
+        int unchangedCount,
+        int skippedCount,
+        int failedCount,
+        List<HolidaySyncFailure> failedUnits
+) {
+
+    public static HolidaySyncResponse of(int countriesCount, HolidaySyncSummary summary) {
+        HolidayUpsertResult changes = summary.changes();
+        return new HolidaySyncResponse(
+                countriesCount,
+                changes.syncedCount(),
+                changes.inserted(),
+                changes.updated(),
+                changes.deleted(),
+                changes.unchanged(),
+                summary.skippedUnits(),
+                summary.failedUnits(),
+                summary.failures()
+        );
+    }
+
 }
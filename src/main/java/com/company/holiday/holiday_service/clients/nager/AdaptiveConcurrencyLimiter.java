@@ -0,0 +1,140 @@
+package com.company.holiday.holiday_service.clients.nager;
+
+import com.company.holiday.holiday_service.global.config.NagerConcurrencyLimitProperties;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Nager 동시 요청 수를 AIMD 방식으로 조절하는 한도
+// - 정상 응답이 기준 지연 이내로 오고 한도를 절반 이상 쓰고 있으면 한도를 조금씩 늘린다. ( 한도만큼 성공할 때마다 +1 )
+// - 429 / 5xx / 타임아웃, 기준 지연 초과 응답을 받으면 한도를 backoffRatio 배로 줄인다.
+//   같은 과부하에 동시에 실패한 요청들이 한도를 연달아 줄이지 않도록, 마지막 감소 이전에 시작한 요청은 다시 줄이지 않는다.
+public class AdaptiveConcurrencyLimiter {
+
+    private final int minLimit;
+    private final int maxLimit;
+    private final double backoffRatio;
+    private final long latencyThresholdNanos;
+    private final long acquireTimeoutNanos;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition released = lock.newCondition();
+
+    private double limit;
+    private int inFlight;
+    private long lastDecreasedAt;
+
+    private final LongAdder rejections = new LongAdder();
+
+    public AdaptiveConcurrencyLimiter(NagerConcurrencyLimitProperties properties) {
+        this.minLimit = properties.minLimit();
+        this.maxLimit = properties.maxLimit();
+        this.backoffRatio = properties.backoffRatio();
+        this.latencyThresholdNanos = properties.latencyThreshold().toNanos();
+        this.acquireTimeoutNanos = properties.acquireTimeout().toNanos();
+        this.limit = properties.initialLimit();
+        this.lastDecreasedAt = System.nanoTime();
+    }
+
+    // 한도 안에 자리가 날 때까지 최대 acquireTimeout 만큼 기다린다. 끝내 자리가 없으면 거절(empty)
+    public Optional<Permit> tryAcquire() throws InterruptedException {
+        long remaining = acquireTimeoutNanos;
+        lock.lock();
+        try {
+            while (inFlight >= (int) limit) {
+                if (remaining <= 0) {
+                    rejections.increment();
+                    return Optional.empty();
+                }
+                remaining = released.awaitNanos(remaining);
+            }
+            inFlight++;
+            return Optional.of(new Permit(System.nanoTime()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getLimit() {
+        lock.lock();
+        try {
+            return (int) limit;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getRejections() {
+        return rejections.sum();
+    }
+
+    private void release(long startedAt, boolean overloaded) {
+        long now = System.nanoTime();
+        lock.lock();
+        try {
+            if (overloaded || now - startedAt > latencyThresholdNanos) {
+                decrease(startedAt, now);
+            } else if (inFlight * 2 >= limit) {
+                limit = Math.min(maxLimit, limit + 1.0 / limit);
+            }
+            inFlight--;
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void releaseWithoutFeedback() {
+        lock.lock();
+        try {
+            inFlight--;
+            released.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void decrease(long startedAt, long now) {
+        if (startedAt - lastDecreasedAt < 0) {
+            return;
+        }
+        limit = Math.max(minLimit, limit * backoffRatio);
+        lastDecreasedAt = now;
+    }
+
+    // 획득한 자리, 호출 결과에 맞는 메서드로 정확히 한 번 반납한다.
+    public final class Permit {
+
+        private final long startedAt;
+
+        private Permit(long startedAt) {
+            this.startedAt = startedAt;
+        }
+
+        public void onSuccess() {
+            release(startedAt, false);
+        }
+
+        // 429 / 5xx / 타임아웃처럼 상대 서버의 과부하를 뜻하는 실패
+        public void onDropped() {
+            release(startedAt, true);
+        }
+
+        // 4xx 등 부하와 무관한 실패, 한도는 그대로 두고 자리만 반납한다.
+        public void onIgnored() {
+            releaseWithoutFeedback();
+        }
+    }
+
+}
@@ -0,0 +1,66 @@
+package com.company.holiday.holiday_service.clients.nager;
+
+import com.company.holiday.holiday_service.clients.nager.NagerCircuitBreaker.Permit;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerAvailableCountryResponse;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerCacheValidators;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerConditionalResult;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerPublicHolidayResponse;
+import com.company.holiday.holiday_service.global.error.exception.CircuitOpenException;
+import com.company.holiday.holiday_service.global.error.exception.ConcurrencyLimitExceededException;
+import com.company.holiday.holiday_service.global.error.exception.ExternalApiException;
+
+import java.util.List;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+// 회로가 열려 있으면 Nager 를 호출하지 않고 바로 CircuitOpenException 을 던지고, 호출 결과는 회로 차단기에 기록한다.
+public class CircuitBreakingNagerClient implements NagerClient {
+
+    private final NagerClient delegate;
+    private final NagerCircuitBreaker circuitBreaker;
+
+    public CircuitBreakingNagerClient(NagerClient delegate, NagerCircuitBreaker circuitBreaker) {
+        this.delegate = delegate;
+        this.circuitBreaker = circuitBreaker;
+    }
+
+    @Override
+    public List<NagerAvailableCountryResponse> getAvailableCountries() {
+        return guarded(delegate::getAvailableCountries);
+    }
+
+    @Override
+    public <R> NagerConditionalResult<R> collectPublicHolidaysIfModified(int year, String countryCode, NagerCacheValidators validators,
+                                                                         Collector<NagerPublicHolidayResponse, ?, R> collector) {
+        return guarded(() -> delegate.collectPublicHolidaysIfModified(year, countryCode, validators, collector));
+    }
+
+    private <T> T guarded(Supplier<T> call) {
+        Permit permit = circuitBreaker.tryAcquirePermission().orElseThrow(() ->
+                new CircuitOpenException("Nager API 회로가 열려 있어 호출하지 않았습니다. state=" + circuitBreaker.getState())
+        );
+
+        T result;
+        try {
+            result = call.get();
+        } catch (ConcurrencyLimitExceededException e) {
+            // 우리 쪽 동시 요청 한도에서 거절되어 Nager 를 호출하지 않았다.
+            permit.onIgnored();
+            throw e;
+        } catch (ExternalApiException e) {
+            // 4xx 등 재시도 대상이 아닌 실패는 Nager 가 정상적으로 응답한 것으로 본다.
+            if (e.isRetryable()) {
+                permit.onFailure();
+            } else {
+                permit.onSuccess();
+            }
+            throw e;
+        } catch (RuntimeException e) {
+            permit.onIgnored();
+            throw e;
+        }
+        permit.onSuccess();
+        return result;
+    }
+
+}
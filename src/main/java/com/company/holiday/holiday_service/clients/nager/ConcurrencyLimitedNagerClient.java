@@ -0,0 +1,78 @@
+package com.company.holiday.holiday_service.clients.nager;
+
+import com.company.holiday.holiday_service.clients.nager.AdaptiveConcurrencyLimiter.Permit;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerAvailableCountryResponse;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerCacheValidators;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerConditionalResult;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerPublicHolidayResponse;
+import com.company.holiday.holiday_service.global.error.exception.ConcurrencyLimitExceededException;
+import com.company.holiday.holiday_service.global.error.exception.ExternalApiException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+// 모든 Nager 호출을 AdaptiveConcurrencyLimiter 의 한도 안에서 수행하고, 호출 결과를 한도 조절에 반영한다.
+@Slf4j
+public class ConcurrencyLimitedNagerClient implements NagerClient {
+
+    private final NagerClient delegate;
+    private final AdaptiveConcurrencyLimiter limiter;
+
+    public ConcurrencyLimitedNagerClient(NagerClient delegate, AdaptiveConcurrencyLimiter limiter) {
+        this.delegate = delegate;
+        this.limiter = limiter;
+    }
+
+    @Override
+    public List<NagerAvailableCountryResponse> getAvailableCountries() {
+        return limited(delegate::getAvailableCountries);
+    }
+
+    @Override
+    public <R> NagerConditionalResult<R> collectPublicHolidaysIfModified(int year, String countryCode, NagerCacheValidators validators,
+                                                                         Collector<NagerPublicHolidayResponse, ?, R> collector) {
+        return limited(() -> delegate.collectPublicHolidaysIfModified(year, countryCode, validators, collector));
+    }
+
+    private <T> T limited(Supplier<T> call) {
+        Permit permit = acquire();
+        boolean released = false;
+        try {
+            T result = call.get();
+            released = true;
+            permit.onSuccess();
+            return result;
+        } catch (ExternalApiException e) {
+            released = true;
+            if (e.isRetryable()) {
+                permit.onDropped();
+            } else {
+                permit.onIgnored();
+            }
+            throw e;
+        } finally {
+            // 그 밖의 예외나 Error 로 끝나면 한도 조절 없이 자리만 반납한다.
+            if (!released) {
+                permit.onIgnored();
+            }
+        }
+    }
+
+    // 한도 초과는 우리 쪽 대기열 문제이므로 Nager 장애로 세지 않도록 전용 예외로 던진다.
+    // 대기 중 인터럽트( 종료, 작업 취소 )는 Nager 호출 결과가 아니므로 취소로 던진다.
+    private Permit acquire() {
+        try {
+            return limiter.tryAcquire().orElseThrow(() -> {
+                log.warn("[NagerLimit] 동시 요청 한도 대기 시간 초과 - limit={}, inFlight={}", limiter.getLimit(), limiter.getInFlight());
+                return new ConcurrencyLimitExceededException("Nager API 동시 요청 한도 초과");
+            });
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new CancellationException("Nager API 요청 대기 중 인터럽트");
+        }
+    }
+
+}
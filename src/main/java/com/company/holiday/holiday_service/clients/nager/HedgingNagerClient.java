@@ -0,0 +1,117 @@
+package com.company.holiday.holiday_service.clients.nager;
+
+import com.company.holiday.holiday_service.clients.nager.dto.NagerAvailableCountryResponse;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerCacheValidators;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerConditionalResult;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerPublicHolidayResponse;
+import com.company.holiday.holiday_service.global.error.ErrorCode;
+import com.company.holiday.holiday_service.global.error.exception.ExternalApiException;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletionService;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+// 공휴일 조회가 최근 응답 시간의 상위 백분위를 넘기도록 끝나지 않으면 같은 요청을 하나 더 보내, 먼저 성공한 응답을 쓴다.
+// 늦은 쪽은 인터럽트해 소켓을 닫는다. 조회는 멱등이고 호출마다 collector 의 새 컨테이너로 모으므로 두 요청이 서로 섞이지 않는다.
+// 응답 시간은 요청마다 그 요청이 시작한 때부터 끝날 때까지를, 성공·실패와 상관없이 기록한다.
+// 가용 국가 조회는 동기화마다 한 번뿐이라 헤징하지 않는다.
+public class HedgingNagerClient implements NagerClient {
+
+    private final NagerClient delegate;
+    private final NagerHedgingPolicy policy;
+    private final ExecutorService executor;
+
+    public HedgingNagerClient(NagerClient delegate, NagerHedgingPolicy policy, ExecutorService executor) {
+        this.delegate = delegate;
+        this.policy = policy;
+        this.executor = executor;
+    }
+
+    @Override
+    public List<NagerAvailableCountryResponse> getAvailableCountries() {
+        return delegate.getAvailableCountries();
+    }
+
+    @Override
+    public <R> NagerConditionalResult<R> collectPublicHolidaysIfModified(int year, String countryCode, NagerCacheValidators validators,
+                                                                         Collector<NagerPublicHolidayResponse, ?, R> collector) {
+        return hedged(() -> delegate.collectPublicHolidaysIfModified(year, countryCode, validators, collector));
+    }
+
+    private <T> T hedged(Supplier<T> call) {
+        Optional<Long> hedgeDelay = policy.onCall();
+        if (hedgeDelay.isEmpty()) {
+            return timed(call);
+        }
+
+        CompletionService<T> completion = new ExecutorCompletionService<>(executor);
+        Future<T> primary = completion.submit(() -> timed(call));
+        Future<T> hedge = null;
+        try {
+            Future<T> first = completion.poll(hedgeDelay.get(), TimeUnit.NANOSECONDS);
+            if (first == null && policy.tryAcquireHedge()) {
+                hedge = completion.submit(() -> timed(call));
+                first = completion.take();
+            } else if (first == null) {
+                first = primary;
+            }
+
+            T result;
+            try {
+                result = first.get();
+            } catch (ExecutionException e) {
+                // 먼저 끝난 쪽이 실패했으면 남은 요청의 결과를 기다린다.
+                if (hedge == null) {
+                    throw unwrap(e);
+                }
+                first = completion.take();
+                result = getOrThrow(first);
+            }
+
+            if (first == hedge) {
+                policy.recordHedgeWin();
+            }
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ExternalApiException(ErrorCode.INTERNAL_SERVER_ERROR, "Nager API 응답 대기 중 인터럽트", e);
+        } finally {
+            primary.cancel(true);
+            if (hedge != null) {
+                hedge.cancel(true);
+            }
+        }
+    }
+
+    private <T> T timed(Supplier<T> call) {
+        long startedAt = System.nanoTime();
+        try {
+            return call.get();
+        } finally {
+            policy.recordLatency(System.nanoTime() - startedAt);
+        }
+    }
+
+    private <T> T getOrThrow(Future<T> future) throws InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            throw unwrap(e);
+        }
+    }
+
+    private RuntimeException unwrap(ExecutionException e) {
+        if (e.getCause() instanceof RuntimeException cause) {
+            return cause;
+        }
+        return new ExternalApiException(ErrorCode.INTERNAL_SERVER_ERROR, "Nager API 호출 중 에러 발생", e.getCause());
+    }
+
+}
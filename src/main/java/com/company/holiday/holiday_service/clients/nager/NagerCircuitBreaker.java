@@ -0,0 +1,195 @@
+package com.company.holiday.holiday_service.clients.nager;
+
+import com.company.holiday.holiday_service.global.config.NagerCircuitBreakerProperties;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// Nager 호출용 회로 차단기
+// - CLOSED    : 최근 slidingWindowSize 번의 호출 결과를 기록하고, 일시 장애 비율이 기준 이상이면 OPEN 으로 바꾼다.
+// - OPEN      : openDuration 동안 호출을 바로 거절한다. ( 읽기 제한 시간만큼 기다리지 않음 )
+// - HALF_OPEN : halfOpenTrialCalls 만큼만 시험 호출을 허용해, 모두 성공하면 CLOSED, 하나라도 실패하면 다시 OPEN
+// 상태가 바뀔 때마다 세대(generation)를 올리고, 이전 세대에 허용된 호출의 결과는 버린다.
+// ( CLOSED 때 시작해 늦게 끝난 호출이 HALF_OPEN 의 시험 결과로 세어지지 않도록 )
+@Slf4j
+public class NagerCircuitBreaker {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private final double failureRateThreshold;
+    private final int minimumCalls;
+    private final long openDurationNanos;
+    private final int halfOpenTrialCalls;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    private State state = State.CLOSED;
+    private long generation;
+    private long openedAt;
+
+    // CLOSED 상태의 최근 호출 결과 ( true = 실패 ), 원형 버퍼
+    private final boolean[] window;
+    private int windowIndex;
+    private int windowCount;
+    private int windowFailures;
+
+    // HALF_OPEN 상태에서 내준 시험 호출 수와 성공 수
+    private int trialsIssued;
+    private int trialsSucceeded;
+
+    private final LongAdder rejections = new LongAdder();
+
+    public NagerCircuitBreaker(NagerCircuitBreakerProperties properties) {
+        this.failureRateThreshold = properties.failureRateThreshold();
+        this.minimumCalls = properties.minimumCalls();
+        this.openDurationNanos = properties.openDuration().toNanos();
+        this.halfOpenTrialCalls = properties.halfOpenTrialCalls();
+        this.window = new boolean[properties.slidingWindowSize()];
+    }
+
+    // 호출해도 되는지 확인한다. 허용(permit)을 받았으면 결과를 onSuccess / onFailure / onIgnored 중 하나로 꼭 알려야 한다.
+    public Optional<Permit> tryAcquirePermission() {
+        lock.lock();
+        try {
+            if (state == State.OPEN && System.nanoTime() - openedAt >= openDurationNanos) {
+                transitionTo(State.HALF_OPEN);
+            }
+            if (state == State.CLOSED) {
+                return Optional.of(new Permit(generation, false));
+            }
+            if (state == State.HALF_OPEN && trialsIssued < halfOpenTrialCalls) {
+                trialsIssued++;
+                return Optional.of(new Permit(generation, true));
+            }
+            rejections.increment();
+            return Optional.empty();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public State getState() {
+        lock.lock();
+        try {
+            return state;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getRejections() {
+        return rejections.sum();
+    }
+
+    private void onSuccess(Permit permit) {
+        lock.lock();
+        try {
+            if (permit.generation != generation) {
+                return;
+            }
+            if (state == State.CLOSED) {
+                record(false);
+            } else if (state == State.HALF_OPEN && permit.trial && ++trialsSucceeded >= halfOpenTrialCalls) {
+                transitionTo(State.CLOSED);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onFailure(Permit permit) {
+        lock.lock();
+        try {
+            if (permit.generation != generation) {
+                return;
+            }
+            if (state == State.CLOSED) {
+                record(true);
+                if (windowCount >= minimumCalls && (double) windowFailures / windowCount >= failureRateThreshold) {
+                    log.warn("[NagerCircuit] 일시 장애 비율 초과 - failures={}/{}", windowFailures, windowCount);
+                    transitionTo(State.OPEN);
+                }
+            } else if (state == State.HALF_OPEN && permit.trial) {
+                transitionTo(State.OPEN);
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void onIgnored(Permit permit) {
+        lock.lock();
+        try {
+            if (permit.generation == generation && state == State.HALF_OPEN && permit.trial) {
+                trialsIssued--;
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void record(boolean failure) {
+        if (windowCount == window.length) {
+            if (window[windowIndex]) {
+                windowFailures--;
+            }
+        } else {
+            windowCount++;
+        }
+        window[windowIndex] = failure;
+        if (failure) {
+            windowFailures++;
+        }
+        windowIndex = (windowIndex + 1) % window.length;
+    }
+
+    private void transitionTo(State next) {
+        log.info("[NagerCircuit] 상태 변경 - {} -> {}", state, next);
+        state = next;
+        generation++;
+        switch (next) {
+            case OPEN -> openedAt = System.nanoTime();
+            case HALF_OPEN -> {
+                trialsIssued = 0;
+                trialsSucceeded = 0;
+            }
+            case CLOSED -> {
+                windowIndex = 0;
+                windowCount = 0;
+                windowFailures = 0;
+            }
+        }
+    }
+
+    // 허용된 호출 한 건, 허용된 세대와 시험 호출 여부를 기억해 결과를 알맞은 상태에만 기록한다.
+    public final class Permit {
+
+        private final long generation;
+        private final boolean trial;
+
+        private Permit(long generation, boolean trial) {
+            this.generation = generation;
+            this.trial = trial;
+        }
+
+        // Nager 가 응답한 호출 ( 4xx 처럼 다시 시도해도 같은 실패 포함 )
+        public void onSuccess() {
+            NagerCircuitBreaker.this.onSuccess(this);
+        }
+
+        // 타임아웃, 5xx, 429 같은 일시 장애
+        public void onFailure() {
+            NagerCircuitBreaker.this.onFailure(this);
+        }
+
+        // 취소처럼 Nager 상태와 무관하게 끝난 호출, 현재 세대의 시험 호출이었다면 자리를 돌려준다.
+        public void onIgnored() {
+            NagerCircuitBreaker.this.onIgnored(this);
+        }
+    }
+
+}
@@ -1,14 +1,36 @@
 package com.company.holiday.holiday_service.clients.nager;
 
 import com.company.holiday.holiday_service.clients.nager.dto.NagerAvailableCountryResponse;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerCacheValidators;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerConditionalResult;
 import com.company.holiday.holiday_service.clients.nager.dto.NagerPublicHolidayResponse;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerPublicHolidaysResult;
 
 import java.util.List;
+import java.util.stream.Collector;
+import java.util.stream.Collectors;
 
 public interface NagerClient {
 
     List<NagerAvailableCountryResponse> getAvailableCountries();
 
-    List<NagerPublicHolidayResponse> getPublicHolidays(int year, String countryCode);
+    // validators 가 있으면 조건부 요청을 보내고, 304 면 notModified 결과를 리턴한다.
+    // 응답 본문의 공휴일은 배열로 모으지 않고 읽는 즉시 하나씩 collector 로 흘려보낸다.
+    // 재시도 등으로 여러 번 호출되면 호출마다 collector 의 새 컨테이너로 다시 모은다.
+    <R> NagerConditionalResult<R> collectPublicHolidaysIfModified(int year, String countryCode, NagerCacheValidators validators,
+                                                                  Collector<NagerPublicHolidayResponse, ?, R> collector);
+
+    default NagerPublicHolidaysResult getPublicHolidaysIfModified(int year, String countryCode, NagerCacheValidators validators) {
+        NagerConditionalResult<List<NagerPublicHolidayResponse>> result =
+                collectPublicHolidaysIfModified(year, countryCode, validators, Collectors.toList());
+        if (result.notModified()) {
+            return NagerPublicHolidaysResult.notModified(result.validators());
+        }
+        return NagerPublicHolidaysResult.modified(result.body(), result.validators());
+    }
+
+    default List<NagerPublicHolidayResponse> getPublicHolidays(int year, String countryCode) {
+        return getPublicHolidaysIfModified(year, countryCode, NagerCacheValidators.none()).holidays();
+    }
 
 }
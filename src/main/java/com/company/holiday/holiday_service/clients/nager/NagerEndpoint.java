@@ -0,0 +1,134 @@
+package com.company.holiday.holiday_service.clients.nager;
+
+import com.company.holiday.holiday_service.global.config.NagerRoutingProperties;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.concurrent.atomic.LongAdder;
+
+// Nager 엔드포인트 하나와 그 통계
+// - 응답 시간·일시 장애 비율을 EWMA 로 추적하고, 진행 중인 요청 수와 함께 점수를 매긴다. ( 낮을수록 우선 )
+// - 일시 장애가 연달아 나면 ejectDuration 동안 후보에서 제외한다.
+@Slf4j
+public class NagerEndpoint {
+
+    // 오류율이 1 에 가까워져도 점수가 무한대로 가지 않도록 하는 하한
+    private static final double MIN_SUCCESS_RATE = 0.05;
+
+    private final String baseUrl;
+    private final NagerClient client;
+
+    private final double ewmaWeight;
+    private final int ejectAfterFailures;
+    private final long ejectDurationNanos;
+
+    // 아래 통계는 this 로 보호한다.
+    private boolean sampled;
+    private double latencyNanos;
+    private double errorRate;
+    private int inFlight;
+    private int consecutiveFailures;
+    private long ejectedUntil;
+    private boolean ejected;
+
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder failures = new LongAdder();
+
+    public NagerEndpoint(String baseUrl, NagerClient client, NagerRoutingProperties properties) {
+        this.baseUrl = baseUrl;
+        this.client = client;
+        this.ewmaWeight = properties.ewmaWeight();
+        this.ejectAfterFailures = properties.ejectAfterFailures();
+        this.ejectDurationNanos = properties.ejectDuration().toNanos();
+    }
+
+    public String getBaseUrl() {
+        return baseUrl;
+    }
+
+    NagerClient client() {
+        return client;
+    }
+
+    synchronized void onStart() {
+        inFlight++;
+        requests.increment();
+    }
+
+    // Nager 가 응답한 호출 ( 4xx 처럼 다시 보내도 같은 실패 포함 )
+    synchronized void onSuccess(long elapsedNanos) {
+        inFlight--;
+        consecutiveFailures = 0;
+        ejected = false;
+        recordLatency(elapsedNanos);
+        errorRate = (1 - ewmaWeight) * errorRate;
+    }
+
+    // 타임아웃, 5xx, 429 같은 일시 장애
+    synchronized void onFailure(long elapsedNanos) {
+        inFlight--;
+        failures.increment();
+        recordLatency(elapsedNanos);
+        errorRate = (1 - ewmaWeight) * errorRate + ewmaWeight;
+        if (++consecutiveFailures >= ejectAfterFailures && !isEjected(System.nanoTime())) {
+            log.warn("[NagerRouting] 엔드포인트 제외 - baseUrl={}, consecutiveFailures={}", baseUrl, consecutiveFailures);
+            ejected = true;
+            ejectedUntil = System.nanoTime() + ejectDurationNanos;
+        }
+    }
+
+    // 취소처럼 엔드포인트 상태와 무관하게 끝난 호출
+    synchronized void onIgnored() {
+        inFlight--;
+    }
+
+    // 제외 시간이 지나면 다시 후보가 된다. 이때 한 번 더 실패하면 곧바로 다시 제외된다.
+    synchronized boolean isEjected(long now) {
+        return ejected && now - ejectedUntil < 0;
+    }
+
+    synchronized long getEjectedUntil() {
+        return ejectedUntil;
+    }
+
+    // 아직 호출한 적 없는 엔드포인트는 0 점이라 먼저 시도된다.
+    synchronized double score() {
+        if (!sampled) {
+            return 0.0;
+        }
+        return latencyNanos * (inFlight + 1) / Math.max(MIN_SUCCESS_RATE, 1.0 - errorRate);
+    }
+
+    public synchronized double getLatencyMillis() {
+        return latencyNanos / 1_000_000.0;
+    }
+
+    public synchronized double getErrorRate() {
+        return errorRate;
+    }
+
+    public synchronized int getInFlight() {
+        return inFlight;
+    }
+
+    public boolean isEjected() {
+        return isEjected(System.nanoTime());
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    private void recordLatency(long elapsedNanos) {
+        if (!sampled) {
+            latencyNanos = elapsedNanos;
+            sampled = true;
+            return;
+        }
+        latencyNanos = (1 - ewmaWeight) * latencyNanos + ewmaWeight * elapsedNanos;
+    }
+
+}
@@ -0,0 +1,126 @@
+package com.company.holiday.holiday_service.clients.nager;
+
+import com.company.holiday.holiday_service.global.config.NagerHedgingProperties;
+
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+// 헤징 시점과 추가 요청 예산을 정한다.
+// - 대기 시간 : 최근 windowSize 개 응답 시간의 percentile 백분위 ( minDelay 이상 )
+// - 예산     : 원래 요청 한 건마다 maxExtraLoad 만큼 쌓이고, 헤징 한 번에 1 씩 쓴다. 예산이 없으면 헤징하지 않는다.
+public class NagerHedgingPolicy {
+
+    // 한동안 헤징이 없다가 한꺼번에 몰리지 않도록 쌓아 둘 수 있는 예산 상한
+    private static final double MAX_BUDGET = 10.0;
+
+    private final double percentile;
+    private final int minSamples;
+    private final long minDelayNanos;
+    private final double maxExtraLoad;
+
+    private final ReentrantLock lock = new ReentrantLock();
+
+    // 최근 응답 시간, 원형 버퍼
+    private final long[] latencies;
+    private int latencyIndex;
+    private int latencyCount;
+
+    private double budget;
+
+    private final LongAdder calls = new LongAdder();
+    private final LongAdder hedges = new LongAdder();
+    private final LongAdder hedgeWins = new LongAdder();
+    private final LongAdder budgetExhausted = new LongAdder();
+
+    public NagerHedgingPolicy(NagerHedgingProperties properties) {
+        this.percentile = properties.percentile();
+        this.minSamples = properties.minSamples();
+        this.minDelayNanos = properties.minDelay().toNanos();
+        this.maxExtraLoad = properties.maxExtraLoad();
+        this.latencies = new long[properties.windowSize()];
+    }
+
+    // 이번 요청에 헤징할 대기 시간, 응답 시간이 충분히 쌓이지 않았으면 empty ( 헤징하지 않음 )
+    public Optional<Long> onCall() {
+        calls.increment();
+        lock.lock();
+        try {
+            budget = Math.min(MAX_BUDGET, budget + maxExtraLoad);
+            if (latencyCount < minSamples) {
+                return Optional.empty();
+            }
+            return Optional.of(Math.max(minDelayNanos, percentileNanos()));
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public boolean tryAcquireHedge() {
+        lock.lock();
+        try {
+            if (budget < 1.0) {
+                budgetExhausted.increment();
+                return false;
+            }
+            budget -= 1.0;
+            hedges.increment();
+            return true;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void recordLatency(long nanos) {
+        lock.lock();
+        try {
+            latencies[latencyIndex] = nanos;
+            latencyIndex = (latencyIndex + 1) % latencies.length;
+            latencyCount = Math.min(latencyCount + 1, latencies.length);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void recordHedgeWin() {
+        hedgeWins.increment();
+    }
+
+    // 현재 헤징 대기 시간(ms), 응답 시간이 충분히 쌓이지 않았으면 0
+    public double getDelayMillis() {
+        lock.lock();
+        try {
+            if (latencyCount < minSamples) {
+                return 0.0;
+            }
+            return Math.max(minDelayNanos, percentileNanos()) / 1_000_000.0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getCalls() {
+        return calls.sum();
+    }
+
+    public long getHedges() {
+        return hedges.sum();
+    }
+
+    public long getHedgeWins() {
+        return hedgeWins.sum();
+    }
+
+    public long getBudgetExhausted() {
+        return budgetExhausted.sum();
+    }
+
+    private long percentileNanos() {
+        long[] sorted = Arrays.copyOf(latencies, latencyCount);
+        Arrays.sort(sorted);
+        int index = (int) Math.ceil(percentile * sorted.length) - 1;
+        return sorted[Math.max(0, index)];
+    }
+
+}
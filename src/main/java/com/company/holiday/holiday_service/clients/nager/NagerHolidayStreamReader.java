@@ -0,0 +1,52 @@
+package com.company.holiday.holiday_service.clients.nager;
+
+import com.company.holiday.holiday_service.clients.nager.dto.NagerPublicHolidayResponse;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.BiConsumer;
+import java.util.stream.Collector;
+
+// /PublicHolidays 응답 본문을 배열로 만들지 않고, 공휴일 객체를 하나 읽을 때마다 바로 collector 에 넘긴다.
+// HTTP 응답과 보관된 원본 응답이 같은 방식으로 읽히도록 공유한다.
+public class NagerHolidayStreamReader {
+
+    private final ObjectMapper objectMapper;
+    private final ObjectReader holidayReader;
+
+    public NagerHolidayStreamReader(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+        this.holidayReader = objectMapper.readerFor(NagerPublicHolidayResponse.class);
+    }
+
+    // 형식이 잘못된 본문은 JsonProcessingException, 읽기 실패는 IOException 으로 구분된다.
+    public <A, R> R read(InputStream body, Collector<NagerPublicHolidayResponse, A, R> collector) throws IOException {
+        A container = collector.supplier().get();
+        BiConsumer<A, NagerPublicHolidayResponse> accumulator = collector.accumulator();
+
+        try (JsonParser parser = objectMapper.createParser(body)) {
+            JsonToken first = parser.nextToken();
+            // 본문이 비어 있으면 공휴일이 없는 것으로 본다.
+            if (first != null) {
+                if (first != JsonToken.START_ARRAY) {
+                    throw new JsonParseException(parser, "Nager API 공휴일 응답이 배열이 아닙니다. token=" + first);
+                }
+                JsonToken token;
+                while ((token = parser.nextToken()) == JsonToken.START_OBJECT) {
+                    accumulator.accept(container, holidayReader.readValue(parser));
+                }
+                // 객체가 아닌 원소나 잘린 본문을 짧은 목록으로 받아들이면, 그 단위의 공휴일 일부가 지워진다.
+                if (token != JsonToken.END_ARRAY) {
+                    throw new JsonParseException(parser, "Nager API 공휴일 응답 배열이 올바르게 끝나지 않았습니다. token=" + token);
+                }
+            }
+        }
+        return collector.finisher().apply(container);
+    }
+
+}
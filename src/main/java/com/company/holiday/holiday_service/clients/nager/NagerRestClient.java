@@ -1,59 +1,163 @@
 package com.company.holiday.holiday_service.clients.nager;
 
+import com.company.holiday.holiday_service.clients.nager.archive.NagerPayloadArchive;
 import com.company.holiday.holiday_service.clients.nager.dto.NagerAvailableCountryResponse;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerCacheValidators;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerConditionalResult;
 import com.company.holiday.holiday_service.clients.nager.dto.NagerPublicHolidayResponse;
 import com.company.holiday.holiday_service.global.error.ErrorCode;
 import com.company.holiday.holiday_service.global.error.exception.ExternalApiException;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.extern.slf4j.Slf4j;
-import org.springframework.beans.factory.annotation.Qualifier;
-import org.springframework.stereotype.Component;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.HttpStatusCode;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.client.ClientHttpResponse;
+import org.springframework.lang.Nullable;
+import org.springframework.web.client.ResourceAccessException;
 import org.springframework.web.client.RestClient;
 import org.springframework.web.client.RestClientException;
+import org.springframework.web.client.RestClientResponseException;
 
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.util.Arrays;
 import java.util.List;
+import java.util.stream.Collector;
 
+// 엔드포인트 하나에 대한 HTTP 호출, 엔드포인트마다 하나씩 만들어 RoutingNagerClient 가 고른다. ( NagerClientConfig 참고 )
 @Slf4j
-@Component
 public class NagerRestClient implements NagerClient {
 
     private static final String AVAILABLE_COUNTRIES_PATH = "/AvailableCountries";
     private static final String PUBLIC_HOLIDAYS_PATH = "/PublicHolidays/{year}/{countryCode}";
 
     private final RestClient nagerRestClient;
+    private final ObjectMapper objectMapper;
+    private final NagerHolidayStreamReader holidayStreamReader;
 
-    public NagerRestClient(@Qualifier("nagerHttpClient") RestClient nagerRestClient) {
+    // nager.archive.enabled 일 때만 주어진다.
+    @Nullable
+    private final NagerPayloadArchive archive;
+
+    public NagerRestClient(RestClient nagerRestClient, ObjectMapper objectMapper, @Nullable NagerPayloadArchive archive) {
         this.nagerRestClient = nagerRestClient;
+        this.objectMapper = objectMapper;
+        this.holidayStreamReader = new NagerHolidayStreamReader(objectMapper);
+        this.archive = archive;
     }
 
     @Override
     public List<NagerAvailableCountryResponse> getAvailableCountries() {
         try {
-            NagerAvailableCountryResponse[] body = nagerRestClient.get()
-                    .uri(AVAILABLE_COUNTRIES_PATH)
-                    .retrieve()
-                    .body(NagerAvailableCountryResponse[].class);
+            NagerAvailableCountryResponse[] body = archive == null
+                    ? nagerRestClient.get()
+                            .uri(AVAILABLE_COUNTRIES_PATH)
+                            .retrieve()
+                            .body(NagerAvailableCountryResponse[].class)
+                    : fetchAndArchiveAvailableCountries();
 
             return body == null ? List.of() : Arrays.asList(body);
         } catch (RestClientException e) {
             log.warn("Nager API 가용 국가 조회 실패: {}", e.getMessage(), e);
-            throw new ExternalApiException(ErrorCode.INTERNAL_SERVER_ERROR, "Nager API 가용 국가 조회 중 에러 발생", e);
+            throw new ExternalApiException(ErrorCode.INTERNAL_SERVER_ERROR, "Nager API 가용 국가 조회 중 에러 발생", e, isTransient(e));
         }
     }
 
     @Override
-    public List<NagerPublicHolidayResponse> getPublicHolidays(int year, String countryCode) {
+    public <R> NagerConditionalResult<R> collectPublicHolidaysIfModified(int year, String countryCode, NagerCacheValidators validators,
+                                                                         Collector<NagerPublicHolidayResponse, ?, R> collector) {
         try {
-            NagerPublicHolidayResponse[] body = nagerRestClient.get()
+            return nagerRestClient.get()
                     .uri(PUBLIC_HOLIDAYS_PATH, year, countryCode)
-                    .retrieve()
-                    .body(NagerPublicHolidayResponse[].class);
-
-            return body == null ? List.of() : Arrays.asList(body);
+                    .headers(headers -> applyValidators(headers, validators))
+                    .exchange((request, response) -> {
+                        // 304 는 본문이 없으므로 기존 검증자를 그대로 유지한다.
+                        if (response.getStatusCode().isSameCodeAs(HttpStatus.NOT_MODIFIED)) {
+                            return NagerConditionalResult.notModified(validators);
+                        }
+                        if (response.getStatusCode().isError()) {
+                            throw new RestClientResponseException(
+                                    "Nager API 오류 응답", response.getStatusCode(), response.getStatusText(), response.getHeaders(), null, null
+                            );
+                        }
+                        return NagerConditionalResult.modified(
+                                readHolidays(NagerPayloadArchive.publicHolidaysKey(year, countryCode), response, collector),
+                                extractValidators(response.getHeaders())
+                        );
+                    });
         } catch (RestClientException e) {
             log.warn("Nager API 공휴일 조회 실패. countryCode={}, year={}, reason={}", countryCode, year, e.getMessage(), e);
-            throw new ExternalApiException(ErrorCode.INTERNAL_SERVER_ERROR, "Nager API 공휴일 조회 중 에러 발생", e);
+            throw new ExternalApiException(ErrorCode.INTERNAL_SERVER_ERROR, "Nager API 공휴일 조회 중 에러 발생", e, isTransient(e));
+        }
+    }
+
+    private <R> R readHolidays(String key, ClientHttpResponse response, Collector<NagerPublicHolidayResponse, ?, R> collector)
+            throws IOException {
+        try {
+            if (archive == null) {
+                return holidayStreamReader.read(response.getBody(), collector);
+            }
+            // 보관소가 켜져 있으면 원본 본문을 읽어 둔 뒤, 끝까지 읽힌 본문만 보관한다.
+            // 형식이 잘못된 응답이 마지막으로 받은 정상 본문을 덮어쓰지 않도록 한다.
+            byte[] payload = response.getBody().readAllBytes();
+            R result = holidayStreamReader.read(new ByteArrayInputStream(payload), collector);
+            archive.store(key, payload, extractValidators(response.getHeaders()));
+            return result;
+        } catch (JsonProcessingException e) {
+            // 형식이 잘못된 응답은 다시 받아도 같으므로 재시도 대상(I/O 실패)과 구분한다.
+            throw new RestClientException("Nager API 공휴일 응답 파싱 실패", e);
+        }
+    }
+
+    private NagerAvailableCountryResponse[] fetchAndArchiveAvailableCountries() {
+        ResponseEntity<byte[]> response = nagerRestClient.get()
+                .uri(AVAILABLE_COUNTRIES_PATH)
+                .retrieve()
+                .toEntity(byte[].class);
+        byte[] payload = response.getBody();
+        if (payload == null || payload.length == 0) {
+            return null;
         }
+
+        NagerAvailableCountryResponse[] body;
+        try {
+            body = objectMapper.readValue(payload, NagerAvailableCountryResponse[].class);
+        } catch (IOException e) {
+            throw new RestClientException("Nager API 가용 국가 응답 파싱 실패", e);
+        }
+        archive.store(NagerPayloadArchive.availableCountriesKey(), payload, extractValidators(response.getHeaders()));
+        return body;
+    }
+
+    // 연결 실패·타임아웃(I/O), 5xx, 429 는 일시 장애로 보고 재시도 대상으로 분류한다.
+    static boolean isTransient(RestClientException e) {
+        if (e instanceof ResourceAccessException) {
+            return true;
+        }
+        if (e instanceof RestClientResponseException responseException) {
+            HttpStatusCode status = responseException.getStatusCode();
+            return status.is5xxServerError() || status.isSameCodeAs(HttpStatus.TOO_MANY_REQUESTS);
+        }
+        return false;
+    }
+
+    private void applyValidators(HttpHeaders headers, NagerCacheValidators validators) {
+        if (validators.etag() != null) {
+            headers.setIfNoneMatch(validators.etag());
+        }
+        if (validators.lastModified() != null) {
+            headers.set(HttpHeaders.IF_MODIFIED_SINCE, validators.lastModified());
+        }
+    }
+
+    private NagerCacheValidators extractValidators(HttpHeaders headers) {
+        return new NagerCacheValidators(
+                headers.getETag(),
+                headers.getFirst(HttpHeaders.LAST_MODIFIED)
+        );
     }
 
 }
@@ -0,0 +1,79 @@
+package com.company.holiday.holiday_service.clients.nager;
+
+import com.company.holiday.holiday_service.clients.nager.dto.NagerAvailableCountryResponse;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerCacheValidators;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerConditionalResult;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerPublicHolidayResponse;
+import com.company.holiday.holiday_service.global.config.NagerRetryProperties;
+import com.company.holiday.holiday_service.global.error.exception.ExternalApiException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+// 일시 장애(타임아웃, 5xx, 429)로 실패한 Nager 호출을 지수 백오프 + jitter 로 제한된 횟수만큼 재시도한다.
+// 재시도할 수 없는 실패이거나 시도 횟수를 모두 쓰면 마지막 예외를 그대로 던진다.
+@Slf4j
+public class RetryingNagerClient implements NagerClient {
+
+    private final NagerClient delegate;
+    private final NagerRetryProperties retryProperties;
+
+    public RetryingNagerClient(NagerClient delegate, NagerRetryProperties retryProperties) {
+        this.delegate = delegate;
+        this.retryProperties = retryProperties;
+    }
+
+    @Override
+    public List<NagerAvailableCountryResponse> getAvailableCountries() {
+        return withRetry("가용 국가 조회", delegate::getAvailableCountries);
+    }
+
+    @Override
+    public <R> NagerConditionalResult<R> collectPublicHolidaysIfModified(int year, String countryCode, NagerCacheValidators validators,
+                                                                         Collector<NagerPublicHolidayResponse, ?, R> collector) {
+        return withRetry(countryCode + " " + year + "년 공휴일 조회",
+                () -> delegate.collectPublicHolidaysIfModified(year, countryCode, validators, collector));
+    }
+
+    private <T> T withRetry(String operation, Supplier<T> call) {
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return call.get();
+            } catch (ExternalApiException e) {
+                if (!e.isRetryable() || attempt >= retryProperties.maxAttempts()) {
+                    throw e;
+                }
+                Duration delay = backoff(attempt);
+                log.warn("[NagerRetry] {} 일시 장애 - {}ms 후 재시도 ({}/{}), reason={}",
+                        operation, delay.toMillis(), attempt + 1, retryProperties.maxAttempts(), e.getMessage());
+                sleep(delay, e);
+            }
+        }
+    }
+
+    // initialBackoff * multiplier^(attempt-1) 을 maxBackoff 로 자른 뒤, jitter 비율만큼 무작위로 줄인다.
+    // 같은 시점에 실패한 요청들이 같은 시점에 다시 몰리지 않도록 하기 위함
+    Duration backoff(int attempt) {
+        double exponential = retryProperties.initialBackoff().toMillis() * Math.pow(retryProperties.multiplier(), attempt - 1);
+        long capped = (long) Math.min(exponential, retryProperties.maxBackoff().toMillis());
+        long jitterRange = (long) (capped * retryProperties.jitter());
+        long reduction = jitterRange == 0 ? 0 : ThreadLocalRandom.current().nextLong(jitterRange + 1);
+        return Duration.ofMillis(capped - reduction);
+    }
+
+    // 대기 중 인터럽트되면 ( 종료, 작업 취소 ) 더 기다리지 않고 마지막 예외로 포기한다.
+    private void sleep(Duration delay, ExternalApiException lastFailure) {
+        try {
+            Thread.sleep(delay);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            lastFailure.addSuppressed(e);
+            throw lastFailure;
+        }
+    }
+
+}
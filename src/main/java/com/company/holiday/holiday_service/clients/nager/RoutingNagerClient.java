@@ -0,0 +1,95 @@
+package com.company.holiday.holiday_service.clients.nager;
+
+import com.company.holiday.holiday_service.clients.nager.dto.NagerAvailableCountryResponse;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerCacheValidators;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerConditionalResult;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerPublicHolidayResponse;
+import com.company.holiday.holiday_service.global.error.exception.ExternalApiException;
+import lombok.extern.slf4j.Slf4j;
+
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Function;
+import java.util.stream.Collector;
+
+// 요청마다 점수가 가장 낮은( 빠르고 오류가 적고 덜 붐비는 ) 엔드포인트로 보내고,
+// 일시 장애가 나면 같은 요청을 다음 엔드포인트로 넘긴다. ( 엔드포인트마다 최대 한 번 )
+// 제외된 엔드포인트는 다른 후보를 모두 시도한 뒤, 제외가 빨리 끝나는 순서로 시도한다.
+@Slf4j
+public class RoutingNagerClient implements NagerClient {
+
+    private final List<NagerEndpoint> endpoints;
+
+    public RoutingNagerClient(List<NagerEndpoint> endpoints) {
+        if (endpoints.isEmpty()) {
+            throw new IllegalArgumentException("Nager 엔드포인트가 하나 이상 있어야 합니다.");
+        }
+        this.endpoints = List.copyOf(endpoints);
+    }
+
+    public List<NagerEndpoint> getEndpoints() {
+        return endpoints;
+    }
+
+    @Override
+    public List<NagerAvailableCountryResponse> getAvailableCountries() {
+        return routed(NagerClient::getAvailableCountries);
+    }
+
+    @Override
+    public <R> NagerConditionalResult<R> collectPublicHolidaysIfModified(int year, String countryCode, NagerCacheValidators validators,
+                                                                         Collector<NagerPublicHolidayResponse, ?, R> collector) {
+        return routed(client -> client.collectPublicHolidaysIfModified(year, countryCode, validators, collector));
+    }
+
+    private <T> T routed(Function<NagerClient, T> call) {
+        ExternalApiException lastFailure = null;
+        for (NagerEndpoint endpoint : rank()) {
+            long startedAt = System.nanoTime();
+            endpoint.onStart();
+            try {
+                T result = call.apply(endpoint.client());
+                endpoint.onSuccess(System.nanoTime() - startedAt);
+                return result;
+            } catch (ExternalApiException e) {
+                if (Thread.currentThread().isInterrupted()) {
+                    endpoint.onIgnored();
+                    throw e;
+                }
+                if (!e.isRetryable()) {
+                    endpoint.onSuccess(System.nanoTime() - startedAt);
+                    throw e;
+                }
+                endpoint.onFailure(System.nanoTime() - startedAt);
+                lastFailure = e;
+                log.warn("[NagerRouting] 엔드포인트 호출 실패, 다음 엔드포인트로 전환 - baseUrl={}, reason={}", endpoint.getBaseUrl(), e.getMessage());
+            } catch (RuntimeException e) {
+                endpoint.onIgnored();
+                throw e;
+            }
+        }
+        throw lastFailure;
+    }
+
+    List<NagerEndpoint> rank() {
+        if (endpoints.size() == 1) {
+            return endpoints;
+        }
+        // 정렬 도중 통계가 바뀌지 않도록 점수를 먼저 찍어 둔다.
+        long now = System.nanoTime();
+        return endpoints.stream()
+                .map(endpoint -> new Candidate(
+                        endpoint,
+                        endpoint.isEjected(now) ? endpoint.getEjectedUntil() - now : 0L,
+                        endpoint.score()
+                ))
+                .sorted(Comparator.comparingLong(Candidate::ejectedRemaining)
+                        .thenComparingDouble(Candidate::score))
+                .map(Candidate::endpoint)
+                .toList();
+    }
+
+    private record Candidate(NagerEndpoint endpoint, long ejectedRemaining, double score) {
+    }
+
+}
@@ -0,0 +1,65 @@
+package com.company.holiday.holiday_service.clients.nager;
+
+import com.company.holiday.holiday_service.clients.nager.dto.NagerAvailableCountryResponse;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerCacheValidators;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerConditionalResult;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerPublicHolidayResponse;
+import com.company.holiday.holiday_service.global.error.ErrorCode;
+import com.company.holiday.holiday_service.global.error.exception.ExternalApiException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import java.util.stream.Collector;
+
+// Nager 호출 하나에 전체 제한 시간을 건다.
+// 연결·읽기 타임아웃은 소켓 단위라, 본문이 조금씩 계속 들어오는 느린 응답은 막지 못하기 때문
+// 제한 시간을 넘기면 호출 스레드를 인터럽트해 소켓을 닫고, 재시도 가능한 실패로 던진다.
+public class TimeLimitedNagerClient implements NagerClient {
+
+    private final NagerClient delegate;
+    private final ExecutorService executor;
+    private final Duration totalTimeout;
+
+    public TimeLimitedNagerClient(NagerClient delegate, ExecutorService executor, Duration totalTimeout) {
+        this.delegate = delegate;
+        this.executor = executor;
+        this.totalTimeout = totalTimeout;
+    }
+
+    @Override
+    public List<NagerAvailableCountryResponse> getAvailableCountries() {
+        return withDeadline(delegate::getAvailableCountries);
+    }
+
+    @Override
+    public <R> NagerConditionalResult<R> collectPublicHolidaysIfModified(int year, String countryCode, NagerCacheValidators validators,
+                                                                         Collector<NagerPublicHolidayResponse, ?, R> collector) {
+        return withDeadline(() -> delegate.collectPublicHolidaysIfModified(year, countryCode, validators, collector));
+    }
+
+    private <T> T withDeadline(Supplier<T> call) {
+        Future<T> future = executor.submit(call::get);
+        try {
+            return future.get(totalTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            throw new ExternalApiException(ErrorCode.INTERNAL_SERVER_ERROR, "Nager API 응답 시간 초과. totalTimeout=" + totalTimeout, e, true);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new ExternalApiException(ErrorCode.INTERNAL_SERVER_ERROR, "Nager API 응답 대기 중 인터럽트", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new ExternalApiException(ErrorCode.INTERNAL_SERVER_ERROR, "Nager API 호출 중 에러 발생", e.getCause());
+        }
+    }
+
+}
@@ -0,0 +1,12 @@
+package com.company.holiday.holiday_service.clients.nager.archive;
+
+import java.time.Instant;
+
+// 요청 경로별 가장 최근에 받은 응답, 본문은 sha256 으로 objects 아래에서 찾는다.
+public record NagerArchiveEntry(
+        String sha256,
+        Instant fetchedAt,
+        String etag,
+        String lastModified
+) {
+}
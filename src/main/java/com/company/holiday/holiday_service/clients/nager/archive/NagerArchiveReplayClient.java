@@ -0,0 +1,79 @@
+package com.company.holiday.holiday_service.clients.nager.archive;
+
+import com.company.holiday.holiday_service.clients.nager.NagerClient;
+import com.company.holiday.holiday_service.clients.nager.NagerHolidayStreamReader;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerAvailableCountryResponse;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerCacheValidators;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerConditionalResult;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerPublicHolidayResponse;
+import com.company.holiday.holiday_service.global.error.ErrorCode;
+import com.company.holiday.holiday_service.global.error.exception.ExternalApiException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collector;
+
+// 네트워크 없이 보관소의 원본 응답만으로 응답하는 NagerClient
+// 기존 동기화 흐름( HolidayCommandMapper → HolidaySyncService )을 그대로 거치므로, 매핑·스키마 변경 후 재적재에 사용한다.
+// 매핑이 바뀌었어도 다시 반영되도록 조건부 요청은 무시하고 항상 본문을 돌려준다. ( 같은 내용은 내용 지문 비교로 생략됨 )
+@Slf4j
+public class NagerArchiveReplayClient implements NagerClient {
+
+    private final NagerPayloadArchive archive;
+    private final ObjectMapper objectMapper;
+    private final NagerHolidayStreamReader holidayStreamReader;
+
+    public NagerArchiveReplayClient(NagerPayloadArchive archive, ObjectMapper objectMapper) {
+        this.archive = archive;
+        this.objectMapper = objectMapper;
+        this.holidayStreamReader = new NagerHolidayStreamReader(objectMapper);
+    }
+
+    @Override
+    public List<NagerAvailableCountryResponse> getAvailableCountries() {
+        String key = NagerPayloadArchive.availableCountriesKey();
+        try {
+            NagerArchiveEntry entry = findEntry(key);
+            try (InputStream in = archive.open(entry)) {
+                return Arrays.asList(objectMapper.readValue(in, NagerAvailableCountryResponse[].class));
+            }
+        } catch (IOException e) {
+            throw replayFailure(key, e);
+        }
+    }
+
+    @Override
+    public <R> NagerConditionalResult<R> collectPublicHolidaysIfModified(int year, String countryCode, NagerCacheValidators validators,
+                                                                         Collector<NagerPublicHolidayResponse, ?, R> collector) {
+        String key = NagerPayloadArchive.publicHolidaysKey(year, countryCode);
+        try {
+            NagerArchiveEntry entry = findEntry(key);
+            try (InputStream in = archive.open(entry)) {
+                return NagerConditionalResult.modified(
+                        holidayStreamReader.read(in, collector),
+                        new NagerCacheValidators(entry.etag(), entry.lastModified())
+                );
+            }
+        } catch (IOException e) {
+            throw replayFailure(key, e);
+        }
+    }
+
+    // 보관되지 않은 요청은 다시 시도해도 같으므로 재시도 대상이 아니다.
+    private NagerArchiveEntry findEntry(String key) throws IOException {
+        return archive.find(key)
+                .orElseThrow(() -> new ExternalApiException(
+                        ErrorCode.INTERNAL_SERVER_ERROR, "보관된 Nager 응답이 없습니다. key=" + key, null
+                ));
+    }
+
+    private ExternalApiException replayFailure(String key, IOException e) {
+        log.warn("[NagerArchive] 보관된 응답 읽기 실패 - key={}, reason={}", key, e.getMessage(), e);
+        return new ExternalApiException(ErrorCode.INTERNAL_SERVER_ERROR, "보관된 Nager 응답 읽기 실패. key=" + key, e);
+    }
+
+}
@@ -0,0 +1,120 @@
+package com.company.holiday.holiday_service.clients.nager.archive;
+
+import com.company.holiday.holiday_service.clients.nager.dto.NagerCacheValidators;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.zip.GZIPInputStream;
+import java.util.zip.GZIPOutputStream;
+
+// Nager 원본 응답 본문 보관소
+// - objects/{sha256 앞 2자리}/{sha256}.json.gz : 본문 ( 내용 주소 기반이라 같은 본문은 한 번만 저장 )
+// - refs/{요청 경로}.json                      : 경로별 최근 응답의 sha256, 받은 시각, 캐시 검증자
+// 파일은 임시 파일에 쓴 뒤 옮기므로, 쓰는 도중 죽어도 반쯤 쓰인 본문이나 참조가 남지 않는다.
+@Slf4j
+public class NagerPayloadArchive {
+
+    static final String AVAILABLE_COUNTRIES = "AvailableCountries";
+
+    private final Path objectsDir;
+    private final Path refsDir;
+    private final ObjectMapper objectMapper;
+
+    public NagerPayloadArchive(Path dir, ObjectMapper objectMapper) {
+        this.objectsDir = dir.resolve("objects");
+        this.refsDir = dir.resolve("refs");
+        this.objectMapper = objectMapper;
+    }
+
+    public static String availableCountriesKey() {
+        return AVAILABLE_COUNTRIES;
+    }
+
+    public static String publicHolidaysKey(int year, String countryCode) {
+        return "PublicHolidays/" + year + "/" + countryCode;
+    }
+
+    // 보관에 실패해도 동기화는 계속해야 하므로 예외를 던지지 않고 로그만 남긴다.
+    public void store(String key, byte[] payload, NagerCacheValidators validators) {
+        try {
+            String sha256 = sha256(payload);
+            Path object = objectPath(sha256);
+            if (!Files.exists(object)) {
+                writeAtomically(object, out -> {
+                    try (OutputStream gzip = new GZIPOutputStream(out)) {
+                        gzip.write(payload);
+                    }
+                });
+            }
+
+            NagerArchiveEntry entry = new NagerArchiveEntry(sha256, Instant.now(), validators.etag(), validators.lastModified());
+            writeAtomically(refPath(key), out -> objectMapper.writeValue(out, entry));
+        } catch (IOException e) {
+            log.warn("[NagerArchive] 응답 보관 실패 - key={}, reason={}", key, e.getMessage(), e);
+        }
+    }
+
+    public Optional<NagerArchiveEntry> find(String key) throws IOException {
+        Path ref = refPath(key);
+        if (!Files.isRegularFile(ref)) {
+            return Optional.empty();
+        }
+        return Optional.of(objectMapper.readValue(ref.toFile(), NagerArchiveEntry.class));
+    }
+
+    // 압축을 풀어 원본 본문 그대로 읽는다.
+    public InputStream open(NagerArchiveEntry entry) throws IOException {
+        return new GZIPInputStream(Files.newInputStream(objectPath(entry.sha256())));
+    }
+
+    private Path objectPath(String sha256) {
+        return objectsDir.resolve(sha256.substring(0, 2)).resolve(sha256 + ".json.gz");
+    }
+
+    private Path refPath(String key) {
+        return refsDir.resolve(key + ".json");
+    }
+
+    private void writeAtomically(Path target, PayloadWriter writer) throws IOException {
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), target.getFileName().toString(), ".tmp");
+        try {
+            try (OutputStream out = Files.newOutputStream(temp)) {
+                writer.write(out);
+            }
+            try {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+            } catch (AtomicMoveNotSupportedException e) {
+                Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+            }
+        } finally {
+            Files.deleteIfExists(temp);
+        }
+    }
+
+    private static String sha256(byte[] payload) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(payload));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
+    @FunctionalInterface
+    private interface PayloadWriter {
+        void write(OutputStream out) throws IOException;
+    }
+
+}
@@ -0,0 +1,16 @@
+package com.company.holiday.holiday_service.clients.nager.dto;
+
+// HTTP 캐시 검증자, 조건부 요청(If-None-Match / If-Modified-Since)에 사용
+public record NagerCacheValidators(String etag, String lastModified) {
+
+    private static final NagerCacheValidators NONE = new NagerCacheValidators(null, null);
+
+    public static NagerCacheValidators none() {
+        return NONE;
+    }
+
+    public boolean isEmpty() {
+        return etag == null && lastModified == null;
+    }
+
+}
@@ -0,0 +1,19 @@
+package com.company.holiday.holiday_service.clients.nager.dto;
+
+// 조건부 조회 결과, body 는 응답 본문을 호출자가 넘긴 collector 로 모은 값
+// - notModified 인 경우 body 는 null 이고, 호출자는 기존 데이터를 그대로 사용한다.
+public record NagerConditionalResult<T>(
+        boolean notModified,
+        T body,
+        NagerCacheValidators validators
+) {
+
+    public static <T> NagerConditionalResult<T> notModified(NagerCacheValidators validators) {
+        return new NagerConditionalResult<>(true, null, validators);
+    }
+
+    public static <T> NagerConditionalResult<T> modified(T body, NagerCacheValidators validators) {
+        return new NagerConditionalResult<>(false, body, validators);
+    }
+
+}
@@ -0,0 +1,21 @@
+package com.company.holiday.holiday_service.clients.nager.dto;
+
+import java.util.List;
+
+// 조건부 공휴일 조회 결과
+// - notModified 인 경우 holidays 는 비어 있고, 호출자는 기존 데이터를 그대로 사용한다.
+public record NagerPublicHolidaysResult(
+        boolean notModified,
+        List<NagerPublicHolidayResponse> holidays,
+        NagerCacheValidators validators
+) {
+
+    public static NagerPublicHolidaysResult notModified(NagerCacheValidators validators) {
+        return new NagerPublicHolidaysResult(true, List.of(), validators);
+    }
+
+    public static NagerPublicHolidaysResult modified(List<NagerPublicHolidayResponse> holidays, NagerCacheValidators validators) {
+        return new NagerPublicHolidaysResult(false, holidays, validators);
+    }
+
+}
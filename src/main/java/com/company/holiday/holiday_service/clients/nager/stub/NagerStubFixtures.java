@@ -0,0 +1,143 @@
+package com.company.holiday.holiday_service.clients.nager.stub;
+
+import com.company.holiday.holiday_service.clients.nager.dto.NagerAvailableCountryResponse;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerPublicHolidayResponse;
+import com.company.holiday.holiday_service.global.config.NagerStubProperties;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 대역 서버가 돌려줄 응답 본문
+// fixturesDir 가 있으면 녹화된 파일을, 없으면 설정한 규모로 생성한 응답을 사용한다.
+// 같은 요청에는 항상 같은 본문과 ETag 를 돌려줘, 조건부 요청(304) 경로도 측정할 수 있다.
+class NagerStubFixtures {
+
+    private final ObjectMapper objectMapper;
+    private final Path fixturesDir;
+    private final int countries;
+    private final int holidaysPerYear;
+
+    private final Map<String, Optional<Fixture>> cache = new ConcurrentHashMap<>();
+
+    NagerStubFixtures(ObjectMapper objectMapper, NagerStubProperties properties) {
+        this.objectMapper = objectMapper;
+        this.fixturesDir = properties.fixturesDir() == null || properties.fixturesDir().isBlank()
+                ? null
+                : Path.of(properties.fixturesDir());
+        this.countries = properties.countries();
+        this.holidaysPerYear = properties.holidaysPerYear();
+    }
+
+    record Fixture(byte[] body, String etag) {
+    }
+
+    Optional<Fixture> availableCountries() {
+        return cache.computeIfAbsent("countries", key -> {
+            if (fixturesDir == null) {
+                return Optional.of(toFixture(generateCountries()));
+            }
+            return readFixture(fixturesDir.resolve("AvailableCountries.json"));
+        });
+    }
+
+    // 녹화된 응답에 없는 국가·연도는 실제 Nager 처럼 404 로 응답하도록 empty 를 리턴한다.
+    Optional<Fixture> publicHolidays(int year, String countryCode) {
+        return cache.computeIfAbsent(year + "/" + countryCode, key -> {
+            if (fixturesDir != null) {
+                return readFixture(fixturesDir.resolve("PublicHolidays").resolve(String.valueOf(year)).resolve(countryCode + ".json"));
+            }
+            if (!isGeneratedCountry(countryCode)) {
+                return Optional.empty();
+            }
+            return Optional.of(toFixture(generateHolidays(year, countryCode)));
+        });
+    }
+
+    private List<NagerAvailableCountryResponse> generateCountries() {
+        List<NagerAvailableCountryResponse> generated = new ArrayList<>();
+        for (int i = 0; i < countries; i++) {
+            String code = countryCode(i);
+            generated.add(new NagerAvailableCountryResponse(code, "Stub Country " + code));
+        }
+        return generated;
+    }
+
+    // 한 해에 고르게 흩어진 공휴일을 만든다.
+    private List<NagerPublicHolidayResponse> generateHolidays(int year, String countryCode) {
+        List<NagerPublicHolidayResponse> generated = new ArrayList<>();
+        int step = Math.max(1, 365 / holidaysPerYear);
+        for (int i = 0; i < holidaysPerYear; i++) {
+            LocalDate date = LocalDate.of(year, 1, 1).plusDays((long) i * step);
+            generated.add(new NagerPublicHolidayResponse(
+                    date,
+                    "공휴일 " + (i + 1),
+                    "Stub Holiday " + (i + 1),
+                    countryCode,
+                    false,
+                    true,
+                    null,
+                    null,
+                    List.of("Public")
+            ));
+        }
+        return generated;
+    }
+
+    // AA, AB, ... ZZ 순서의 두 글자 국가 코드
+    private String countryCode(int index) {
+        return "" + (char) ('A' + (index / 26) % 26) + (char) ('A' + index % 26);
+    }
+
+    private boolean isGeneratedCountry(String countryCode) {
+        if (countryCode.length() != 2) {
+            return false;
+        }
+        int index = (countryCode.charAt(0) - 'A') * 26 + (countryCode.charAt(1) - 'A');
+        return countryCode.chars().allMatch(c -> c >= 'A' && c <= 'Z') && index < countries;
+    }
+
+    private Optional<Fixture> readFixture(Path path) {
+        if (!Files.isRegularFile(path)) {
+            return Optional.empty();
+        }
+        try {
+            byte[] body = Files.readAllBytes(path);
+            return Optional.of(new Fixture(body, etag(body)));
+        } catch (IOException e) {
+            throw new UncheckedIOException("Nager 대역 서버 fixture 를 읽지 못했습니다. path=" + path, e);
+        }
+    }
+
+    private Fixture toFixture(Object value) {
+        try {
+            byte[] body = objectMapper.writeValueAsString(value).getBytes(StandardCharsets.UTF_8);
+            return new Fixture(body, etag(body));
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Nager 대역 서버 응답을 만들지 못했습니다.", e);
+        }
+    }
+
+    private String etag(byte[] body) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(body);
+            return "\"" + HexFormat.of().formatHex(digest, 0, 8) + "\"";
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 을 사용할 수 없습니다.", e);
+        }
+    }
+
+}
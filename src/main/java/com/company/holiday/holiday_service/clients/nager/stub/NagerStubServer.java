@@ -0,0 +1,177 @@
+package com.company.holiday.holiday_service.clients.nager.stub;
+
+import com.company.holiday.holiday_service.clients.nager.stub.NagerStubFixtures.Fixture;
+import com.company.holiday.holiday_service.global.config.NagerStubProperties;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import lombok.extern.slf4j.Slf4j;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+// Nager API 의 /AvailableCountries, /PublicHolidays/{year}/{countryCode} 를 흉내 내는 로컬 HTTP 서버
+// 지연 분포, 503 오류 비율, 동시 요청 초과 시 429, 본문을 천천히 나눠 보내는 응답을 설정으로 재현한다.
+@Slf4j
+public class NagerStubServer {
+
+    public static final String BASE_PATH = "/api/v3";
+
+    private static final String COUNTRIES_PATH = BASE_PATH + "/AvailableCountries";
+    private static final String HOLIDAYS_PATH = BASE_PATH + "/PublicHolidays/";
+    private static final int SLOW_BODY_CHUNKS = 4;
+
+    private final NagerStubProperties properties;
+    private final NagerStubFixtures fixtures;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder throttled = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+
+    private HttpServer server;
+    private ExecutorService executor;
+
+    public NagerStubServer(ObjectMapper objectMapper, NagerStubProperties properties) {
+        this.properties = properties;
+        this.fixtures = new NagerStubFixtures(objectMapper, properties);
+    }
+
+    public void start() {
+        try {
+            server = HttpServer.create(new InetSocketAddress("localhost", properties.port()), 0);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Nager 대역 서버를 시작하지 못했습니다. port=" + properties.port(), e);
+        }
+        executor = Executors.newVirtualThreadPerTaskExecutor();
+        server.setExecutor(executor);
+        server.createContext(BASE_PATH, this::handle);
+        server.start();
+        log.info("[NagerStub] 대역 서버 시작 - baseUrl={}, latency={}({}), errorRate={}, maxConcurrentRequests={}, slowBodyRate={}",
+                getBaseUrl(), properties.latencyDistribution(), properties.latency(), properties.errorRate(),
+                properties.maxConcurrentRequests(), properties.slowBodyRate());
+    }
+
+    public void stop() {
+        if (server == null) {
+            return;
+        }
+        server.stop(0);
+        executor.shutdownNow();
+        log.info("[NagerStub] 대역 서버 종료 - 요청={}, 429={}, 503={}", getRequests(), getThrottled(), getFailed());
+    }
+
+    public String getBaseUrl() {
+        return "http://localhost:" + server.getAddress().getPort() + BASE_PATH;
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    public long getThrottled() {
+        return throttled.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    private void handle(HttpExchange exchange) {
+        requests.increment();
+        int concurrent = inFlight.incrementAndGet();
+        try (exchange) {
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                exchange.sendResponseHeaders(405, -1);
+                return;
+            }
+            if (properties.maxConcurrentRequests() > 0 && concurrent > properties.maxConcurrentRequests()) {
+                throttled.increment();
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                exchange.sendResponseHeaders(429, -1);
+                return;
+            }
+
+            Thread.sleep(nextLatency());
+
+            if (ThreadLocalRandom.current().nextDouble() < properties.errorRate()) {
+                failed.increment();
+                exchange.sendResponseHeaders(503, -1);
+                return;
+            }
+
+            Optional<Fixture> fixture = resolve(exchange.getRequestURI().getPath());
+            if (fixture.isEmpty()) {
+                exchange.sendResponseHeaders(404, -1);
+                return;
+            }
+            respond(exchange, fixture.get());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (IOException e) {
+            // 클라이언트가 제한 시간 초과 등으로 연결을 먼저 끊은 경우
+            log.debug("[NagerStub] 응답 전송 중단 - path={}, reason={}", exchange.getRequestURI().getPath(), e.getMessage());
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private Optional<Fixture> resolve(String path) {
+        if (path.equals(COUNTRIES_PATH)) {
+            return fixtures.availableCountries();
+        }
+        if (path.startsWith(HOLIDAYS_PATH)) {
+            String[] segments = path.substring(HOLIDAYS_PATH.length()).split("/");
+            if (segments.length == 2 && segments[0].matches("\\d{4}")) {
+                return fixtures.publicHolidays(Integer.parseInt(segments[0]), segments[1].toUpperCase());
+            }
+        }
+        return Optional.empty();
+    }
+
+    private void respond(HttpExchange exchange, Fixture fixture) throws IOException, InterruptedException {
+        exchange.getResponseHeaders().set("ETag", fixture.etag());
+        if (fixture.etag().equals(exchange.getRequestHeaders().getFirst("If-None-Match"))) {
+            exchange.sendResponseHeaders(304, -1);
+            return;
+        }
+
+        exchange.getResponseHeaders().set("Content-Type", "application/json; charset=utf-8");
+        byte[] body = fixture.body();
+        if (ThreadLocalRandom.current().nextDouble() >= properties.slowBodyRate()) {
+            exchange.sendResponseHeaders(200, body.length);
+            exchange.getResponseBody().write(body);
+            return;
+        }
+
+        // 느린 응답: chunked 로 본문을 나눠 보내며 조각마다 기다린다.
+        exchange.sendResponseHeaders(200, 0);
+        OutputStream out = exchange.getResponseBody();
+        int chunkSize = Math.max(1, (body.length + SLOW_BODY_CHUNKS - 1) / SLOW_BODY_CHUNKS);
+        for (int offset = 0; offset < body.length; offset += chunkSize) {
+            out.write(Arrays.copyOfRange(body, offset, Math.min(body.length, offset + chunkSize)));
+            out.flush();
+            Thread.sleep(properties.slowBodyChunkDelay());
+        }
+    }
+
+    private Duration nextLatency() {
+        long base = properties.latency().toNanos();
+        return switch (properties.latencyDistribution()) {
+            case FIXED -> properties.latency();
+            case UNIFORM -> Duration.ofNanos(base + (long) (ThreadLocalRandom.current().nextDouble() * properties.latencySpread().toNanos()));
+            case EXPONENTIAL -> Duration.ofNanos((long) (-Math.log(1.0 - ThreadLocalRandom.current().nextDouble()) * base));
+        };
+    }
+
+}
@@ -0,0 +1,14 @@
+package com.company.holiday.holiday_service.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "holiday.sync.country")
+public record CountrySyncProperties(
+
+        // true 면 Nager 가용 국가 목록에서 사라진 국가를 available=false 로 표시한다. ( 공휴일 데이터는 유지 )
+        @DefaultValue("false")
+        boolean flagMissing
+
+) {
+}
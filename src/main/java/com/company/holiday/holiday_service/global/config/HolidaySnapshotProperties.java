@@ -0,0 +1,25 @@
+package com.company.holiday.holiday_service.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "holiday.snapshot")
+public record HolidaySnapshotProperties(
+
+        // 스냅샷 파일 경로 ( gzip 압축 )
+        @DefaultValue("./data/holiday-snapshot.json.gz")
+        String path,
+
+        // 시작 시 DB 가 비어 있고 스냅샷 파일이 있으면 불러온다
+        @DefaultValue("true")
+        boolean importOnStartup
+
+) {
+
+    public HolidaySnapshotProperties {
+        if (path == null || path.isBlank()) {
+            throw new IllegalArgumentException("holiday.snapshot.path 는 비어 있을 수 없습니다.");
+        }
+    }
+
+}
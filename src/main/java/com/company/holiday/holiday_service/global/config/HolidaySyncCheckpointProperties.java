@@ -0,0 +1,23 @@
+package com.company.holiday.holiday_service.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "holiday.sync.checkpoint")
+public record HolidaySyncCheckpointProperties(
+
+        // 이 시간 안에 시작된 미완료 실행만 이어받는다. 너무 오래된 체크포인트는 버리고 처음부터 다시 동기화한다.
+        @DefaultValue("24h")
+        Duration resumeWindow
+
+) {
+
+    public HolidaySyncCheckpointProperties {
+        if (resumeWindow.isNegative() || resumeWindow.isZero()) {
+            throw new IllegalArgumentException("holiday.sync.checkpoint.resume-window 는 0 보다 커야 합니다. value=" + resumeWindow);
+        }
+    }
+
+}
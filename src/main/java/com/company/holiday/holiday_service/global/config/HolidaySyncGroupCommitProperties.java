@@ -0,0 +1,34 @@
+package com.company.holiday.holiday_service.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+// 병렬 동기화 파이프라인에서 작은 국가·연도 변경분 여러 개를 한 트랜잭션으로 묶어 반영하는 설정 ( group commit )
+@ConfigurationProperties(prefix = "holiday.sync.group-commit")
+public record HolidaySyncGroupCommitProperties(
+
+        @DefaultValue("true")
+        boolean enabled,
+
+        // 한 트랜잭션에 묶을 공휴일 수 상한, 이보다 큰 단위는 혼자 반영한다
+        @DefaultValue("200")
+        int maxRows,
+
+        // 첫 단위를 꺼낸 뒤 더 묶을 단위를 기다리는 최대 시간
+        @DefaultValue("20ms")
+        Duration maxDelay
+
+) {
+
+    public HolidaySyncGroupCommitProperties {
+        if (maxRows < 1) {
+            throw new IllegalArgumentException("holiday.sync.group-commit.max-rows 는 1 이상이어야 합니다. value=" + maxRows);
+        }
+        if (maxDelay.isNegative()) {
+            throw new IllegalArgumentException("holiday.sync.group-commit.max-delay 는 0 이상이어야 합니다. value=" + maxDelay);
+        }
+    }
+
+}
@@ -0,0 +1,20 @@
+package com.company.holiday.holiday_service.global.config;
+
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class HolidaySyncJobConfig {
+
+    // 동기화 작업 전용 스레드, 요청 스레드와 분리하고 노드당 한 번에 하나의 작업만 실행한다.
+    @Bean(name = "holidaySyncJobExecutor", destroyMethod = "shutdown")
+    public ExecutorService holidaySyncJobExecutor() {
+        return Executors.newSingleThreadExecutor(
+                Thread.ofPlatform().name("holiday-sync-job-", 0).factory()
+        );
+    }
+
+}
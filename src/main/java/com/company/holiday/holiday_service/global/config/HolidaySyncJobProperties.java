@@ -0,0 +1,30 @@
+package com.company.holiday.holiday_service.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "holiday.sync.job")
+public record HolidaySyncJobProperties(
+
+        // 메모리에 보관하는 최근 동기화 작업 수, 넘치면 오래된 완료 작업부터 제거
+        @DefaultValue("20")
+        int historySize,
+
+        // 종료 시 진행 중인 국가·연도 단위가 반영되고 체크포인트가 남을 때까지 기다리는 최대 시간
+        @DefaultValue("30s")
+        Duration shutdownTimeout
+
+) {
+
+    public HolidaySyncJobProperties {
+        if (historySize < 1) {
+            throw new IllegalArgumentException("holiday.sync.job.history-size 는 1 이상이어야 합니다. value=" + historySize);
+        }
+        if (shutdownTimeout.isNegative()) {
+            throw new IllegalArgumentException("holiday.sync.job.shutdown-timeout 은 음수일 수 없습니다. value=" + shutdownTimeout);
+        }
+    }
+
+}
@@ -0,0 +1,37 @@
+package com.company.holiday.holiday_service.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+// 여러 노드 중 한 노드만 동기화하도록 하는 DB 임대(lease) 잠금 설정
+@ConfigurationProperties(prefix = "holiday.sync.lock")
+public record HolidaySyncLockProperties(
+
+        @DefaultValue("true")
+        boolean enabled,
+
+        // 임대 기간, 갱신이 끊긴 노드의 잠금은 이 시간이 지나면 다른 노드가 가져갈 수 있다
+        @DefaultValue("60s")
+        Duration leaseDuration,
+
+        // 실행 중 임대를 연장하는 주기, 임대 기간보다 충분히 짧아야 한다
+        @DefaultValue("20s")
+        Duration renewInterval,
+
+        // 잠금 소유자로 기록할 노드 id, 비어 있으면 호스트명과 임의 값으로 만든다
+        String nodeId
+
+) {
+
+    public HolidaySyncLockProperties {
+        if (leaseDuration.isNegative() || leaseDuration.isZero() || renewInterval.isNegative() || renewInterval.isZero()) {
+            throw new IllegalArgumentException("holiday.sync.lock 시간 값은 0 보다 커야 합니다. leaseDuration=" + leaseDuration + ", renewInterval=" + renewInterval);
+        }
+        if (renewInterval.compareTo(leaseDuration) >= 0) {
+            throw new IllegalArgumentException("holiday.sync.lock.renew-interval 은 lease-duration 보다 짧아야 합니다. renewInterval=" + renewInterval + ", leaseDuration=" + leaseDuration);
+        }
+    }
+
+}
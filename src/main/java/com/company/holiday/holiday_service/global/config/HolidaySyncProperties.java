@@ -0,0 +1,55 @@
+package com.company.holiday.holiday_service.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+@ConfigurationProperties(prefix = "holiday.sync")
+public record HolidaySyncProperties(
+
+        // true 면 fetch → write 파이프라인으로 국가별 동기화를 병렬 수행
+        @DefaultValue("false")
+        boolean concurrent,
+
+        // 동시에 진행 중인 Nager 호출 수 상한 ( = 파이프라인 fetch 워커 수 )
+        @DefaultValue("16")
+        int maxConcurrency,
+
+        // fetch → write 단계 사이 큐 크기, 가득 차면 fetch 워커가 대기한다
+        @DefaultValue("32")
+        int queueCapacity,
+
+        // DB 반영 워커 수
+        @DefaultValue("2")
+        int writerThreads,
+
+        // 기간 내 공휴일 반영 방식
+        @DefaultValue("CHANGESET")
+        WriteStrategy writeStrategy,
+
+        // 공휴일 JDBC 배치 insert/update/delete 청크 크기
+        @DefaultValue("500")
+        int jdbcBatchSize
+
+) {
+
+    public enum WriteStrategy {
+        // 기간 전체 delete 후 insert
+        REPLACE,
+        // 자연키 기준 insert / update / delete, 동일한 행은 유지
+        CHANGESET
+    }
+
+    public HolidaySyncProperties {
+        requirePositive("max-concurrency", maxConcurrency);
+        requirePositive("queue-capacity", queueCapacity);
+        requirePositive("writer-threads", writerThreads);
+        requirePositive("jdbc-batch-size", jdbcBatchSize);
+    }
+
+    private static void requirePositive(String name, int value) {
+        if (value < 1) {
+            throw new IllegalArgumentException("holiday.sync." + name + " 는 1 이상이어야 합니다. value=" + value);
+        }
+    }
+
+}
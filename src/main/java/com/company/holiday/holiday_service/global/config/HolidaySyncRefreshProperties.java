@@ -0,0 +1,64 @@
+package com.company.holiday.holiday_service.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+// 국가·연도 단위를 주기 동안 고르게 나눠 조금씩 다시 동기화하는 순환 갱신 설정
+@ConfigurationProperties(prefix = "holiday.sync.refresh")
+public record HolidaySyncRefreshProperties(
+
+        @DefaultValue("false")
+        boolean enabled,
+
+        // 최근 연도( hotYears )의 모든 국가를 한 번씩 갱신하는 주기
+        @DefaultValue("7d")
+        Duration period,
+
+        // 지난 연도의 모든 국가를 한 번씩 갱신하는 주기, 값이 거의 바뀌지 않아 period 보다 길게 둔다
+        @DefaultValue("28d")
+        Duration settledPeriod,
+
+        // 올해부터 거슬러 올라가 자주 갱신할 연도 수 ( 2 면 올해와 작년 )
+        @DefaultValue("2")
+        int hotYears,
+
+        // 갱신 대상을 고르는 주기, 짧을수록 Nager 호출과 DB 쓰기가 고르게 퍼진다
+        @DefaultValue("1m")
+        Duration tickInterval,
+
+        // Nager 가용 국가 목록을 다시 받아 추가·제외된 국가를 반영하는 주기
+        @DefaultValue("6h")
+        Duration countryCheckInterval,
+
+        // 한 번도 동기화하지 않은 단위( 새로 추가된 국가 등 )를 주기와 상관없이 먼저 처리할 최대 개수 ( 한 번 고를 때 )
+        @DefaultValue("10")
+        int maxNewUnitsPerTick
+
+) {
+
+    public HolidaySyncRefreshProperties {
+        if (!isPositive(period) || !isPositive(settledPeriod) || !isPositive(tickInterval) || !isPositive(countryCheckInterval)) {
+            throw new IllegalArgumentException("holiday.sync.refresh 시간 값은 0 보다 커야 합니다. period=" + period
+                    + ", settledPeriod=" + settledPeriod + ", tickInterval=" + tickInterval + ", countryCheckInterval=" + countryCheckInterval);
+        }
+        if (settledPeriod.compareTo(period) < 0) {
+            throw new IllegalArgumentException("holiday.sync.refresh.settled-period 는 period 이상이어야 합니다. settledPeriod=" + settledPeriod + ", period=" + period);
+        }
+        if (tickInterval.compareTo(period) >= 0) {
+            throw new IllegalArgumentException("holiday.sync.refresh.tick-interval 은 period 보다 짧아야 합니다. tickInterval=" + tickInterval + ", period=" + period);
+        }
+        if (hotYears < 0 || hotYears > 5) {
+            throw new IllegalArgumentException("holiday.sync.refresh.hot-years 는 0 ~ 5 사이여야 합니다. value=" + hotYears);
+        }
+        if (maxNewUnitsPerTick < 0) {
+            throw new IllegalArgumentException("holiday.sync.refresh.max-new-units-per-tick 은 0 이상이어야 합니다. value=" + maxNewUnitsPerTick);
+        }
+    }
+
+    private static boolean isPositive(Duration duration) {
+        return !duration.isNegative() && !duration.isZero();
+    }
+
+}
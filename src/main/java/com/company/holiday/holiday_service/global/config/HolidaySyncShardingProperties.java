@@ -0,0 +1,35 @@
+package com.company.holiday.holiday_service.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+// 전체 동기화를 국가 파티션으로 나눠 여러 노드가 나눠 처리하는 설정
+// 파티션 점유 임대 기간 / 연장 주기는 holiday.sync.lock 설정을 따른다.
+@ConfigurationProperties(prefix = "holiday.sync.sharding")
+public record HolidaySyncShardingProperties(
+
+        @DefaultValue("false")
+        boolean enabled,
+
+        // 국가 목록을 나눌 파티션 수, 노드 수보다 넉넉해야 먼저 끝난 노드가 남은 파티션을 가져가 고르게 나뉜다
+        @DefaultValue("16")
+        int partitions,
+
+        // 다른 노드가 등록한 파티션을 찾는 주기이자, 등록한 노드가 모든 파티션 완료를 확인하는 주기
+        @DefaultValue("5s")
+        Duration pollInterval
+
+) {
+
+    public HolidaySyncShardingProperties {
+        if (partitions < 1) {
+            throw new IllegalArgumentException("holiday.sync.sharding.partitions 는 1 이상이어야 합니다. value=" + partitions);
+        }
+        if (pollInterval.isNegative() || pollInterval.isZero()) {
+            throw new IllegalArgumentException("holiday.sync.sharding.poll-interval 은 0 보다 커야 합니다. value=" + pollInterval);
+        }
+    }
+
+}
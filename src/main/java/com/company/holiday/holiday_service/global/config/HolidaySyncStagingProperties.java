@@ -0,0 +1,25 @@
+package com.company.holiday.holiday_service.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// 동기화 결과를 스테이징 테이블에 모았다가, 검증 후 한 트랜잭션으로 공개하는 설정
+@ConfigurationProperties(prefix = "holiday.sync.staging")
+public record HolidaySyncStagingProperties(
+
+        @DefaultValue("false")
+        boolean enabled,
+
+        // 국가·연도의 공휴일 수가 기존보다 이 비율 넘게 줄면 검증 실패, 기존에 있던 공휴일이 0 건이 되는 경우는 항상 실패
+        @DefaultValue("0.5")
+        double maxShrinkRatio
+
+) {
+
+    public HolidaySyncStagingProperties {
+        if (maxShrinkRatio < 0 || maxShrinkRatio > 1) {
+            throw new IllegalArgumentException("holiday.sync.staging.max-shrink-ratio 는 0 이상 1 이하여야 합니다. value=" + maxShrinkRatio);
+        }
+    }
+
+}
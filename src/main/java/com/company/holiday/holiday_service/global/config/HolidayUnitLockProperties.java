@@ -0,0 +1,40 @@
+package com.company.holiday.holiday_service.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+// 같은 국가·연도를 쓰는 작업을 한 번에 하나씩 실행하도록 하는 단위 쓰기 잠금 설정
+@ConfigurationProperties(prefix = "holiday.sync.unit-lock")
+public record HolidayUnitLockProperties(
+
+        // 노드 안에서 쓰는 잠금 수, 국가·연도는 해시로 이 중 하나에 대응된다
+        @DefaultValue("64")
+        int stripes,
+
+        // 잠금을 기다리는 최대 시간, 넘기면 H-008 로 실패한다
+        @DefaultValue("10s")
+        Duration timeout,
+
+        // true 면 holiday_sync_lock 에 국가·연도별 임대 잠금을 함께 잡아 여러 노드 사이에서도 막는다
+        // 임대 기간과 연장 주기는 holiday.sync.lock.lease-duration / renew-interval 을 따르며, 반영하는 동안 계속 연장한다
+        @DefaultValue("false")
+        boolean distributed,
+
+        // distributed 잠금을 다시 시도하는 간격
+        @DefaultValue("50ms")
+        Duration retryInterval
+
+) {
+
+    public HolidayUnitLockProperties {
+        if (stripes < 1) {
+            throw new IllegalArgumentException("holiday.sync.unit-lock.stripes 는 1 이상이어야 합니다. value=" + stripes);
+        }
+        if (timeout.isNegative() || retryInterval.isNegative() || retryInterval.isZero()) {
+            throw new IllegalArgumentException("holiday.sync.unit-lock 시간 값이 올바르지 않습니다. timeout=" + timeout + ", retryInterval=" + retryInterval);
+        }
+    }
+
+}
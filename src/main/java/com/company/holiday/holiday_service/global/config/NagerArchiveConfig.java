@@ -0,0 +1,21 @@
+package com.company.holiday.holiday_service.global.config;
+
+import com.company.holiday.holiday_service.clients.nager.archive.NagerPayloadArchive;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.nio.file.Path;
+
+// nager.archive.enabled 일 때만 원본 응답 보관소를 띄운다.
+@Configuration
+@ConditionalOnProperty(prefix = "nager.archive", name = "enabled", havingValue = "true")
+public class NagerArchiveConfig {
+
+    @Bean
+    public NagerPayloadArchive nagerPayloadArchive(ObjectMapper objectMapper, NagerArchiveProperties archiveProperties) {
+        return new NagerPayloadArchive(Path.of(archiveProperties.dir()), objectMapper);
+    }
+
+}
@@ -0,0 +1,33 @@
+package com.company.holiday.holiday_service.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+// Nager 원본 응답 보관소 설정
+@ConfigurationProperties(prefix = "nager.archive")
+public record NagerArchiveProperties(
+
+        // true 면 Nager 응답 본문을 그대로 압축해 디스크에 보관한다
+        @DefaultValue("false")
+        boolean enabled,
+
+        // 보관 디렉터리
+        @DefaultValue("./data/nager-archive")
+        String dir,
+
+        // true 면 네트워크 없이 보관된 응답만으로 동기화한다 ( 재적재·재정규화, 폐쇄망 노드 )
+        @DefaultValue("false")
+        boolean replay
+
+) {
+
+    public NagerArchiveProperties {
+        if (dir == null || dir.isBlank()) {
+            throw new IllegalArgumentException("nager.archive.dir 는 비어 있을 수 없습니다.");
+        }
+        if (replay && !enabled) {
+            throw new IllegalArgumentException("nager.archive.replay 는 nager.archive.enabled 가 true 일 때만 사용할 수 있습니다.");
+        }
+    }
+
+}
@@ -0,0 +1,48 @@
+package com.company.holiday.holiday_service.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "nager.circuit-breaker")
+public record NagerCircuitBreakerProperties(
+
+        // 최근 호출 중 일시 장애( 타임아웃, 5xx, 429 ) 비율이 이 값 이상이면 회로를 연다
+        @DefaultValue("0.5")
+        double failureRateThreshold,
+
+        // 실패율을 계산할 최근 호출 수
+        @DefaultValue("20")
+        int slidingWindowSize,
+
+        // 최근 호출이 이만큼 쌓이기 전에는 회로를 열지 않는다
+        @DefaultValue("10")
+        int minimumCalls,
+
+        // 회로를 연 뒤 시험 호출을 허용하기까지 기다리는 시간
+        @DefaultValue("30s")
+        Duration openDuration,
+
+        // 반열림 상태에서 허용하는 시험 호출 수, 모두 성공하면 회로를 닫는다
+        @DefaultValue("3")
+        int halfOpenTrialCalls
+
+) {
+
+    public NagerCircuitBreakerProperties {
+        if (failureRateThreshold <= 0.0 || failureRateThreshold > 1.0) {
+            throw new IllegalArgumentException("nager.circuit-breaker.failure-rate-threshold 는 0 초과 1 이하여야 합니다. value=" + failureRateThreshold);
+        }
+        if (slidingWindowSize < 1 || minimumCalls < 1 || minimumCalls > slidingWindowSize) {
+            throw new IllegalArgumentException("nager.circuit-breaker 는 1 <= minimum-calls <= sliding-window-size 이어야 합니다. minimumCalls=" + minimumCalls + ", slidingWindowSize=" + slidingWindowSize);
+        }
+        if (halfOpenTrialCalls < 1) {
+            throw new IllegalArgumentException("nager.circuit-breaker.half-open-trial-calls 는 1 이상이어야 합니다. value=" + halfOpenTrialCalls);
+        }
+        if (openDuration.isNegative()) {
+            throw new IllegalArgumentException("nager.circuit-breaker.open-duration 은 음수일 수 없습니다. value=" + openDuration);
+        }
+    }
+
+}
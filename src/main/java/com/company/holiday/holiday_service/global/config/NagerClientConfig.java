@@ -0,0 +1,198 @@
+package com.company.holiday.holiday_service.global.config;
+
+import com.company.holiday.holiday_service.clients.nager.AdaptiveConcurrencyLimiter;
+import com.company.holiday.holiday_service.clients.nager.CircuitBreakingNagerClient;
+import com.company.holiday.holiday_service.clients.nager.ConcurrencyLimitedNagerClient;
+import com.company.holiday.holiday_service.clients.nager.HedgingNagerClient;
+import com.company.holiday.holiday_service.clients.nager.NagerCircuitBreaker;
+import com.company.holiday.holiday_service.clients.nager.NagerClient;
+import com.company.holiday.holiday_service.clients.nager.NagerEndpoint;
+import com.company.holiday.holiday_service.clients.nager.NagerHedgingPolicy;
+import com.company.holiday.holiday_service.clients.nager.NagerRestClient;
+import com.company.holiday.holiday_service.clients.nager.RetryingNagerClient;
+import com.company.holiday.holiday_service.clients.nager.RoutingNagerClient;
+import com.company.holiday.holiday_service.clients.nager.TimeLimitedNagerClient;
+import com.company.holiday.holiday_service.clients.nager.archive.NagerArchiveReplayClient;
+import com.company.holiday.holiday_service.clients.nager.archive.NagerPayloadArchive;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.web.client.RestClient;
+
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+@Configuration
+public class NagerClientConfig {
+
+    // 애플리케이션이 주입받는 NagerClient
+    // 재시도 → 회로 차단 → ( 헤징 ) → 동시 요청 한도 → 엔드포인트 선택 → 전체 제한 시간 → 실제 HTTP 호출(NagerRestClient) 순으로 감싼다.
+    // 재시도 한 번 한 번이 회로와 한도를 거치고, 제한 시간 초과도 실패율과 한도 조절에 반영되도록 하기 위함
+    // 회로가 열려 있으면 재시도 없이 바로 실패한다. 헤징으로 더 보낸 요청도 한도 안에서 수행된다.
+    // 한 엔드포인트의 일시 장애는 엔드포인트 선택 단계에서 다른 엔드포인트로 넘기므로, 회로는 모든 엔드포인트가 실패할 때 열린다.
+    // nager.archive.replay 면 네트워크 없이 보관된 원본 응답으로만 응답한다.
+    @Bean
+    @Primary
+    public NagerClient nagerClient(RoutingNagerClient nagerRoutingClient, AdaptiveConcurrencyLimiter nagerConcurrencyLimiter,
+                                   NagerCircuitBreaker nagerCircuitBreaker, NagerHedgingPolicy nagerHedgingPolicy,
+                                   @Qualifier("nagerCallExecutor") ExecutorService nagerCallExecutor,
+                                   NagerRetryProperties retryProperties, NagerHedgingProperties hedgingProperties,
+                                   NagerArchiveProperties archiveProperties, ObjectProvider<NagerPayloadArchive> nagerPayloadArchive,
+                                   ObjectMapper objectMapper) {
+        if (archiveProperties.replay()) {
+            return new NagerArchiveReplayClient(nagerPayloadArchive.getObject(), objectMapper);
+        }
+        NagerClient limited = new ConcurrencyLimitedNagerClient(nagerRoutingClient, nagerConcurrencyLimiter);
+        NagerClient hedged = hedgingProperties.enabled()
+                ? new HedgingNagerClient(limited, nagerHedgingPolicy, nagerCallExecutor)
+                : limited;
+        NagerClient circuitBreaking = new CircuitBreakingNagerClient(hedged, nagerCircuitBreaker);
+        return new RetryingNagerClient(circuitBreaking, retryProperties);
+    }
+
+    // nager.http.base-urls 의 엔드포인트마다 RestClient 를 만들고, 같은 커넥션 풀( nagerRequestFactory )을 공유한다.
+    @Bean
+    public RoutingNagerClient nagerRoutingClient(RestClient.Builder restClientBuilder, ClientHttpRequestFactory nagerRequestFactory,
+                                                 @Qualifier("nagerCallExecutor") ExecutorService nagerCallExecutor,
+                                                 NagerHttpProperties httpProperties, NagerRoutingProperties routingProperties,
+                                                 ObjectProvider<NagerPayloadArchive> nagerPayloadArchive, ObjectMapper objectMapper) {
+        NagerPayloadArchive archive = nagerPayloadArchive.getIfAvailable();
+        List<NagerEndpoint> endpoints = httpProperties.baseUrls().stream()
+                .map(baseUrl -> {
+                    RestClient restClient = restClientBuilder.clone()
+                            .baseUrl(baseUrl)
+                            .requestFactory(nagerRequestFactory)
+                            .build();
+                    NagerClient timeLimited = new TimeLimitedNagerClient(
+                            new NagerRestClient(restClient, objectMapper, archive), nagerCallExecutor, httpProperties.totalTimeout()
+                    );
+                    return new NagerEndpoint(baseUrl, timeLimited, routingProperties);
+                })
+                .toList();
+        return new RoutingNagerClient(endpoints);
+    }
+
+    // /actuator/metrics 로 엔드포인트별( endpoint 태그 ) 응답 시간 EWMA, 일시 장애 비율 EWMA, 진행 중인 요청 수, 제외 여부, 요청·실패 수를 노출한다.
+    @Bean
+    public MeterBinder nagerEndpointMetrics(RoutingNagerClient nagerRoutingClient) {
+        return registry -> {
+            for (NagerEndpoint endpoint : nagerRoutingClient.getEndpoints()) {
+                Tags tags = Tags.of("endpoint", endpoint.getBaseUrl());
+                Gauge.builder("nager.client.endpoint.latency", endpoint, NagerEndpoint::getLatencyMillis)
+                        .description("Nager 엔드포인트 응답 시간 EWMA")
+                        .baseUnit("milliseconds")
+                        .tags(tags)
+                        .register(registry);
+                Gauge.builder("nager.client.endpoint.error-rate", endpoint, NagerEndpoint::getErrorRate)
+                        .description("Nager 엔드포인트 일시 장애 비율 EWMA")
+                        .tags(tags)
+                        .register(registry);
+                Gauge.builder("nager.client.endpoint.in-flight", endpoint, NagerEndpoint::getInFlight)
+                        .description("Nager 엔드포인트에 진행 중인 요청 수")
+                        .tags(tags)
+                        .register(registry);
+                Gauge.builder("nager.client.endpoint.ejected", endpoint, e -> e.isEjected() ? 1 : 0)
+                        .description("연속 장애로 후보에서 제외되었는지 여부")
+                        .tags(tags)
+                        .register(registry);
+                FunctionCounter.builder("nager.client.endpoint.requests", endpoint, NagerEndpoint::getRequests)
+                        .description("Nager 엔드포인트로 보낸 요청 수")
+                        .tags(tags)
+                        .register(registry);
+                FunctionCounter.builder("nager.client.endpoint.failures", endpoint, NagerEndpoint::getFailures)
+                        .description("Nager 엔드포인트 일시 장애 수")
+                        .tags(tags)
+                        .register(registry);
+            }
+        };
+    }
+
+    // 전체 제한 시간을 걸기 위해 Nager 호출을 실행하는 가상 스레드
+    @Bean(name = "nagerCallExecutor", destroyMethod = "shutdownNow")
+    public ExecutorService nagerCallExecutor() {
+        return Executors.newThreadPerTaskExecutor(
+                Thread.ofVirtual().name("nager-call-", 0).factory()
+        );
+    }
+
+    @Bean
+    public AdaptiveConcurrencyLimiter nagerConcurrencyLimiter(NagerConcurrencyLimitProperties limitProperties) {
+        return new AdaptiveConcurrencyLimiter(limitProperties);
+    }
+
+    @Bean
+    public NagerCircuitBreaker nagerCircuitBreaker(NagerCircuitBreakerProperties circuitBreakerProperties) {
+        return new NagerCircuitBreaker(circuitBreakerProperties);
+    }
+
+    // /actuator/metrics 로 회로 상태( 현재 상태의 state 태그만 1 )와 회로가 열려 거절한 호출 수를 노출한다.
+    @Bean
+    public MeterBinder nagerCircuitBreakerMetrics(NagerCircuitBreaker nagerCircuitBreaker) {
+        return registry -> {
+            for (NagerCircuitBreaker.State state : NagerCircuitBreaker.State.values()) {
+                Gauge.builder("nager.client.circuit.state", nagerCircuitBreaker, breaker -> breaker.getState() == state ? 1 : 0)
+                        .description("Nager 회로 차단기 상태")
+                        .tag("state", state.name().toLowerCase())
+                        .register(registry);
+            }
+            FunctionCounter.builder("nager.client.circuit.rejections", nagerCircuitBreaker, NagerCircuitBreaker::getRejections)
+                    .description("회로가 열려 호출하지 않고 거절한 Nager 요청 수")
+                    .register(registry);
+        };
+    }
+
+    @Bean
+    public NagerHedgingPolicy nagerHedgingPolicy(NagerHedgingProperties hedgingProperties) {
+        return new NagerHedgingPolicy(hedgingProperties);
+    }
+
+    // /actuator/metrics 로 헤징 대기 시간, 원래 요청·헤징 요청·헤징 승리 수, 예산 부족으로 헤징하지 못한 수를 노출한다.
+    // 헤징 비율은 hedges / calls, 헤징 효과는 wins / hedges 로 본다.
+    @Bean
+    public MeterBinder nagerHedgingMetrics(NagerHedgingPolicy nagerHedgingPolicy) {
+        return registry -> {
+            Gauge.builder("nager.client.hedging.delay", nagerHedgingPolicy, NagerHedgingPolicy::getDelayMillis)
+                    .description("현재 헤징 대기 시간")
+                    .baseUnit("milliseconds")
+                    .register(registry);
+            FunctionCounter.builder("nager.client.hedging.calls", nagerHedgingPolicy, NagerHedgingPolicy::getCalls)
+                    .description("헤징 대상 Nager 요청 수")
+                    .register(registry);
+            FunctionCounter.builder("nager.client.hedging.hedges", nagerHedgingPolicy, NagerHedgingPolicy::getHedges)
+                    .description("헤징으로 더 보낸 Nager 요청 수")
+                    .register(registry);
+            FunctionCounter.builder("nager.client.hedging.wins", nagerHedgingPolicy, NagerHedgingPolicy::getHedgeWins)
+                    .description("헤징 요청이 먼저 성공한 수")
+                    .register(registry);
+            FunctionCounter.builder("nager.client.hedging.budget-exhausted", nagerHedgingPolicy, NagerHedgingPolicy::getBudgetExhausted)
+                    .description("추가 요청 예산이 없어 헤징하지 못한 수")
+                    .register(registry);
+        };
+    }
+
+    // /actuator/metrics 로 현재 한도, 진행 중인 요청 수, 거절 수를 노출한다.
+    @Bean
+    public MeterBinder nagerConcurrencyLimiterMetrics(AdaptiveConcurrencyLimiter nagerConcurrencyLimiter) {
+        return registry -> {
+            Gauge.builder("nager.client.concurrency.limit", nagerConcurrencyLimiter, AdaptiveConcurrencyLimiter::getLimit)
+                    .description("Nager 동시 요청 허용 한도")
+                    .register(registry);
+            Gauge.builder("nager.client.concurrency.in-flight", nagerConcurrencyLimiter, AdaptiveConcurrencyLimiter::getInFlight)
+                    .description("진행 중인 Nager 요청 수")
+                    .register(registry);
+            FunctionCounter.builder("nager.client.concurrency.rejections", nagerConcurrencyLimiter, AdaptiveConcurrencyLimiter::getRejections)
+                    .description("한도 대기 시간 초과로 거절된 Nager 요청 수")
+                    .register(registry);
+        };
+    }
+
+}
@@ -0,0 +1,50 @@
+package com.company.holiday.holiday_service.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "nager.concurrency-limit")
+public record NagerConcurrencyLimitProperties(
+
+        // 시작 시 허용하는 동시 요청 수
+        @DefaultValue("4")
+        int initialLimit,
+
+        @DefaultValue("1")
+        int minLimit,
+
+        @DefaultValue("32")
+        int maxLimit,
+
+        // 429 / 5xx / 타임아웃 또는 지연 초과 시 한도에 곱하는 비율 ( multiplicative decrease )
+        @DefaultValue("0.5")
+        double backoffRatio,
+
+        // 이보다 오래 걸린 응답은 성공이어도 과부하 신호로 본다
+        @DefaultValue("2s")
+        Duration latencyThreshold,
+
+        // 한도가 가득 찼을 때 자리가 날 때까지 기다리는 최대 시간, 넘으면 거절
+        @DefaultValue("30s")
+        Duration acquireTimeout
+
+) {
+
+    public NagerConcurrencyLimitProperties {
+        if (minLimit < 1 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("nager.concurrency-limit 는 1 <= min-limit <= max-limit 이어야 합니다. minLimit=" + minLimit + ", maxLimit=" + maxLimit);
+        }
+        if (initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("nager.concurrency-limit.initial-limit 는 min-limit ~ max-limit 사이여야 합니다. value=" + initialLimit);
+        }
+        if (backoffRatio <= 0.0 || backoffRatio >= 1.0) {
+            throw new IllegalArgumentException("nager.concurrency-limit.backoff-ratio 는 0 과 1 사이여야 합니다. value=" + backoffRatio);
+        }
+        if (latencyThreshold.isNegative() || acquireTimeout.isNegative()) {
+            throw new IllegalArgumentException("nager.concurrency-limit 시간 값은 음수일 수 없습니다. latencyThreshold=" + latencyThreshold + ", acquireTimeout=" + acquireTimeout);
+        }
+    }
+
+}
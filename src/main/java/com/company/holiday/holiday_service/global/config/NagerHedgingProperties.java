@@ -0,0 +1,52 @@
+package com.company.holiday.holiday_service.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+// 느린 공휴일 조회에 같은 요청을 하나 더 보내는 헤징 설정
+@ConfigurationProperties(prefix = "nager.hedging")
+public record NagerHedgingProperties(
+
+        @DefaultValue("false")
+        boolean enabled,
+
+        // 최근 응답 시간의 이 백분위를 넘기도록 응답이 없으면 요청을 하나 더 보낸다
+        @DefaultValue("0.95")
+        double percentile,
+
+        // 백분위를 계산할 최근 응답 수
+        @DefaultValue("200")
+        int windowSize,
+
+        // 최근 응답이 이만큼 쌓이기 전에는 헤징하지 않는다
+        @DefaultValue("20")
+        int minSamples,
+
+        // 헤징 대기 시간의 하한, 빠른 응답이 대부분일 때 요청이 불필요하게 두 배가 되지 않도록 한다
+        @DefaultValue("100ms")
+        Duration minDelay,
+
+        // 헤징으로 늘어날 수 있는 요청 비율 상한 ( 0.1 이면 원래 요청 10 건당 최대 1 건 )
+        @DefaultValue("0.1")
+        double maxExtraLoad
+
+) {
+
+    public NagerHedgingProperties {
+        if (percentile <= 0.0 || percentile >= 1.0) {
+            throw new IllegalArgumentException("nager.hedging.percentile 은 0 과 1 사이여야 합니다. value=" + percentile);
+        }
+        if (windowSize < 1 || minSamples < 1 || minSamples > windowSize) {
+            throw new IllegalArgumentException("nager.hedging 은 1 <= min-samples <= window-size 이어야 합니다. minSamples=" + minSamples + ", windowSize=" + windowSize);
+        }
+        if (minDelay.isNegative()) {
+            throw new IllegalArgumentException("nager.hedging.min-delay 는 음수일 수 없습니다. value=" + minDelay);
+        }
+        if (maxExtraLoad <= 0.0 || maxExtraLoad > 1.0) {
+            throw new IllegalArgumentException("nager.hedging.max-extra-load 는 0 초과 1 이하여야 합니다. value=" + maxExtraLoad);
+        }
+    }
+
+}
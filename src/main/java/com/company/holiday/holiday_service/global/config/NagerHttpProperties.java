@@ -0,0 +1,56 @@
+package com.company.holiday.holiday_service.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+import java.util.List;
+
+@ConfigurationProperties(prefix = "nager.http")
+public record NagerHttpProperties(
+
+        // Nager 엔드포인트 목록 ( 공개 API, 내부 캐싱 미러 등 ), 요청마다 응답 시간과 오류율을 보고 고른다
+        @DefaultValue("https://date.nager.at/api/v3")
+        List<String> baseUrls,
+
+        // TCP/TLS 연결 수립 제한 시간
+        @DefaultValue("2s")
+        Duration connectTimeout,
+
+        // 응답을 기다리는 동안 소켓에서 데이터가 오지 않을 수 있는 최대 시간
+        @DefaultValue("5s")
+        Duration readTimeout,
+
+        // 요청 하나의 전체 제한 시간 ( 연결 대기 + 연결 + 응답 본문 수신 )
+        @DefaultValue("10s")
+        Duration totalTimeout,
+
+        // 커넥션 풀 크기, 한 엔드포인트가 풀 전체를 쓸 수 있도록 호스트당 한도와 같게 둔다
+        @DefaultValue("32")
+        int maxConnections,
+
+        // 풀이 가득 찼을 때 커넥션을 빌리기 위해 기다리는 최대 시간
+        @DefaultValue("5s")
+        Duration connectionRequestTimeout,
+
+        // 이 시간 이상 쓰이지 않은 keep-alive 커넥션은 닫는다
+        @DefaultValue("30s")
+        Duration idleTimeout
+
+) {
+
+    public NagerHttpProperties {
+        if (baseUrls == null || baseUrls.isEmpty() || baseUrls.stream().anyMatch(url -> url == null || url.isBlank())) {
+            throw new IllegalArgumentException("nager.http.base-urls 에는 비어 있지 않은 주소가 하나 이상 있어야 합니다. value=" + baseUrls);
+        }
+        baseUrls = List.copyOf(baseUrls);
+        if (maxConnections < 1) {
+            throw new IllegalArgumentException("nager.http.max-connections 는 1 이상이어야 합니다. value=" + maxConnections);
+        }
+        if (connectTimeout.isNegative() || readTimeout.isNegative() || totalTimeout.isNegative()
+                || connectionRequestTimeout.isNegative() || idleTimeout.isNegative()) {
+            throw new IllegalArgumentException("nager.http 시간 값은 음수일 수 없습니다.");
+        }
+    }
+
+}
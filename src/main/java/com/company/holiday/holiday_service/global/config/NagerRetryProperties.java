@@ -0,0 +1,47 @@
+package com.company.holiday.holiday_service.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+@ConfigurationProperties(prefix = "nager.retry")
+public record NagerRetryProperties(
+
+        // 첫 호출을 포함한 최대 시도 횟수, 1 이면 재시도하지 않는다
+        @DefaultValue("3")
+        int maxAttempts,
+
+        // 첫 재시도 전 대기 시간, 이후 multiplier 배씩 늘어난다
+        @DefaultValue("200ms")
+        Duration initialBackoff,
+
+        // 재시도 대기 시간 상한
+        @DefaultValue("2s")
+        Duration maxBackoff,
+
+        @DefaultValue("2.0")
+        double multiplier,
+
+        // 대기 시간을 무작위로 줄이는 비율 ( 0 이면 고정, 1 이면 0 ~ 대기 시간 사이 )
+        @DefaultValue("0.5")
+        double jitter
+
+) {
+
+    public NagerRetryProperties {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("nager.retry.max-attempts 는 1 이상이어야 합니다. value=" + maxAttempts);
+        }
+        if (initialBackoff.isNegative() || maxBackoff.isNegative()) {
+            throw new IllegalArgumentException("nager.retry 대기 시간은 음수일 수 없습니다. initialBackoff=" + initialBackoff + ", maxBackoff=" + maxBackoff);
+        }
+        if (multiplier < 1.0) {
+            throw new IllegalArgumentException("nager.retry.multiplier 는 1 이상이어야 합니다. value=" + multiplier);
+        }
+        if (jitter < 0.0 || jitter > 1.0) {
+            throw new IllegalArgumentException("nager.retry.jitter 는 0 ~ 1 사이여야 합니다. value=" + jitter);
+        }
+    }
+
+}
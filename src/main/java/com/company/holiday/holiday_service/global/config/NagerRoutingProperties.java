@@ -0,0 +1,38 @@
+package com.company.holiday.holiday_service.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+// 여러 Nager 엔드포인트 중 요청을 보낼 곳을 고르는 기준
+@ConfigurationProperties(prefix = "nager.routing")
+public record NagerRoutingProperties(
+
+        // 응답 시간·오류율 EWMA 에서 최근 호출 하나가 차지하는 비중 ( 클수록 최근 상태에 빨리 반응 )
+        @DefaultValue("0.3")
+        double ewmaWeight,
+
+        // 일시 장애가 이만큼 연달아 나면 엔드포인트를 잠시 제외한다
+        @DefaultValue("3")
+        int ejectAfterFailures,
+
+        // 제외한 엔드포인트를 다시 후보에 넣기까지 기다리는 시간
+        @DefaultValue("30s")
+        Duration ejectDuration
+
+) {
+
+    public NagerRoutingProperties {
+        if (ewmaWeight <= 0.0 || ewmaWeight > 1.0) {
+            throw new IllegalArgumentException("nager.routing.ewma-weight 는 0 초과 1 이하여야 합니다. value=" + ewmaWeight);
+        }
+        if (ejectAfterFailures < 1) {
+            throw new IllegalArgumentException("nager.routing.eject-after-failures 는 1 이상이어야 합니다. value=" + ejectAfterFailures);
+        }
+        if (ejectDuration.isNegative()) {
+            throw new IllegalArgumentException("nager.routing.eject-duration 은 음수일 수 없습니다. value=" + ejectDuration);
+        }
+    }
+
+}
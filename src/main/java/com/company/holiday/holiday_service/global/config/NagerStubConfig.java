@@ -0,0 +1,20 @@
+package com.company.holiday.holiday_service.global.config;
+
+import com.company.holiday.holiday_service.clients.nager.stub.NagerStubServer;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+// nager.stub.enabled=true 일 때만 대역 서버를 띄운다. ( nager-stub 프로필 참고 )
+// 애플리케이션이 대역 서버를 호출하려면 nager.http.base-urls 를 대역 서버 주소로 지정한다.
+@Configuration
+@ConditionalOnProperty(prefix = "nager.stub", name = "enabled", havingValue = "true")
+public class NagerStubConfig {
+
+    @Bean(initMethod = "start", destroyMethod = "stop")
+    public NagerStubServer nagerStubServer(ObjectMapper objectMapper, NagerStubProperties stubProperties) {
+        return new NagerStubServer(objectMapper, stubProperties);
+    }
+
+}
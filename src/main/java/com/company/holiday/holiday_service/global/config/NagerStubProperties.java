@@ -0,0 +1,76 @@
+package com.company.holiday.holiday_service.global.config;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.DefaultValue;
+
+import java.time.Duration;
+
+// 로컬 Nager 대역 서버 설정, 오프라인에서 동기화 처리량과 장애 대응을 반복 측정하기 위함
+@ConfigurationProperties(prefix = "nager.stub")
+public record NagerStubProperties(
+
+        @DefaultValue("false")
+        boolean enabled,
+
+        // 0 이면 임의 포트
+        @DefaultValue("18090")
+        int port,
+
+        // 녹화된 응답 디렉터리 ( AvailableCountries.json, PublicHolidays/{year}/{countryCode}.json )
+        // 비어 있으면 countries x holidaysPerYear 규모로 응답을 생성한다
+        String fixturesDir,
+
+        @DefaultValue("100")
+        int countries,
+
+        @DefaultValue("12")
+        int holidaysPerYear,
+
+        // 응답 지연 분포
+        // - FIXED : latency 고정
+        // - UNIFORM : latency ~ latency + latencySpread 균등 분포
+        // - EXPONENTIAL : 평균이 latency 인 지수 분포 ( 긴 꼬리 지연 재현 )
+        @DefaultValue("FIXED")
+        LatencyDistribution latencyDistribution,
+
+        @DefaultValue("20ms")
+        Duration latency,
+
+        @DefaultValue("0ms")
+        Duration latencySpread,
+
+        // 503 으로 응답할 요청 비율 ( 0 ~ 1 )
+        @DefaultValue("0.0")
+        double errorRate,
+
+        // 동시에 처리 중인 요청이 이 값을 넘으면 429 로 응답한다. 0 이면 제한 없음
+        @DefaultValue("0")
+        int maxConcurrentRequests,
+
+        // 본문을 나눠서 천천히 보낼 응답 비율 ( 0 ~ 1 )
+        @DefaultValue("0.0")
+        double slowBodyRate,
+
+        // 느린 응답에서 본문 조각 사이의 대기 시간
+        @DefaultValue("200ms")
+        Duration slowBodyChunkDelay
+
+) {
+
+    public enum LatencyDistribution {
+        FIXED, UNIFORM, EXPONENTIAL
+    }
+
+    public NagerStubProperties {
+        if (port < 0 || countries < 1 || holidaysPerYear < 1 || maxConcurrentRequests < 0) {
+            throw new IllegalArgumentException("nager.stub 의 port, countries, holidays-per-year, max-concurrent-requests 값이 올바르지 않습니다.");
+        }
+        if (errorRate < 0.0 || errorRate > 1.0 || slowBodyRate < 0.0 || slowBodyRate > 1.0) {
+            throw new IllegalArgumentException("nager.stub 의 error-rate, slow-body-rate 는 0 ~ 1 사이여야 합니다.");
+        }
+        if (latency.isNegative() || latencySpread.isNegative() || slowBodyChunkDelay.isNegative()) {
+            throw new IllegalArgumentException("nager.stub 시간 값은 음수일 수 없습니다.");
+        }
+    }
+
+}
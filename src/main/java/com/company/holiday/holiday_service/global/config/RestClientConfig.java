@@ -1,30 +1,64 @@
 package com.company.holiday.holiday_service.global.config;
 
 
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.httpcomponents.hc5.PoolingHttpClientConnectionManagerMetricsBinder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.classic.CloseableHttpClient;
+import org.apache.hc.client5.http.impl.classic.HttpClients;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManager;
+import org.apache.hc.client5.http.impl.io.PoolingHttpClientConnectionManagerBuilder;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.http.client.SimpleClientHttpRequestFactory;
-import org.springframework.web.client.RestClient;
-
-import java.time.Duration;
+import org.springframework.http.client.ClientHttpRequestFactory;
+import org.springframework.http.client.HttpComponentsClientHttpRequestFactory;
 
 @Configuration
 public class RestClientConfig {
 
-    private static final String NAGER_BASE_URL = "https://date.nager.at/api/v3";
-    private static final Duration TIMEOUT = Duration.ofSeconds(5);
+    // 엔드포인트별 RestClient 가 같은 커넥션 풀을 공유하도록 요청 팩토리를 하나만 둔다. ( NagerClientConfig 참고 )
+    @Bean
+    public ClientHttpRequestFactory nagerRequestFactory(CloseableHttpClient nagerApacheHttpClient) {
+        return new HttpComponentsClientHttpRequestFactory(nagerApacheHttpClient);
+    }
 
-    @Bean(name = "nagerHttpClient")
-    public RestClient nagerRestClient(RestClient.Builder builder) {
+    // 동기화 중 수백 번의 호출이 연결·TLS 수립을 반복하지 않도록, keep-alive 커넥션을 풀로 재사용한다.
+    // 압축 응답 처리( Accept-Encoding: gzip, deflate 요청 및 해제 )는 HttpClient 기본 동작을 그대로 사용한다.
+    @Bean(destroyMethod = "close")
+    public CloseableHttpClient nagerApacheHttpClient(PoolingHttpClientConnectionManager nagerConnectionManager, NagerHttpProperties httpProperties) {
+        RequestConfig requestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(httpProperties.connectionRequestTimeout().toMillis()))
+                .setResponseTimeout(Timeout.ofMilliseconds(httpProperties.readTimeout().toMillis()))
+                .build();
 
-        SimpleClientHttpRequestFactory requestFactory = new SimpleClientHttpRequestFactory();
-        requestFactory.setConnectTimeout(TIMEOUT);
-        requestFactory.setReadTimeout(TIMEOUT);
+        return HttpClients.custom()
+                .setConnectionManager(nagerConnectionManager)
+                .setDefaultRequestConfig(requestConfig)
+                .evictIdleConnections(TimeValue.ofMilliseconds(httpProperties.idleTimeout().toMillis()))
+                .build();
+    }
 
-        return builder
-                .baseUrl(NAGER_BASE_URL)
-                .requestFactory(requestFactory)
+    @Bean(destroyMethod = "close")
+    public PoolingHttpClientConnectionManager nagerConnectionManager(NagerHttpProperties httpProperties) {
+        ConnectionConfig connectionConfig = ConnectionConfig.custom()
+                .setConnectTimeout(Timeout.ofMilliseconds(httpProperties.connectTimeout().toMillis()))
+                .setSocketTimeout(Timeout.ofMilliseconds(httpProperties.readTimeout().toMillis()))
                 .build();
+
+        return PoolingHttpClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(httpProperties.maxConnections())
+                .setMaxConnPerRoute(httpProperties.maxConnections())
+                .setDefaultConnectionConfig(connectionConfig)
+                .build();
+    }
+
+    // /actuator/metrics/httpcomponents.httpclient.pool.* 로 풀 크기, 사용 중/유휴 커넥션, 대기 요청 수를 노출한다.
+    @Bean
+    public MeterBinder nagerConnectionPoolMetrics(PoolingHttpClientConnectionManager nagerConnectionManager) {
+        return new PoolingHttpClientConnectionManagerMetricsBinder(nagerConnectionManager, "nager");
     }
 
 }
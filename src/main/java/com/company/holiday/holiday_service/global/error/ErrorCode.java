@@ -14,6 +14,10 @@ public enum ErrorCode {
     ENTITY_NOT_FOUND("H-002", NOT_FOUND, "요청한 리소스를 찾을 수 없습니다."),
     INTERNAL_SERVER_ERROR("H-003", HttpStatus.INTERNAL_SERVER_ERROR, "서버 내부 오류가 발생했습니다."),
     YEAR_OUT_OF_RANGE("H-004", BAD_REQUEST, "허용되지 않은 연도 범위입니다. 2021~2025 내로 입력해주세요."),
+    SYNC_JOB_ALREADY_RUNNING("H-005", CONFLICT, "이미 실행 중인 동기화 작업이 있습니다."),
+    EXTERNAL_API_UNAVAILABLE("H-006", SERVICE_UNAVAILABLE, "외부 API 를 일시적으로 사용할 수 없습니다."),
+    SYNC_VALIDATION_FAILED("H-007", UNPROCESSABLE_ENTITY, "동기화한 데이터가 검증을 통과하지 못해 반영하지 않았습니다."),
+    UNIT_LOCK_TIMEOUT("H-008", CONFLICT, "같은 국가·연도에 진행 중인 반영이 있습니다. 잠시 후 다시 시도해주세요."),
     ;
 
     private final String code;
@@ -0,0 +1,12 @@
+package com.company.holiday.holiday_service.global.error.exception;
+
+import com.company.holiday.holiday_service.global.error.ErrorCode;
+
+// 회로가 열려 외부 API 를 호출하지 않고 바로 거절한 경우, 곧바로 다시 시도해도 같으므로 재시도 대상이 아니다.
+public class CircuitOpenException extends ExternalApiException {
+
+    public CircuitOpenException(String message) {
+        super(ErrorCode.EXTERNAL_API_UNAVAILABLE, message, null);
+    }
+
+}
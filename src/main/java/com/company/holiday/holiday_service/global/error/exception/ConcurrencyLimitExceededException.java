@@ -0,0 +1,13 @@
+package com.company.holiday.holiday_service.global.error.exception;
+
+import com.company.holiday.holiday_service.global.error.ErrorCode;
+
+// 우리 쪽 동시 요청 한도에서 자리를 얻지 못해 외부 API 를 호출하지 않은 경우
+// 외부 API 의 장애가 아니므로 회로 차단기에 실패로 기록하지 않고, 한도 대기 시간을 이미 기다렸으므로 재시도 대상도 아니다.
+public class ConcurrencyLimitExceededException extends ExternalApiException {
+
+    public ConcurrencyLimitExceededException(String message) {
+        super(ErrorCode.EXTERNAL_API_UNAVAILABLE, message, null);
+    }
+
+}
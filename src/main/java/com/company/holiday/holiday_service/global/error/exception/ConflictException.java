@@ -0,0 +1,15 @@
+package com.company.holiday.holiday_service.global.error.exception;
+
+import com.company.holiday.holiday_service.global.error.ErrorCode;
+
+public class ConflictException extends BusinessException {
+
+    public ConflictException(ErrorCode errorCode) {
+        super(errorCode);
+    }
+
+    public ConflictException(ErrorCode errorCode, String message) {
+        super(errorCode, message);
+    }
+
+}
@@ -1,15 +1,26 @@
 package com.company.holiday.holiday_service.global.error.exception;
 
 import com.company.holiday.holiday_service.global.error.ErrorCode;
+import lombok.Getter;
 
+@Getter
 public class ExternalApiException extends BusinessException {
 
+    // 타임아웃, 5xx, 429 처럼 잠시 후 다시 시도하면 성공할 수 있는 실패인지 여부
+    private final boolean retryable;
+
     public ExternalApiException(ErrorCode errorCode) {
         super(errorCode);
+        this.retryable = false;
     }
 
     public ExternalApiException(ErrorCode errorCode, String message, Throwable cause) {
+        this(errorCode, message, cause, false);
+    }
+
+    public ExternalApiException(ErrorCode errorCode, String message, Throwable cause, boolean retryable) {
         super(errorCode, message, cause);
+        this.retryable = retryable;
     }
 
 }
@@ -3,6 +3,7 @@ package com.company.holiday.holiday_service;
 import com.company.holiday.holiday_service.api.application.CountryQueryService;
 import com.company.holiday.holiday_service.api.application.HolidayCommandService;
 import com.company.holiday.holiday_service.api.application.HolidayQueryService;
+import com.company.holiday.holiday_service.api.application.HolidaySyncJobRunner;
 import com.company.holiday.holiday_service.api.application.mapper.HolidayQueryMapper;
 import com.company.holiday.holiday_service.api.presentation.CountryApi;
 import com.company.holiday.holiday_service.api.presentation.HolidayApi;
@@ -30,6 +31,9 @@ public abstract class ApiTestSupport {
     @MockitoBean
     protected HolidayCommandService holidayCommandService;
 
+    @MockitoBean
+    protected HolidaySyncJobRunner holidaySyncJobRunner;
+
     @MockitoBean
     protected HolidayQueryService holidayQueryService;
 
@@ -1,9 +1,12 @@
 package com.company.holiday.holiday_service.api.application;
 
 import com.company.holiday.holiday_service.api.application.dto.CountryUpsertCommand;
+import com.company.holiday.holiday_service.api.application.dto.CountryUpsertResult;
 import com.company.holiday.holiday_service.api.application.mapper.HolidayDomainMapper;
 import com.company.holiday.holiday_service.api.domain.Country;
+import com.company.holiday.holiday_service.api.infra.CountryJdbcWriter;
 import com.company.holiday.holiday_service.api.infra.CountryRepository;
+import com.company.holiday.holiday_service.global.config.CountrySyncProperties;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,8 +15,8 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.util.List;
-import java.util.Optional;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.BDDMockito.*;
 
 @ExtendWith(MockitoExtension.class)
@@ -22,6 +25,9 @@ class CountrySyncServiceTest {
     @Mock
     CountryRepository countryRepository;
 
+    @Mock
+    CountryJdbcWriter countryJdbcWriter;
+
     @Mock
     HolidayDomainMapper holidayDomainMapper;
 
@@ -29,12 +35,16 @@ class CountrySyncServiceTest {
 
     @BeforeEach
     void setUp() {
-        countrySyncService = new CountrySyncService(countryRepository, holidayDomainMapper);
+        countrySyncService = createService(false);
+    }
+
+    private CountrySyncService createService(boolean flagMissing) {
+        return new CountrySyncService(countryRepository, countryJdbcWriter, holidayDomainMapper, new CountrySyncProperties(flagMissing));
     }
 
-    @DisplayName("존재하지 않는 국가만 새로 저장한다")
+    @DisplayName("기존 국가를 한 번에 조회하고, 존재하지 않는 국가만 한 번에 추가한다")
     @Test
-    void upsertCountries_saveOnlyNewCountries() {
+    void upsertCountries_insertOnlyNewCountries() {
         // given
         CountryUpsertCommand krCommand = new CountryUpsertCommand("KR", "Korea, Republic of");
         CountryUpsertCommand usCommand = new CountryUpsertCommand("US", "United States");
@@ -42,23 +52,59 @@ class CountrySyncServiceTest {
         Country kr = Country.of("KR", "Korea, Republic of");
         Country us = Country.of("US", "United States");
 
-        given(countryRepository.findByCode("KR")).willReturn(Optional.of(kr));
-        given(countryRepository.findByCode("US")).willReturn(Optional.empty());
+        given(countryRepository.findAllForSync()).willReturn(List.of(kr));
         given(holidayDomainMapper.toCountry(usCommand)).willReturn(us);
 
-        List<CountryUpsertCommand> inputs = List.of(krCommand, usCommand);
-
         // when
-        countrySyncService.upsertCountries(inputs);
+        CountryUpsertResult result = countrySyncService.upsertCountries(List.of(krCommand, usCommand));
 
         // then
-        // 존재하는 KR은 save 호출 X
-        verify(countryRepository, never()).save(argThat(c -> c.getCode().equals("KR")));
+        verify(countryRepository, never()).findByCode(anyString());
+        verify(countryJdbcWriter).insertAll(List.of(us));
+        verify(countryJdbcWriter).updateAll(List.of());
+        assertThat(result).isEqualTo(new CountryUpsertResult(1, 0, 0));
+    }
 
-        // 존재하지 않는 US는 save 호출 O
-        verify(countryRepository, times(1)).save(argThat(c ->
-                c.getCode().equals("US") && c.getName().equals("United States")
+    @DisplayName("이름이 바뀐 국가는 새 이름으로 한 번에 갱신한다")
+    @Test
+    void upsertCountries_applyRenames() {
+        // given
+        Country kr = Country.of("KR", "Korea");
+        Country us = Country.of("US", "United States");
+        given(countryRepository.findAllForSync()).willReturn(List.of(kr, us));
+
+        // when
+        CountryUpsertResult result = countrySyncService.upsertCountries(List.of(
+                new CountryUpsertCommand("KR", "Korea, Republic of"),
+                new CountryUpsertCommand("US", "United States")
         ));
+
+        // then
+        verify(countryJdbcWriter).insertAll(List.of());
+        verify(countryJdbcWriter).updateAll(argThat(countries ->
+                countries.size() == 1 && countries.get(0).getName().equals("Korea, Republic of")
+        ));
+        assertThat(result).isEqualTo(new CountryUpsertResult(0, 1, 0));
+    }
+
+    @DisplayName("flag-missing 이 켜져 있으면 가용 국가 목록에서 사라진 국가를 표시하고, 꺼져 있으면 그대로 둔다")
+    @Test
+    void upsertCountries_flagMissing() {
+        // given
+        Country kr = Country.of("KR", "Korea, Republic of");
+        Country an = Country.of("AN", "Netherlands Antilles");
+        given(countryRepository.findAllForSync()).willReturn(List.of(kr, an));
+        List<CountryUpsertCommand> commands = List.of(new CountryUpsertCommand("KR", "Korea, Republic of"));
+
+        // when
+        CountryUpsertResult ignored = countrySyncService.upsertCountries(commands);
+        CountryUpsertResult flagged = createService(true).upsertCountries(commands);
+
+        // then
+        assertThat(ignored).isEqualTo(new CountryUpsertResult(0, 0, 0));
+        assertThat(flagged).isEqualTo(new CountryUpsertResult(0, 0, 1));
+        assertThat(an.isAvailable()).isFalse();
+        assertThat(kr.isAvailable()).isTrue();
     }
 
     @DisplayName("입력 리스트가 비어 있으면 아무 일도 하지 않는다")
@@ -69,6 +115,7 @@ class CountrySyncServiceTest {
 
         // then
         verifyNoInteractions(countryRepository);
+        verifyNoInteractions(countryJdbcWriter);
         verifyNoInteractions(holidayDomainMapper);
     }
 
@@ -1,31 +1,76 @@
 package com.company.holiday.holiday_service.api.application;
 
+import com.company.holiday.holiday_service.global.config.HolidaySyncRefreshProperties;
+import com.company.holiday.holiday_service.global.error.ErrorCode;
+import com.company.holiday.holiday_service.global.error.exception.ConflictException;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
 @ExtendWith(MockitoExtension.class)
 class HolidayBatchSchedulerTest {
 
     @Mock
-    private HolidayCommandService holidayCommandService;
+    private HolidaySyncJobRunner holidaySyncJobRunner;
 
-    @InjectMocks
     private HolidayBatchScheduler scheduler;
 
-    @DisplayName("스케줄러가 실행되면 배치 동기화가 호출된다")
+    @BeforeEach
+    void setUp() {
+        scheduler = new HolidayBatchScheduler(holidaySyncJobRunner, refreshProperties(false));
+    }
+
+    private HolidaySyncRefreshProperties refreshProperties(boolean enabled) {
+        return new HolidaySyncRefreshProperties(enabled, Duration.ofDays(7), Duration.ofDays(28), 2,
+                Duration.ofMinutes(1), Duration.ofHours(6), 10);
+    }
+
+    @DisplayName("스케줄러가 실행되면 동기화 실행기에 배치 작업을 등록한다")
     @Test
-    void syncPreviousAndCurrentYear_callsCommandService() {
+    void syncPreviousAndCurrentYear_submitBatchJob() {
+        // given
+        given(holidaySyncJobRunner.submit(HolidaySyncJob.Type.BATCH))
+                .willReturn(new HolidaySyncJob(HolidaySyncJob.Type.BATCH));
+
         // when
         scheduler.syncPreviousAndCurrentYear();
 
         // then
-        verify(holidayCommandService, times(1)).syncCountriesAndHolidaysForBatch();
+        verify(holidaySyncJobRunner, times(1)).submit(HolidaySyncJob.Type.BATCH);
+    }
+
+    @DisplayName("이미 실행 중인 동기화 작업이 있으면 예외 없이 이번 배치를 건너뛴다")
+    @Test
+    void syncPreviousAndCurrentYear_skipWhenAlreadyRunning() {
+        // given
+        given(holidaySyncJobRunner.submit(HolidaySyncJob.Type.BATCH))
+                .willThrow(new ConflictException(ErrorCode.SYNC_JOB_ALREADY_RUNNING));
+
+        // when & then
+        assertThatCode(() -> scheduler.syncPreviousAndCurrentYear())
+                .doesNotThrowAnyException();
+    }
+
+    @DisplayName("순환 갱신이 켜져 있으면 연 1회 배치 작업을 등록하지 않는다")
+    @Test
+    void syncPreviousAndCurrentYear_skipWhenRefreshEnabled() {
+        // given
+        HolidayBatchScheduler refreshingScheduler = new HolidayBatchScheduler(holidaySyncJobRunner, refreshProperties(true));
+
+        // when
+        refreshingScheduler.syncPreviousAndCurrentYear();
+
+        // then
+        verify(holidaySyncJobRunner, never()).submit(any());
     }
 
 }
@@ -1,16 +1,37 @@
 package com.company.holiday.holiday_service.api.application;
 
 import com.company.holiday.holiday_service.api.application.dto.CountryUpsertCommand;
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncBatch;
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncFailure;
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncRunContext;
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncSummary;
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncUnit;
 import com.company.holiday.holiday_service.api.application.dto.HolidayUpsertCommand;
+import com.company.holiday.holiday_service.api.application.dto.HolidayUpsertResult;
 import com.company.holiday.holiday_service.api.application.mapper.HolidayCommandMapper;
+import com.company.holiday.holiday_service.api.domain.HolidaySyncRun;
+import com.company.holiday.holiday_service.api.domain.HolidaySyncState;
+import com.company.holiday.holiday_service.api.domain.HolidayYearRangeCalculator;
+import com.company.holiday.holiday_service.api.domain.HolidayYearRangeCalculator.YearRange;
 import com.company.holiday.holiday_service.api.infra.CountryRepository;
+import com.company.holiday.holiday_service.api.infra.HolidaySyncLockJdbcRepository;
 import com.company.holiday.holiday_service.api.presentation.dto.response.HolidayDeleteResponse;
 import com.company.holiday.holiday_service.api.presentation.dto.response.HolidayRefreshResponse;
 import com.company.holiday.holiday_service.api.presentation.dto.response.HolidaySyncResponse;
 import com.company.holiday.holiday_service.clients.nager.NagerClient;
 import com.company.holiday.holiday_service.clients.nager.dto.NagerAvailableCountryResponse;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerCacheValidators;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerConditionalResult;
 import com.company.holiday.holiday_service.clients.nager.dto.NagerPublicHolidayResponse;
+import com.company.holiday.holiday_service.global.config.HolidaySyncGroupCommitProperties;
+import com.company.holiday.holiday_service.global.config.HolidaySyncLockProperties;
+import com.company.holiday.holiday_service.global.config.HolidaySyncProperties;
+import com.company.holiday.holiday_service.global.config.HolidaySyncShardingProperties;
+import com.company.holiday.holiday_service.global.config.HolidaySyncStagingProperties;
+import com.company.holiday.holiday_service.global.config.HolidayUnitLockProperties;
 import com.company.holiday.holiday_service.global.error.ErrorCode;
+import com.company.holiday.holiday_service.global.error.exception.BusinessException;
+import com.company.holiday.holiday_service.global.error.exception.CircuitOpenException;
 import com.company.holiday.holiday_service.global.error.exception.EntityNotFoundException;
 import com.company.holiday.holiday_service.global.error.exception.ExternalApiException;
 import com.company.holiday.holiday_service.global.error.exception.InvalidValueException;
@@ -20,14 +41,23 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.mockito.stubbing.Answer;
 
+import java.time.Duration;
 import java.time.LocalDate;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.stream.Collector;
 
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.intThat;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.*;
 
@@ -49,6 +79,15 @@ class HolidayCommandServiceTest {
     @Mock
     HolidaySyncService holidaySyncService;
 
+    @Mock
+    HolidaySyncCheckpointService checkpointService;
+
+    @Mock
+    HolidaySyncPartitionService partitionService;
+
+    @Mock
+    HolidayStagingService stagingService;
+
     HolidayCommandService holidayCommandService;
 
     @BeforeEach
@@ -58,11 +97,24 @@ class HolidayCommandServiceTest {
                 nagerClient,
                 mapper,
                 countrySyncService,
-                holidaySyncService
+                holidaySyncService,
+                checkpointService,
+                new HolidaySyncPipeline(syncProperties(false), groupCommitProperties()),
+                new HolidaySyncGroupWriter(),
+                unitLockManager(),
+                partitionService,
+                stagingService,
+                syncProperties(false),
+                shardingProperties(false),
+                stagingProperties(false)
         );
+
+        // 기본은 이어받을 실행이 없는 새 실행
+        lenient().when(checkpointService.startOrResume(any()))
+                .thenReturn(new HolidaySyncRunContext(1L, false, Set.of()));
     }
 
-    @DisplayName("가용 국가 조회 → 국가 Upsert → 나라별 최근 5년 공휴일 Upsert 순으로 호출되고, 응답에 국가수/공휴일 수를 담아 리턴한다")
+    @DisplayName("가용 국가 조회 → 국가 Upsert → 나라·연도별 최근 5년 공휴일 Upsert 순으로 호출되고, 응답에 국가수/공휴일 수를 담아 리턴한다")
     @Test
     void syncCountriesAndHolidays() {
         // given
@@ -88,20 +140,18 @@ class HolidayCommandServiceTest {
         var usHolidayCmd = mock(HolidayUpsertCommand.class);
 
         // 각 국가·연도마다 1개 공휴일이 있다고 가정
-        given(nagerClient.getPublicHolidays(anyInt(), eq("KR")))
-                .willReturn(List.of(krHolidayDto));
-        given(nagerClient.getPublicHolidays(anyInt(), eq("US")))
-                .willReturn(List.of(usHolidayDto));
+        given(nagerClient.collectPublicHolidaysIfModified(anyInt(), eq("KR"), any(), any()))
+                .willAnswer(streaming(List.of(krHolidayDto), NagerCacheValidators.none()));
+        given(nagerClient.collectPublicHolidaysIfModified(anyInt(), eq("US"), any(), any()))
+                .willAnswer(streaming(List.of(usHolidayDto), NagerCacheValidators.none()));
 
         given(mapper.toCommand(krHolidayDto)).willReturn(krHolidayCmd);
         given(mapper.toCommand(usHolidayDto)).willReturn(usHolidayCmd);
 
-        // upsertHolidaysInRange 가 실제로 저장한 공휴일 수를 리턴한다고 가정
-        // KR: 5건, US: 5건 → 합계 10건
-        given(holidaySyncService.upsertHolidaysInRange(eq("KR"), any(LocalDate.class), any(LocalDate.class), anyList()))
-                .willReturn(5);
-        given(holidaySyncService.upsertHolidaysInRange(eq("US"), any(LocalDate.class), any(LocalDate.class), anyList()))
-                .willReturn(5);
+        // upsertHolidays 가 국가·연도마다 1건을 저장했다고 가정
+        // 국가 2개 x 5년 → 합계 10건
+        given(holidaySyncService.upsertHolidays(any(HolidaySyncBatch.class)))
+                .willReturn(new HolidayUpsertResult(1, 0, 0, 0));
 
         // when
         HolidaySyncResponse response = holidayCommandService.syncCountriesAndHolidays();
@@ -110,15 +160,466 @@ class HolidayCommandServiceTest {
         // 1) 국가 upsert 가 한 번 호출되고, 변환된 커맨드 리스트가 그대로 전달된다.
         verify(countrySyncService).upsertCountries(List.of(krCommand, usCommand));
 
-        // 2) 나라별로 최근 5년 공휴일을 한 번에 upsert한다. 국가 2개 → 2번 호출
-        verify(holidaySyncService, times(2))
-                .upsertHolidaysInRange(anyString(), any(LocalDate.class), any(LocalDate.class), anyList());
-        verify(holidaySyncService).upsertHolidaysInRange(eq("KR"), any(LocalDate.class), any(LocalDate.class), anyList());
-        verify(holidaySyncService).upsertHolidaysInRange(eq("US"), any(LocalDate.class), any(LocalDate.class), anyList());
+        // 2) 나라·연도별로 공휴일을 upsert한다. 국가 2개 x 5년 → 10번 호출
+        verify(holidaySyncService, times(10)).upsertHolidays(any(HolidaySyncBatch.class));
+
+        // 3) 단위마다 체크포인트를 남기고, 끝나면 실행을 완료 처리한다.
+        verify(checkpointService, times(10)).markCommitted(eq(1L), any(HolidaySyncUnit.class));
+        verify(checkpointService).finish(1L, HolidaySyncRun.Status.COMPLETED);
 
-        // 3) 응답 값 검증 (국가 수 = 2, 공휴일 수 = upsertHolidaysInRange 리턴 합계)
+        // 4) 응답 값 검증 (국가 수 = 2, 공휴일 수 = upsertHolidays 리턴 합계)
         assertThat(response.countriesCount()).isEqualTo(2);
         assertThat(response.holidaysCount()).isEqualTo(10);
+        assertThat(response.skippedCount()).isZero();
+    }
+
+    // Nager 응답 본문의 공휴일을 하나씩 collector 로 흘려보내는 것처럼 응답한다.
+    private static Answer<NagerConditionalResult<?>> streaming(List<NagerPublicHolidayResponse> holidays, NagerCacheValidators validators) {
+        return invocation -> {
+            Collector<NagerPublicHolidayResponse, ?, ?> collector = invocation.getArgument(3);
+            return NagerConditionalResult.modified(holidays.stream().collect(collector), validators);
+        };
+    }
+
+    private HolidaySyncProperties syncProperties(boolean concurrent) {
+        return new HolidaySyncProperties(concurrent, 2, 1, 2, HolidaySyncProperties.WriteStrategy.CHANGESET, 500);
+    }
+
+    private HolidaySyncShardingProperties shardingProperties(boolean enabled) {
+        return new HolidaySyncShardingProperties(enabled, 4, Duration.ofMillis(10));
+    }
+
+    private HolidaySyncGroupCommitProperties groupCommitProperties() {
+        return new HolidaySyncGroupCommitProperties(true, 200, Duration.ofMillis(20));
+    }
+
+    private HolidaySyncStagingProperties stagingProperties(boolean enabled) {
+        return new HolidaySyncStagingProperties(enabled, 0.5);
+    }
+
+    // 노드 안 잠금만 쓰는 실제 잠금 관리자
+    private HolidayUnitLockManager unitLockManager() {
+        return new HolidayUnitLockManager(
+                new HolidayUnitLockProperties(64, Duration.ofSeconds(10), false, Duration.ofMillis(50)),
+                new HolidaySyncLockProperties(true, Duration.ofSeconds(60), Duration.ofSeconds(20), "node-1"),
+                mock(HolidaySyncLockJdbcRepository.class),
+                mock(HolidaySyncClusterLock.class)
+        );
+    }
+
+    @DisplayName("샤딩 모드에서는 남은 국가를 파티션으로 등록하고, 점유한 파티션의 반영 안 된 단위만 처리한 뒤 모든 파티션의 합산 결과를 리턴한다")
+    @Test
+    void syncCountriesAndHolidays_sharded() {
+        // given
+        HolidayCommandService shardedService = new HolidayCommandService(
+                countryRepository,
+                nagerClient,
+                mapper,
+                countrySyncService,
+                holidaySyncService,
+                checkpointService,
+                new HolidaySyncPipeline(syncProperties(false), groupCommitProperties()),
+                new HolidaySyncGroupWriter(),
+                unitLockManager(),
+                partitionService,
+                stagingService,
+                syncProperties(false),
+                shardingProperties(true),
+                stagingProperties(false)
+        );
+
+        var krResponse = new NagerAvailableCountryResponse("KR", "Korea");
+        var usResponse = new NagerAvailableCountryResponse("US", "United States");
+        given(nagerClient.getAvailableCountries()).willReturn(List.of(krResponse, usResponse));
+        given(mapper.toCommand(krResponse)).willReturn(new CountryUpsertCommand("KR", "Korea"));
+        given(mapper.toCommand(usResponse)).willReturn(new CountryUpsertCommand("US", "United States"));
+
+        // 이 노드는 KR 파티션만 점유하고, KR 의 가장 이른 연도는 이미 반영되어 있다. ( US 파티션은 다른 노드가 처리 )
+        YearRange range = HolidayYearRangeCalculator.lastFiveYears();
+        HolidaySyncPartitionClaim krClaim = new HolidaySyncPartitionClaim(
+                10L, 1L, 0, range, List.of("KR"), HolidaySyncLease.unmanaged(), () -> false
+        );
+        given(partitionService.claimNext(1L)).willReturn(Optional.of(krClaim), Optional.empty());
+        given(checkpointService.findCommittedUnits(1L)).willReturn(Set.of(new HolidaySyncUnit("KR", range.fromYear())));
+
+        given(nagerClient.collectPublicHolidaysIfModified(anyInt(), eq("KR"), any(), any()))
+                .willAnswer(streaming(List.of(), NagerCacheValidators.none()));
+        given(holidaySyncService.upsertHolidays(any(HolidaySyncBatch.class)))
+                .willReturn(new HolidayUpsertResult(1, 0, 0, 0));
+
+        // 처음 확인할 때는 US 파티션이 진행 중, 다음 확인에서 모든 파티션 완료
+        HolidaySyncSummary combined = new HolidaySyncSummary(new HolidayUpsertResult(9, 0, 0, 0), 9, 0, List.of());
+        given(partitionService.findCombinedSummary(1L)).willReturn(Optional.empty(), Optional.of(combined));
+
+        // when
+        HolidaySyncResponse response = shardedService.syncCountriesAndHolidays();
+
+        // then
+        verify(partitionService).plan(1L, range, List.of("KR", "US"));
+        verify(nagerClient, times(4)).collectPublicHolidaysIfModified(anyInt(), eq("KR"), any(), any());
+        verify(nagerClient, never()).collectPublicHolidaysIfModified(anyInt(), eq("US"), any(), any());
+        verify(partitionService).complete(eq(krClaim), argThat(summary -> summary.syncedUnits() == 4));
+        verify(checkpointService).finish(1L, HolidaySyncRun.Status.COMPLETED);
+
+        assertThat(response.countriesCount()).isEqualTo(2);
+        assertThat(response.holidaysCount()).isEqualTo(9);
+    }
+
+    @DisplayName("스테이징 모드에서는 단위를 스테이징에 적재만 하고, 모든 단위가 끝난 뒤 한 번에 공개한 건수를 리턴한다")
+    @Test
+    void syncCountriesAndHolidays_staging() {
+        // given
+        HolidayCommandService stagingModeService = stagingModeService();
+        givenSingleCountry();
+        given(stagingService.publish(1L)).willReturn(new HolidayUpsertResult(5, 0, 0, 0));
+
+        // when
+        HolidaySyncResponse response = stagingModeService.syncCountriesAndHolidays();
+
+        // then
+        verify(stagingService, times(5)).stage(eq(1L), any(HolidaySyncBatch.class));
+        verify(holidaySyncService, never()).upsertHolidays(any(HolidaySyncBatch.class));
+        verify(stagingService).publish(1L);
+        verify(checkpointService).finish(1L, HolidaySyncRun.Status.COMPLETED);
+
+        assertThat(response.holidaysCount()).isEqualTo(5);
+    }
+
+    @DisplayName("스테이징 검증에 실패하면 적재분과 체크포인트를 지우고, 실행을 중단으로 기록한 뒤 예외를 던진다")
+    @Test
+    void syncCountriesAndHolidays_stagingValidationFailed() {
+        // given
+        HolidayCommandService stagingModeService = stagingModeService();
+        givenSingleCountry();
+        given(stagingService.publish(1L))
+                .willThrow(new BusinessException(ErrorCode.SYNC_VALIDATION_FAILED));
+
+        // when & then
+        assertThatThrownBy(stagingModeService::syncCountriesAndHolidays)
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.SYNC_VALIDATION_FAILED));
+
+        verify(stagingService).discard(1L);
+        verify(checkpointService).clearCommitted(1L);
+        verify(checkpointService).finish(1L, HolidaySyncRun.Status.INTERRUPTED);
+    }
+
+    private HolidayCommandService stagingModeService() {
+        return new HolidayCommandService(
+                countryRepository,
+                nagerClient,
+                mapper,
+                countrySyncService,
+                holidaySyncService,
+                checkpointService,
+                new HolidaySyncPipeline(syncProperties(false), groupCommitProperties()),
+                new HolidaySyncGroupWriter(),
+                unitLockManager(),
+                partitionService,
+                stagingService,
+                syncProperties(false),
+                shardingProperties(false),
+                stagingProperties(true)
+        );
+    }
+
+    // KR 한 국가, 연도마다 공휴일 1개
+    private void givenSingleCountry() {
+        var krResponse = new NagerAvailableCountryResponse("KR", "Korea");
+        given(nagerClient.getAvailableCountries()).willReturn(List.of(krResponse));
+        given(mapper.toCommand(krResponse)).willReturn(new CountryUpsertCommand("KR", "Korea"));
+
+        var krHolidayDto = mock(NagerPublicHolidayResponse.class);
+        given(nagerClient.collectPublicHolidaysIfModified(anyInt(), eq("KR"), any(), any()))
+                .willAnswer(streaming(List.of(krHolidayDto), NagerCacheValidators.none()));
+        given(mapper.toCommand(krHolidayDto)).willReturn(mock(HolidayUpsertCommand.class));
+    }
+
+    @DisplayName("순환 갱신은 고른 단위만 조건부 요청으로 반영하고, 체크포인트와 스테이징을 거치지 않는다")
+    @Test
+    void refreshUnits() {
+        // given
+        HolidayCommandService stagingModeService = stagingModeService();
+        HolidaySyncUnit unit = new HolidaySyncUnit("KR", 2025);
+        HolidaySyncState previous = mock(HolidaySyncState.class);
+        given(previous.getEtag()).willReturn("\"v1\"");
+
+        var krHolidayDto = mock(NagerPublicHolidayResponse.class);
+        given(nagerClient.collectPublicHolidaysIfModified(eq(2025), eq("KR"), any(), any()))
+                .willAnswer(streaming(List.of(krHolidayDto), new NagerCacheValidators("\"v2\"", null)));
+        given(mapper.toCommand(krHolidayDto)).willReturn(mock(HolidayUpsertCommand.class));
+        given(holidaySyncService.upsertHolidays(any(HolidaySyncBatch.class)))
+                .willReturn(new HolidayUpsertResult(0, 1, 0, 0));
+
+        // when
+        HolidaySyncSummary summary = stagingModeService.refreshUnits(List.of(unit), Map.of(unit, previous));
+
+        // then
+        verify(nagerClient).collectPublicHolidaysIfModified(eq(2025), eq("KR"),
+                argThat(validators -> "\"v1\"".equals(validators.etag())), any());
+        verify(stagingService, never()).stage(any(), any());
+        verify(checkpointService, never()).markCommitted(any(), any());
+        assertThat(summary.syncedUnits()).isEqualTo(1);
+    }
+
+    @DisplayName("병렬 동기화에서 묶어 반영하던 단위 하나가 실패하면, 단위마다 다시 반영해 실패한 단위만 실패로 남긴다")
+    @Test
+    void syncCountriesAndHolidays_concurrentGroupFallback() {
+        // given
+        HolidaySyncProperties concurrentProperties = syncProperties(true);
+        HolidayCommandService concurrentService = new HolidayCommandService(
+                countryRepository,
+                nagerClient,
+                mapper,
+                countrySyncService,
+                holidaySyncService,
+                checkpointService,
+                new HolidaySyncPipeline(concurrentProperties, groupCommitProperties()),
+                new HolidaySyncGroupWriter(),
+                unitLockManager(),
+                partitionService,
+                stagingService,
+                concurrentProperties,
+                shardingProperties(false),
+                stagingProperties(false)
+        );
+
+        var krResponse = new NagerAvailableCountryResponse("KR", "Korea");
+        given(nagerClient.getAvailableCountries()).willReturn(List.of(krResponse));
+        given(mapper.toCommand(krResponse)).willReturn(new CountryUpsertCommand("KR", "Korea"));
+        given(nagerClient.collectPublicHolidaysIfModified(anyInt(), eq("KR"), any(), any()))
+                .willAnswer(streaming(List.of(), NagerCacheValidators.none()));
+
+        int failingYear = HolidayYearRangeCalculator.lastFiveYears().toYear();
+        given(holidaySyncService.upsertHolidays(any(HolidaySyncBatch.class))).willAnswer(invocation -> {
+            HolidaySyncBatch batch = invocation.getArgument(0);
+            if (batch.unit().year() == failingYear) {
+                throw new IllegalStateException("write failed");
+            }
+            return new HolidayUpsertResult(1, 0, 0, 0);
+        });
+
+        // when
+        HolidaySyncResponse response = concurrentService.syncCountriesAndHolidays();
+
+        // then
+        assertThat(response.failedCount()).isEqualTo(1);
+        assertThat(response.failedUnits().getFirst().year()).isEqualTo(failingYear);
+        assertThat(response.holidaysCount()).isEqualTo(4);
+        verify(checkpointService, never()).markCommitted(1L, new HolidaySyncUnit("KR", failingYear));
+        verify(checkpointService).finish(1L, HolidaySyncRun.Status.INTERRUPTED);
+    }
+
+    @DisplayName("병렬 동기화 모드에서도 나라·연도별로 한 번씩 upsert 하고, 직렬 경로와 같은 국가수/공휴일 수를 리턴한다")
+    @Test
+    void syncCountriesAndHolidays_concurrent() {
+        // given
+        HolidaySyncProperties concurrentProperties = syncProperties(true);
+        HolidayCommandService concurrentService = new HolidayCommandService(
+                countryRepository,
+                nagerClient,
+                mapper,
+                countrySyncService,
+                holidaySyncService,
+                checkpointService,
+                new HolidaySyncPipeline(concurrentProperties, groupCommitProperties()),
+                new HolidaySyncGroupWriter(),
+                unitLockManager(),
+                partitionService,
+                stagingService,
+                concurrentProperties,
+                shardingProperties(false),
+                stagingProperties(false)
+        );
+
+        var krResponse = new NagerAvailableCountryResponse("KR", "Korea");
+        var usResponse = new NagerAvailableCountryResponse("US", "United States");
+        given(nagerClient.getAvailableCountries()).willReturn(List.of(krResponse, usResponse));
+        given(mapper.toCommand(krResponse)).willReturn(new CountryUpsertCommand("KR", "Korea"));
+        given(mapper.toCommand(usResponse)).willReturn(new CountryUpsertCommand("US", "United States"));
+
+        given(nagerClient.collectPublicHolidaysIfModified(anyInt(), anyString(), any(), any()))
+                .willAnswer(streaming(List.of(), NagerCacheValidators.none()));
+
+        given(holidaySyncService.upsertHolidays(any(HolidaySyncBatch.class)))
+                .willReturn(new HolidayUpsertResult(1, 0, 0, 0));
+
+        // when
+        HolidaySyncResponse response = concurrentService.syncCountriesAndHolidays();
+
+        // then
+        // 나라 2개 x 최근 5년 → Nager 호출 10번, upsert 10번
+        verify(nagerClient, times(10)).collectPublicHolidaysIfModified(anyInt(), anyString(), any(), any());
+        verify(holidaySyncService, times(10)).upsertHolidays(any(HolidaySyncBatch.class));
+
+        assertThat(response.countriesCount()).isEqualTo(2);
+        assertThat(response.holidaysCount()).isEqualTo(10);
+    }
+
+    @DisplayName("이전 동기화의 캐시 검증자로 조건부 요청을 보내고, 304 응답을 받은 나라·연도는 upsert 를 생략하고 skippedCount 로 집계한다")
+    @Test
+    void syncCountriesAndHolidays_skipNotModified() {
+        // given
+        var krResponse = new NagerAvailableCountryResponse("KR", "Korea");
+        given(nagerClient.getAvailableCountries()).willReturn(List.of(krResponse));
+        given(mapper.toCommand(krResponse)).willReturn(new CountryUpsertCommand("KR", "Korea"));
+
+        // KR 의 모든 연도에 대해 이전 동기화 ETag 가 저장되어 있다고 가정
+        HolidaySyncState state = mock(HolidaySyncState.class);
+        given(state.getEtag()).willReturn("\"v1\"");
+        Map<HolidaySyncUnit, HolidaySyncState> states = new HashMap<>();
+        YearRange range = HolidayYearRangeCalculator.lastFiveYears();
+        for (int year = range.fromYear(); year <= range.toYear(); year++) {
+            states.put(new HolidaySyncUnit("KR", year), state);
+        }
+        given(holidaySyncService.findSyncStates(anyInt(), anyInt())).willReturn(states);
+
+        NagerCacheValidators validators = new NagerCacheValidators("\"v1\"", null);
+        given(nagerClient.collectPublicHolidaysIfModified(anyInt(), eq("KR"), eq(validators), any()))
+                .willReturn(NagerConditionalResult.notModified(validators));
+
+        // when
+        HolidaySyncResponse response = holidayCommandService.syncCountriesAndHolidays();
+
+        // then
+        verify(nagerClient, times(5)).collectPublicHolidaysIfModified(anyInt(), eq("KR"), eq(validators), any());
+        verify(holidaySyncService, never()).upsertHolidays(any());
+
+        assertThat(response.holidaysCount()).isZero();
+        assertThat(response.skippedCount()).isEqualTo(5);
+    }
+
+    @DisplayName("검증자 없이 200 응답을 받더라도, 내용 지문이 직전 반영분과 같으면 upsert 를 생략하고 skippedCount 로 집계한다")
+    @Test
+    void syncCountriesAndHolidays_skipSameFingerprint() {
+        // given
+        var krResponse = new NagerAvailableCountryResponse("KR", "Korea");
+        given(nagerClient.getAvailableCountries()).willReturn(List.of(krResponse));
+        given(mapper.toCommand(krResponse)).willReturn(new CountryUpsertCommand("KR", "Korea"));
+
+        var holidayDto = mock(NagerPublicHolidayResponse.class);
+        HolidayUpsertCommand holidayCommand = createHolidayCommand("KR", LocalDate.of(2025, 1, 1), "새해", "New Year");
+        given(nagerClient.collectPublicHolidaysIfModified(anyInt(), eq("KR"), any(), any()))
+                .willAnswer(streaming(List.of(holidayDto), NagerCacheValidators.none()));
+        given(mapper.toCommand(holidayDto)).willReturn(holidayCommand);
+
+        // KR 의 모든 연도에 같은 내용이 이미 반영되어 있다고 가정
+        HolidaySyncState state = mock(HolidaySyncState.class);
+        given(state.hasFingerprint(HolidayFingerprintCalculator.fingerprint(List.of(holidayCommand)))).willReturn(true);
+        given(state.hasValidators(null, null)).willReturn(true);
+        Map<HolidaySyncUnit, HolidaySyncState> states = new HashMap<>();
+        YearRange range = HolidayYearRangeCalculator.lastFiveYears();
+        for (int year = range.fromYear(); year <= range.toYear(); year++) {
+            states.put(new HolidaySyncUnit("KR", year), state);
+        }
+        given(holidaySyncService.findSyncStates(anyInt(), anyInt())).willReturn(states);
+
+        // when
+        HolidaySyncResponse response = holidayCommandService.syncCountriesAndHolidays();
+
+        // then
+        verify(holidaySyncService, never()).upsertHolidays(any());
+        verify(holidaySyncService, never()).recordSyncState(any());
+
+        assertThat(response.holidaysCount()).isZero();
+        assertThat(response.skippedCount()).isEqualTo(5);
+    }
+
+    @DisplayName("중단된 실행을 이어받으면 체크포인트에 기록된 나라·연도는 다시 가져오지 않고 남은 단위만 동기화한다")
+    @Test
+    void syncCountriesAndHolidays_resumeFromCheckpoint() {
+        // given
+        var krResponse = new NagerAvailableCountryResponse("KR", "Korea");
+        given(nagerClient.getAvailableCountries()).willReturn(List.of(krResponse));
+        given(mapper.toCommand(krResponse)).willReturn(new CountryUpsertCommand("KR", "Korea"));
+
+        // 최근 5년 중 앞의 3년은 이전 실행에서 반영 완료
+        YearRange range = HolidayYearRangeCalculator.lastFiveYears();
+        Set<HolidaySyncUnit> committed = Set.of(
+                new HolidaySyncUnit("KR", range.fromYear()),
+                new HolidaySyncUnit("KR", range.fromYear() + 1),
+                new HolidaySyncUnit("KR", range.fromYear() + 2)
+        );
+        given(checkpointService.startOrResume(any())).willReturn(new HolidaySyncRunContext(7L, true, committed));
+
+        given(nagerClient.collectPublicHolidaysIfModified(anyInt(), eq("KR"), any(), any()))
+                .willAnswer(streaming(List.of(), NagerCacheValidators.none()));
+        given(holidaySyncService.upsertHolidays(any(HolidaySyncBatch.class)))
+                .willReturn(HolidayUpsertResult.EMPTY);
+
+        // when
+        holidayCommandService.syncCountriesAndHolidays();
+
+        // then
+        verify(nagerClient, times(2)).collectPublicHolidaysIfModified(anyInt(), eq("KR"), any(), any());
+        verify(nagerClient).collectPublicHolidaysIfModified(eq(range.toYear() - 1), eq("KR"), any(), any());
+        verify(nagerClient).collectPublicHolidaysIfModified(eq(range.toYear()), eq("KR"), any(), any());
+        verify(checkpointService, times(2)).markCommitted(eq(7L), any(HolidaySyncUnit.class));
+        verify(checkpointService).finish(7L, HolidaySyncRun.Status.COMPLETED);
+    }
+
+    @DisplayName("취소 요청이 있으면 다음 나라·연도 단위를 시작하지 않고 CancellationException 으로 중단한다")
+    @Test
+    void syncCountriesAndHolidays_cancelled() {
+        // given
+        var krResponse = new NagerAvailableCountryResponse("KR", "Korea");
+        given(nagerClient.getAvailableCountries()).willReturn(List.of(krResponse));
+        given(mapper.toCommand(krResponse)).willReturn(new CountryUpsertCommand("KR", "Korea"));
+
+        HolidaySyncProgress cancelled = new HolidaySyncProgress() {
+            @Override
+            public boolean isCancelRequested() {
+                return true;
+            }
+        };
+
+        // when & then
+        assertThatThrownBy(() -> holidayCommandService.syncCountriesAndHolidays(cancelled))
+                .isInstanceOf(CancellationException.class);
+
+        verify(nagerClient, never()).collectPublicHolidaysIfModified(anyInt(), anyString(), any(), any());
+        verify(holidaySyncService, never()).upsertHolidays(any());
+        // 다음 실행이 이어받을 수 있도록 중단으로 기록
+        verify(checkpointService).finish(1L, HolidaySyncRun.Status.INTERRUPTED);
+    }
+
+    @DisplayName("한 나라·연도의 공휴일 조회가 실패해도 나머지 단위는 계속 동기화하고, 실패한 단위는 체크포인트 없이 failedUnits 로 응답한다")
+    @Test
+    void syncCountriesAndHolidays_isolateUnitFailure() {
+        // given
+        var krResponse = new NagerAvailableCountryResponse("KR", "Korea");
+        var usResponse = new NagerAvailableCountryResponse("US", "United States");
+        given(nagerClient.getAvailableCountries()).willReturn(List.of(krResponse, usResponse));
+        given(mapper.toCommand(krResponse)).willReturn(new CountryUpsertCommand("KR", "Korea"));
+        given(mapper.toCommand(usResponse)).willReturn(new CountryUpsertCommand("US", "United States"));
+
+        // KR 은 정상, US 는 재시도 후에도 실패
+        YearRange range = HolidayYearRangeCalculator.lastFiveYears();
+        given(nagerClient.collectPublicHolidaysIfModified(anyInt(), eq("KR"), any(), any()))
+                .willAnswer(streaming(List.of(), NagerCacheValidators.none()));
+        given(nagerClient.collectPublicHolidaysIfModified(eq(range.toYear()), eq("US"), any(), any()))
+                .willThrow(new ExternalApiException(ErrorCode.INTERNAL_SERVER_ERROR, "Nager API 공휴일 조회 중 에러 발생", null, true));
+        given(nagerClient.collectPublicHolidaysIfModified(intThat(year -> year != range.toYear()), eq("US"), any(), any()))
+                .willAnswer(streaming(List.of(), NagerCacheValidators.none()));
+
+        given(holidaySyncService.upsertHolidays(any(HolidaySyncBatch.class)))
+                .willReturn(new HolidayUpsertResult(1, 0, 0, 0));
+
+        // when
+        HolidaySyncResponse response = holidayCommandService.syncCountriesAndHolidays();
+
+        // then
+        // 실패한 US 마지막 연도를 제외한 9개 단위는 반영되고 체크포인트가 남는다.
+        verify(holidaySyncService, times(9)).upsertHolidays(any(HolidaySyncBatch.class));
+        verify(checkpointService, times(9)).markCommitted(eq(1L), any(HolidaySyncUnit.class));
+        verify(checkpointService, never()).markCommitted(1L, new HolidaySyncUnit("US", range.toYear()));
+        // 다음 실행이 실패한 단위만 이어서 처리하도록 중단으로 기록
+        verify(checkpointService).finish(1L, HolidaySyncRun.Status.INTERRUPTED);
+
+        assertThat(response.holidaysCount()).isEqualTo(9);
+        assertThat(response.failedCount()).isEqualTo(1);
+        assertThat(response.failedUnits().get(0))
+                .isEqualTo(new HolidaySyncFailure("US", range.toYear(), "Nager API 공휴일 조회 중 에러 발생"));
     }
 
     @DisplayName("가용 국가 조회에서 ExternalApiException이 발생하면 그대로 전파하고 이후 동기화는 수행하지 않는다")
@@ -186,8 +687,8 @@ class HolidayCommandServiceTest {
         NagerPublicHolidayResponse dto1 = mock(NagerPublicHolidayResponse.class);
         NagerPublicHolidayResponse dto2 = mock(NagerPublicHolidayResponse.class);
 
-        given(nagerClient.getPublicHolidays(year, countryCode))
-                .willReturn(List.of(dto1, dto2));
+        given(nagerClient.collectPublicHolidaysIfModified(eq(year), eq(countryCode), eq(NagerCacheValidators.none()), any()))
+                .willAnswer(streaming(List.of(dto1, dto2), new NagerCacheValidators("\"v2\"", null)));
 
         // 3) DTO → Command 매핑
         HolidayUpsertCommand cmd1 = createHolidayCommand(
@@ -207,12 +708,8 @@ class HolidayCommandServiceTest {
         given(mapper.toCommand(dto2)).willReturn(cmd2);
 
         // 4) HolidaySyncService 가 실제로 2건을 저장했다고 가정
-        given(holidaySyncService.upsertHolidaysInRange(
-                eq(countryCode),
-                any(LocalDate.class),
-                any(LocalDate.class),
-                anyList()
-        )).willReturn(2);
+        given(holidaySyncService.upsertHolidays(any(HolidaySyncBatch.class)))
+                .willReturn(new HolidayUpsertResult(2, 0, 0, 0));
 
         // when
         HolidayRefreshResponse response = holidayCommandService.refreshHolidays(year, countryCode);
@@ -221,25 +718,49 @@ class HolidayCommandServiceTest {
         // 1) 국가 존재 여부 체크
         verify(countryRepository).existsByCode(countryCode);
 
-        // 2) 해당 국가/연도에 대해 외부 공휴일 조회
-        verify(nagerClient).getPublicHolidays(year, countryCode);
+        // 2) 해당 국가/연도에 대해 조건부 요청 없이 외부 공휴일 조회
+        verify(nagerClient).collectPublicHolidaysIfModified(eq(year), eq(countryCode), eq(NagerCacheValidators.none()), any());
 
         // 3) DTO → Command 매핑
         verify(mapper).toCommand(dto1);
         verify(mapper).toCommand(dto2);
 
-        // 4) 동기화 서비스 호출 (year 기준 [1월1일 ~ 12월31일] 범위로 upsert)
-        verify(holidaySyncService).upsertHolidaysInRange(
-                eq(countryCode),
-                eq(LocalDate.of(year, 1, 1)),
-                eq(LocalDate.of(year, 12, 31)),
-                eq(List.of(cmd1, cmd2))
+        // 4) 동기화 서비스 호출 (해당 국가·연도 단위로 upsert, 내용 지문과 새 캐시 검증자 포함)
+        verify(holidaySyncService).upsertHolidays(
+                HolidaySyncBatch.modified(
+                        new HolidaySyncUnit(countryCode, year),
+                        List.of(cmd1, cmd2),
+                        HolidayFingerprintCalculator.fingerprint(List.of(cmd1, cmd2)),
+                        "\"v2\"",
+                        null
+                )
         );
 
         // 5) 응답에 "실제 upsert된 공휴일 개수"가 담긴다
         assertThat(response.holidaysCount()).isEqualTo(2);
     }
 
+    @DisplayName("Nager 회로가 열려 있으면 재동기화를 생략하고 기존 데이터를 유지했다고 바로 응답한다")
+    @Test
+    void refreshHolidays_circuitOpen() {
+        // given
+        int year = 2023;
+        String countryCode = "KR";
+
+        given(countryRepository.existsByCode(countryCode))
+                .willReturn(true);
+        given(nagerClient.collectPublicHolidaysIfModified(eq(year), eq(countryCode), eq(NagerCacheValidators.none()), any()))
+                .willThrow(new CircuitOpenException("Nager API 회로가 열려 있어 호출하지 않았습니다. state=OPEN"));
+
+        // when
+        HolidayRefreshResponse response = holidayCommandService.refreshHolidays(year, countryCode);
+
+        // then
+        assertThat(response.keptExistingData()).isTrue();
+        assertThat(response.holidaysCount()).isZero();
+        verify(holidaySyncService, never()).upsertHolidays(any());
+    }
+
     private HolidayUpsertCommand createHolidayCommand(
             String countryCode,
             LocalDate date,
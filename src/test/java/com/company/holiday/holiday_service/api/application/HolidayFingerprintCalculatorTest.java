@@ -0,0 +1,45 @@
+package com.company.holiday.holiday_service.api.application;
+
+import com.company.holiday.holiday_service.api.application.dto.HolidayUpsertCommand;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HolidayFingerprintCalculatorTest {
+
+    @DisplayName("공휴일 목록의 순서가 달라도 내용이 같으면 같은 지문을 리턴한다")
+    @Test
+    void fingerprint_ignoreOrder() {
+        // given
+        HolidayUpsertCommand newYear = createCommand(LocalDate.of(2025, 1, 1), "새해", "New Year");
+        HolidayUpsertCommand independence = createCommand(LocalDate.of(2025, 3, 1), "삼일절", "Independence Movement Day");
+
+        // when
+        String fingerprint = HolidayFingerprintCalculator.fingerprint(List.of(newYear, independence));
+        String reordered = HolidayFingerprintCalculator.fingerprint(List.of(independence, newYear));
+
+        // then
+        assertThat(fingerprint).isEqualTo(reordered).hasSize(64);
+    }
+
+    @DisplayName("공휴일 내용이 하나라도 바뀌면 다른 지문을 리턴한다")
+    @Test
+    void fingerprint_changedContent() {
+        // given
+        List<HolidayUpsertCommand> before = List.of(createCommand(LocalDate.of(2025, 3, 1), "삼일절", "Independence Movement Day"));
+        List<HolidayUpsertCommand> after = List.of(createCommand(LocalDate.of(2025, 3, 1), "삼일절", "March 1st Movement Day"));
+
+        // when & then
+        assertThat(HolidayFingerprintCalculator.fingerprint(before))
+                .isNotEqualTo(HolidayFingerprintCalculator.fingerprint(after));
+    }
+
+    private HolidayUpsertCommand createCommand(LocalDate date, String localName, String name) {
+        return new HolidayUpsertCommand("KR", date, localName, name, true, false, null, List.of("Public"), null);
+    }
+
+}
@@ -0,0 +1,79 @@
+package com.company.holiday.holiday_service.api.application;
+
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncUnit;
+import com.company.holiday.holiday_service.api.domain.HolidayYearRangeCalculator.YearRange;
+import com.company.holiday.holiday_service.global.config.HolidaySyncRefreshProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HolidayRefreshScheduleTest {
+
+    private static final YearRange RANGE = new YearRange(2021, 2025);
+    private static final List<String> COUNTRIES = List.of("KR", "US", "JP", "DE");
+
+    private final HolidayRefreshSchedule schedule = new HolidayRefreshSchedule(new HolidaySyncRefreshProperties(
+            true, Duration.ofHours(1), Duration.ofHours(4), 2, Duration.ofMinutes(1), Duration.ofHours(6), 10
+    ));
+
+    @DisplayName("연속된 확인 구간으로 나눠 보면, 최근 연도는 period 마다, 지난 연도는 settledPeriod 마다 정확히 한 번씩 돌아온다")
+    @Test
+    void dueUnits_onceEveryPeriod() {
+        // given
+        Instant start = Instant.parse("2025-03-01T00:00:00Z");
+        Map<HolidaySyncUnit, Integer> counts = new HashMap<>();
+
+        // when - 4 시간을 1 분 단위로 확인
+        for (int minute = 0; minute < 240; minute++) {
+            Instant from = start.plus(Duration.ofMinutes(minute));
+            for (HolidaySyncUnit unit : schedule.dueUnits(COUNTRIES, RANGE, from, from.plus(Duration.ofMinutes(1)))) {
+                counts.merge(unit, 1, Integer::sum);
+            }
+        }
+
+        // then
+        assertThat(counts).hasSize(COUNTRIES.size() * 5);
+        counts.forEach((unit, count) -> assertThat(count).isEqualTo(unit.year() >= 2024 ? 4 : 1));
+    }
+
+    @DisplayName("확인 구간이 주기보다 길면 모든 단위가 대상이다")
+    @Test
+    void dueUnits_windowLongerThanPeriod() {
+        // given
+        Instant from = Instant.parse("2025-03-01T00:00:00Z");
+
+        // when
+        List<HolidaySyncUnit> due = schedule.dueUnits(COUNTRIES, RANGE, from, from.plus(Duration.ofHours(5)));
+
+        // then
+        assertThat(due).hasSize(COUNTRIES.size() * 5);
+    }
+
+    @DisplayName("한 번도 동기화하지 않은 단위만 국가마다 최근 연도부터 고른다")
+    @Test
+    void newUnits() {
+        // given
+        Set<HolidaySyncUnit> synced = Set.of(
+                new HolidaySyncUnit("KR", 2021), new HolidaySyncUnit("KR", 2022), new HolidaySyncUnit("KR", 2023),
+                new HolidaySyncUnit("KR", 2024), new HolidaySyncUnit("KR", 2025), new HolidaySyncUnit("US", 2025)
+        );
+
+        // when
+        List<HolidaySyncUnit> units = schedule.newUnits(List.of("KR", "US"), RANGE, synced);
+
+        // then
+        assertThat(units).containsExactly(
+                new HolidaySyncUnit("US", 2024), new HolidaySyncUnit("US", 2023),
+                new HolidaySyncUnit("US", 2022), new HolidaySyncUnit("US", 2021)
+        );
+    }
+
+}
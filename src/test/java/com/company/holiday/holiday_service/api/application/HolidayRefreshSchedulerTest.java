@@ -0,0 +1,78 @@
+package com.company.holiday.holiday_service.api.application;
+
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncSummary;
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncUnit;
+import com.company.holiday.holiday_service.global.config.HolidaySyncJobProperties;
+import com.company.holiday.holiday_service.global.config.HolidaySyncRefreshProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Captor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class HolidayRefreshSchedulerTest {
+
+    @Mock
+    HolidayCommandService holidayCommandService;
+
+    @Mock
+    HolidaySyncService holidaySyncService;
+
+    @Mock
+    HolidaySyncClusterLock clusterLock;
+
+    @Captor
+    ArgumentCaptor<List<HolidaySyncUnit>> unitsCaptor;
+
+    HolidayRefreshScheduler scheduler;
+
+    @AfterEach
+    void tearDown() {
+        scheduler.shutdown();
+    }
+
+    @DisplayName("가용 국가 목록에서 빠진 국가는 flag-missing 설정과 상관없이 다음 갱신 대상에서 제외한다")
+    @Test
+    void tick_excludeDroppedCountry() {
+        // given - 국가 목록을 매번 다시 받고, 동기화한 단위가 없어 모든 단위를 새 단위로 처리한다
+        scheduler = new HolidayRefreshScheduler(holidayCommandService, holidaySyncService, clusterLock,
+                new HolidaySyncRefreshProperties(true, Duration.ofDays(7), Duration.ofDays(28), 2,
+                        Duration.ofMinutes(1), Duration.ofNanos(1), 100),
+                new HolidaySyncJobProperties(20, Duration.ofSeconds(5)));
+        given(clusterLock.tryAcquire(eq(HolidayRefreshScheduler.LOCK_NAME), any()))
+                .willReturn(Optional.of(HolidaySyncLease.unmanaged()));
+        given(holidayCommandService.syncCountries())
+                .willReturn(List.of("KR", "US"))
+                .willReturn(List.of("KR"));
+        given(holidaySyncService.findSyncStates(anyInt(), anyInt())).willReturn(Map.of());
+        given(holidayCommandService.refreshUnits(any(), any())).willReturn(HolidaySyncSummary.EMPTY);
+
+        // when - 첫 확인 뒤 US 가 목록에서 빠진다
+        scheduler.tick();
+        scheduler.tick();
+
+        // then
+        verify(holidayCommandService, times(2)).refreshUnits(unitsCaptor.capture(), any());
+        List<List<HolidaySyncUnit>> refreshed = unitsCaptor.getAllValues();
+        assertThat(refreshed.get(0)).extracting(HolidaySyncUnit::countryCode).contains("KR", "US");
+        assertThat(refreshed.get(1)).extracting(HolidaySyncUnit::countryCode).containsOnly("KR");
+    }
+
+}
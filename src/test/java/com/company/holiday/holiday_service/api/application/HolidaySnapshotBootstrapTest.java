@@ -0,0 +1,72 @@
+package com.company.holiday.holiday_service.api.application;
+
+import com.company.holiday.holiday_service.api.infra.HolidaySnapshotJdbcRepository;
+import com.company.holiday.holiday_service.global.config.HolidaySnapshotProperties;
+import com.company.holiday.holiday_service.global.error.ErrorCode;
+import com.company.holiday.holiday_service.global.error.exception.BusinessException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.api.io.TempDir;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class HolidaySnapshotBootstrapTest {
+
+    @Mock
+    HolidaySnapshotService snapshotService;
+
+    @Mock
+    HolidaySnapshotJdbcRepository snapshotRepository;
+
+    @TempDir
+    Path tempDir;
+
+    @DisplayName("스냅샷의 손상된 행 때문에 DB 반영이 실패해도 기동을 막지 않는다")
+    @Test
+    void importOnStartup_dataAccessFailure() throws IOException {
+        // given
+        Path path = givenSnapshotFile();
+        given(snapshotService.importSnapshot(path))
+                .willThrow(new DataIntegrityViolationException("duplicate key value violates unique constraint"));
+        HolidaySnapshotBootstrap bootstrap = bootstrap(path);
+
+        // when & then
+        assertThatCode(bootstrap::importOnStartup).doesNotThrowAnyException();
+        verify(snapshotService).importSnapshot(path);
+    }
+
+    @DisplayName("스냅샷 형식 오류로 불러오지 못해도 기동을 막지 않는다")
+    @Test
+    void importOnStartup_invalidSnapshot() throws IOException {
+        // given
+        Path path = givenSnapshotFile();
+        given(snapshotService.importSnapshot(path))
+                .willThrow(new BusinessException(ErrorCode.INTERNAL_SERVER_ERROR, "스냅샷의 날짜 값이 올바르지 않습니다. value=2025-13-45"));
+        HolidaySnapshotBootstrap bootstrap = bootstrap(path);
+
+        // when & then
+        assertThatCode(bootstrap::importOnStartup).doesNotThrowAnyException();
+    }
+
+    private Path givenSnapshotFile() throws IOException {
+        Path path = Files.createFile(tempDir.resolve("snapshot.json.gz"));
+        given(snapshotRepository.hasAnyCountry()).willReturn(false);
+        return path;
+    }
+
+    private HolidaySnapshotBootstrap bootstrap(Path path) {
+        return new HolidaySnapshotBootstrap(snapshotService, snapshotRepository, new HolidaySnapshotProperties(path.toString(), true));
+    }
+
+}
@@ -0,0 +1,169 @@
+package com.company.holiday.holiday_service.api.application;
+
+import com.company.holiday.holiday_service.IntegrationTestSupport;
+import com.company.holiday.holiday_service.api.application.dto.HolidaySnapshotResult;
+import com.company.holiday.holiday_service.api.domain.Country;
+import com.company.holiday.holiday_service.api.domain.Holiday;
+import com.company.holiday.holiday_service.api.infra.CountryRepository;
+import com.company.holiday.holiday_service.api.infra.HolidayJdbcWriter;
+import com.company.holiday.holiday_service.api.infra.HolidayRepository;
+import com.company.holiday.holiday_service.global.error.exception.BusinessException;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.tuple;
+
+class HolidaySnapshotServiceTest extends IntegrationTestSupport {
+
+    @Autowired
+    private HolidaySnapshotService holidaySnapshotService;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private HolidayRepository holidayRepository;
+
+    @Autowired
+    private HolidayJdbcWriter holidayJdbcWriter;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @TempDir
+    private Path tempDir;
+
+    @DisplayName("국가·공휴일을 스냅샷으로 내보내고, 비운 DB 에 다시 불러오면 같은 내용이 복원된다")
+    @Test
+    void exportAndImport() {
+        // given
+        Country kr = countryRepository.save(Country.of("KR", "Korea, Republic of"));
+        Country us = countryRepository.save(Country.of("US", "United States"));
+        Country xx = Country.of("XX", "Dropped Country");
+        xx.markUnavailable();
+        countryRepository.save(xx);
+        holidayJdbcWriter.insertAll(List.of(
+                Holiday.of(kr, LocalDate.of(2025, 1, 1), "새해", "New Year's Day", true, true, null, "Public", null),
+                Holiday.of(us, LocalDate.of(2025, 7, 4), "Independence Day", "Independence Day", false, true, 1776, "Public", "US-CA,US-NY")
+        ));
+        entityManager.flush();
+
+        Path path = tempDir.resolve("snapshot.json.gz");
+        HolidaySnapshotResult exported = holidaySnapshotService.export(path);
+
+        holidayRepository.deleteAllInBatch();
+        countryRepository.deleteAllInBatch();
+        entityManager.clear();
+
+        // when
+        HolidaySnapshotResult imported = holidaySnapshotService.importSnapshot(path);
+
+        // then
+        assertThat(exported.countriesCount()).isEqualTo(3);
+        assertThat(exported.holidaysCount()).isEqualTo(2);
+        assertThat(exported.sizeBytes()).isPositive();
+        assertThat(imported.countriesCount()).isEqualTo(3);
+        assertThat(imported.holidaysCount()).isEqualTo(2);
+        assertThat(imported.createdAt()).isEqualTo(exported.createdAt());
+
+        assertThat(countryRepository.findAll())
+                .extracting(Country::getCode, Country::getName, Country::isAvailable)
+                .containsExactlyInAnyOrder(
+                        tuple("KR", "Korea, Republic of", true),
+                        tuple("US", "United States", true),
+                        tuple("XX", "Dropped Country", false)
+                );
+        assertThat(holidayRepository.findAll())
+                .extracting(h -> h.getCountry().getCode(), Holiday::getDate, Holiday::getLocalName, Holiday::getLaunchYear, Holiday::getCountiesRaw)
+                .containsExactlyInAnyOrder(
+                        tuple("KR", LocalDate.of(2025, 1, 1), "새해", null, null),
+                        tuple("US", LocalDate.of(2025, 7, 4), "Independence Day", 1776, "US-CA,US-NY")
+                );
+    }
+
+    @DisplayName("이미 국가가 있는 DB 에는 스냅샷을 불러오지 않는다")
+    @Test
+    void importSnapshot_notEmpty() {
+        // given
+        countryRepository.save(Country.of("KR", "Korea, Republic of"));
+        entityManager.flush();
+        Path path = tempDir.resolve("snapshot.json.gz");
+        holidaySnapshotService.export(path);
+
+        // when & then
+        assertThatThrownBy(() -> holidaySnapshotService.importSnapshot(path))
+                .isInstanceOf(BusinessException.class);
+    }
+
+    @DisplayName("국가 가용 여부가 없는 version 1 스냅샷은 모든 국가를 가용 국가로 불러온다")
+    @Test
+    void importSnapshot_version1() throws IOException {
+        // given
+        Path path = tempDir.resolve("snapshot.json.gz");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(path))) {
+            out.write("""
+                    {"format":"holiday-snapshot","version":1,"createdAt":"2025-01-02T00:00:00","countries":[["KR","Korea"]],"holidays":[]}
+                    """.getBytes(StandardCharsets.UTF_8));
+        }
+
+        // when
+        HolidaySnapshotResult imported = holidaySnapshotService.importSnapshot(path);
+
+        // then
+        assertThat(imported.countriesCount()).isEqualTo(1);
+        assertThat(countryRepository.findAll())
+                .extracting(Country::getCode, Country::isAvailable)
+                .containsExactly(tuple("KR", true));
+    }
+
+    @DisplayName("날짜가 손상된 행이 있으면 스냅샷 오류로 알린다")
+    @Test
+    void importSnapshot_corruptRow() throws IOException {
+        // given
+        Path path = tempDir.resolve("snapshot.json.gz");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(path))) {
+            out.write("""
+                    {"format":"holiday-snapshot","version":2,"countries":[["KR","Korea",true]],
+                     "holidays":[["KR","2025-13-45","새해","New Year's Day",true,true,null,"Public",null]]}
+                    """.getBytes(StandardCharsets.UTF_8));
+        }
+
+        // when & then
+        assertThatThrownBy(() -> holidaySnapshotService.importSnapshot(path))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("2025-13-45");
+    }
+
+    @DisplayName("지원하지 않는 버전의 스냅샷은 불러오지 않는다")
+    @Test
+    void importSnapshot_unsupportedVersion() throws IOException {
+        // given
+        Path path = tempDir.resolve("snapshot.json.gz");
+        try (OutputStream out = new GZIPOutputStream(Files.newOutputStream(path))) {
+            out.write("""
+                    {"format":"holiday-snapshot","version":99,"countries":[["KR","Korea"]],"holidays":[]}
+                    """.getBytes(StandardCharsets.UTF_8));
+        }
+
+        // when & then
+        assertThatThrownBy(() -> holidaySnapshotService.importSnapshot(path))
+                .isInstanceOf(BusinessException.class)
+                .hasMessageContaining("version=99");
+        assertThat(countryRepository.count()).isZero();
+    }
+
+}
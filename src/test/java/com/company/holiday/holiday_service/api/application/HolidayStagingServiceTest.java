@@ -0,0 +1,137 @@
+package com.company.holiday.holiday_service.api.application;
+
+import com.company.holiday.holiday_service.IntegrationTestSupport;
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncBatch;
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncUnit;
+import com.company.holiday.holiday_service.api.application.dto.HolidayUpsertCommand;
+import com.company.holiday.holiday_service.api.application.dto.HolidayUpsertResult;
+import com.company.holiday.holiday_service.api.domain.Country;
+import com.company.holiday.holiday_service.api.domain.Holiday;
+import com.company.holiday.holiday_service.api.domain.HolidaySyncState;
+import com.company.holiday.holiday_service.api.infra.CountryRepository;
+import com.company.holiday.holiday_service.api.infra.HolidayJdbcWriter;
+import com.company.holiday.holiday_service.api.infra.HolidayRepository;
+import com.company.holiday.holiday_service.api.infra.HolidayStagingJdbcRepository;
+import com.company.holiday.holiday_service.api.infra.HolidaySyncStateRepository;
+import com.company.holiday.holiday_service.global.error.ErrorCode;
+import com.company.holiday.holiday_service.global.error.exception.BusinessException;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class HolidayStagingServiceTest extends IntegrationTestSupport {
+
+    @Autowired
+    private HolidayStagingService stagingService;
+
+    @Autowired
+    private HolidayStagingJdbcRepository stagingRepository;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private HolidayRepository holidayRepository;
+
+    @Autowired
+    private HolidayJdbcWriter holidayJdbcWriter;
+
+    @Autowired
+    private HolidaySyncStateRepository syncStateRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @DisplayName("적재만 해서는 공개된 공휴일이 바뀌지 않고, 공개하면 적재분이 반영되며 동기화 상태가 기록된다.")
+    @Test
+    void stageAndPublish() {
+        // given
+        Country kr = countryRepository.save(Country.of("KR", "Korea, Republic of"));
+        holidayJdbcWriter.insertAll(List.of(createHoliday(kr, LocalDate.of(2025, 1, 1), "새해", "New Year")));
+
+        HolidaySyncUnit unit = new HolidaySyncUnit("KR", 2025);
+        stagingService.stage(1L, HolidaySyncBatch.modified(unit, List.of(
+                createCommand(LocalDate.of(2025, 1, 1), "새해", "New Year's Day"),
+                createCommand(LocalDate.of(2025, 3, 1), "삼일절", "Independence Movement Day")
+        ), "fp-1", "\"v1\"", null));
+
+        // 공개 전에는 이전 데이터 그대로
+        assertThat(findAllIn2025(kr)).extracting(Holiday::getName).containsExactly("New Year");
+
+        // when
+        HolidayUpsertResult result = stagingService.publish(1L);
+
+        // then
+        entityManager.clear();
+        assertThat(result.syncedCount()).isEqualTo(2);
+        assertThat(findAllIn2025(kr))
+                .extracting(Holiday::getName)
+                .containsExactlyInAnyOrder("New Year's Day", "Independence Movement Day");
+        assertThat(syncStateRepository.findByCountryAndYear(kr, 2025))
+                .get()
+                .extracting(HolidaySyncState::getEtag)
+                .isEqualTo("\"v1\"");
+        assertThat(stagingRepository.findUnits(1L)).isEmpty();
+    }
+
+    @DisplayName("공휴일이 있던 국가·연도가 0 건으로 줄면 공개하지 않고, 이전 데이터를 그대로 둔다.")
+    @Test
+    void publish_rejectDropToZero() {
+        // given
+        Country kr = countryRepository.save(Country.of("KR", "Korea, Republic of"));
+        holidayJdbcWriter.insertAll(List.of(createHoliday(kr, LocalDate.of(2025, 1, 1), "새해", "New Year")));
+
+        stagingService.stage(1L, HolidaySyncBatch.modified(new HolidaySyncUnit("KR", 2025), List.of(), "fp-empty", null, null));
+
+        // when & then
+        assertThatThrownBy(() -> stagingService.publish(1L))
+                .isInstanceOfSatisfying(BusinessException.class,
+                        e -> assertThat(e.getErrorCode()).isEqualTo(ErrorCode.SYNC_VALIDATION_FAILED));
+
+        assertThat(findAllIn2025(kr)).extracting(Holiday::getName).containsExactly("New Year");
+        assertThat(syncStateRepository.findByCountryAndYear(kr, 2025)).isEmpty();
+    }
+
+    @DisplayName("적재분을 폐기하면 같은 실행의 단위와 공휴일이 모두 지워진다.")
+    @Test
+    void discard() {
+        // given
+        countryRepository.save(Country.of("KR", "Korea, Republic of"));
+        stagingService.stage(1L, HolidaySyncBatch.modified(new HolidaySyncUnit("KR", 2025), List.of(
+                createCommand(LocalDate.of(2025, 1, 1), "새해", "New Year")
+        ), "fp-1", null, null));
+        stagingService.stage(2L, HolidaySyncBatch.modified(new HolidaySyncUnit("KR", 2025), List.of(), "fp-2", null, null));
+
+        // when
+        stagingService.discard(1L);
+
+        // then
+        assertThat(stagingRepository.findUnits(1L)).isEmpty();
+        assertThat(stagingRepository.findHolidays(1L, "KR", 2025)).isEmpty();
+        assertThat(stagingRepository.findUnits(2L)).hasSize(1);
+    }
+
+    private List<Holiday> findAllIn2025(Country country) {
+        return holidayRepository.findAllByCountryAndDateBetween(
+                country,
+                LocalDate.of(2025, 1, 1),
+                LocalDate.of(2025, 12, 31)
+        );
+    }
+
+    private Holiday createHoliday(Country country, LocalDate date, String localName, String name) {
+        return Holiday.of(country, date, localName, name, true, true, null, "Public", null);
+    }
+
+    private HolidayUpsertCommand createCommand(LocalDate date, String localName, String name) {
+        return new HolidayUpsertCommand("KR", date, localName, name, true, true, null, List.of("Public"), null);
+    }
+
+}
@@ -0,0 +1,76 @@
+package com.company.holiday.holiday_service.api.application;
+
+import com.company.holiday.holiday_service.IntegrationTestSupport;
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncRunContext;
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncUnit;
+import com.company.holiday.holiday_service.api.domain.HolidaySyncRun;
+import com.company.holiday.holiday_service.api.domain.HolidayYearRangeCalculator.YearRange;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HolidaySyncCheckpointServiceTest extends IntegrationTestSupport {
+
+    @Autowired
+    private HolidaySyncCheckpointService checkpointService;
+
+    private final YearRange range = new YearRange(2024, 2025);
+
+    @DisplayName("중단된 실행이 있으면 같은 실행을 이어받고, 반영이 끝난 단위 목록을 함께 리턴한다")
+    @Test
+    void startOrResume_resumeInterruptedRun() {
+        // given
+        HolidaySyncRunContext first = checkpointService.startOrResume(range);
+        checkpointService.markCommitted(first.runId(), new HolidaySyncUnit("KR", 2024));
+        checkpointService.markCommitted(first.runId(), new HolidaySyncUnit("KR", 2025));
+        checkpointService.markCommitted(first.runId(), new HolidaySyncUnit("KR", 2025));
+        checkpointService.finish(first.runId(), HolidaySyncRun.Status.INTERRUPTED);
+
+        // when
+        HolidaySyncRunContext resumed = checkpointService.startOrResume(range);
+
+        // then
+        assertThat(first.resumed()).isFalse();
+        assertThat(resumed.resumed()).isTrue();
+        assertThat(resumed.runId()).isEqualTo(first.runId());
+        assertThat(resumed.committedUnits()).containsExactlyInAnyOrder(
+                new HolidaySyncUnit("KR", 2024),
+                new HolidaySyncUnit("KR", 2025)
+        );
+    }
+
+    @DisplayName("직전 실행이 완료되었다면 새 실행을 시작한다")
+    @Test
+    void startOrResume_newRunAfterCompleted() {
+        // given
+        HolidaySyncRunContext first = checkpointService.startOrResume(range);
+        checkpointService.markCommitted(first.runId(), new HolidaySyncUnit("KR", 2024));
+        checkpointService.finish(first.runId(), HolidaySyncRun.Status.COMPLETED);
+
+        // when
+        HolidaySyncRunContext next = checkpointService.startOrResume(range);
+
+        // then
+        assertThat(next.resumed()).isFalse();
+        assertThat(next.runId()).isNotEqualTo(first.runId());
+        assertThat(next.committedUnits()).isEmpty();
+    }
+
+    @DisplayName("연도 범위가 다른 미완료 실행은 이어받지 않는다")
+    @Test
+    void startOrResume_differentRange() {
+        // given
+        HolidaySyncRunContext first = checkpointService.startOrResume(range);
+        checkpointService.finish(first.runId(), HolidaySyncRun.Status.INTERRUPTED);
+
+        // when
+        HolidaySyncRunContext other = checkpointService.startOrResume(new YearRange(2021, 2025));
+
+        // then
+        assertThat(other.resumed()).isFalse();
+        assertThat(other.runId()).isNotEqualTo(first.runId());
+    }
+
+}
@@ -0,0 +1,60 @@
+package com.company.holiday.holiday_service.api.application;
+
+import com.company.holiday.holiday_service.api.infra.HolidaySyncLockJdbcRepository;
+import com.company.holiday.holiday_service.global.config.HolidaySyncLockProperties;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@ExtendWith(MockitoExtension.class)
+class HolidaySyncClusterLockTest {
+
+    @Mock
+    HolidaySyncLockJdbcRepository lockRepository;
+
+    HolidaySyncClusterLock clusterLock;
+
+    @AfterEach
+    void tearDown() {
+        clusterLock.shutdown();
+    }
+
+    @DisplayName("연장 중 예상하지 못한 예외가 나도 연장을 멈추지 않고, 임대가 만료되면 onLost 를 호출한다")
+    @Test
+    void keepAlive_unexpectedRenewFailure() throws InterruptedException {
+        // given
+        clusterLock = new HolidaySyncClusterLock(lockRepository,
+                new HolidaySyncLockProperties(true, Duration.ofMillis(200), Duration.ofMillis(20), "node-1"));
+        AtomicInteger attempts = new AtomicInteger();
+        CountDownLatch lost = new CountDownLatch(1);
+
+        // when
+        HolidaySyncLease lease = clusterLock.keepAlive(
+                "테스트 잠금",
+                LocalDateTime.now().plus(Duration.ofMillis(200)),
+                next -> {
+                    attempts.incrementAndGet();
+                    throw new IllegalStateException("unexpected");
+                },
+                lost::countDown,
+                () -> { }
+        );
+
+        // then
+        assertThat(lost.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(attempts.get()).isGreaterThan(1);
+        lease.release();
+    }
+
+}
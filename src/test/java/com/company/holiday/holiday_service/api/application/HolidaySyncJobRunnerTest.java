@@ -0,0 +1,238 @@
+package com.company.holiday.holiday_service.api.application;
+
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncSummary;
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncUnit;
+import com.company.holiday.holiday_service.api.application.dto.HolidayUpsertResult;
+import com.company.holiday.holiday_service.api.presentation.dto.response.HolidaySyncResponse;
+import com.company.holiday.holiday_service.global.config.HolidaySyncJobProperties;
+import com.company.holiday.holiday_service.global.error.ErrorCode;
+import com.company.holiday.holiday_service.global.error.exception.ConflictException;
+import com.company.holiday.holiday_service.global.error.exception.EntityNotFoundException;
+import com.company.holiday.holiday_service.global.error.exception.ExternalApiException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.lenient;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class HolidaySyncJobRunnerTest {
+
+    @Mock
+    HolidayCommandService holidayCommandService;
+
+    @Mock
+    HolidaySyncClusterLock clusterLock;
+
+    ExecutorService jobExecutor;
+
+    HolidaySyncJobRunner runner;
+
+    @BeforeEach
+    void setUp() {
+        jobExecutor = Executors.newSingleThreadExecutor();
+        runner = new HolidaySyncJobRunner(holidayCommandService, jobExecutor, new HolidaySyncJobProperties(20, Duration.ofSeconds(5)), clusterLock);
+        lenient().when(clusterLock.tryAcquire(any())).thenAnswer(invocation -> Optional.of(HolidaySyncLease.unmanaged()));
+    }
+
+    @AfterEach
+    void tearDown() {
+        jobExecutor.shutdownNow();
+    }
+
+    @DisplayName("작업을 등록하면 전용 executor 에서 동기화를 실행하고, 진행 상황과 결과를 작업에 기록한다")
+    @Test
+    void submit() {
+        // given
+        HolidaySyncResponse response = HolidaySyncResponse.of(1, HolidaySyncSummary.synced(new HolidayUpsertResult(3, 0, 0, 0)));
+        given(holidayCommandService.syncCountriesAndHolidays(any(HolidaySyncProgress.class))).willAnswer(invocation -> {
+            HolidaySyncProgress progress = invocation.getArgument(0);
+            HolidaySyncUnit unit = new HolidaySyncUnit("KR", 2025);
+            progress.onPlanned(List.of(unit));
+            progress.onUnitCompleted(unit, HolidaySyncSummary.synced(new HolidayUpsertResult(3, 0, 0, 0)));
+            return response;
+        });
+
+        // when
+        HolidaySyncJob job = runner.submit(HolidaySyncJob.Type.MANUAL);
+        HolidaySyncResponse result = job.await();
+
+        // then
+        assertThat(result).isEqualTo(response);
+        assertThat(job.getStatus()).isEqualTo(HolidaySyncJob.Status.SUCCEEDED);
+        assertThat(job.getTotalCountries()).isEqualTo(1);
+        assertThat(job.getCompletedCountries()).isEqualTo(1);
+        assertThat(job.getRemainingCountries()).isZero();
+        assertThat(job.getSummary().changes().syncedCount()).isEqualTo(3);
+        assertThat(runner.find(job.getId())).isSameAs(job);
+    }
+
+    @DisplayName("이미 실행 중인 작업이 있으면 ConflictException 을 던진다")
+    @Test
+    void submit_conflictWhenRunning() throws InterruptedException {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        given(holidayCommandService.syncCountriesAndHolidays(any(HolidaySyncProgress.class))).willAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return null;
+        });
+        HolidaySyncJob running = runner.submit(HolidaySyncJob.Type.MANUAL);
+        started.await(5, TimeUnit.SECONDS);
+
+        // when & then
+        assertThatThrownBy(() -> runner.submit(HolidaySyncJob.Type.BATCH))
+                .isInstanceOf(ConflictException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.SYNC_JOB_ALREADY_RUNNING);
+
+        release.countDown();
+        running.await();
+    }
+
+    @DisplayName("다른 노드가 클러스터 잠금을 쥐고 있으면 실행하지 않고 ConflictException 을 던지며, 이후 다시 등록할 수 있다")
+    @Test
+    void submit_conflictWhenLockedByOtherNode() {
+        // given
+        given(clusterLock.tryAcquire(any())).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> runner.submit(HolidaySyncJob.Type.BATCH))
+                .isInstanceOf(ConflictException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.SYNC_JOB_ALREADY_RUNNING);
+        verify(holidayCommandService, never()).syncCountriesAndHolidaysForBatch(any());
+        assertThat(runner.findAll()).isEmpty();
+    }
+
+    @DisplayName("작업이 끝나면 클러스터 잠금을 해제한다")
+    @Test
+    void submit_releaseLease() {
+        // given
+        AtomicBoolean released = new AtomicBoolean();
+        given(clusterLock.tryAcquire(any())).willReturn(Optional.of(new HolidaySyncLease(() -> released.set(true))));
+        given(holidayCommandService.syncCountriesAndHolidays(any(HolidaySyncProgress.class))).willReturn(null);
+
+        // when
+        runner.submit(HolidaySyncJob.Type.MANUAL).await();
+
+        // then
+        assertThat(released).isTrue();
+    }
+
+    @DisplayName("취소를 요청하면 진행 중인 작업에 취소 플래그를 세우고, 동기화가 중단되면 CANCELLED 로 끝난다")
+    @Test
+    void cancel() throws InterruptedException {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        given(holidayCommandService.syncCountriesAndHolidays(any(HolidaySyncProgress.class))).willAnswer(invocation -> {
+            HolidaySyncProgress progress = invocation.getArgument(0);
+            started.countDown();
+            while (!progress.isCancelRequested()) {
+                Thread.sleep(10);
+            }
+            throw new CancellationException("취소");
+        });
+        HolidaySyncJob job = runner.submit(HolidaySyncJob.Type.MANUAL);
+        started.await(5, TimeUnit.SECONDS);
+
+        // when
+        runner.cancel(job.getId());
+
+        // then
+        assertThatThrownBy(job::await).isInstanceOf(CancellationException.class);
+        assertThat(job.getStatus()).isEqualTo(HolidaySyncJob.Status.CANCELLED);
+    }
+
+    @DisplayName("종료 시 진행 중인 작업에 취소를 요청하고, 작업이 마무리될 때까지 기다린다")
+    @Test
+    void shutdown() throws InterruptedException {
+        // given
+        CountDownLatch started = new CountDownLatch(1);
+        given(holidayCommandService.syncCountriesAndHolidays(any(HolidaySyncProgress.class))).willAnswer(invocation -> {
+            HolidaySyncProgress progress = invocation.getArgument(0);
+            started.countDown();
+            while (!progress.isCancelRequested()) {
+                Thread.sleep(10);
+            }
+            throw new CancellationException("종료");
+        });
+        HolidaySyncJob job = runner.submit(HolidaySyncJob.Type.MANUAL);
+        started.await(5, TimeUnit.SECONDS);
+
+        // when
+        runner.shutdown();
+
+        // then
+        assertThat(job.isCancelRequested()).isTrue();
+        assertThat(job.getStatus()).isEqualTo(HolidaySyncJob.Status.CANCELLED);
+    }
+
+    @DisplayName("동기화 중 예외가 발생하면 FAILED 로 기록하고, 다음 작업을 다시 등록할 수 있다")
+    @Test
+    void submit_failed() {
+        // given
+        given(holidayCommandService.syncCountriesAndHolidays(any(HolidaySyncProgress.class)))
+                .willThrow(new ExternalApiException(ErrorCode.INTERNAL_SERVER_ERROR, "Nager API 가용 국가 조회 중 에러 발생", null));
+
+        // when
+        HolidaySyncJob job = runner.submit(HolidaySyncJob.Type.MANUAL);
+
+        // then
+        assertThatThrownBy(job::await).isInstanceOf(ExternalApiException.class);
+        assertThat(job.getStatus()).isEqualTo(HolidaySyncJob.Status.FAILED);
+        assertThat(job.getError()).contains("Nager API 가용 국가 조회 중 에러 발생");
+
+        HolidaySyncJob next = runner.submit(HolidaySyncJob.Type.MANUAL);
+        assertThatThrownBy(next::await).isInstanceOf(ExternalApiException.class);
+    }
+
+    @DisplayName("동기화 중 Error 가 발생해도 작업을 FAILED 로 끝내, 결과를 기다리는 호출자가 멈추지 않는다")
+    @Test
+    void submit_error() {
+        // given
+        given(holidayCommandService.syncCountriesAndHolidays(any(HolidaySyncProgress.class)))
+                .willThrow(new StackOverflowError("deep"));
+
+        // when
+        HolidaySyncJob job = runner.submit(HolidaySyncJob.Type.MANUAL);
+
+        // then
+        assertThatThrownBy(job::await)
+                .isInstanceOf(CompletionException.class)
+                .hasCauseInstanceOf(StackOverflowError.class);
+        assertThat(job.getStatus()).isEqualTo(HolidaySyncJob.Status.FAILED);
+        assertThat(job.getError()).contains("StackOverflowError");
+    }
+
+    @DisplayName("존재하지 않는 작업 id 로 조회하면 EntityNotFoundException 을 던진다")
+    @Test
+    void find_notFound() {
+        // when & then
+        assertThatThrownBy(() -> runner.find("unknown"))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
+}
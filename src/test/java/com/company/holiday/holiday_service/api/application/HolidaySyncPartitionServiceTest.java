@@ -0,0 +1,112 @@
+package com.company.holiday.holiday_service.api.application;
+
+import com.company.holiday.holiday_service.IntegrationTestSupport;
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncSummary;
+import com.company.holiday.holiday_service.api.domain.HolidaySyncPartition;
+import com.company.holiday.holiday_service.api.domain.HolidaySyncRun;
+import com.company.holiday.holiday_service.api.domain.HolidayYearRangeCalculator.YearRange;
+import com.company.holiday.holiday_service.api.infra.HolidaySyncPartitionJdbcRepository;
+import com.company.holiday.holiday_service.api.infra.HolidaySyncPartitionJdbcRepository.PartitionResult;
+import com.company.holiday.holiday_service.api.infra.HolidaySyncPartitionRepository;
+import com.company.holiday.holiday_service.api.infra.HolidaySyncRunRepository;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HolidaySyncPartitionServiceTest extends IntegrationTestSupport {
+
+    @Autowired
+    private HolidaySyncPartitionService partitionService;
+
+    @Autowired
+    private HolidaySyncPartitionRepository partitionRepository;
+
+    @Autowired
+    private HolidaySyncPartitionJdbcRepository partitionJdbcRepository;
+
+    @Autowired
+    private HolidaySyncRunRepository runRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @DisplayName("국가를 파티션으로 나눠 등록하고, 다시 계획하면 이전 파티션을 대체한다.")
+    @Test
+    void plan() {
+        // given
+        Long runId = runRepository.save(HolidaySyncRun.start(2024, 2025)).getId();
+        partitionService.plan(runId, new YearRange(2024, 2025), List.of("KR", "US", "JP", "DE", "FR"));
+
+        // when
+        partitionService.plan(runId, new YearRange(2024, 2025), List.of("KR", "US", "JP"));
+
+        // then
+        entityManager.clear();
+        assertThat(partitionRepository.findAllByRunIdOrderByPartitionNo(runId))
+                .extracting(HolidaySyncPartition::getCountryCodeList)
+                .containsExactly(List.of("KR"), List.of("US"), List.of("JP"));
+    }
+
+    @DisplayName("노드마다 다른 파티션을 점유하고, 임대가 만료된 파티션은 다른 노드가 이어받는다.")
+    @Test
+    void claimNext_takeOverExpired() {
+        // given
+        Long runId = runRepository.save(HolidaySyncRun.start(2024, 2025)).getId();
+        partitionService.plan(runId, new YearRange(2024, 2025), List.of("KR", "US"));
+        LocalDateTime now = LocalDateTime.of(2025, 1, 2, 1, 0);
+
+        // when
+        Optional<Long> a = partitionJdbcRepository.claimNext(runId, "node-a", now, now.plusSeconds(60));
+        Optional<Long> b = partitionJdbcRepository.claimNext(runId, "node-b", now, now.plusSeconds(60));
+        Optional<Long> none = partitionJdbcRepository.claimNext(runId, "node-c", now.plusSeconds(30), now.plusSeconds(90));
+        partitionJdbcRepository.renew(b.orElseThrow(), "node-b", now.plusSeconds(120));
+        Optional<Long> takenOver = partitionJdbcRepository.claimNext(runId, "node-c", now.plusSeconds(61), now.plusSeconds(121));
+
+        // then
+        assertThat(a).isPresent();
+        assertThat(b).isPresent().isNotEqualTo(a);
+        assertThat(none).isEmpty();
+        assertThat(takenOver).isEqualTo(a);
+        assertThat(partitionJdbcRepository.renew(a.orElseThrow(), "node-a", now.plusSeconds(121))).isFalse();
+    }
+
+    @DisplayName("모든 파티션이 완료되어야 결과를 합산하고, 끝나지 않은 파티션이 있으면 비어 있다.")
+    @Test
+    void findCombinedSummary() {
+        // given
+        Long runId = runRepository.save(HolidaySyncRun.start(2024, 2025)).getId();
+        partitionService.plan(runId, new YearRange(2024, 2025), List.of("KR", "US"));
+        LocalDateTime now = LocalDateTime.of(2025, 1, 2, 1, 0);
+
+        Long first = partitionJdbcRepository.claimNext(runId, "node-a", now, now.plusSeconds(60)).orElseThrow();
+        partitionJdbcRepository.complete(first, "node-a", new PartitionResult(2, 0, 10, 1, 0, 5, null), now);
+        entityManager.clear();
+        Optional<HolidaySyncSummary> partial = partitionService.findCombinedSummary(runId);
+
+        Long second = partitionJdbcRepository.claimNext(runId, "node-b", now, now.plusSeconds(60)).orElseThrow();
+        partitionJdbcRepository.complete(second, "node-b", new PartitionResult(1, 1, 3, 0, 2, 0,
+                "[{\"countryCode\":\"US\",\"year\":2025,\"reason\":\"timeout\"}]"), now);
+        entityManager.clear();
+
+        // when
+        Optional<HolidaySyncSummary> combined = partitionService.findCombinedSummary(runId);
+
+        // then
+        assertThat(partial).isEmpty();
+        assertThat(combined).hasValueSatisfying(summary -> {
+            assertThat(summary.syncedUnits()).isEqualTo(3);
+            assertThat(summary.skippedUnits()).isEqualTo(1);
+            assertThat(summary.changes().inserted()).isEqualTo(13);
+            assertThat(summary.changes().syncedCount()).isEqualTo(19);
+            assertThat(summary.failures()).extracting("countryCode").containsExactly("US");
+        });
+    }
+
+}
@@ -0,0 +1,179 @@
+package com.company.holiday.holiday_service.api.application;
+
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncBatch;
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncPipelineResult;
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncSummary;
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncUnit;
+import com.company.holiday.holiday_service.api.application.dto.HolidayUpsertCommand;
+import com.company.holiday.holiday_service.api.application.dto.HolidayUpsertResult;
+import com.company.holiday.holiday_service.global.config.HolidaySyncGroupCommitProperties;
+import com.company.holiday.holiday_service.global.config.HolidaySyncProperties;
+import com.company.holiday.holiday_service.global.error.ErrorCode;
+import com.company.holiday.holiday_service.global.error.exception.ExternalApiException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+class HolidaySyncPipelineTest {
+
+    private final HolidaySyncPipeline pipeline = new HolidaySyncPipeline(
+            new HolidaySyncProperties(true, 3, 1, 2, HolidaySyncProperties.WriteStrategy.CHANGESET, 500),
+            new HolidaySyncGroupCommitProperties(true, 4, Duration.ofMillis(200))
+    );
+
+    @DisplayName("모든 국가·연도 배치를 fetch → write 단계로 흘려보내고, 저장 건수 합계와 단계별 처리량을 리턴한다")
+    @Test
+    void run() {
+        // given
+        List<HolidaySyncUnit> units = createUnits("KR", "US", "JP", "DE", "FR");
+        Set<HolidaySyncUnit> written = ConcurrentHashMap.newKeySet();
+
+        // when
+        HolidaySyncPipelineResult result = pipeline.run(
+                units,
+                this::createBatch,
+                batch -> {
+                    written.add(batch.unit());
+                    return toSummary(batch);
+                }
+        );
+
+        // then
+        assertThat(written).containsExactlyInAnyOrderElementsOf(units);
+        assertThat(result.summary().changes().syncedCount()).isEqualTo(10);
+        assertThat(result.summary().syncedUnits()).isEqualTo(5);
+        assertThat(result.fetch().batches()).isEqualTo(5);
+        assertThat(result.write().batches()).isEqualTo(5);
+        assertThat(result.write().rows()).isEqualTo(10);
+    }
+
+    @DisplayName("fetch 단계에서 예외가 발생하면 파이프라인을 중단하고 같은 예외를 전파한다")
+    @Test
+    void run_propagateFetchFailure() {
+        // given
+        List<HolidaySyncUnit> units = createUnits("KR", "US", "JP");
+
+        // when & then
+        assertThatThrownBy(() -> pipeline.run(
+                units,
+                unit -> {
+                    if (unit.countryCode().equals("US")) {
+                        throw new ExternalApiException(ErrorCode.INTERNAL_SERVER_ERROR);
+                    }
+                    return createBatch(unit);
+                },
+                this::toSummary
+        )).isInstanceOf(ExternalApiException.class);
+    }
+
+    @DisplayName("변경되지 않은 배치는 건너뛴 단위로 집계한다")
+    @Test
+    void run_skipNotModified() {
+        // given
+        List<HolidaySyncUnit> units = createUnits("KR", "US", "JP");
+
+        // when
+        HolidaySyncPipelineResult result = pipeline.run(
+                units,
+                unit -> unit.countryCode().equals("US") ? HolidaySyncBatch.notModified(unit) : createBatch(unit),
+                this::toSummary
+        );
+
+        // then
+        assertThat(result.summary().syncedUnits()).isEqualTo(2);
+        assertThat(result.summary().skippedUnits()).isEqualTo(1);
+        assertThat(result.summary().changes().syncedCount()).isEqualTo(4);
+    }
+
+    @DisplayName("묶어 반영하면 공휴일 수 합이 max-rows 를 넘지 않게 작은 배치를 묶고, 큰 배치는 혼자 넘긴다")
+    @Test
+    void runGrouped() {
+        // given
+        HolidaySyncPipeline groupingPipeline = new HolidaySyncPipeline(
+                new HolidaySyncProperties(true, 3, 16, 1, HolidaySyncProperties.WriteStrategy.CHANGESET, 500),
+                new HolidaySyncGroupCommitProperties(true, 4, Duration.ofMillis(200))
+        );
+        List<HolidaySyncUnit> units = createUnits("KR", "US", "JP", "DE", "FR", "CN");
+        List<List<HolidaySyncBatch>> groups = Collections.synchronizedList(new ArrayList<>());
+
+        // when - CN 은 공휴일 10개
+        HolidaySyncPipelineResult result = groupingPipeline.runGrouped(
+                units,
+                unit -> unit.countryCode().equals("CN") ? createBatch(unit, 10) : createBatch(unit),
+                group -> {
+                    groups.add(group);
+                    return group.stream().map(this::toSummary).reduce(HolidaySyncSummary.EMPTY, HolidaySyncSummary::plus);
+                }
+        );
+
+        // then
+        List<HolidaySyncUnit> written = groups.stream().flatMap(List::stream).map(HolidaySyncBatch::unit).toList();
+        assertThat(written).containsExactlyInAnyOrderElementsOf(units);
+
+        for (List<HolidaySyncBatch> group : groups) {
+            boolean hasLarge = group.stream().anyMatch(batch -> batch.unit().countryCode().equals("CN"));
+            int rows = group.stream().mapToInt(batch -> batch.commands().size()).sum();
+            if (hasLarge) {
+                assertThat(group).hasSize(1);
+            } else {
+                assertThat(rows).isLessThanOrEqualTo(4);
+            }
+        }
+        assertThat(groups.size()).isLessThan(units.size());
+        assertThat(result.write().batches()).isEqualTo(6);
+        assertThat(result.summary().changes().syncedCount()).isEqualTo(20);
+    }
+
+    @DisplayName("단위 목록이 비어 있으면 아무것도 저장하지 않는다")
+    @Test
+    void run_empty() {
+        // when
+        HolidaySyncPipelineResult result = pipeline.run(
+                Collections.emptyList(),
+                this::createBatch,
+                this::toSummary
+        );
+
+        // then
+        assertThat(result.summary()).isEqualTo(HolidaySyncSummary.EMPTY);
+    }
+
+    private HolidaySyncSummary toSummary(HolidaySyncBatch batch) {
+        if (batch.notModified()) {
+            return HolidaySyncSummary.skipped();
+        }
+        return HolidaySyncSummary.synced(new HolidayUpsertResult(batch.commands().size(), 0, 0, 0));
+    }
+
+    private List<HolidaySyncUnit> createUnits(String... countryCodes) {
+        return Stream.of(countryCodes)
+                .map(code -> new HolidaySyncUnit(code, 2025))
+                .toList();
+    }
+
+    private HolidaySyncBatch createBatch(HolidaySyncUnit unit) {
+        return createBatch(unit, 2);
+    }
+
+    private HolidaySyncBatch createBatch(HolidaySyncUnit unit, int holidays) {
+        return HolidaySyncBatch.modified(
+                unit,
+                Stream.generate(() -> mock(HolidayUpsertCommand.class)).limit(holidays).toList(),
+                null,
+                null,
+                null
+        );
+    }
+
+}
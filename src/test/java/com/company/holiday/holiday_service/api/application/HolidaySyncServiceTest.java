@@ -1,17 +1,26 @@
 package com.company.holiday.holiday_service.api.application;
 
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncBatch;
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncUnit;
 import com.company.holiday.holiday_service.api.application.dto.HolidayUpsertCommand;
+import com.company.holiday.holiday_service.api.application.dto.HolidayUpsertResult;
 import com.company.holiday.holiday_service.api.application.mapper.HolidayDomainMapper;
 import com.company.holiday.holiday_service.api.domain.Country;
 import com.company.holiday.holiday_service.api.domain.Holiday;
+import com.company.holiday.holiday_service.api.domain.HolidaySyncState;
 import com.company.holiday.holiday_service.api.infra.CountryRepository;
+import com.company.holiday.holiday_service.api.infra.HolidayJdbcWriter;
 import com.company.holiday.holiday_service.api.infra.HolidayRepository;
+import com.company.holiday.holiday_service.api.infra.HolidaySyncStateRepository;
+import com.company.holiday.holiday_service.global.config.HolidaySyncProperties;
+import com.company.holiday.holiday_service.global.config.HolidaySyncProperties.WriteStrategy;
 import com.company.holiday.holiday_service.global.error.ErrorCode;
 import com.company.holiday.holiday_service.global.error.exception.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -33,6 +42,12 @@ class HolidaySyncServiceTest {
     @Mock
     HolidayRepository holidayRepository;
 
+    @Mock
+    HolidaySyncStateRepository holidaySyncStateRepository;
+
+    @Mock
+    HolidayJdbcWriter holidayJdbcWriter;
+
     @Mock
     HolidayDomainMapper holidayDomainMapper;
 
@@ -40,14 +55,21 @@ class HolidaySyncServiceTest {
 
     @BeforeEach
     void setUp() {
-        holidaySyncService = new HolidaySyncService(
+        holidaySyncService = createService(WriteStrategy.REPLACE);
+    }
+
+    private HolidaySyncService createService(WriteStrategy writeStrategy) {
+        return new HolidaySyncService(
                 countryRepository,
                 holidayRepository,
-                holidayDomainMapper
+                holidaySyncStateRepository,
+                holidayJdbcWriter,
+                holidayDomainMapper,
+                new HolidaySyncProperties(false, 16, 32, 2, writeStrategy, 500)
         );
     }
 
-    @DisplayName("존재하는 국가의 특정 기간 공휴일을 모두 삭제한 뒤 새로 저장하고, 저장 건수를 리턴한다")
+    @DisplayName("REPLACE 방식은 존재하는 국가의 특정 기간 공휴일을 모두 삭제한 뒤 새로 저장하고, 저장 건수를 리턴한다")
     @Test
     void upsertHolidaysInRange_deletePreviousAndSaveNew() {
         // given
@@ -61,19 +83,92 @@ class HolidaySyncServiceTest {
 
         given(countryRepository.findByCode(countryCode)).willReturn(Optional.of(country));
         given(holidayDomainMapper.toHolidays(commands, country)).willReturn(mappedHolidays);
-        given(holidayRepository.saveAll(mappedHolidays)).willReturn(mappedHolidays);
+        given(holidayJdbcWriter.insertAll(mappedHolidays)).willReturn(mappedHolidays.size());
+        given(holidayRepository.deleteInRange(country, start, end)).willReturn(3);
 
         // when
-        int result = holidaySyncService.upsertHolidaysInRange(countryCode, start, end, commands);
+        HolidayUpsertResult result = holidaySyncService.upsertHolidaysInRange(countryCode, start, end, commands);
 
         // then
         // 1) 기존 기간 공휴일 삭제
         verify(holidayRepository).deleteInRange(country, start, end);
-        // 2) 매핑 및 저장
+        // 2) 매핑 및 JDBC 배치 저장
         verify(holidayDomainMapper).toHolidays(commands, country);
-        verify(holidayRepository).saveAll(mappedHolidays);
-        // 3) 저장된 건수 리턴
-        assertThat(result).isEqualTo(mappedHolidays.size());
+        verify(holidayJdbcWriter).insertAll(mappedHolidays);
+        // 3) 저장/삭제 건수 리턴
+        assertThat(result.inserted()).isEqualTo(mappedHolidays.size());
+        assertThat(result.deleted()).isEqualTo(3);
+        assertThat(result.syncedCount()).isEqualTo(mappedHolidays.size());
+    }
+
+    @DisplayName("CHANGESET 방식은 자연키 기준으로 신규는 insert, 변경분은 update, 사라진 건 delete 하고 동일한 건 그대로 둔다")
+    @Test
+    void upsertHolidaysInRange_changeset() {
+        // given
+        HolidaySyncService changesetService = createService(WriteStrategy.CHANGESET);
+
+        String countryCode = "KR";
+        LocalDate start = LocalDate.of(2025, 1, 1);
+        LocalDate end   = LocalDate.of(2025, 12, 31);
+        Country country = createMockCountry();
+
+        Holiday newYear = createHoliday(country, LocalDate.of(2025, 1, 1), "새해", "New Year");
+        Holiday independence = createHoliday(country, LocalDate.of(2025, 3, 1), "삼일절", "Independence Movement Day");
+        Holiday vanished = createHoliday(country, LocalDate.of(2025, 5, 1), "근로자의 날", "Labour Day");
+
+        HolidayUpsertCommand sameCommand = createCommand(LocalDate.of(2025, 1, 1), "새해", "New Year");
+        HolidayUpsertCommand changedCommand = createCommand(LocalDate.of(2025, 3, 1), "삼일절", "March 1st Movement Day");
+        HolidayUpsertCommand newCommand = createCommand(LocalDate.of(2025, 10, 3), "개천절", "National Foundation Day");
+
+        Holiday sameCandidate = createHoliday(country, LocalDate.of(2025, 1, 1), "새해", "New Year");
+        Holiday changedCandidate = createHoliday(country, LocalDate.of(2025, 3, 1), "삼일절", "March 1st Movement Day");
+        Holiday newCandidate = createHoliday(country, LocalDate.of(2025, 10, 3), "개천절", "National Foundation Day");
+
+        given(countryRepository.findByCode(countryCode)).willReturn(Optional.of(country));
+        given(holidayRepository.findAllByCountryAndDateBetween(country, start, end))
+                .willReturn(List.of(newYear, independence, vanished));
+        given(holidayDomainMapper.toHoliday(sameCommand, country)).willReturn(sameCandidate);
+        given(holidayDomainMapper.toHoliday(changedCommand, country)).willReturn(changedCandidate);
+        given(holidayDomainMapper.toHoliday(newCommand, country)).willReturn(newCandidate);
+        given(holidayJdbcWriter.deleteAll(List.of(vanished))).willReturn(1);
+        given(holidayJdbcWriter.insertAll(List.of(newCandidate))).willReturn(1);
+        given(holidayJdbcWriter.updateAll(List.of(independence))).willReturn(1);
+
+        // when
+        HolidayUpsertResult result = changesetService.upsertHolidaysInRange(
+                countryCode, start, end, List.of(sameCommand, changedCommand, newCommand));
+
+        // then
+        assertThat(result).isEqualTo(new HolidayUpsertResult(1, 1, 1, 1));
+        assertThat(independence.getName()).isEqualTo("March 1st Movement Day");
+        verify(holidayJdbcWriter).deleteAll(List.of(vanished));
+        verify(holidayJdbcWriter).insertAll(List.of(newCandidate));
+        verify(holidayJdbcWriter).updateAll(List.of(independence));
+        verify(holidayRepository, never()).deleteInRange(any(), any(), any());
+    }
+
+    @DisplayName("국가·연도 배치를 반영하고, 다음 동기화에 쓸 캐시 검증자와 내용 지문을 동기화 상태에 저장한다")
+    @Test
+    void upsertHolidays_recordSyncState() {
+        // given
+        Country country = createMockCountry();
+        HolidaySyncBatch batch = HolidaySyncBatch.modified(
+                new HolidaySyncUnit("KR", 2025), List.of(), "fingerprint", "\"v1\"", "Wed, 01 Jan 2025 00:00:00 GMT");
+
+        given(countryRepository.findByCode("KR")).willReturn(Optional.of(country));
+        given(holidayRepository.deleteInRange(country, LocalDate.of(2025, 1, 1), LocalDate.of(2025, 12, 31))).willReturn(0);
+        given(holidaySyncStateRepository.findByCountryAndYear(country, 2025)).willReturn(Optional.empty());
+
+        // when
+        holidaySyncService.upsertHolidays(batch);
+
+        // then
+        ArgumentCaptor<HolidaySyncState> captor = ArgumentCaptor.forClass(HolidaySyncState.class);
+        verify(holidaySyncStateRepository).save(captor.capture());
+        assertThat(captor.getValue().getYear()).isEqualTo(2025);
+        assertThat(captor.getValue().getEtag()).isEqualTo("\"v1\"");
+        assertThat(captor.getValue().getLastModified()).isEqualTo("Wed, 01 Jan 2025 00:00:00 GMT");
+        assertThat(captor.getValue().getFingerprint()).isEqualTo("fingerprint");
     }
 
     @DisplayName("국가 코드가 존재하지 않으면 EntityNotFoundException을 던지고 기간 삭제/저장은 수행하지 않는다")
@@ -95,7 +190,7 @@ class HolidaySyncServiceTest {
 
         // 매퍼/리포지토리는 전혀 호출되지 않아야 한다.
         verify(holidayRepository, never()).deleteInRange(any(), any(), any());
-        verify(holidayRepository, never()).saveAll(anyList());
+        verifyNoInteractions(holidayJdbcWriter);
         verifyNoInteractions(holidayDomainMapper);
     }
 
@@ -130,6 +225,8 @@ class HolidaySyncServiceTest {
         );
         // 2) 반환값이 deleteByCountryAndDateBetween 의 결과와 동일한지 검증
         assertThat(result).isEqualTo(deletedCount);
+        // 3) 다음 동기화가 304 로 건너뛰지 않도록 동기화 상태도 함께 삭제
+        verify(holidaySyncStateRepository).deleteByCountryAndYear(country, year);
     }
 
     @DisplayName("연도별 삭제 시 국가 코드가 존재하지 않으면 EntityNotFoundException을 던지고 삭제는 수행하지 않는다")
@@ -151,6 +248,14 @@ class HolidaySyncServiceTest {
         verify(holidayRepository, never()).deleteInRange(any(), any(), any());
     }
 
+    private Holiday createHoliday(Country country, LocalDate date, String localName, String name) {
+        return Holiday.of(country, date, localName, name, true, false, null, "Public", null);
+    }
+
+    private HolidayUpsertCommand createCommand(LocalDate date, String localName, String name) {
+        return new HolidayUpsertCommand("KR", date, localName, name, true, false, null, List.of("Public"), null);
+    }
+
     private Country createMockCountry() {
         return mock(Country.class);
     }
@@ -0,0 +1,260 @@
+package com.company.holiday.holiday_service.api.application;
+
+import com.company.holiday.holiday_service.api.application.dto.HolidaySyncUnit;
+import com.company.holiday.holiday_service.api.infra.HolidaySyncLockJdbcRepository;
+import com.company.holiday.holiday_service.global.config.HolidaySyncLockProperties;
+import com.company.holiday.holiday_service.global.config.HolidayUnitLockProperties;
+import com.company.holiday.holiday_service.global.error.ErrorCode;
+import com.company.holiday.holiday_service.global.error.exception.ConflictException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Predicate;
+import java.util.stream.IntStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class HolidayUnitLockManagerTest {
+
+    private static final HolidaySyncUnit KR_2025 = new HolidaySyncUnit("KR", 2025);
+    private static final HolidaySyncUnit US_2025 = new HolidaySyncUnit("US", 2025);
+
+    @Mock
+    HolidaySyncLockJdbcRepository lockRepository;
+
+    @Mock
+    HolidaySyncClusterLock clusterLock;
+
+    @DisplayName("같은 국가·연도를 쓰는 작업은 동시에 들어와도 한 번에 하나씩 실행된다")
+    @Test
+    void withLock_sameUnitSerialized() {
+        // given
+        HolidayUnitLockManager lockManager = lockManager(64, Duration.ofSeconds(5), false);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger maxRunning = new AtomicInteger();
+
+        // when
+        List<CompletableFuture<Void>> futures = IntStream.range(0, 8)
+                .mapToObj(i -> CompletableFuture.runAsync(() -> lockManager.withLock(KR_2025, () -> {
+                    maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+                    sleep(10);
+                    running.decrementAndGet();
+                    return null;
+                })))
+                .toList();
+        futures.forEach(CompletableFuture::join);
+
+        // then
+        assertThat(maxRunning.get()).isEqualTo(1);
+        assertThat(lockManager.getAcquisitions()).isEqualTo(8);
+    }
+
+    @DisplayName("다른 국가·연도는 서로 기다리지 않고 동시에 실행된다")
+    @Test
+    void withLock_otherUnitsRunConcurrently() throws Exception {
+        // given - 두 단위가 같은 잠금에 걸리지 않도록 stripes 를 충분히 크게
+        HolidayUnitLockManager lockManager = lockManager(1024, Duration.ofSeconds(5), false);
+        CountDownLatch krEntered = new CountDownLatch(1);
+        CountDownLatch releaseKr = new CountDownLatch(1);
+
+        CompletableFuture<Void> kr = CompletableFuture.runAsync(() -> lockManager.withLock(KR_2025, () -> {
+            krEntered.countDown();
+            await(releaseKr);
+            return null;
+        }));
+        assertThat(krEntered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when - KR 이 잠금을 쥔 동안 US 는 바로 실행된다
+        String result = lockManager.withLock(US_2025, () -> "US");
+
+        // then
+        assertThat(result).isEqualTo("US");
+        releaseKr.countDown();
+        kr.join();
+    }
+
+    @DisplayName("timeout 안에 잠금을 잡지 못하면 H-008 로 실패하고, 잡은 대기와 따로 대기 시간 초과로 집계한다")
+    @Test
+    void withLock_timeout() throws Exception {
+        // given
+        HolidayUnitLockManager lockManager = lockManager(64, Duration.ofMillis(50), false);
+        CountDownLatch entered = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Void> holder = CompletableFuture.runAsync(() -> lockManager.withLock(KR_2025, () -> {
+            entered.countDown();
+            await(release);
+            return null;
+        }));
+        assertThat(entered.await(5, TimeUnit.SECONDS)).isTrue();
+
+        // when & then
+        assertThatThrownBy(() -> lockManager.withLock(KR_2025, () -> "late"))
+                .isInstanceOf(ConflictException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.UNIT_LOCK_TIMEOUT);
+        assertThat(lockManager.getTimeouts()).isEqualTo(1);
+        assertThat(lockManager.getFailedWaits()).isEqualTo(1);
+        assertThat(lockManager.getFailedWaitNanos()).isGreaterThanOrEqualTo(Duration.ofMillis(50).toNanos());
+        assertThat(lockManager.getAcquisitions()).isEqualTo(1);
+
+        release.countDown();
+        holder.join();
+        assertThat(lockManager.withLock(KR_2025, () -> "after")).isEqualTo("after");
+        assertThat(lockManager.getAcquisitions()).isEqualTo(2);
+    }
+
+    @DisplayName("작업이 실패해도 잠금을 놓아 다음 작업이 실행된다")
+    @Test
+    void withLock_releaseOnFailure() {
+        // given
+        HolidayUnitLockManager lockManager = lockManager(64, Duration.ofMillis(50), false);
+
+        // when
+        assertThatThrownBy(() -> lockManager.withLock(KR_2025, () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(lockManager.withLock(KR_2025, () -> "next")).isEqualTo("next");
+        assertThat(lockManager.getTimeouts()).isZero();
+    }
+
+    @DisplayName("distributed 면 국가·연도별 임대 잠금을 이름 순으로 잡고, 하나의 연장 작업으로 묶었다가 작업이 끝나면 함께 놓는다")
+    @Test
+    void withLocks_distributed() {
+        // given
+        given(clusterLock.getNodeId()).willReturn("node-1");
+        HolidayUnitLockManager lockManager = lockManager(64, Duration.ofSeconds(1), true);
+        given(lockRepository.tryAcquire(any(), eq("node-1"), any(), any())).willReturn(true);
+        givenKeepAlive();
+
+        // when
+        String result = lockManager.withLocks(List.of(US_2025, KR_2025), () -> "done");
+
+        // then
+        assertThat(result).isEqualTo("done");
+        verify(lockRepository).tryAcquire(eq("holiday-unit:KR:2025"), eq("node-1"), any(), any());
+        verify(lockRepository).tryAcquire(eq("holiday-unit:US:2025"), eq("node-1"), any(), any());
+        verify(lockRepository).releaseAll(List.of("holiday-unit:KR:2025", "holiday-unit:US:2025"), "node-1");
+        verify(clusterLock).keepAlive(eq("국가·연도 잠금 holiday-unit:KR:2025 외 1개"), any(), any(), any(), any());
+    }
+
+    @DisplayName("distributed 임대를 여러 개 잡아도 연장은 한 번의 update 로 함께 하고, 하나라도 잃으면 false 를 돌려준다")
+    @Test
+    void withLocks_distributedRenewAll() {
+        // given
+        given(clusterLock.getNodeId()).willReturn("node-1");
+        HolidayUnitLockManager lockManager = lockManager(64, Duration.ofSeconds(1), true);
+        given(lockRepository.tryAcquire(any(), eq("node-1"), any(), any())).willReturn(true);
+        AtomicReference<Predicate<LocalDateTime>> renewer = new AtomicReference<>();
+        given(clusterLock.keepAlive(any(), any(), any(), any(), any())).willAnswer(invocation -> {
+            renewer.set(invocation.getArgument(2));
+            return new HolidaySyncLease(invocation.getArgument(4));
+        });
+        List<String> names = List.of("holiday-unit:KR:2025", "holiday-unit:US:2025");
+        LocalDateTime next = LocalDateTime.of(2025, 1, 2, 1, 1);
+        given(lockRepository.renewAll(names, "node-1", next)).willReturn(true, false);
+
+        // when
+        List<Boolean> renewed = lockManager.withLocks(List.of(KR_2025, US_2025),
+                () -> List.of(renewer.get().test(next), renewer.get().test(next)));
+
+        // then
+        assertThat(renewed).containsExactly(true, false);
+        verify(clusterLock, times(1)).keepAlive(any(), any(), any(), any(), any());
+        verify(lockRepository, never()).renew(any(), any(), any());
+    }
+
+    @DisplayName("distributed 임대를 반영 중에 잃으면, 작업이 끝난 뒤 H-008 로 실패를 알리고 잠금을 놓는다")
+    @Test
+    void withLock_distributedLeaseLost() {
+        // given
+        given(clusterLock.getNodeId()).willReturn("node-1");
+        HolidayUnitLockManager lockManager = lockManager(64, Duration.ofSeconds(1), true);
+        given(lockRepository.tryAcquire(eq("holiday-unit:KR:2025"), eq("node-1"), any(), any())).willReturn(true);
+        AtomicReference<Runnable> onLost = new AtomicReference<>();
+        given(clusterLock.keepAlive(any(), any(), any(), any(), any())).willAnswer(invocation -> {
+            onLost.set(invocation.getArgument(3));
+            return new HolidaySyncLease(invocation.getArgument(4));
+        });
+
+        // when & then - 반영 중 연장에 실패해 임대를 잃는다
+        assertThatThrownBy(() -> lockManager.withLock(KR_2025, () -> {
+            onLost.get().run();
+            return "written";
+        }))
+                .isInstanceOf(ConflictException.class)
+                .extracting("errorCode")
+                .isEqualTo(ErrorCode.UNIT_LOCK_TIMEOUT);
+        verify(lockRepository).releaseAll(List.of("holiday-unit:KR:2025"), "node-1");
+        assertThat(lockManager.withLock(KR_2025, () -> "next")).isEqualTo("next");
+    }
+
+    @DisplayName("distributed 잠금을 다른 노드가 쥐고 있으면 timeout 까지 다시 시도한 뒤 H-008 로 실패하고, 작업은 실행하지 않는다")
+    @Test
+    void withLock_distributedTimeout() {
+        // given
+        given(clusterLock.getNodeId()).willReturn("node-1");
+        HolidayUnitLockManager lockManager = lockManager(64, Duration.ofMillis(100), true);
+        given(lockRepository.tryAcquire(eq("holiday-unit:KR:2025"), eq("node-1"), any(), any())).willReturn(false);
+        AtomicInteger executed = new AtomicInteger();
+
+        // when & then
+        assertThatThrownBy(() -> lockManager.withLock(KR_2025, executed::incrementAndGet))
+                .isInstanceOf(ConflictException.class);
+        assertThat(executed.get()).isZero();
+        assertThat(lockManager.getTimeouts()).isEqualTo(1);
+        verify(lockRepository, never()).releaseAll(any(), any());
+    }
+
+    private void givenKeepAlive() {
+        given(clusterLock.keepAlive(any(), any(), any(), any(), any()))
+                .willAnswer(invocation -> new HolidaySyncLease(invocation.getArgument(4)));
+    }
+
+    private HolidayUnitLockManager lockManager(int stripes, Duration timeout, boolean distributed) {
+        return new HolidayUnitLockManager(
+                new HolidayUnitLockProperties(stripes, timeout, distributed, Duration.ofMillis(10)),
+                new HolidaySyncLockProperties(true, Duration.ofSeconds(60), Duration.ofSeconds(20), "node-1"),
+                lockRepository,
+                clusterLock
+        );
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+}
@@ -0,0 +1,57 @@
+package com.company.holiday.holiday_service.api.infra;
+
+import com.company.holiday.holiday_service.IntegrationTestSupport;
+import com.company.holiday.holiday_service.api.domain.Country;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class CountryJdbcWriterTest extends IntegrationTestSupport {
+
+    @Autowired
+    private CountryJdbcWriter countryJdbcWriter;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @Autowired
+    private EntityManager entityManager;
+
+    @DisplayName("국가를 JDBC 배치로 추가하고, 이름과 가용 여부를 id 기준으로 갱신한다.")
+    @Test
+    void insertAllAndUpdateAll() {
+        // given
+        countryJdbcWriter.insertAll(List.of(
+                Country.of("KR", "Korea"),
+                Country.of("AN", "Netherlands Antilles")
+        ));
+        List<Country> saved = countryRepository.findAllForSync();
+        saved.forEach(country -> {
+            if (country.getCode().equals("KR")) {
+                country.syncWith("Korea, Republic of");
+            } else {
+                country.markUnavailable();
+            }
+        });
+
+        // when
+        countryJdbcWriter.updateAll(saved);
+
+        // then
+        entityManager.clear();
+        assertThat(countryRepository.findAllByOrderByCodeAsc())
+                .extracting(Country::getCode, Country::getName, Country::isAvailable)
+                .containsExactly(
+                        tuple("AN", "Netherlands Antilles", false),
+                        tuple("KR", "Korea, Republic of", true)
+                );
+        assertThat(countryRepository.findAllByOrderByCodeAsc()).allMatch(c -> c.getCreatedAt() != null && c.getUpdatedAt() != null);
+    }
+
+}
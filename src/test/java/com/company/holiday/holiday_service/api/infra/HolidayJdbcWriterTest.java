@@ -0,0 +1,113 @@
+package com.company.holiday.holiday_service.api.infra;
+
+import com.company.holiday.holiday_service.IntegrationTestSupport;
+import com.company.holiday.holiday_service.api.domain.Country;
+import com.company.holiday.holiday_service.api.domain.Holiday;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class HolidayJdbcWriterTest extends IntegrationTestSupport {
+
+    @Autowired
+    private HolidayJdbcWriter holidayJdbcWriter;
+
+    @Autowired
+    private HolidayRepository holidayRepository;
+
+    @Autowired
+    private CountryRepository countryRepository;
+
+    @DisplayName("공휴일을 JDBC 배치로 저장하고, 생성/수정 시각을 함께 채운다.")
+    @Test
+    void insertAll() {
+        // given
+        Country kr = countryRepository.save(Country.of("KR", "Korea, Republic of"));
+        List<Holiday> holidays = List.of(
+                createHoliday(kr, LocalDate.of(2025, 1, 1), "새해", "New Year"),
+                createHoliday(kr, LocalDate.of(2025, 3, 1), "삼일절", "Independence Movement Day")
+        );
+
+        // when
+        int inserted = holidayJdbcWriter.insertAll(holidays);
+
+        // then
+        assertThat(inserted).isEqualTo(2);
+
+        List<Holiday> saved = findAllIn2025(kr);
+        assertThat(saved)
+                .extracting(Holiday::getLocalName)
+                .containsExactlyInAnyOrder("새해", "삼일절");
+        assertThat(saved).allMatch(h -> h.getCreatedAt() != null && h.getUpdatedAt() != null);
+    }
+
+    @DisplayName("id 기준으로 공휴일 내용을 갱신하고, 삭제한다.")
+    @Test
+    void updateAllAndDeleteAll() {
+        // given
+        Country kr = countryRepository.save(Country.of("KR", "Korea, Republic of"));
+        holidayJdbcWriter.insertAll(List.of(
+                createHoliday(kr, LocalDate.of(2025, 1, 1), "새해", "New Year"),
+                createHoliday(kr, LocalDate.of(2025, 3, 1), "삼일절", "Independence Movement Day")
+        ));
+
+        List<Holiday> saved = findAllIn2025(kr);
+        Holiday newYear = saved.stream().filter(h -> h.getLocalName().equals("새해")).findFirst().orElseThrow();
+        Holiday independence = saved.stream().filter(h -> h.getLocalName().equals("삼일절")).findFirst().orElseThrow();
+
+        // when
+        newYear.updateContent(createHoliday(kr, LocalDate.of(2025, 1, 1), "새해", "New Year's Day"));
+        int updated = holidayJdbcWriter.updateAll(List.of(newYear));
+        int deleted = holidayJdbcWriter.deleteAll(List.of(independence));
+
+        // then
+        assertThat(updated).isEqualTo(1);
+        assertThat(deleted).isEqualTo(1);
+
+        assertThat(findAllIn2025(kr))
+                .extracting(Holiday::getId, Holiday::getName)
+                .containsExactly(tuple(newYear.getId(), "New Year's Day"));
+    }
+
+    @DisplayName("이미 지워진 공휴일은 갱신·삭제해도 DB 가 돌려준 행 수대로 0 건으로 센다.")
+    @Test
+    void updateAllAndDeleteAll_missingRows() {
+        // given
+        Country kr = countryRepository.save(Country.of("KR", "Korea, Republic of"));
+        holidayJdbcWriter.insertAll(List.of(
+                createHoliday(kr, LocalDate.of(2025, 1, 1), "새해", "New Year"),
+                createHoliday(kr, LocalDate.of(2025, 3, 1), "삼일절", "Independence Movement Day")
+        ));
+        List<Holiday> saved = findAllIn2025(kr);
+        Holiday newYear = saved.stream().filter(h -> h.getLocalName().equals("새해")).findFirst().orElseThrow();
+        holidayJdbcWriter.deleteAll(List.of(newYear));
+
+        // when
+        int updated = holidayJdbcWriter.updateAll(saved);
+        int deleted = holidayJdbcWriter.deleteAll(saved);
+
+        // then
+        assertThat(updated).isEqualTo(1);
+        assertThat(deleted).isEqualTo(1);
+        assertThat(findAllIn2025(kr)).isEmpty();
+    }
+
+    private List<Holiday> findAllIn2025(Country country) {
+        return holidayRepository.findAllByCountryAndDateBetween(
+                country,
+                LocalDate.of(2025, 1, 1),
+                LocalDate.of(2025, 12, 31)
+        );
+    }
+
+    private Holiday createHoliday(Country country, LocalDate date, String localName, String name) {
+        return Holiday.of(country, date, localName, name, true, false, null, "Public", null);
+    }
+
+}
@@ -0,0 +1,94 @@
+package com.company.holiday.holiday_service.api.infra;
+
+import com.company.holiday.holiday_service.IntegrationTestSupport;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class HolidaySyncLockJdbcRepositoryTest extends IntegrationTestSupport {
+
+    private static final String LOCK = "holiday-sync";
+
+    @Autowired
+    private HolidaySyncLockJdbcRepository lockRepository;
+
+    @DisplayName("잠금이 없으면 가져오고, 만료되지 않은 다른 노드의 잠금은 가져오지 못한다.")
+    @Test
+    void tryAcquire() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2025, 1, 2, 1, 0);
+
+        // when
+        boolean first = lockRepository.tryAcquire(LOCK, "node-a", now, now.plusSeconds(60));
+        boolean second = lockRepository.tryAcquire(LOCK, "node-b", now.plusSeconds(10), now.plusSeconds(70));
+
+        // then
+        assertThat(first).isTrue();
+        assertThat(second).isFalse();
+        assertThat(lockRepository.tryAcquire(LOCK, "node-a", now.plusSeconds(10), now.plusSeconds(70))).isTrue();
+    }
+
+    @DisplayName("임대가 만료된 잠금은 다른 노드가 가져가고, 이전 소유자는 더 이상 연장하지 못한다.")
+    @Test
+    void tryAcquire_takeOverExpired() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2025, 1, 2, 1, 0);
+        lockRepository.tryAcquire(LOCK, "node-a", now, now.plusSeconds(60));
+
+        // when
+        boolean takenOver = lockRepository.tryAcquire(LOCK, "node-b", now.plusSeconds(61), now.plusSeconds(121));
+
+        // then
+        assertThat(takenOver).isTrue();
+        assertThat(lockRepository.renew(LOCK, "node-a", now.plusSeconds(121))).isFalse();
+        assertThat(lockRepository.renew(LOCK, "node-b", now.plusSeconds(181))).isTrue();
+    }
+
+    @DisplayName("연장한 만큼 다른 노드가 가져가지 못하고, 해제하면 바로 가져갈 수 있다.")
+    @Test
+    void renewAndRelease() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2025, 1, 2, 1, 0);
+        lockRepository.tryAcquire(LOCK, "node-a", now, now.plusSeconds(60));
+        lockRepository.renew(LOCK, "node-a", now.plusSeconds(120));
+
+        // when
+        boolean beforeRelease = lockRepository.tryAcquire(LOCK, "node-b", now.plusSeconds(90), now.plusSeconds(150));
+        lockRepository.release(LOCK, "node-b");
+        boolean stillHeld = lockRepository.tryAcquire(LOCK, "node-b", now.plusSeconds(90), now.plusSeconds(150));
+        lockRepository.release(LOCK, "node-a");
+        boolean afterRelease = lockRepository.tryAcquire(LOCK, "node-b", now.plusSeconds(90), now.plusSeconds(150));
+
+        // then
+        assertThat(beforeRelease).isFalse();
+        assertThat(stillHeld).isFalse();
+        assertThat(afterRelease).isTrue();
+    }
+
+    @DisplayName("여러 잠금을 한 번에 연장하고, 하나라도 다른 노드가 가져갔으면 false 를 돌려준다. 해제도 한 번에 한다.")
+    @Test
+    void renewAllAndReleaseAll() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2025, 1, 2, 1, 0);
+        List<String> names = List.of("holiday-unit:KR:2025", "holiday-unit:US:2025");
+        names.forEach(name -> lockRepository.tryAcquire(name, "node-a", now, now.plusSeconds(60)));
+
+        // when
+        boolean renewed = lockRepository.renewAll(names, "node-a", now.plusSeconds(120));
+        lockRepository.tryAcquire("holiday-unit:US:2025", "node-b", now.plusSeconds(121), now.plusSeconds(181));
+        boolean renewedAfterTakeOver = lockRepository.renewAll(names, "node-a", now.plusSeconds(180));
+        lockRepository.releaseAll(names, "node-a");
+
+        // then
+        assertThat(renewed).isTrue();
+        assertThat(renewedAfterTakeOver).isFalse();
+        assertThat(lockRepository.tryAcquire("holiday-unit:KR:2025", "node-b", now.plusSeconds(122), now.plusSeconds(182))).isTrue();
+        assertThat(lockRepository.tryAcquire("holiday-unit:US:2025", "node-c", now.plusSeconds(122), now.plusSeconds(182))).isFalse();
+    }
+
+}
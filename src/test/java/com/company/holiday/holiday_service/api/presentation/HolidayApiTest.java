@@ -1,8 +1,11 @@
 package com.company.holiday.holiday_service.api.presentation;
 
 import com.company.holiday.holiday_service.ApiTestSupport;
+import com.company.holiday.holiday_service.api.application.HolidaySyncJob;
 import com.company.holiday.holiday_service.api.presentation.dto.request.HolidayDeleteRequest;
 import com.company.holiday.holiday_service.api.presentation.dto.request.HolidayRefreshRequest;
+import com.company.holiday.holiday_service.global.error.ErrorCode;
+import com.company.holiday.holiday_service.global.error.exception.ConflictException;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.data.domain.Page;
@@ -13,6 +16,7 @@ import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 class HolidayApiTest extends ApiTestSupport {
@@ -28,6 +32,72 @@ class HolidayApiTest extends ApiTestSupport {
                 .andExpect(status().isOk());
     }
 
+    @DisplayName("전체 동기화 작업을 등록하면 202 와 작업 id 를 바로 반환한다.")
+    @Test
+    void submitSyncJob() throws Exception {
+        // given
+        HolidaySyncJob job = new HolidaySyncJob(HolidaySyncJob.Type.MANUAL);
+        given(holidaySyncJobRunner.submit(HolidaySyncJob.Type.MANUAL)).willReturn(job);
+
+        // when // then
+        mockMvc.perform(
+                        post("/api/v1/holidays/sync/jobs")
+                )
+                .andDo(print())
+                .andExpect(status().isAccepted())
+                .andExpect(jsonPath("$.jobId").value(job.getId()))
+                .andExpect(jsonPath("$.status").value("PENDING"));
+    }
+
+    @DisplayName("이미 실행 중인 동기화 작업이 있으면 409를 반환한다.")
+    @Test
+    void submitSyncJob_conflict() throws Exception {
+        // given
+        given(holidaySyncJobRunner.submit(HolidaySyncJob.Type.MANUAL))
+                .willThrow(new ConflictException(ErrorCode.SYNC_JOB_ALREADY_RUNNING));
+
+        // when // then
+        mockMvc.perform(
+                        post("/api/v1/holidays/sync/jobs")
+                )
+                .andDo(print())
+                .andExpect(status().isConflict())
+                .andExpect(jsonPath("$.code").value("H-005"));
+    }
+
+    @DisplayName("동기화 작업 상태를 조회한다.")
+    @Test
+    void searchSyncJob() throws Exception {
+        // given
+        HolidaySyncJob job = new HolidaySyncJob(HolidaySyncJob.Type.MANUAL);
+        given(holidaySyncJobRunner.find(job.getId())).willReturn(job);
+
+        // when // then
+        mockMvc.perform(
+                        get("/api/v1/holidays/sync/jobs/{jobId}", job.getId())
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.jobId").value(job.getId()));
+    }
+
+    @DisplayName("동기화 작업 취소를 요청한다.")
+    @Test
+    void cancelSyncJob() throws Exception {
+        // given
+        HolidaySyncJob job = new HolidaySyncJob(HolidaySyncJob.Type.MANUAL);
+        job.requestCancel();
+        given(holidaySyncJobRunner.cancel(job.getId())).willReturn(job);
+
+        // when // then
+        mockMvc.perform(
+                        post("/api/v1/holidays/sync/jobs/{jobId}/cancel", job.getId())
+                )
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.cancelRequested").value(true));
+    }
+
     @DisplayName("특정 국가와 연도의 공휴일을 재동기화한다.")
     @Test
     void refreshHolidays() throws Exception {
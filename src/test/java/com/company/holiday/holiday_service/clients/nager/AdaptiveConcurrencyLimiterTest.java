@@ -0,0 +1,89 @@
+package com.company.holiday.holiday_service.clients.nager;
+
+import com.company.holiday.holiday_service.clients.nager.AdaptiveConcurrencyLimiter.Permit;
+import com.company.holiday.holiday_service.global.config.NagerConcurrencyLimitProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AdaptiveConcurrencyLimiterTest {
+
+    @DisplayName("한도만큼 자리를 내주고, 한도가 가득 차면 대기 시간이 지난 뒤 거절하고 거절 수를 센다")
+    @Test
+    void tryAcquire_rejectWhenFull() throws InterruptedException {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties(2, Duration.ZERO));
+        limiter.tryAcquire().orElseThrow();
+        limiter.tryAcquire().orElseThrow();
+
+        // when & then
+        assertThat(limiter.tryAcquire()).isEmpty();
+        assertThat(limiter.getInFlight()).isEqualTo(2);
+        assertThat(limiter.getRejections()).isEqualTo(1);
+    }
+
+    @DisplayName("한도를 가득 쓰는 동안 정상 응답이 이어지면 한도를 늘린다 ( additive increase )")
+    @Test
+    void onSuccess_increaseLimit() throws InterruptedException {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties(2, Duration.ZERO));
+
+        // when
+        for (int round = 0; round < 4; round++) {
+            List<Permit> permits = acquireAll(limiter);
+            permits.forEach(Permit::onSuccess);
+        }
+
+        // then
+        assertThat(limiter.getLimit()).isGreaterThan(2);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    @DisplayName("429 / 5xx 같은 과부하 응답을 받으면 한도를 줄이고, 같은 시점에 시작한 요청들은 한 번만 줄인다 ( multiplicative decrease )")
+    @Test
+    void onDropped_decreaseLimitOnce() throws InterruptedException {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties(8, Duration.ZERO));
+        List<Permit> permits = acquireAll(limiter);
+
+        // when
+        permits.forEach(Permit::onDropped);
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(4);
+    }
+
+    @DisplayName("부하와 무관한 실패는 한도를 바꾸지 않고 자리만 반납한다")
+    @Test
+    void onIgnored_keepLimit() throws InterruptedException {
+        // given
+        AdaptiveConcurrencyLimiter limiter = new AdaptiveConcurrencyLimiter(properties(4, Duration.ZERO));
+        Permit permit = limiter.tryAcquire().orElseThrow();
+
+        // when
+        permit.onIgnored();
+
+        // then
+        assertThat(limiter.getLimit()).isEqualTo(4);
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+    private List<Permit> acquireAll(AdaptiveConcurrencyLimiter limiter) throws InterruptedException {
+        List<Permit> permits = new ArrayList<>();
+        int limit = limiter.getLimit();
+        for (int i = 0; i < limit; i++) {
+            permits.add(limiter.tryAcquire().orElseThrow());
+        }
+        return permits;
+    }
+
+    private NagerConcurrencyLimitProperties properties(int initialLimit, Duration acquireTimeout) {
+        return new NagerConcurrencyLimitProperties(initialLimit, 1, 32, 0.5, Duration.ofSeconds(10), acquireTimeout);
+    }
+
+}
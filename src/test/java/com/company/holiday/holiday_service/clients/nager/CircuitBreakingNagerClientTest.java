@@ -0,0 +1,74 @@
+package com.company.holiday.holiday_service.clients.nager;
+
+import com.company.holiday.holiday_service.clients.nager.NagerCircuitBreaker.State;
+import com.company.holiday.holiday_service.global.config.NagerCircuitBreakerProperties;
+import com.company.holiday.holiday_service.global.error.ErrorCode;
+import com.company.holiday.holiday_service.global.error.exception.ConcurrencyLimitExceededException;
+import com.company.holiday.holiday_service.global.error.exception.ExternalApiException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.concurrent.CancellationException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class CircuitBreakingNagerClientTest {
+
+    @Mock
+    NagerClient delegate;
+
+    NagerCircuitBreaker circuitBreaker;
+    CircuitBreakingNagerClient circuitBreakingNagerClient;
+
+    @BeforeEach
+    void setUp() {
+        circuitBreaker = new NagerCircuitBreaker(new NagerCircuitBreakerProperties(0.5, 10, 4, Duration.ofHours(1), 2));
+        circuitBreakingNagerClient = new CircuitBreakingNagerClient(delegate, circuitBreaker);
+    }
+
+    @DisplayName("우리 쪽 동시 요청 한도 초과로 거절된 호출은 Nager 장애로 세지 않아 회로가 열리지 않는다")
+    @Test
+    void concurrencyLimitExceeded_notCountedAsFailure() {
+        // given
+        given(delegate.getAvailableCountries())
+                .willThrow(new ConcurrencyLimitExceededException("Nager API 동시 요청 한도 초과"));
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            assertThatThrownBy(() -> circuitBreakingNagerClient.getAvailableCountries())
+                    .isInstanceOf(ConcurrencyLimitExceededException.class)
+                    .satisfies(e -> assertThat(((ExternalApiException) e).isRetryable()).isFalse());
+        }
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+    }
+
+    @DisplayName("대기 중 취소된 호출은 성공으로도 실패로도 세지 않는다")
+    @Test
+    void cancelled_ignored() {
+        // given - 취소 2 건 뒤 일시 장애 2 건, 취소가 성공으로 세지면 최소 호출 수 4 에 닿아 실패 비율 0.5 로 회로가 열린다
+        given(delegate.getAvailableCountries())
+                .willThrow(new CancellationException("Nager API 요청 대기 중 인터럽트"))
+                .willThrow(new CancellationException("Nager API 요청 대기 중 인터럽트"))
+                .willThrow(new ExternalApiException(ErrorCode.INTERNAL_SERVER_ERROR, "timeout", null, true));
+
+        // when
+        for (int i = 0; i < 4; i++) {
+            assertThatThrownBy(() -> circuitBreakingNagerClient.getAvailableCountries())
+                    .isInstanceOfAny(ExternalApiException.class, CancellationException.class);
+        }
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+    }
+
+}
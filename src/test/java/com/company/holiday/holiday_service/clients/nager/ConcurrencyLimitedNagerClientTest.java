@@ -0,0 +1,70 @@
+package com.company.holiday.holiday_service.clients.nager;
+
+import com.company.holiday.holiday_service.global.config.NagerConcurrencyLimitProperties;
+import com.company.holiday.holiday_service.global.error.ErrorCode;
+import com.company.holiday.holiday_service.global.error.exception.ExternalApiException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class ConcurrencyLimitedNagerClientTest {
+
+    @Mock
+    NagerClient delegate;
+
+    AdaptiveConcurrencyLimiter limiter;
+    ConcurrencyLimitedNagerClient concurrencyLimitedNagerClient;
+
+    @BeforeEach
+    void setUp() {
+        limiter = new AdaptiveConcurrencyLimiter(new NagerConcurrencyLimitProperties(2, 1, 32, 0.5, Duration.ofSeconds(10), Duration.ZERO));
+        concurrencyLimitedNagerClient = new ConcurrencyLimitedNagerClient(delegate, limiter);
+    }
+
+    @DisplayName("호출이 Error 로 끝나도 자리를 반납해 한도가 줄어들지 않는다")
+    @Test
+    void error_releasePermit() {
+        // given
+        given(delegate.getAvailableCountries()).willThrow(new StackOverflowError());
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            assertThatThrownBy(() -> concurrencyLimitedNagerClient.getAvailableCountries())
+                    .isInstanceOf(StackOverflowError.class);
+        }
+
+        // then
+        assertThat(limiter.getInFlight()).isZero();
+        assertThat(limiter.getLimit()).isEqualTo(2);
+    }
+
+    @DisplayName("호출 결과마다 자리를 한 번만 반납한다")
+    @Test
+    void releaseOnce() {
+        // given
+        given(delegate.getAvailableCountries())
+                .willReturn(List.of())
+                .willThrow(new ExternalApiException(ErrorCode.INTERNAL_SERVER_ERROR, "timeout", null, true))
+                .willThrow(new IllegalStateException("boom"));
+
+        // when
+        concurrencyLimitedNagerClient.getAvailableCountries();
+        assertThatThrownBy(() -> concurrencyLimitedNagerClient.getAvailableCountries()).isInstanceOf(ExternalApiException.class);
+        assertThatThrownBy(() -> concurrencyLimitedNagerClient.getAvailableCountries()).isInstanceOf(IllegalStateException.class);
+
+        // then
+        assertThat(limiter.getInFlight()).isZero();
+    }
+
+}
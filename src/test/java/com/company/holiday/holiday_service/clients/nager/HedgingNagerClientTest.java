@@ -0,0 +1,185 @@
+package com.company.holiday.holiday_service.clients.nager;
+
+import com.company.holiday.holiday_service.clients.nager.dto.NagerCacheValidators;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerConditionalResult;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerPublicHolidayResponse;
+import com.company.holiday.holiday_service.global.config.NagerHedgingProperties;
+import com.company.holiday.holiday_service.global.error.ErrorCode;
+import com.company.holiday.holiday_service.global.error.exception.ExternalApiException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class HedgingNagerClientTest {
+
+    @Mock
+    NagerClient delegate;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @DisplayName("대기 시간 안에 응답이 없으면 같은 요청을 하나 더 보내 먼저 끝난 응답을 쓰고, 늦은 요청은 중단한다")
+    @Test
+    void hedge_fasterResponseWins() throws InterruptedException {
+        // given
+        NagerHedgingPolicy policy = warmedUpPolicy(1.0);
+        CountDownLatch slowInterrupted = new CountDownLatch(1);
+        NagerPublicHolidayResponse fastHoliday = mock(NagerPublicHolidayResponse.class);
+        NagerPublicHolidayResponse slowHoliday = mock(NagerPublicHolidayResponse.class);
+
+        given(delegate.collectPublicHolidaysIfModified(anyInt(), anyString(), any(), any()))
+                .willAnswer(invocation -> {
+                    try {
+                        Thread.sleep(Duration.ofSeconds(10));
+                    } catch (InterruptedException e) {
+                        slowInterrupted.countDown();
+                        throw e;
+                    }
+                    return NagerConditionalResult.modified(List.of(slowHoliday), NagerCacheValidators.none());
+                })
+                .willAnswer(invocation -> NagerConditionalResult.modified(List.of(fastHoliday), NagerCacheValidators.none()));
+        HedgingNagerClient client = new HedgingNagerClient(delegate, policy, executor);
+
+        // when
+        NagerConditionalResult<List<NagerPublicHolidayResponse>> result = client.collectPublicHolidaysIfModified(
+                2025, "KR", NagerCacheValidators.none(), Collectors.toList()
+        );
+
+        // then
+        assertThat(result.body()).containsExactly(fastHoliday);
+        assertThat(policy.getHedges()).isEqualTo(1);
+        assertThat(policy.getHedgeWins()).isEqualTo(1);
+        assertThat(slowInterrupted.await(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @DisplayName("추가 요청 예산이 없으면 헤징하지 않고 원래 요청의 응답을 기다린다")
+    @Test
+    void hedge_budgetExhausted() {
+        // given
+        NagerHedgingPolicy policy = warmedUpPolicy(0.1);
+        NagerPublicHolidayResponse slowHoliday = mock(NagerPublicHolidayResponse.class);
+        given(delegate.collectPublicHolidaysIfModified(anyInt(), anyString(), any(), any()))
+                .willAnswer(invocation -> {
+                    Thread.sleep(Duration.ofMillis(100));
+                    return NagerConditionalResult.modified(List.of(slowHoliday), NagerCacheValidators.none());
+                });
+        HedgingNagerClient client = new HedgingNagerClient(delegate, policy, executor);
+
+        // when
+        NagerConditionalResult<List<NagerPublicHolidayResponse>> result = client.collectPublicHolidaysIfModified(
+                2025, "KR", NagerCacheValidators.none(), Collectors.toList()
+        );
+
+        // then
+        assertThat(result.body()).containsExactly(slowHoliday);
+        assertThat(policy.getHedges()).isZero();
+        assertThat(policy.getBudgetExhausted()).isEqualTo(1);
+        verify(delegate, times(1)).collectPublicHolidaysIfModified(anyInt(), anyString(), any(), any());
+    }
+
+    @DisplayName("응답 시간이 충분히 쌓이기 전에는 헤징하지 않는다")
+    @Test
+    void hedge_notEnoughSamples() {
+        // given
+        NagerHedgingPolicy policy = new NagerHedgingPolicy(properties(1.0, 5));
+        given(delegate.collectPublicHolidaysIfModified(anyInt(), anyString(), any(), any()))
+                .willAnswer(invocation -> NagerConditionalResult.modified(List.of(), NagerCacheValidators.none()));
+        HedgingNagerClient client = new HedgingNagerClient(delegate, policy, executor);
+
+        // when
+        client.collectPublicHolidaysIfModified(2025, "KR", NagerCacheValidators.none(), Collectors.toList());
+
+        // then
+        assertThat(policy.getCalls()).isEqualTo(1);
+        assertThat(policy.getHedges()).isZero();
+        assertThat(policy.getDelayMillis()).isZero();
+    }
+
+    @DisplayName("헤징한 요청은 각자 시작한 때부터 끝날 때까지의 응답 시간을 기록하고, 중단된 요청의 응답 시간도 기록한다")
+    @Test
+    void hedge_recordEachAttemptLatency() {
+        // given - 헤징 대기 시간 50ms, 원래 요청은 중단될 때까지 응답하지 않는다
+        NagerHedgingPolicy policy = new NagerHedgingPolicy(properties(1.0, 1));
+        policy.recordLatency(Duration.ofMillis(50).toNanos());
+        policy = spy(policy);
+        given(delegate.collectPublicHolidaysIfModified(anyInt(), anyString(), any(), any()))
+                .willAnswer(invocation -> {
+                    Thread.sleep(Duration.ofSeconds(10));
+                    return NagerConditionalResult.modified(List.of(), NagerCacheValidators.none());
+                })
+                .willAnswer(invocation -> NagerConditionalResult.modified(List.of(), NagerCacheValidators.none()));
+        HedgingNagerClient client = new HedgingNagerClient(delegate, policy, executor);
+
+        // when
+        client.collectPublicHolidaysIfModified(2025, "KR", NagerCacheValidators.none(), Collectors.toList());
+
+        // then - 바로 끝난 헤징 요청은 원래 요청의 시작이 아닌 자신의 시작부터 잰다
+        ArgumentCaptor<Long> latencies = ArgumentCaptor.forClass(Long.class);
+        verify(policy, timeout(5000).times(2)).recordLatency(latencies.capture());
+        assertThat(latencies.getAllValues())
+                .anySatisfy(nanos -> assertThat(nanos).isLessThan(Duration.ofMillis(50).toNanos()))
+                .anySatisfy(nanos -> assertThat(nanos).isGreaterThanOrEqualTo(Duration.ofMillis(50).toNanos()));
+    }
+
+    @DisplayName("실패한 요청의 응답 시간도 기록한다")
+    @Test
+    void noHedge_recordFailedLatency() {
+        // given
+        NagerHedgingPolicy policy = spy(new NagerHedgingPolicy(properties(1.0, 5)));
+        given(delegate.collectPublicHolidaysIfModified(anyInt(), anyString(), any(), any()))
+                .willAnswer(invocation -> {
+                    Thread.sleep(Duration.ofMillis(20));
+                    throw new ExternalApiException(ErrorCode.INTERNAL_SERVER_ERROR, "timeout", null, true);
+                });
+        HedgingNagerClient client = new HedgingNagerClient(delegate, policy, executor);
+
+        // when
+        assertThatThrownBy(() -> client.collectPublicHolidaysIfModified(2025, "KR", NagerCacheValidators.none(), Collectors.toList()))
+                .isInstanceOf(ExternalApiException.class);
+
+        // then
+        verify(policy).recordLatency(longThat(nanos -> nanos >= Duration.ofMillis(20).toNanos()));
+    }
+
+    // 최근 응답 시간 10ms 가 쌓인 정책 ( 헤징 대기 시간 10ms )
+    private NagerHedgingPolicy warmedUpPolicy(double maxExtraLoad) {
+        NagerHedgingPolicy policy = new NagerHedgingPolicy(properties(maxExtraLoad, 1));
+        policy.recordLatency(Duration.ofMillis(10).toNanos());
+        return policy;
+    }
+
+    private NagerHedgingProperties properties(double maxExtraLoad, int minSamples) {
+        return new NagerHedgingProperties(true, 0.95, 10, minSamples, Duration.ZERO, maxExtraLoad);
+    }
+
+}
@@ -0,0 +1,128 @@
+package com.company.holiday.holiday_service.clients.nager;
+
+import com.company.holiday.holiday_service.clients.nager.NagerCircuitBreaker.Permit;
+import com.company.holiday.holiday_service.clients.nager.NagerCircuitBreaker.State;
+import com.company.holiday.holiday_service.global.config.NagerCircuitBreakerProperties;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NagerCircuitBreakerTest {
+
+    @DisplayName("최근 호출의 일시 장애 비율이 기준 이상이면 회로를 열고, 열린 동안의 호출은 바로 거절한다")
+    @Test
+    void onFailure_openCircuit() {
+        // given
+        NagerCircuitBreaker circuitBreaker = new NagerCircuitBreaker(properties(Duration.ofHours(1)));
+
+        // when
+        for (int i = 0; i < 2; i++) {
+            permit(circuitBreaker).onSuccess();
+        }
+        for (int i = 0; i < 2; i++) {
+            permit(circuitBreaker).onFailure();
+        }
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isEmpty();
+        assertThat(circuitBreaker.getRejections()).isEqualTo(1);
+    }
+
+    @DisplayName("최소 호출 수가 쌓이기 전에는 실패해도 회로를 열지 않는다")
+    @Test
+    void onFailure_belowMinimumCalls() {
+        // given
+        NagerCircuitBreaker circuitBreaker = new NagerCircuitBreaker(properties(Duration.ofHours(1)));
+
+        // when
+        for (int i = 0; i < 3; i++) {
+            permit(circuitBreaker).onFailure();
+        }
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+    }
+
+    @DisplayName("열린 시간이 지나면 시험 호출만 허용하고, 시험 호출이 모두 성공하면 회로를 닫는다")
+    @Test
+    void halfOpen_closeAfterTrialSuccess() {
+        // given
+        NagerCircuitBreaker circuitBreaker = openedCircuit(Duration.ZERO);
+
+        // when
+        Permit first = permit(circuitBreaker);
+        Permit second = permit(circuitBreaker);
+        assertThat(circuitBreaker.tryAcquirePermission()).isEmpty();
+        assertThat(circuitBreaker.getState()).isEqualTo(State.HALF_OPEN);
+        first.onSuccess();
+        second.onSuccess();
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(State.CLOSED);
+        assertThat(circuitBreaker.tryAcquirePermission()).isPresent();
+    }
+
+    @DisplayName("시험 호출이 하나라도 실패하면 회로를 다시 연다")
+    @Test
+    void halfOpen_reopenOnFailure() {
+        // given
+        NagerCircuitBreaker circuitBreaker = openedCircuit(Duration.ZERO);
+        Permit trial = permit(circuitBreaker);
+
+        // when
+        trial.onFailure();
+
+        // then
+        assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+    }
+
+    @DisplayName("CLOSED 때 시작해 HALF_OPEN 이 된 뒤에 끝난 호출은 시험 결과로 세지 않고, 시험 자리도 돌려주지 않는다")
+    @Test
+    void halfOpen_ignoreStaleClosedPermits() {
+        // given - CLOSED 때 허용된 호출 3 건이 진행 중인 채로 회로가 열렸다가 HALF_OPEN 이 된다
+        NagerCircuitBreaker circuitBreaker = new NagerCircuitBreaker(properties(Duration.ZERO));
+        Permit lateSuccess1 = permit(circuitBreaker);
+        Permit lateSuccess2 = permit(circuitBreaker);
+        Permit lateIgnored = permit(circuitBreaker);
+        for (int i = 0; i < 4; i++) {
+            permit(circuitBreaker).onFailure();
+        }
+        Permit trial = permit(circuitBreaker);
+        assertThat(circuitBreaker.getState()).isEqualTo(State.HALF_OPEN);
+
+        // when
+        lateSuccess1.onSuccess();
+        lateSuccess2.onSuccess();
+        lateIgnored.onIgnored();
+
+        // then - 시험 호출이 끝나지 않았으므로 닫히지 않고, 남은 시험 자리는 1 개뿐이다
+        assertThat(circuitBreaker.getState()).isEqualTo(State.HALF_OPEN);
+        assertThat(circuitBreaker.tryAcquirePermission()).isPresent();
+        assertThat(circuitBreaker.tryAcquirePermission()).isEmpty();
+
+        trial.onSuccess();
+        assertThat(circuitBreaker.getState()).isEqualTo(State.HALF_OPEN);
+    }
+
+    private Permit permit(NagerCircuitBreaker circuitBreaker) {
+        return circuitBreaker.tryAcquirePermission().orElseThrow();
+    }
+
+    private NagerCircuitBreaker openedCircuit(Duration openDuration) {
+        NagerCircuitBreaker circuitBreaker = new NagerCircuitBreaker(properties(openDuration));
+        for (int i = 0; i < 4; i++) {
+            permit(circuitBreaker).onFailure();
+        }
+        assertThat(circuitBreaker.getState()).isEqualTo(State.OPEN);
+        return circuitBreaker;
+    }
+
+    private NagerCircuitBreakerProperties properties(Duration openDuration) {
+        return new NagerCircuitBreakerProperties(0.5, 10, 4, openDuration, 2);
+    }
+
+}
@@ -0,0 +1,147 @@
+package com.company.holiday.holiday_service.clients.nager;
+
+import com.company.holiday.holiday_service.clients.nager.dto.NagerCacheValidators;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerConditionalResult;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerPublicHolidayResponse;
+import com.company.holiday.holiday_service.global.error.exception.ExternalApiException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.header;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withStatus;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class NagerRestClientTest {
+
+    private static final String HOLIDAYS_URL = "https://nager.test/PublicHolidays/2025/KR";
+
+    private MockRestServiceServer server;
+    private NagerRestClient nagerRestClient;
+
+    @BeforeEach
+    void setUp() {
+        RestClient.Builder builder = RestClient.builder().baseUrl("https://nager.test");
+        server = MockRestServiceServer.bindTo(builder).build();
+        nagerRestClient = new NagerRestClient(builder.build(), new ObjectMapper().registerModule(new JavaTimeModule()), null);
+    }
+
+    @DisplayName("공휴일 배열을 하나씩 읽어 collector 로 모으고, 응답의 캐시 검증자를 함께 리턴한다")
+    @Test
+    void collectPublicHolidaysIfModified() {
+        // given
+        String body = """
+                [
+                  {"date":"2025-01-01","localName":"새해","name":"New Year's Day","countryCode":"KR","fixed":false,"global":true,"counties":null,"launchYear":null,"types":["Public"]},
+                  {"date":"2025-03-01","localName":"삼일절","name":"Independence Movement Day","countryCode":"KR","fixed":false,"global":true,"counties":null,"launchYear":null,"types":["Public"]}
+                ]
+                """;
+        HttpHeaders headers = new HttpHeaders();
+        headers.setETag("\"v1\"");
+        server.expect(requestTo(HOLIDAYS_URL))
+                .andRespond(withSuccess(body, MediaType.APPLICATION_JSON).headers(headers));
+
+        // when
+        NagerConditionalResult<List<LocalDate>> result = nagerRestClient.collectPublicHolidaysIfModified(
+                2025, "KR", NagerCacheValidators.none(), Collectors.mapping(NagerPublicHolidayResponse::date, Collectors.toList())
+        );
+
+        // then
+        assertThat(result.notModified()).isFalse();
+        assertThat(result.body()).containsExactly(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 3, 1));
+        assertThat(result.validators().etag()).isEqualTo("\"v1\"");
+    }
+
+    @DisplayName("캐시 검증자로 조건부 요청을 보내고, 304 를 받으면 notModified 결과를 리턴한다")
+    @Test
+    void collectPublicHolidaysIfModified_notModified() {
+        // given
+        NagerCacheValidators validators = new NagerCacheValidators("\"v1\"", null);
+        server.expect(requestTo(HOLIDAYS_URL))
+                .andExpect(header(HttpHeaders.IF_NONE_MATCH, "\"v1\""))
+                .andRespond(withStatus(HttpStatus.NOT_MODIFIED));
+
+        // when
+        NagerConditionalResult<List<NagerPublicHolidayResponse>> result = nagerRestClient.collectPublicHolidaysIfModified(
+                2025, "KR", validators, Collectors.toList()
+        );
+
+        // then
+        assertThat(result.notModified()).isTrue();
+        assertThat(result.validators()).isEqualTo(validators);
+    }
+
+    @DisplayName("5xx 응답은 재시도 가능한 ExternalApiException 으로 던진다")
+    @Test
+    void collectPublicHolidaysIfModified_serverError() {
+        // given
+        server.expect(requestTo(HOLIDAYS_URL))
+                .andRespond(withStatus(HttpStatus.SERVICE_UNAVAILABLE));
+
+        // when & then
+        assertThatThrownBy(() -> nagerRestClient.collectPublicHolidaysIfModified(2025, "KR", NagerCacheValidators.none(), Collectors.toList()))
+                .isInstanceOfSatisfying(ExternalApiException.class, e -> assertThat(e.isRetryable()).isTrue());
+    }
+
+    @DisplayName("형식이 잘못된 응답은 재시도하지 않는 ExternalApiException 으로 던진다")
+    @Test
+    void collectPublicHolidaysIfModified_malformedBody() {
+        // given
+        server.expect(requestTo(HOLIDAYS_URL))
+                .andRespond(withSuccess("{\"message\":\"oops\"}", MediaType.APPLICATION_JSON));
+
+        // when & then
+        assertThatThrownBy(() -> nagerRestClient.collectPublicHolidaysIfModified(2025, "KR", NagerCacheValidators.none(), Collectors.toList()))
+                .isInstanceOfSatisfying(ExternalApiException.class, e -> assertThat(e.isRetryable()).isFalse());
+    }
+
+    @DisplayName("배열 중간에 객체가 아닌 원소가 있으면 앞부분만 받아들이지 않고 재시도하지 않는 ExternalApiException 으로 던진다")
+    @Test
+    void collectPublicHolidaysIfModified_nonObjectElement() {
+        // given
+        String body = """
+                [
+                  {"date":"2025-01-01","localName":"새해","name":"New Year's Day","countryCode":"KR","fixed":false,"global":true,"counties":null,"launchYear":null,"types":["Public"]},
+                  42,
+                  {"date":"2025-03-01","localName":"삼일절","name":"Independence Movement Day","countryCode":"KR","fixed":false,"global":true,"counties":null,"launchYear":null,"types":["Public"]}
+                ]
+                """;
+        server.expect(requestTo(HOLIDAYS_URL))
+                .andRespond(withSuccess(body, MediaType.APPLICATION_JSON));
+
+        // when & then
+        assertThatThrownBy(() -> nagerRestClient.collectPublicHolidaysIfModified(2025, "KR", NagerCacheValidators.none(), Collectors.toList()))
+                .isInstanceOfSatisfying(ExternalApiException.class, e -> assertThat(e.isRetryable()).isFalse());
+    }
+
+    @DisplayName("잘린 응답은 짧은 목록으로 받아들이지 않고 재시도하지 않는 ExternalApiException 으로 던진다")
+    @Test
+    void collectPublicHolidaysIfModified_truncatedBody() {
+        // given
+        String body = """
+                [
+                  {"date":"2025-01-01","localName":"새해","name":"New Year's Day","countryCode":"KR","fixed":false,"global":true,"counties":null,"launchYear":null,"types":["Public"]},
+                """;
+        server.expect(requestTo(HOLIDAYS_URL))
+                .andRespond(withSuccess(body, MediaType.APPLICATION_JSON));
+
+        // when & then
+        assertThatThrownBy(() -> nagerRestClient.collectPublicHolidaysIfModified(2025, "KR", NagerCacheValidators.none(), Collectors.toList()))
+                .isInstanceOfSatisfying(ExternalApiException.class, e -> assertThat(e.isRetryable()).isFalse());
+    }
+
+}
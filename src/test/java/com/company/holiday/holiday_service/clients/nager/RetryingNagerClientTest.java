@@ -0,0 +1,109 @@
+package com.company.holiday.holiday_service.clients.nager;
+
+import com.company.holiday.holiday_service.clients.nager.dto.NagerCacheValidators;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerConditionalResult;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerPublicHolidayResponse;
+import com.company.holiday.holiday_service.global.config.NagerRetryProperties;
+import com.company.holiday.holiday_service.global.error.ErrorCode;
+import com.company.holiday.holiday_service.global.error.exception.ExternalApiException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RetryingNagerClientTest {
+
+    @Mock
+    NagerClient delegate;
+
+    RetryingNagerClient retryingNagerClient;
+
+    @BeforeEach
+    void setUp() {
+        retryingNagerClient = new RetryingNagerClient(delegate, retryProperties(3, 0.5));
+    }
+
+    @DisplayName("일시 장애로 실패하면 재시도하고, 재시도에 성공하면 그 결과를 리턴한다")
+    @Test
+    void retryTransientFailure() {
+        // given
+        NagerConditionalResult<List<NagerPublicHolidayResponse>> result = NagerConditionalResult.modified(List.of(), NagerCacheValidators.none());
+        given(delegate.collectPublicHolidaysIfModified(eq(2025), eq("KR"), eq(NagerCacheValidators.none()), any()))
+                .willThrow(transientFailure())
+                .willThrow(transientFailure())
+                .willAnswer(invocation -> result);
+
+        // when
+        NagerConditionalResult<List<NagerPublicHolidayResponse>> retried = retryingNagerClient.collectPublicHolidaysIfModified(
+                2025, "KR", NagerCacheValidators.none(), Collectors.toList()
+        );
+
+        // then
+        assertThat(retried).isEqualTo(result);
+        verify(delegate, times(3)).collectPublicHolidaysIfModified(eq(2025), eq("KR"), eq(NagerCacheValidators.none()), any());
+    }
+
+    @DisplayName("최대 시도 횟수를 모두 쓰면 마지막 예외를 그대로 던진다")
+    @Test
+    void giveUpAfterMaxAttempts() {
+        // given
+        given(delegate.getAvailableCountries()).willThrow(transientFailure());
+
+        // when & then
+        assertThatThrownBy(() -> retryingNagerClient.getAvailableCountries())
+                .isInstanceOf(ExternalApiException.class);
+        verify(delegate, times(3)).getAvailableCountries();
+    }
+
+    @DisplayName("재시도해도 결과가 같은 실패(4xx 등)는 재시도하지 않는다")
+    @Test
+    void notRetryPermanentFailure() {
+        // given
+        given(delegate.getAvailableCountries())
+                .willThrow(new ExternalApiException(ErrorCode.INTERNAL_SERVER_ERROR, "Nager API 가용 국가 조회 중 에러 발생", null, false));
+
+        // when & then
+        assertThatThrownBy(() -> retryingNagerClient.getAvailableCountries())
+                .isInstanceOf(ExternalApiException.class);
+        verify(delegate, times(1)).getAvailableCountries();
+    }
+
+    @DisplayName("대기 시간은 시도마다 multiplier 배씩 늘어나되 maxBackoff 를 넘지 않고, jitter 비율만큼만 줄어든다")
+    @Test
+    void backoff() {
+        // given
+        RetryingNagerClient client = new RetryingNagerClient(delegate, new NagerRetryProperties(
+                5, Duration.ofMillis(100), Duration.ofMillis(300), 2.0, 0.5
+        ));
+
+        // when & then
+        assertThat(client.backoff(1)).isBetween(Duration.ofMillis(50), Duration.ofMillis(100));
+        assertThat(client.backoff(2)).isBetween(Duration.ofMillis(100), Duration.ofMillis(200));
+        assertThat(client.backoff(3)).isBetween(Duration.ofMillis(150), Duration.ofMillis(300));
+        assertThat(client.backoff(10)).isBetween(Duration.ofMillis(150), Duration.ofMillis(300));
+    }
+
+    private ExternalApiException transientFailure() {
+        return new ExternalApiException(ErrorCode.INTERNAL_SERVER_ERROR, "Nager API 공휴일 조회 중 에러 발생", null, true);
+    }
+
+    private NagerRetryProperties retryProperties(int maxAttempts, double jitter) {
+        return new NagerRetryProperties(maxAttempts, Duration.ofMillis(1), Duration.ofMillis(5), 2.0, jitter);
+    }
+
+}
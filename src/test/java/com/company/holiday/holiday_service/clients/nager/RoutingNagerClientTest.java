@@ -0,0 +1,117 @@
+package com.company.holiday.holiday_service.clients.nager;
+
+import com.company.holiday.holiday_service.clients.nager.dto.NagerAvailableCountryResponse;
+import com.company.holiday.holiday_service.global.config.NagerRoutingProperties;
+import com.company.holiday.holiday_service.global.error.ErrorCode;
+import com.company.holiday.holiday_service.global.error.exception.ExternalApiException;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RoutingNagerClientTest {
+
+    private static final NagerAvailableCountryResponse KR = new NagerAvailableCountryResponse("KR", "Korea");
+
+    @Mock
+    NagerClient publicApi;
+
+    @Mock
+    NagerClient mirror;
+
+    @DisplayName("엔드포인트가 일시 장애로 실패하면 같은 요청을 다음 엔드포인트로 넘긴다")
+    @Test
+    void failover() {
+        // given
+        NagerEndpoint first = new NagerEndpoint("https://public.test", publicApi, properties(3));
+        NagerEndpoint second = new NagerEndpoint("https://mirror.test", mirror, properties(3));
+        given(publicApi.getAvailableCountries()).willThrow(transientFailure());
+        given(mirror.getAvailableCountries()).willReturn(List.of(KR));
+        RoutingNagerClient client = new RoutingNagerClient(List.of(first, second));
+
+        // when
+        List<NagerAvailableCountryResponse> countries = client.getAvailableCountries();
+
+        // then
+        assertThat(countries).containsExactly(KR);
+        assertThat(first.getFailures()).isEqualTo(1);
+        assertThat(first.getErrorRate()).isPositive();
+        assertThat(second.getRequests()).isEqualTo(1);
+    }
+
+    @DisplayName("연달아 실패한 엔드포인트는 제외하고, 다음 요청부터 다른 엔드포인트로 먼저 보낸다")
+    @Test
+    void eject() {
+        // given
+        NagerEndpoint first = new NagerEndpoint("https://public.test", publicApi, properties(1));
+        NagerEndpoint second = new NagerEndpoint("https://mirror.test", mirror, properties(1));
+        given(publicApi.getAvailableCountries()).willThrow(transientFailure());
+        given(mirror.getAvailableCountries()).willReturn(List.of(KR));
+        RoutingNagerClient client = new RoutingNagerClient(List.of(first, second));
+        client.getAvailableCountries();
+
+        // when
+        client.getAvailableCountries();
+
+        // then
+        assertThat(first.isEjected()).isTrue();
+        verify(publicApi, times(1)).getAvailableCountries();
+        verify(mirror, times(2)).getAvailableCountries();
+    }
+
+    @DisplayName("응답이 더 빠른 엔드포인트를 먼저 고른다")
+    @Test
+    void rank_preferLowerLatency() {
+        // given
+        NagerEndpoint slow = new NagerEndpoint("https://public.test", publicApi, properties(3));
+        NagerEndpoint fast = new NagerEndpoint("https://mirror.test", mirror, properties(3));
+        slow.onStart();
+        slow.onSuccess(Duration.ofMillis(300).toNanos());
+        fast.onStart();
+        fast.onSuccess(Duration.ofMillis(20).toNanos());
+        RoutingNagerClient client = new RoutingNagerClient(List.of(slow, fast));
+
+        // when
+        List<NagerEndpoint> ranked = client.rank();
+
+        // then
+        assertThat(ranked).containsExactly(fast, slow);
+    }
+
+    @DisplayName("재시도해도 같은 실패( 4xx 등 )는 다른 엔드포인트로 넘기지 않는다")
+    @Test
+    void noFailoverOnNonRetryable() {
+        // given
+        NagerEndpoint first = new NagerEndpoint("https://public.test", publicApi, properties(3));
+        NagerEndpoint second = new NagerEndpoint("https://mirror.test", mirror, properties(3));
+        given(publicApi.getAvailableCountries())
+                .willThrow(new ExternalApiException(ErrorCode.INTERNAL_SERVER_ERROR, "404", null, false));
+        RoutingNagerClient client = new RoutingNagerClient(List.of(first, second));
+
+        // when & then
+        assertThatThrownBy(client::getAvailableCountries).isInstanceOf(ExternalApiException.class);
+        verify(mirror, never()).getAvailableCountries();
+        assertThat(first.getFailures()).isZero();
+    }
+
+    private ExternalApiException transientFailure() {
+        return new ExternalApiException(ErrorCode.INTERNAL_SERVER_ERROR, "503", null, true);
+    }
+
+    private NagerRoutingProperties properties(int ejectAfterFailures) {
+        return new NagerRoutingProperties(0.3, ejectAfterFailures, Duration.ofMinutes(1));
+    }
+
+}
@@ -0,0 +1,64 @@
+package com.company.holiday.holiday_service.clients.nager;
+
+import com.company.holiday.holiday_service.clients.nager.dto.NagerAvailableCountryResponse;
+import com.company.holiday.holiday_service.global.error.exception.ExternalApiException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class TimeLimitedNagerClientTest {
+
+    @Mock
+    NagerClient delegate;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @DisplayName("제한 시간 안에 응답하면 결과를 그대로 리턴한다")
+    @Test
+    void withinDeadline() {
+        // given
+        var kr = new NagerAvailableCountryResponse("KR", "Korea");
+        given(delegate.getAvailableCountries()).willReturn(List.of(kr));
+        TimeLimitedNagerClient client = new TimeLimitedNagerClient(delegate, executor, Duration.ofSeconds(5));
+
+        // when
+        List<NagerAvailableCountryResponse> countries = client.getAvailableCountries();
+
+        // then
+        assertThat(countries).containsExactly(kr);
+    }
+
+    @DisplayName("전체 제한 시간을 넘기면 호출을 중단하고 재시도 가능한 ExternalApiException 을 던진다")
+    @Test
+    void exceedDeadline() {
+        // given
+        given(delegate.getAvailableCountries()).willAnswer(invocation -> {
+            Thread.sleep(Duration.ofSeconds(10));
+            return List.of();
+        });
+        TimeLimitedNagerClient client = new TimeLimitedNagerClient(delegate, executor, Duration.ofMillis(50));
+
+        // when & then
+        assertThatThrownBy(client::getAvailableCountries)
+                .isInstanceOfSatisfying(ExternalApiException.class, e -> assertThat(e.isRetryable()).isTrue());
+    }
+
+}
@@ -0,0 +1,147 @@
+package com.company.holiday.holiday_service.clients.nager.archive;
+
+import com.company.holiday.holiday_service.clients.nager.NagerRestClient;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerAvailableCountryResponse;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerCacheValidators;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerConditionalResult;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerPublicHolidayResponse;
+import com.company.holiday.holiday_service.global.error.exception.ExternalApiException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.MediaType;
+import org.springframework.test.web.client.MockRestServiceServer;
+import org.springframework.web.client.RestClient;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.springframework.test.web.client.match.MockRestRequestMatchers.requestTo;
+import static org.springframework.test.web.client.response.MockRestResponseCreators.withSuccess;
+
+class NagerArchiveReplayClientTest {
+
+    private static final String HOLIDAYS_BODY = """
+            [
+              {"date":"2025-01-01","localName":"새해","name":"New Year's Day","countryCode":"KR","fixed":false,"global":true,"counties":null,"launchYear":null,"types":["Public"]},
+              {"date":"2025-03-01","localName":"삼일절","name":"Independence Movement Day","countryCode":"KR","fixed":false,"global":true,"counties":null,"launchYear":null,"types":["Public"]}
+            ]
+            """;
+
+    @TempDir
+    private Path archiveDir;
+
+    private ObjectMapper objectMapper;
+    private NagerPayloadArchive archive;
+    private NagerArchiveReplayClient replayClient;
+
+    @BeforeEach
+    void setUp() {
+        objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+        archive = new NagerPayloadArchive(archiveDir, objectMapper);
+        replayClient = new NagerArchiveReplayClient(archive, objectMapper);
+    }
+
+    @DisplayName("보관된 원본 응답을 네트워크 없이 그대로 읽어, 보관 당시의 캐시 검증자와 함께 리턴한다")
+    @Test
+    void replay() {
+        // given
+        archive.store(NagerPayloadArchive.availableCountriesKey(),
+                "[{\"countryCode\":\"KR\",\"name\":\"South Korea\"}]".getBytes(StandardCharsets.UTF_8),
+                NagerCacheValidators.none());
+        archive.store(NagerPayloadArchive.publicHolidaysKey(2025, "KR"),
+                HOLIDAYS_BODY.getBytes(StandardCharsets.UTF_8),
+                new NagerCacheValidators("\"v1\"", null));
+
+        // when
+        List<NagerAvailableCountryResponse> countries = replayClient.getAvailableCountries();
+        NagerConditionalResult<List<LocalDate>> holidays = replayClient.collectPublicHolidaysIfModified(
+                2025, "KR", new NagerCacheValidators("\"v1\"", null),
+                Collectors.mapping(NagerPublicHolidayResponse::date, Collectors.toList())
+        );
+
+        // then
+        assertThat(countries).extracting(NagerAvailableCountryResponse::countryCode).containsExactly("KR");
+        assertThat(holidays.notModified()).isFalse();
+        assertThat(holidays.body()).containsExactly(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 3, 1));
+        assertThat(holidays.validators().etag()).isEqualTo("\"v1\"");
+    }
+
+    @DisplayName("형식이 잘못된 응답은 보관하지 않아, 재생하면 마지막으로 받은 정상 응답을 읽는다")
+    @Test
+    void replay_malformedBodyNotArchived() {
+        // given - 정상 응답을 받아 보관한 뒤, 잘린 응답을 받는다
+        RestClient.Builder builder = RestClient.builder().baseUrl("https://nager.test");
+        MockRestServiceServer server = MockRestServiceServer.bindTo(builder).build();
+        NagerRestClient nagerRestClient = new NagerRestClient(builder.build(), objectMapper, archive);
+        server.expect(requestTo("https://nager.test/AvailableCountries"))
+                .andRespond(withSuccess("[{\"countryCode\":\"KR\",\"name\":\"South Korea\"}]", MediaType.APPLICATION_JSON));
+        server.expect(requestTo("https://nager.test/PublicHolidays/2025/KR"))
+                .andRespond(withSuccess(HOLIDAYS_BODY, MediaType.APPLICATION_JSON));
+        server.expect(requestTo("https://nager.test/AvailableCountries"))
+                .andRespond(withSuccess("[{\"countryCode\":\"KR\"", MediaType.APPLICATION_JSON));
+        server.expect(requestTo("https://nager.test/PublicHolidays/2025/KR"))
+                .andRespond(withSuccess(HOLIDAYS_BODY.substring(0, HOLIDAYS_BODY.lastIndexOf(']')), MediaType.APPLICATION_JSON));
+
+        nagerRestClient.getAvailableCountries();
+        nagerRestClient.collectPublicHolidaysIfModified(2025, "KR", NagerCacheValidators.none(), Collectors.toList());
+        assertThatThrownBy(nagerRestClient::getAvailableCountries).isInstanceOf(ExternalApiException.class);
+        assertThatThrownBy(() -> nagerRestClient.collectPublicHolidaysIfModified(2025, "KR", NagerCacheValidators.none(), Collectors.toList()))
+                .isInstanceOf(ExternalApiException.class);
+
+        // when
+        List<NagerAvailableCountryResponse> countries = replayClient.getAvailableCountries();
+        NagerConditionalResult<List<LocalDate>> holidays = replayClient.collectPublicHolidaysIfModified(
+                2025, "KR", NagerCacheValidators.none(),
+                Collectors.mapping(NagerPublicHolidayResponse::date, Collectors.toList())
+        );
+
+        // then
+        server.verify();
+        assertThat(countries).extracting(NagerAvailableCountryResponse::countryCode).containsExactly("KR");
+        assertThat(holidays.body()).containsExactly(LocalDate.of(2025, 1, 1), LocalDate.of(2025, 3, 1));
+    }
+
+    @DisplayName("같은 본문은 요청 경로가 달라도 한 번만 압축 저장하고, 경로별로 받은 시각을 남긴다")
+    @Test
+    void store_contentAddressed() throws IOException {
+        // given
+        byte[] payload = HOLIDAYS_BODY.getBytes(StandardCharsets.UTF_8);
+
+        // when
+        archive.store(NagerPayloadArchive.publicHolidaysKey(2024, "KR"), payload, NagerCacheValidators.none());
+        archive.store(NagerPayloadArchive.publicHolidaysKey(2025, "KR"), payload, NagerCacheValidators.none());
+
+        // then
+        NagerArchiveEntry first = archive.find(NagerPayloadArchive.publicHolidaysKey(2024, "KR")).orElseThrow();
+        NagerArchiveEntry second = archive.find(NagerPayloadArchive.publicHolidaysKey(2025, "KR")).orElseThrow();
+        assertThat(first.sha256()).isEqualTo(second.sha256());
+        assertThat(first.fetchedAt()).isNotNull();
+        try (Stream<Path> objects = Files.walk(archiveDir.resolve("objects"))) {
+            assertThat(objects.filter(Files::isRegularFile).count()).isEqualTo(1);
+        }
+    }
+
+    @DisplayName("보관되지 않은 나라·연도는 재시도 대상이 아닌 예외를 던진다")
+    @Test
+    void replay_notArchived() {
+        // when & then
+        assertThatThrownBy(() -> replayClient.collectPublicHolidaysIfModified(
+                2025, "JP", NagerCacheValidators.none(), Collectors.toList()
+        ))
+                .isInstanceOf(ExternalApiException.class)
+                .satisfies(e -> assertThat(((ExternalApiException) e).isRetryable()).isFalse());
+    }
+
+}
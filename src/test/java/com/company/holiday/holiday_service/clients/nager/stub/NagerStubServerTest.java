@@ -0,0 +1,82 @@
+package com.company.holiday.holiday_service.clients.nager.stub;
+
+import com.company.holiday.holiday_service.clients.nager.NagerRestClient;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerAvailableCountryResponse;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerCacheValidators;
+import com.company.holiday.holiday_service.clients.nager.dto.NagerPublicHolidaysResult;
+import com.company.holiday.holiday_service.global.config.NagerStubProperties;
+import com.company.holiday.holiday_service.global.config.NagerStubProperties.LatencyDistribution;
+import com.company.holiday.holiday_service.global.error.exception.ExternalApiException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.web.client.RestClient;
+
+import java.time.Duration;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class NagerStubServerTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    private NagerStubServer server;
+
+    @AfterEach
+    void tearDown() {
+        server.stop();
+    }
+
+    @DisplayName("설정한 규모로 국가·공휴일 응답을 생성하고, 같은 ETag 로 조건부 요청하면 304 로 응답한다")
+    @Test
+    void generatedFixtures() {
+        // given
+        NagerRestClient client = startClient(properties(0.0));
+
+        // when
+        List<NagerAvailableCountryResponse> countries = client.getAvailableCountries();
+        NagerPublicHolidaysResult first = client.getPublicHolidaysIfModified(2025, "AB", NagerCacheValidators.none());
+        NagerPublicHolidaysResult second = client.getPublicHolidaysIfModified(2025, "AB", first.validators());
+
+        // then
+        assertThat(countries).extracting(NagerAvailableCountryResponse::countryCode).containsExactly("AA", "AB", "AC");
+        assertThat(first.holidays()).hasSize(4).allMatch(h -> h.date().getYear() == 2025);
+        assertThat(second.notModified()).isTrue();
+        assertThat(server.getRequests()).isEqualTo(3);
+    }
+
+    @DisplayName("오류 비율만큼 503 으로 응답해, 클라이언트는 재시도 가능한 실패로 받는다")
+    @Test
+    void injectErrors() {
+        // given
+        NagerRestClient client = startClient(properties(1.0));
+
+        // when & then
+        assertThatThrownBy(client::getAvailableCountries)
+                .isInstanceOfSatisfying(ExternalApiException.class, e -> assertThat(e.isRetryable()).isTrue());
+        assertThat(server.getFailed()).isEqualTo(1);
+    }
+
+    private NagerRestClient startClient(NagerStubProperties properties) {
+        server = new NagerStubServer(objectMapper, properties);
+        server.start();
+        RestClient restClient = RestClient.builder().baseUrl(server.getBaseUrl()).build();
+        return new NagerRestClient(restClient, objectMapper, null);
+    }
+
+    private NagerStubProperties properties(double errorRate) {
+        return new NagerStubProperties(
+                true, 0, null, 3, 4,
+                LatencyDistribution.FIXED, Duration.ZERO, Duration.ZERO,
+                errorRate, 0, 0.0, Duration.ZERO
+        );
+    }
+
+}